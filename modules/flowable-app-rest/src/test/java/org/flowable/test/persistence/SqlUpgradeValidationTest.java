@@ -34,7 +34,8 @@ class SqlUpgradeValidationTest {
             "7.1.0.1",
             "7.1.0.2",
             "7.2.0.1",
-            "7.2.0.2"
+            "7.2.0.2",
+            "8.1.0.2"
     );
 
     @ParameterizedTest
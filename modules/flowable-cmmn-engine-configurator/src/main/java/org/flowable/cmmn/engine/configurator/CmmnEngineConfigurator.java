@@ -97,6 +97,11 @@ public class CmmnEngineConfigurator extends AbstractEngineConfigurator<CmmnEngin
 
             processEngineConfiguration.getJobServiceConfiguration().getInternalJobManager()
                     .registerScopedInternalJobManager(ScopeTypes.CMMN, cmmnEngineConfiguration.getJobServiceConfiguration().getInternalJobManager());
+
+            // External worker jobs of both engines are acquired through the same builder,
+            // so acquisitions waiting for jobs need to be woken up by the jobs created in either engine
+            cmmnEngineConfiguration.getJobServiceConfiguration().setExternalWorkerJobAvailableNotifier(
+                    processEngineConfiguration.getJobServiceConfiguration().getExternalWorkerJobAvailableNotifier());
         }
 
         JobServiceConfiguration engineJobServiceConfiguration = getJobServiceConfiguration(engineConfiguration);
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import org.flowable.cmmn.engine.test.impl.CmmnJobTestHelper;
 import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.test.ConfigurationResource;
 import org.flowable.job.service.HistoryJobService;
@@ -47,9 +48,9 @@ public class CmmnEngineConfiguratorAsyncHistoryTest extends AbstractProcessEngin
         assertThat(processEngine.getProcessEngineConfiguration().getAsyncHistoryExecutor().getJobServiceConfiguration().getHistoryJobExecutionScope())
                 .isEqualTo(JobServiceConfiguration.JOB_EXECUTION_SCOPE_ALL);
 
-        // 1 job handlers / engine
+        // 1 custom job handler / engine, next to the default async history job handler of the process engine
         assertThat(processEngineAsyncExecutor.getJobServiceConfiguration().getHistoryJobHandlers())
-                .containsOnlyKeys("bpmn-test-history-job-handler", "cmmn-test-history-job-handler");
+                .containsOnlyKeys(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY, "bpmn-test-history-job-handler", "cmmn-test-history-job-handler");
 
         processEngine.getManagementService()
                 .executeCommand(commandContext -> {
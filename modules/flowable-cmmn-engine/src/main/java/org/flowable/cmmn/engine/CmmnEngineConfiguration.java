@@ -265,6 +265,7 @@ import org.flowable.common.engine.impl.javax.el.ELResolver;
 import org.flowable.common.engine.impl.json.VariableJsonMapper;
 import org.flowable.common.engine.impl.json.jackson3.Jackson3VariableJsonMapper;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.TableDataManager;
@@ -421,6 +422,17 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
     protected CaseValidator caseValidator;
 
     protected int caseDefinitionCacheLimit = -1;
+    /**
+     * When a case definition is not cached, only the CMMN resource of that case definition is parsed again,
+     * instead of all the CMMN resources of its deployment. Default false.
+     */
+    protected boolean caseDefinitionCacheSingleResourceRebuildEnabled;
+    /**
+     * Whether the case definition cache should be filled with the latest versions of the case definitions in the background, when the engine is built.
+     * Default false.
+     */
+    protected boolean caseDefinitionCachePrewarmEnabled;
+    protected int caseDefinitionCachePrewarmThreads = 4;
     protected DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache;
 
     protected CmmnParser cmmnParser;
@@ -568,6 +580,12 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
     protected List<String> enabledJobCategories;
     protected String jobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
     protected String historyJobExecutionScope = JobServiceConfiguration.JOB_EXECUTION_SCOPE_CMMN;
+
+    /**
+     * The number of partitions the executable async jobs are spread over, see {@link JobServiceConfiguration#setJobPartitionCount(int)}.
+     * When the async executor is shared between engines, all engines need to use the same partition count.
+     */
+    protected int jobPartitionCount;
     
     /**
      * Boolean flag to be set to activate the {@link AsyncExecutor} automatically after the engine has booted up.
@@ -678,6 +696,19 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
      */
     protected Duration eventRegistryUniqueCaseInstanceStartLockTime = Duration.ofMinutes(10);
 
+    /**
+     * Whether inbound events that can't match any event subscription should be discarded using an in-memory index of the event subscriptions,
+     * instead of querying the database for every event. Disabled by default and only meant for single node deployments,
+     * see {@link org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration#setEventSubscriptionIndexEnabled(boolean)}.
+     */
+    protected boolean eventRegistryEventSubscriptionIndexEnabled;
+
+    /**
+     * Whether an index of the sentries, telling which sentries depend on which plan item transitions and variables, is built when deploying case definitions.
+     * The criteria evaluation then doesn't evaluate a sentry if-part again within the same transaction when none of the variables it refers to has changed.
+     */
+    protected boolean sentryDependencyIndexEnabled;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     /**
@@ -926,7 +957,8 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
             }
             
             if (isExpressionCacheEnabled) {
-                cmmnExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                cmmnExpressionManager.setExpressionCache(concurrentDeploymentCacheEnabled
+                        ? new ConcurrentDeploymentCache<>(expressionCacheSize) : new DefaultDeploymentCache<>(expressionCacheSize));
                 cmmnExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
@@ -1153,7 +1185,9 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
 
     protected void initCaseDefinitionCache() {
         if (caseDefinitionCache == null) {
-            if (caseDefinitionCacheLimit <= 0) {
+            if (concurrentDeploymentCacheEnabled) {
+                caseDefinitionCache = new ConcurrentDeploymentCache<>(caseDefinitionCacheLimit);
+            } else if (caseDefinitionCacheLimit <= 0) {
                 caseDefinitionCache = new DefaultDeploymentCache<>();
             } else {
                 caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit);
@@ -1625,6 +1659,7 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
         this.eventSubscriptionServiceConfiguration.setEventSubscriptionLockTime(this.eventRegistryUniqueCaseInstanceStartLockTime);
+        this.eventSubscriptionServiceConfiguration.setEventSubscriptionIndexEnabled(this.eventRegistryEventSubscriptionIndexEnabled);
         
         this.eventSubscriptionServiceConfiguration.setConfigurators(this.eventSubscriptionServiceConfigurators);
         this.eventSubscriptionServiceConfiguration.init();
@@ -1736,6 +1771,7 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
 
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
+            this.jobServiceConfiguration.setJobPartitionCount(this.jobPartitionCount);
             
             if (enabledJobCategories != null) {
                 this.jobServiceConfiguration.setEnabledJobCategories(enabledJobCategories);
@@ -2518,6 +2554,33 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         return this;
     }
 
+    public boolean isCaseDefinitionCacheSingleResourceRebuildEnabled() {
+        return caseDefinitionCacheSingleResourceRebuildEnabled;
+    }
+
+    public CmmnEngineConfiguration setCaseDefinitionCacheSingleResourceRebuildEnabled(boolean caseDefinitionCacheSingleResourceRebuildEnabled) {
+        this.caseDefinitionCacheSingleResourceRebuildEnabled = caseDefinitionCacheSingleResourceRebuildEnabled;
+        return this;
+    }
+
+    public boolean isCaseDefinitionCachePrewarmEnabled() {
+        return caseDefinitionCachePrewarmEnabled;
+    }
+
+    public CmmnEngineConfiguration setCaseDefinitionCachePrewarmEnabled(boolean caseDefinitionCachePrewarmEnabled) {
+        this.caseDefinitionCachePrewarmEnabled = caseDefinitionCachePrewarmEnabled;
+        return this;
+    }
+
+    public int getCaseDefinitionCachePrewarmThreads() {
+        return caseDefinitionCachePrewarmThreads;
+    }
+
+    public CmmnEngineConfiguration setCaseDefinitionCachePrewarmThreads(int caseDefinitionCachePrewarmThreads) {
+        this.caseDefinitionCachePrewarmThreads = caseDefinitionCachePrewarmThreads;
+        return this;
+    }
+
     public DeploymentCache<CaseDefinitionCacheEntry> getCaseDefinitionCache() {
         return caseDefinitionCache;
     }
@@ -3253,6 +3316,24 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         return this;
     }
 
+    public boolean isEventRegistryEventSubscriptionIndexEnabled() {
+        return eventRegistryEventSubscriptionIndexEnabled;
+    }
+
+    public CmmnEngineConfiguration setEventRegistryEventSubscriptionIndexEnabled(boolean eventRegistryEventSubscriptionIndexEnabled) {
+        this.eventRegistryEventSubscriptionIndexEnabled = eventRegistryEventSubscriptionIndexEnabled;
+        return this;
+    }
+
+    public boolean isSentryDependencyIndexEnabled() {
+        return sentryDependencyIndexEnabled;
+    }
+
+    public CmmnEngineConfiguration setSentryDependencyIndexEnabled(boolean sentryDependencyIndexEnabled) {
+        this.sentryDependencyIndexEnabled = sentryDependencyIndexEnabled;
+        return this;
+    }
+
     public AsyncJobExecutorConfiguration getAsyncExecutorConfiguration() {
         return asyncExecutorConfiguration;
     }
@@ -4103,6 +4184,15 @@ public class CmmnEngineConfiguration extends AbstractBuildableEngineConfiguratio
         return this;
     }
     
+    public int getJobPartitionCount() {
+        return jobPartitionCount;
+    }
+
+    public CmmnEngineConfiguration setJobPartitionCount(int jobPartitionCount) {
+        this.jobPartitionCount = jobPartitionCount;
+        return this;
+    }
+
     public String getHistoryJobExecutionScope() {
         return historyJobExecutionScope;
     }
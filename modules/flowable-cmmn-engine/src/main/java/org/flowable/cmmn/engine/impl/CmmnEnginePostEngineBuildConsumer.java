@@ -32,6 +32,10 @@ public class CmmnEnginePostEngineBuildConsumer implements Consumer<CmmnEngine> {
             }
         }
 
+        if (engineConfiguration.isCaseDefinitionCachePrewarmEnabled()) {
+            engineConfiguration.getDeploymentManager().prewarmCaseDefinitionCache(engineConfiguration.getCaseDefinitionCachePrewarmThreads());
+        }
+
         if (engineConfiguration.isHandleCmmnEngineExecutorsAfterEngineCreate()) {
             cmmnEngine.startExecutors();
         }
@@ -28,6 +28,8 @@ import org.flowable.cmmn.converter.util.PlanItemUtil;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.agenda.PlanItemEvaluationResult;
 import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
+import org.flowable.cmmn.engine.impl.criteria.SentryIfPartEvaluationCache;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CountingPlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.EntityWithSentryPartInstances;
@@ -36,6 +38,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
 import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
 import org.flowable.cmmn.engine.impl.util.CaseInstanceUtil;
 import org.flowable.cmmn.engine.impl.util.CmmnLoggingSessionUtil;
@@ -78,6 +81,9 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     /** only the last evaluation planned on the agenda operation will have this true. */
     protected boolean evaluateStagesAndCaseInstanceCompletion;
 
+    protected SentryDependencyIndex sentryDependencyIndex;
+    protected boolean sentryDependencyIndexResolved;
+
     public AbstractEvaluationCriteriaOperation(CommandContext commandContext, String caseInstanceId, CaseInstanceEntity caseInstanceEntity, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
         super(commandContext, caseInstanceId, caseInstanceEntity);
         this.planItemLifeCycleEvent = planItemLifeCycleEvent;
@@ -494,7 +500,7 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
                 }
 
             } else if (sentry.getOnParts().isEmpty() && sentry.getSentryIfPart() != null) { // Only an if part: simply evaluate the if part
-                if (evaluateSentryIfPart(entityWithSentryPartInstances, sentry, entityWithSentryPartInstances)) {
+                if (evaluateSentryIfPartWhenAffected(entityWithSentryPartInstances, sentry)) {
 
                     if (cmmnEngineConfiguration.isLoggingSessionEnabled()) {
                         CmmnLoggingSessionUtil.addEvaluateSentryLoggingData(sentry.getSentryIfPart(), entityWithSentryPartInstances, cmmnEngineConfiguration.getObjectMapper());
@@ -529,9 +535,10 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
                 }
 
                 // Verify if the onParts which are not yet satisfied, become satisfied due to the new event
+                boolean sentryTriggeredByEvent = planItemLifeCycleEvent != null && isSentryTriggeredByCurrentLifeCycleEvent(sentry);
                 for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
-                    if (!satisfiedSentryOnPartIds.contains(sentryOnPart.getId())) {
-                        if (planItemLifeCycleEvent != null && sentryOnPartMatchesCurrentLifeCycleEvent(entityWithSentryPartInstances, sentryOnPart)) {
+                    if (sentryTriggeredByEvent && !satisfiedSentryOnPartIds.contains(sentryOnPart.getId())) {
+                        if (sentryOnPartMatchesCurrentLifeCycleEvent(entityWithSentryPartInstances, sentryOnPart)) {
 
                             if (LOGGER.isDebugEnabled()) {
                                 LOGGER.debug("{}: onPart matches life cycle event [{}]", criterion, planItemLifeCycleEvent);
@@ -559,7 +566,7 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
                                 entityWithSentryPartInstances, cmmnEngineConfiguration.getObjectMapper());
                     }
 
-                    if (evaluateSentryIfPart(entityWithSentryPartInstances, sentry, entityWithSentryPartInstances)) {
+                    if (evaluateSentryIfPartWhenAffected(entityWithSentryPartInstances, sentry)) {
 
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debug("{}: ifPart evaluates to true", criterion);
@@ -718,6 +725,55 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
         return sentryPartInstanceEntity;
     }
 
+    /**
+     * Evaluates the if-part of the sentry, unless it has already evaluated to false for the same entity in this transaction
+     * and none of the variables it refers to has changed since (only when the {@link SentryDependencyIndex} is enabled).
+     */
+    protected boolean evaluateSentryIfPartWhenAffected(EntityWithSentryPartInstances entityWithSentryPartInstances, Sentry sentry) {
+        SentryDependencyIndex index = getSentryDependencyIndex();
+        if (index == null) {
+            return evaluateSentryIfPart(entityWithSentryPartInstances, sentry, entityWithSentryPartInstances);
+        }
+
+        SentryIfPartEvaluationCache evaluationCache = SentryIfPartEvaluationCache.getOrCreate(commandContext);
+        if (!evaluationCache.needsEvaluation(index, entityWithSentryPartInstances.getId(), sentry.getSentryIfPart())) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Skipping evaluation of sentry if condition {} for {}: the variables it refers to haven't changed",
+                        sentry.getSentryIfPart().getCondition(), entityWithSentryPartInstances);
+            }
+            return false;
+        }
+
+        boolean satisfied = evaluateSentryIfPart(entityWithSentryPartInstances, sentry, entityWithSentryPartInstances);
+        if (!satisfied) {
+            evaluationCache.evaluatedToFalse(index, entityWithSentryPartInstances.getId(), sentry.getSentryIfPart());
+        }
+        return satisfied;
+    }
+
+    /**
+     * @return false if the sentry has no on-part listening to the current lifecycle event, which can be determined without looking
+     *         at the on-parts when the {@link SentryDependencyIndex} is enabled
+     */
+    protected boolean isSentryTriggeredByCurrentLifeCycleEvent(Sentry sentry) {
+        SentryDependencyIndex index = getSentryDependencyIndex();
+        return index == null || index.isTriggeredBy(sentry, planItemLifeCycleEvent.getPlanItem().getId(), planItemLifeCycleEvent.getTransition());
+    }
+
+    protected SentryDependencyIndex getSentryDependencyIndex() {
+        if (!sentryDependencyIndexResolved) {
+            CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+            if (cmmnEngineConfiguration.isSentryDependencyIndexEnabled() && caseInstanceEntity != null) {
+                CaseDefinitionCacheEntry cacheEntry = cmmnEngineConfiguration.getCaseDefinitionCache().get(caseInstanceEntity.getCaseDefinitionId());
+                if (cacheEntry != null) {
+                    sentryDependencyIndex = cacheEntry.getSentryDependencyIndex();
+                }
+            }
+            sentryDependencyIndexResolved = true;
+        }
+        return sentryDependencyIndex;
+    }
+
     protected boolean evaluateSentryIfPart(EntityWithSentryPartInstances entityWithSentryPartInstances, Sentry sentry, VariableContainer variableContainer) {
         CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
 
@@ -0,0 +1,181 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.cmmn.engine.impl.el.CmmnVariableScopeELResolver;
+import org.flowable.cmmn.engine.impl.util.CmmnFaultVariableContainer;
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.PlanFragment;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.PlanItemTransition;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryIfPart;
+import org.flowable.cmmn.model.SentryOnPart;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.IdentifierNode;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Node;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Tree;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeBuilderException;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Builder;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstFunction;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstLambdaExpression;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstLambdaInvocation;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstMethod;
+import org.flowable.common.engine.impl.el.VariableContainerELResolver;
+
+/**
+ * Index of the sentries of a case definition, built when the case definition is deployed, which tells which sentries can be affected by a change:
+ * <ul>
+ * <li>for every plan item lifecycle transition (the source plan item and the standard event), the sentries having an on-part listening to it.</li>
+ * <li>for every variable name, the sentry if-parts of which the condition refers to the variable.</li>
+ * </ul>
+ *
+ * The variables referenced by an if-part condition are determined by parsing the condition.
+ * When the result of a condition could depend on something else than the values of variables
+ * (a method or function call, the plan item instances, a fault, ...), the if-part is not indexed and is always evaluated.
+ */
+public class SentryDependencyIndex {
+
+    protected static final Set<String> NON_VARIABLE_IDENTIFIERS = Set.of(
+            CmmnVariableScopeELResolver.PLAN_ITEM_INSTANCE_KEY,
+            CmmnVariableScopeELResolver.PLAN_ITEM_INSTANCES_KEY,
+            CmmnVariableScopeELResolver.CASE_INSTANCE_KEY,
+            CmmnVariableScopeELResolver.TASK_KEY,
+            VariableContainerELResolver.VARIABLE_CONTAINER_KEY,
+            VariableContainerELResolver.LOGGED_IN_USER_KEY,
+            VariableContainerELResolver.CURRENT_TENANT_ID_KEY,
+            CmmnFaultVariableContainer.FAULT_CODE_VARIABLE_NAME,
+            CmmnFaultVariableContainer.FAULT_MESSAGE_VARIABLE_NAME,
+            CmmnFaultVariableContainer.ERROR_VARIABLE_NAME);
+
+    protected final Set<String> indexedSentryIds = new HashSet<>();
+    protected final Map<String, Set<String>> sentryIdsByOnPartEvent = new HashMap<>();
+    protected final Map<String, Set<String>> ifPartIdsByVariableName = new HashMap<>();
+    protected final Set<String> indexedIfPartIds = new HashSet<>();
+
+    public static SentryDependencyIndex build(Case caze) {
+        SentryDependencyIndex index = new SentryDependencyIndex();
+        index.addSentries(caze.getPlanModel());
+        return index;
+    }
+
+    protected void addSentries(PlanFragment planFragment) {
+        for (Sentry sentry : planFragment.getSentries()) {
+            addSentry(sentry);
+        }
+        for (PlanItem planItem : planFragment.getPlanItems()) {
+            if (planItem.getPlanItemDefinition() instanceof PlanFragment childPlanFragment) {
+                addSentries(childPlanFragment);
+            }
+        }
+    }
+
+    protected void addSentry(Sentry sentry) {
+        indexedSentryIds.add(sentry.getId());
+        boolean hasFaultOnPart = false;
+        for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
+            sentryIdsByOnPartEvent.computeIfAbsent(getOnPartEventKey(sentryOnPart.getSourceRef(), sentryOnPart.getStandardEvent()), key -> new HashSet<>())
+                    .add(sentry.getId());
+            if (PlanItemTransition.FAULT.equals(sentryOnPart.getStandardEvent())) {
+                hasFaultOnPart = true;
+            }
+        }
+
+        SentryIfPart sentryIfPart = sentry.getSentryIfPart();
+        if (sentryIfPart != null && !hasFaultOnPart) {
+            Set<String> variableNames = getReferencedVariableNames(sentryIfPart.getCondition());
+            if (variableNames != null) {
+                indexedIfPartIds.add(sentryIfPart.getId());
+                for (String variableName : variableNames) {
+                    ifPartIdsByVariableName.computeIfAbsent(variableName, key -> new HashSet<>()).add(sentryIfPart.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the names of the variables the condition depends on, or null when the condition could depend on something else
+     */
+    protected Set<String> getReferencedVariableNames(String condition) {
+        if (condition == null) {
+            return null;
+        }
+
+        Tree tree;
+        try {
+            tree = new Builder(Builder.Feature.METHOD_INVOCATIONS, Builder.Feature.VARARGS).build(condition);
+        } catch (TreeBuilderException e) {
+            return null;
+        }
+
+        if (tree.getFunctionNodes().iterator().hasNext() || containsInvocation(tree.getRoot())) {
+            return null;
+        }
+
+        Set<String> variableNames = new HashSet<>();
+        for (IdentifierNode identifierNode : tree.getIdentifierNodes()) {
+            if (NON_VARIABLE_IDENTIFIERS.contains(identifierNode.getName())) {
+                return null;
+            }
+            variableNames.add(identifierNode.getName());
+        }
+        return variableNames;
+    }
+
+    protected boolean containsInvocation(Node node) {
+        if (node instanceof AstMethod || node instanceof AstFunction || node instanceof AstLambdaExpression || node instanceof AstLambdaInvocation) {
+            return true;
+        }
+        for (int i = 0; i < node.getCardinality(); i++) {
+            if (containsInvocation(node.getChild(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the sentry has an on-part listening to the given transition of the given plan item (always true for a sentry that isn't indexed)
+     */
+    public boolean isTriggeredBy(Sentry sentry, String planItemId, String transition) {
+        if (!indexedSentryIds.contains(sentry.getId())) {
+            return true;
+        }
+        Set<String> sentryIds = sentryIdsByOnPartEvent.get(getOnPartEventKey(planItemId, transition));
+        return sentryIds != null && sentryIds.contains(sentry.getId());
+    }
+
+    /**
+     * @return whether the result of the if-part condition only depends on the variables it refers to
+     */
+    public boolean isIndexed(SentryIfPart sentryIfPart) {
+        return indexedIfPartIds.contains(sentryIfPart.getId());
+    }
+
+    /**
+     * @return the ids of the if-parts of which the condition refers to the given variable
+     */
+    public Set<String> getIfPartIdsDependingOn(String variableName) {
+        return ifPartIdsByVariableName.getOrDefault(variableName, Collections.emptySet());
+    }
+
+    protected String getOnPartEventKey(String planItemId, String transition) {
+        return planItemId + '#' + transition;
+    }
+
+}
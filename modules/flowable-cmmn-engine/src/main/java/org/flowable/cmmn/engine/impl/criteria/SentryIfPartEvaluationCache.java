@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.cmmn.model.SentryIfPart;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Remembers, for the duration of a command context, which sentry if-parts evaluated to false for which plan item instance (or case instance),
+ * together with the variable changes that happened since then.
+ *
+ * The criteria are evaluated again after every plan item lifecycle transition. An if-part that evaluated to false
+ * only needs to be evaluated again when a variable it refers to (according to the {@link SentryDependencyIndex}) has changed.
+ */
+public class SentryIfPartEvaluationCache {
+
+    public static final String ATTRIBUTE_SENTRY_IF_PART_EVALUATION_CACHE = "ctx.attribute.sentryIfPartEvaluationCache";
+
+    protected final Map<String, Integer> falseEvaluations = new HashMap<>();
+    protected final List<String> changedVariableNames = new ArrayList<>();
+
+    public static SentryIfPartEvaluationCache getOrCreate(CommandContext commandContext) {
+        SentryIfPartEvaluationCache evaluationCache = (SentryIfPartEvaluationCache) commandContext.getAttribute(ATTRIBUTE_SENTRY_IF_PART_EVALUATION_CACHE);
+        if (evaluationCache == null) {
+            evaluationCache = new SentryIfPartEvaluationCache();
+            commandContext.addAttribute(ATTRIBUTE_SENTRY_IF_PART_EVALUATION_CACHE, evaluationCache);
+        }
+        return evaluationCache;
+    }
+
+    /**
+     * Records a variable change in the current command context, if any if-part evaluation has been cached in it.
+     *
+     * @param variableName the name of the changed variable, or null when all variables could have changed
+     */
+    public static void variableChanged(String variableName) {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            SentryIfPartEvaluationCache evaluationCache = (SentryIfPartEvaluationCache) commandContext.getAttribute(ATTRIBUTE_SENTRY_IF_PART_EVALUATION_CACHE);
+            if (evaluationCache != null) {
+                if (variableName != null) {
+                    evaluationCache.changedVariableNames.add(variableName);
+                } else {
+                    evaluationCache.falseEvaluations.clear();
+                }
+            }
+        }
+    }
+
+    public boolean needsEvaluation(SentryDependencyIndex index, String entityId, SentryIfPart sentryIfPart) {
+        if (!index.isIndexed(sentryIfPart)) {
+            return true;
+        }
+
+        Integer changesAtEvaluation = falseEvaluations.get(getKey(entityId, sentryIfPart));
+        if (changesAtEvaluation == null) {
+            return true;
+        }
+
+        for (int i = changesAtEvaluation; i < changedVariableNames.size(); i++) {
+            if (index.getIfPartIdsDependingOn(changedVariableNames.get(i)).contains(sentryIfPart.getId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void evaluatedToFalse(SentryDependencyIndex index, String entityId, SentryIfPart sentryIfPart) {
+        if (index.isIndexed(sentryIfPart)) {
+            falseEvaluations.put(getKey(entityId, sentryIfPart), changedVariableNames.size());
+        }
+    }
+
+    protected String getKey(String entityId, SentryIfPart sentryIfPart) {
+        return entityId + '#' + sentryIfPart.getId();
+    }
+
+}
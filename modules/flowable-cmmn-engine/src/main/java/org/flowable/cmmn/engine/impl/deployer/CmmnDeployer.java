@@ -21,6 +21,7 @@ import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.parser.CmmnParseContext;
 import org.flowable.cmmn.engine.impl.parser.CmmnParseResult;
 import org.flowable.cmmn.engine.impl.parser.CmmnParser;
@@ -329,6 +330,9 @@ public class CmmnDeployer implements EngineDeployer {
             CmmnModel model = parseResult.getCmmnModelForCaseDefinition(caseDefinitionEntity);
             Case caze = parseResult.getCmmnCaseForCaseDefinition(caseDefinitionEntity);
             CaseDefinitionCacheEntry cacheEntry = new CaseDefinitionCacheEntry(caseDefinitionEntity, model, caze);
+            if (cmmnEngineConfiguration.isSentryDependencyIndexEnabled()) {
+                cacheEntry.setSentryDependencyIndex(SentryDependencyIndex.build(caze));
+            }
             caseDefinitionCache.add(caseDefinitionEntity.getId(), cacheEntry);
 
             deployment.addDeployedArtifact(caseDefinitionEntity);
@@ -15,9 +15,14 @@ package org.flowable.cmmn.engine.impl.deployer;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.flowable.cmmn.api.repository.CaseDefinition;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntity;
@@ -32,13 +37,19 @@ import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.common.engine.api.repository.EngineDeployment;
+import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.EngineDeployer;
 import org.flowable.common.engine.impl.event.FlowableEntityEventImpl;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class CmmnDeploymentManager {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CmmnDeploymentManager.class);
+
     protected DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache;
     protected List<EngineDeployer> deployers;
     protected CmmnEngineConfiguration cmmnEngineConfiguration;
@@ -111,7 +122,11 @@ public class CmmnDeploymentManager {
         if (cachedCaseDefinition == null) {
             CmmnDeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
             deployment.setNew(false);
-            deploy(deployment, null);
+            if (cmmnEngineConfiguration.isCaseDefinitionCacheSingleResourceRebuildEnabled() && caseDefinition.getResourceName() != null) {
+                deployWithoutOtherCmmnResources(deployment, caseDefinition.getResourceName());
+            } else {
+                deploy(deployment, null);
+            }
             cachedCaseDefinition = deployment.getCaseDefinitionCacheEntry(caseDefinitionId);
 
             if (cachedCaseDefinition == null) {
@@ -121,6 +136,82 @@ public class CmmnDeploymentManager {
         return cachedCaseDefinition;
     }
     
+    /**
+     * Redeploys the deployment without the CMMN resources other than the given one,
+     * so that only the case definitions of that resource are parsed and cached.
+     */
+    protected void deployWithoutOtherCmmnResources(CmmnDeploymentEntity deployment, String cmmnResourceName) {
+        Map<String, EngineResource> resources = deployment.getResources();
+        Map<String, EngineResource> deployedResources = new LinkedHashMap<>();
+        for (Map.Entry<String, EngineResource> resource : resources.entrySet()) {
+            if (resource.getKey().equals(cmmnResourceName) || !CmmnDeployer.isCmmnResource(resource.getKey())) {
+                deployedResources.put(resource.getKey(), resource.getValue());
+            }
+        }
+
+        // The deployment entity can be cached in the command context, hence the resources are restored afterwards
+        deployment.setResources(deployedResources);
+        try {
+            deploy(deployment, null);
+        } finally {
+            deployment.setResources(resources);
+        }
+    }
+
+    /**
+     * Fills the case definition cache with the latest versions of the case definitions, in the background.
+     * The deployments are resolved in parallel, using the given number of threads, each in its own transaction.
+     * When the case definition cache has a limit, no more case definitions than the limit are resolved.
+     */
+    public void prewarmCaseDefinitionCache(int threads) {
+        CommandExecutor commandExecutor = cmmnEngineConfiguration.getCommandExecutor();
+        List<CaseDefinition> caseDefinitions = cmmnEngineConfiguration.getCmmnRepositoryService().createCaseDefinitionQuery()
+                .latestVersion()
+                .orderByCaseDefinitionKey().asc()
+                .list();
+
+        int limit = cmmnEngineConfiguration.getCaseDefinitionCacheLimit();
+        if (limit > 0 && caseDefinitions.size() > limit) {
+            caseDefinitions = caseDefinitions.subList(0, limit);
+        }
+
+        // Resolving a case definition resolves the other definitions of its deployment as well (unless only the resource is rebuilt)
+        Map<String, List<CaseDefinition>> caseDefinitionsByDeployment = new LinkedHashMap<>();
+        for (CaseDefinition caseDefinition : caseDefinitions) {
+            caseDefinitionsByDeployment.computeIfAbsent(caseDefinition.getDeploymentId(), key -> new ArrayList<>()).add(caseDefinition);
+        }
+
+        if (caseDefinitionsByDeployment.isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, caseDefinitionsByDeployment.size())),
+                new BasicThreadFactory.Builder().namingPattern("flowable-case-definition-cache-prewarm-%d").daemon(true).build());
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>(caseDefinitionsByDeployment.size());
+            for (List<CaseDefinition> deploymentCaseDefinitions : caseDefinitionsByDeployment.values()) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (CaseDefinition caseDefinition : deploymentCaseDefinitions) {
+                        try {
+                            commandExecutor.execute(commandContext -> resolveCaseDefinition(caseDefinition));
+                        } catch (RuntimeException e) {
+                            LOGGER.warn("Could not prewarm the case definition cache with case definition {}", caseDefinition.getId(), e);
+                        }
+                    }
+                }, executorService));
+            }
+
+            int prewarmed = caseDefinitions.size();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .whenComplete((result, exception) -> LOGGER.info("Prewarmed the case definition cache with {} case definitions in {} ms",
+                            prewarmed, System.currentTimeMillis() - start));
+        } finally {
+            // The submitted deployments are still resolved, after which the threads terminate
+            executorService.shutdown();
+        }
+    }
+
     public void removeDeployment(String deploymentId) {
         removeDeployment(deploymentId, true);
     }
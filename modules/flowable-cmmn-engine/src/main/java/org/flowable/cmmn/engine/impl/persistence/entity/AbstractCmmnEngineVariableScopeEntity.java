@@ -12,6 +12,8 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import org.flowable.cmmn.engine.impl.criteria.SentryIfPartEvaluationCache;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
 
 public abstract class AbstractCmmnEngineVariableScopeEntity extends VariableScopeImpl {
@@ -22,4 +24,43 @@ public abstract class AbstractCmmnEngineVariableScopeEntity extends VariableScop
     public String getIdPrefix() {
         return CmmnEngineEntityConstants.CMMN_ENGINE_ID_PREFIX;
     }
+
+    // Variable changes can change the outcome of sentry if-parts that have already been evaluated in the same transaction
+
+    @Override
+    protected VariableInstanceEntity createVariableInstance(String variableName, Object value) {
+        VariableInstanceEntity variableInstance = super.createVariableInstance(variableName, value);
+        SentryIfPartEvaluationCache.variableChanged(variableName);
+        return variableInstance;
+    }
+
+    @Override
+    protected void updateVariableInstance(VariableInstanceEntity variableInstance, Object value) {
+        super.updateVariableInstance(variableInstance, value);
+        SentryIfPartEvaluationCache.variableChanged(variableInstance.getName());
+    }
+
+    @Override
+    protected void deleteVariableInstanceForExplicitUserCall(VariableInstanceEntity variableInstance) {
+        super.deleteVariableInstanceForExplicitUserCall(variableInstance);
+        SentryIfPartEvaluationCache.variableChanged(variableInstance.getName());
+    }
+
+    @Override
+    public void setTransientVariableLocal(String variableName, Object variableValue) {
+        super.setTransientVariableLocal(variableName, variableValue);
+        SentryIfPartEvaluationCache.variableChanged(variableName);
+    }
+
+    @Override
+    public void removeTransientVariableLocal(String variableName) {
+        super.removeTransientVariableLocal(variableName);
+        SentryIfPartEvaluationCache.variableChanged(variableName);
+    }
+
+    @Override
+    public void removeTransientVariablesLocal() {
+        super.removeTransientVariablesLocal();
+        SentryIfPartEvaluationCache.variableChanged(null);
+    }
 }
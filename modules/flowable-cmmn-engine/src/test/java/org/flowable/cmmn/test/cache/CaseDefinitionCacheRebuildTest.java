@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.test.FlowableCmmnTestCase;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CaseDefinitionCacheRebuildTest extends FlowableCmmnTestCase {
+
+    protected boolean oldSingleResourceRebuildEnabled;
+
+    @BeforeEach
+    protected void enableSingleResourceRebuild() {
+        oldSingleResourceRebuildEnabled = cmmnEngineConfiguration.isCaseDefinitionCacheSingleResourceRebuildEnabled();
+        cmmnEngineConfiguration.setCaseDefinitionCacheSingleResourceRebuildEnabled(true);
+    }
+
+    @AfterEach
+    protected void resetSingleResourceRebuild() {
+        cmmnEngineConfiguration.setCaseDefinitionCacheSingleResourceRebuildEnabled(oldSingleResourceRebuildEnabled);
+    }
+
+    @Test
+    @CmmnDeployment(resources = {
+            "org/flowable/cmmn/test/cache/case1.cmmn",
+            "org/flowable/cmmn/test/cache/case2.cmmn"
+    })
+    public void testOnlyResourceOfMissingCaseDefinitionIsParsed() {
+        CaseDefinition case1 = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("case1").singleResult();
+        CaseDefinition case2 = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("case2").singleResult();
+
+        DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache = cmmnEngineConfiguration.getCaseDefinitionCache();
+        caseDefinitionCache.clear();
+
+        assertThat(cmmnRepositoryService.getCmmnModel(case1.getId()).getPrimaryCase().getId()).isEqualTo("case1");
+        assertThat(caseDefinitionCache.contains(case1.getId())).isTrue();
+        assertThat(caseDefinitionCache.contains(case2.getId())).isFalse();
+
+        CaseDefinitionCacheEntry cacheEntry = caseDefinitionCache.get(case1.getId());
+        assertThat(cacheEntry.getCaseDefinition().getVersion()).isEqualTo(case1.getVersion());
+        assertThat(cacheEntry.getCaseDefinition().getResourceName()).isEqualTo(case1.getResourceName());
+
+        // The case definition can be used after it has been rebuilt
+        assertThat(cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionId(case1.getId()).start()).isNotNull();
+
+        assertThat(cmmnRepositoryService.getCmmnModel(case2.getId()).getPrimaryCase().getId()).isEqualTo("case2");
+        assertThat(caseDefinitionCache.contains(case2.getId())).isTrue();
+    }
+
+    @Test
+    @CmmnDeployment(resources = {
+            "org/flowable/cmmn/test/cache/case1.cmmn",
+            "org/flowable/cmmn/test/cache/case2.cmmn"
+    })
+    public void testPrewarmCaseDefinitionCache() throws InterruptedException {
+        CaseDefinition case1 = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("case1").singleResult();
+        CaseDefinition case2 = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("case2").singleResult();
+
+        DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache = cmmnEngineConfiguration.getCaseDefinitionCache();
+        caseDefinitionCache.clear();
+
+        cmmnEngineConfiguration.getDeploymentManager().prewarmCaseDefinitionCache(2);
+
+        long timeToGiveUp = System.currentTimeMillis() + 10000;
+        while ((!caseDefinitionCache.contains(case1.getId()) || !caseDefinitionCache.contains(case2.getId()))
+                && System.currentTimeMillis() < timeToGiveUp) {
+            Thread.sleep(50);
+        }
+
+        assertThat(caseDefinitionCache.contains(case1.getId())).isTrue();
+        assertThat(caseDefinitionCache.contains(case2.getId())).isTrue();
+    }
+
+}
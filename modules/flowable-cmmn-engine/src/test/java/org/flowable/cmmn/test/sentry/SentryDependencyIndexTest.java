@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.sentry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.test.FlowableCmmnTestCase;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SentryDependencyIndexTest extends FlowableCmmnTestCase {
+
+    @BeforeEach
+    public void enableSentryDependencyIndex() {
+        cmmnEngineConfiguration.setSentryDependencyIndexEnabled(true);
+        TestCondition.COUNTER.set(0);
+    }
+
+    @AfterEach
+    public void resetSentryDependencyIndex() {
+        cmmnEngineConfiguration.setSentryDependencyIndexEnabled(false);
+    }
+
+    @Test
+    public void testIndexIsBuiltOnDeployment() {
+        CaseDefinition caseDefinition = deploy("testIfPartEvaluatedOncePerTransaction");
+
+        SentryDependencyIndex index = cmmnEngineConfiguration.getCaseDefinitionCache().get(caseDefinition.getId()).getSentryDependencyIndex();
+        assertThat(index).isNotNull();
+
+        Case caze = cmmnRepositoryService.getCmmnModel(caseDefinition.getId()).getPrimaryCase();
+        Sentry sentryC = caze.getPlanModel().findSentry("sentryC");
+        Sentry sentryD = caze.getPlanModel().findSentry("sentryD");
+
+        assertThat(index.isIndexed(sentryC.getSentryIfPart())).isTrue();
+        assertThat(index.getIfPartIdsDependingOn("condition")).containsExactly("ifPartC");
+        assertThat(index.getIfPartIdsDependingOn("go")).containsExactly("ifPartC");
+        assertThat(index.getIfPartIdsDependingOn("other")).isEmpty();
+
+        // The result of a method call doesn't only depend on variables
+        assertThat(index.isIndexed(sentryD.getSentryIfPart())).isFalse();
+
+        assertThat(index.isTriggeredBy(sentryD, "planItemA", "complete")).isTrue();
+        assertThat(index.isTriggeredBy(sentryD, "planItemB", "complete")).isFalse();
+        assertThat(index.isTriggeredBy(sentryD, "planItemA", "terminate")).isFalse();
+        assertThat(index.isTriggeredBy(sentryC, "planItemA", "complete")).isFalse();
+    }
+
+    @Test
+    public void testIfPartEvaluatedOncePerTransaction() {
+        deploy("testIfPartEvaluatedOncePerTransaction");
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("ifPartEvaluatedOnce")
+                .variable("condition", new TestCondition())
+                .variable("go", false)
+                .start();
+
+        // The criteria are evaluated after every plan item transition, but the variables of the if-part didn't change
+        assertThat(TestCondition.COUNTER.get()).isEqualTo(1);
+        assertThat(getTaskNames(caseInstance)).containsExactly("A", "B");
+
+        cmmnRuntimeService.setVariable(caseInstance.getId(), "go", true);
+        assertThat(TestCondition.COUNTER.get()).isEqualTo(2);
+        assertThat(getTaskNames(caseInstance)).containsExactly("A", "B", "C");
+
+        Task taskA = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).taskName("A").singleResult();
+        cmmnTaskService.complete(taskA.getId());
+        assertThat(getTaskNames(caseInstance)).containsExactly("B", "C", "D");
+    }
+
+    @Test
+    public void testVariableChangeInSameTransaction() {
+        deploy("testVariableChangeInSameTransaction");
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("variableChangeInSameTransaction")
+                .variable("go", false)
+                .start();
+
+        // A changes the variable of the if-part of C in the same transaction in which the if-part already evaluated to false
+        assertThat(getTaskNames(caseInstance)).containsExactly("B", "C");
+    }
+
+    protected CaseDefinition deploy(String testName) {
+        // The index is built when deploying, hence the deployment needs to happen after the index has been enabled
+        String deploymentId = addDeploymentForAutoCleanup(cmmnRepositoryService.createDeployment()
+                .addClasspathResource("org/flowable/cmmn/test/sentry/SentryDependencyIndexTest." + testName + ".cmmn")
+                .deploy());
+        return cmmnRepositoryService.createCaseDefinitionQuery().deploymentId(deploymentId).singleResult();
+    }
+
+    protected List<String> getTaskNames(CaseInstance caseInstance) {
+        return cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).orderByTaskName().asc().list()
+                .stream()
+                .map(Task::getName)
+                .toList();
+    }
+
+    public static class TestCondition implements Serializable {
+
+        public static AtomicInteger COUNTER = new AtomicInteger(0);
+
+        public boolean isReady() {
+            COUNTER.incrementAndGet();
+            return true;
+        }
+
+    }
+
+}
@@ -201,6 +201,14 @@ public class DmnEngineConfiguration extends AbstractBuildableEngineConfiguration
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to true to compile decision tables when they are put in the decision cache.
+     *
+     * Compiled decision tables have all their input and output entries pre-parsed and evaluate simple literal input entries
+     * as typed comparisons against the input expression value, which is then only evaluated once per execution.
+     */
+    protected boolean compiledDecisionTablesEnabled;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -1116,6 +1124,15 @@ public class DmnEngineConfiguration extends AbstractBuildableEngineConfiguration
         return this;
     }
 
+    public boolean isCompiledDecisionTablesEnabled() {
+        return compiledDecisionTablesEnabled;
+    }
+
+    public DmnEngineConfiguration setCompiledDecisionTablesEnabled(boolean compiledDecisionTablesEnabled) {
+        this.compiledDecisionTablesEnabled = compiledDecisionTablesEnabled;
+        return this;
+    }
+
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
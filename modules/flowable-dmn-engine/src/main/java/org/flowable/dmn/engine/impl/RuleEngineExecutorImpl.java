@@ -12,17 +12,21 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.ExecuteDecisionContext;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.el.CompiledInputEntry;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.el.ELExecutionContextBuilder;
 import org.flowable.dmn.engine.impl.el.ELExpressionExecutor;
@@ -32,6 +36,7 @@ import org.flowable.dmn.engine.impl.hitpolicy.ComposeDecisionResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionRule;
 import org.flowable.dmn.model.DecisionTable;
@@ -84,6 +89,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
         // create execution context and audit trail
         ELExecutionContext executionContext = ELExecutionContextBuilder.build(decision, executeDecisionInfo);
+        executionContext.setCompiledDecisionTable(getCompiledDecisionTable(decision, currentDecisionTable, executeDecisionInfo));
 
         try {
             sanityCheckDecisionTable(currentDecisionTable);
@@ -104,6 +110,27 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return executionContext.getAuditContainer();
     }
 
+    /**
+     * Returns the compiled form of the decision table, as stored in the decision cache when the decision was deployed or (re)loaded.
+     * Returns null when compiled decision tables are not enabled, in which case the decision table is interpreted.
+     */
+    protected CompiledDecisionTable getCompiledDecisionTable(Decision decision, DecisionTable decisionTable, ExecuteDecisionContext executeDecisionInfo) {
+        if (!dmnEngineConfiguration.isCompiledDecisionTablesEnabled() || executeDecisionInfo.getDecisionId() == null) {
+            return null;
+        }
+
+        DecisionCacheEntry decisionCacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(executeDecisionInfo.getDecisionId());
+        if (decisionCacheEntry == null) {
+            return null;
+        }
+
+        CompiledDecisionTable compiledDecisionTable = decisionCacheEntry.getCompiledDecisionTable(decision.getId());
+        if (compiledDecisionTable == null || compiledDecisionTable.getDecisionTable() != decisionTable) {
+            return null;
+        }
+        return compiledDecisionTable;
+    }
+
     protected void evaluateDecisionTable(DecisionTable decisionTable, ELExecutionContext executionContext) {
         if (decisionTable == null || decisionTable.getRules().isEmpty()) {
             throw new IllegalArgumentException("no rules present in table");
@@ -119,8 +146,13 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             // evaluate rule conditions
             Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
 
-            for (DecisionRule rule : decisionTable.getRules()) {
-                boolean ruleResult = executeRule(rule, executionContext);
+            CompiledDecisionTable compiledDecisionTable = executionContext.getCompiledDecisionTable();
+            BitSet candidateRules = compiledDecisionTable != null ? compiledDecisionTable.findCandidateRules(executionContext) : null;
+
+            List<DecisionRule> rules = decisionTable.getRules();
+            for (int i = 0; i < rules.size(); i++) {
+                DecisionRule rule = rules.get(i);
+                boolean ruleResult = candidateRules == null || candidateRules.get(i) ? executeRule(rule, executionContext) : skipRule(rule, executionContext);
 
                 if (ruleResult) {
                     // evaluate decision table hit policy validity
@@ -225,7 +257,28 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return conditionResult;
     }
 
+    /**
+     * Records a rule that is known to fail on its first input entry (see {@link CompiledDecisionTable#findCandidateRules(ELExecutionContext)})
+     * in the same way as {@link #executeRule(DecisionRule, ELExecutionContext)} would, without evaluating it.
+     */
+    protected boolean skipRule(DecisionRule rule, ELExecutionContext executionContext) {
+        LOGGER.debug("Skipping rule {}, its first input entry doesn't match", rule.getRuleNumber());
+
+        executionContext.getAuditContainer().addRuleEntry(rule);
+        executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), rule.getInputEntries().get(0).getInputEntry().getId(), false);
+        executionContext.getAuditContainer().markRuleEnd(rule.getRuleNumber());
+        return false;
+    }
+
     protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, ELExecutionContext executionContext) {
+        CompiledDecisionTable compiledDecisionTable = executionContext.getCompiledDecisionTable();
+        if (compiledDecisionTable != null) {
+            CompiledInputEntry compiledInputEntry = compiledDecisionTable.getCompiledInputEntry(ruleContainer);
+            if (compiledInputEntry != null) {
+                return compiledDecisionTable.executeInputEntry(ruleContainer, compiledInputEntry, executionContext);
+            }
+        }
+
         return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), expressionManager, executionContext);
     }
 
@@ -250,7 +303,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         if (StringUtils.isNotEmpty(outputEntryExpression.getText())) {
             Object executionVariable = null;
             try {
-                Object resultValue = ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression, expressionManager, executionContext);
+                Object resultValue = executeOutputExpressionEvaluation(ruleClauseContainer, executionContext);
                 executionVariable = ExecutionVariableFactory.getExecutionVariable(outputVariableType, resultValue);
 
                 // update execution context
@@ -298,6 +351,19 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         LOGGER.debug("End evaluation conclusion {} of valid rule {}", ruleClauseContainer.getOutputClause().getOutputNumber(), ruleNumber);
     }
 
+    protected Object executeOutputExpressionEvaluation(RuleOutputClauseContainer ruleClauseContainer, ELExecutionContext executionContext) {
+        LiteralExpression outputEntryExpression = ruleClauseContainer.getOutputEntry();
+        CompiledDecisionTable compiledDecisionTable = executionContext.getCompiledDecisionTable();
+        if (compiledDecisionTable != null) {
+            Expression compiledOutputExpression = compiledDecisionTable.getOutputEntryExpression(outputEntryExpression);
+            if (compiledOutputExpression != null) {
+                return compiledDecisionTable.executeOutputEntry(outputEntryExpression, compiledOutputExpression, executionContext);
+            }
+        }
+
+        return ELExpressionExecutor.executeOutputExpression(ruleClauseContainer.getOutputClause(), outputEntryExpression, expressionManager, executionContext);
+    }
+
     protected String getExceptionMessage(Exception exception) {
         Throwable rootCause = exception;
         while (rootCause.getCause() != null) {
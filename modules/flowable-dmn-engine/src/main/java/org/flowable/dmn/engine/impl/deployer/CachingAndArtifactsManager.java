@@ -12,14 +12,20 @@
  */
 package org.flowable.dmn.engine.impl.deployer;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
+import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
 
 /**
@@ -34,6 +40,7 @@ public class CachingAndArtifactsManager {
         final DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
         DeploymentCache<DecisionCacheEntry> decisionCache = dmnEngineConfiguration.getDeploymentManager().getDecisionCache();
         DmnDeploymentEntity deployment = parsedDeployment.getDeployment();
+        Map<DmnDefinition, Map<String, CompiledDecisionTable>> compiledDecisionTablesByDefinition = new IdentityHashMap<>();
 
         for (DecisionEntity decisionEntity : parsedDeployment.getAllDecisions()) {
             DmnDefinition dmnDefinition = parsedDeployment.getDmnDefinitionForDecision(decisionEntity);
@@ -47,6 +54,11 @@ public class CachingAndArtifactsManager {
                 cacheEntry = new DecisionCacheEntry(decisionEntity, dmnDefinition, decision);
             }
 
+            if (dmnEngineConfiguration.isCompiledDecisionTablesEnabled()) {
+                cacheEntry.setCompiledDecisionTables(compiledDecisionTablesByDefinition.computeIfAbsent(dmnDefinition,
+                        definition -> compileDecisionTables(definition, dmnEngineConfiguration)));
+            }
+
             decisionCache.add(decisionEntity.getId(), cacheEntry);
 
             // Add to deployment for further usage
@@ -54,4 +66,14 @@ public class CachingAndArtifactsManager {
             deployment.addDecisionCacheEntry(decisionEntity.getId(), cacheEntry);
         }
     }
+
+    protected Map<String, CompiledDecisionTable> compileDecisionTables(DmnDefinition dmnDefinition, DmnEngineConfiguration dmnEngineConfiguration) {
+        Map<String, CompiledDecisionTable> compiledDecisionTables = new HashMap<>();
+        for (Decision decision : dmnDefinition.getDecisions()) {
+            if (decision.getExpression() instanceof DecisionTable decisionTable) {
+                compiledDecisionTables.put(decision.getId(), CompiledDecisionTable.compile(decisionTable, dmnEngineConfiguration.getExpressionManager()));
+            }
+        }
+        return compiledDecisionTables;
+    }
 }
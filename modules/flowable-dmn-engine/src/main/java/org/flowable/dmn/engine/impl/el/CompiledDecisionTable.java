@@ -0,0 +1,305 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.common.engine.impl.el.VariableContainerWrapper;
+import org.flowable.dmn.engine.FlowableDmnExpressionException;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.LiteralExpression;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.flowable.dmn.model.UnaryTests;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiled form of a {@link DecisionTable}, built once when the decision is put in the deployment cache.
+ *
+ * All input and output entries are pre-parsed into {@link Expression} instances, so no expression parsing is needed during execution.
+ * Input entries that are simple literal unary tests are evaluated as typed comparisons against the value of their input expression,
+ * which is evaluated only once per execution (see {@link ELExecutionContext#getCompiledInputValues()}).
+ * This is only done for input expressions that are plain variable or property references, as evaluating other expressions
+ * (e.g. method calls) once instead of once per entry could change the result. The entries of other inputs are evaluated by the regular {@link ELExpressionExecutor}.
+ *
+ * When the first input entry of all rules is either "-" or an equality test against a string literal, the rules are indexed on that literal.
+ * The rules that can't match the input value are then known to fail on their first input entry (see {@link #findCandidateRules(ELExecutionContext)}).
+ * This applies to all hit policies, as the skipped rules are still recorded in the audit trail, exactly like when they are evaluated.
+ */
+public class CompiledDecisionTable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledDecisionTable.class);
+
+    protected static final Object NOT_EVALUATED = new Object();
+    protected static final Object NOT_AVAILABLE = new Object();
+
+    protected static final Pattern PLAIN_REFERENCE = Pattern.compile("[a-zA-Z_$][\\w$]*(\\.[a-zA-Z_$][\\w$]*)*");
+
+    protected final DecisionTable decisionTable;
+    protected final Map<InputClause, Integer> inputClauseIndexes = new IdentityHashMap<>();
+    protected final Expression[] inputExpressions;
+    protected final Map<UnaryTests, CompiledInputEntry> inputEntries = new IdentityHashMap<>();
+    protected final Map<LiteralExpression, Expression> outputEntries = new IdentityHashMap<>();
+
+    protected InputClause indexedInputClause;
+    protected Map<String, BitSet> rulesByIndexedLiteral;
+    protected BitSet rulesMatchingAnyIndexedValue;
+
+    protected CompiledDecisionTable(DecisionTable decisionTable, int nrOfInputs) {
+        this.decisionTable = decisionTable;
+        this.inputExpressions = new Expression[nrOfInputs];
+    }
+
+    public static CompiledDecisionTable compile(DecisionTable decisionTable, ExpressionManager expressionManager) {
+        List<InputClause> inputClauses = decisionTable.getInputs();
+        CompiledDecisionTable compiledDecisionTable = new CompiledDecisionTable(decisionTable, inputClauses.size());
+
+        for (int i = 0; i < inputClauses.size(); i++) {
+            InputClause inputClause = inputClauses.get(i);
+            compiledDecisionTable.inputClauseIndexes.put(inputClause, i);
+
+            String inputExpressionText = inputClause.getInputExpression() != null ? inputClause.getInputExpression().getText() : null;
+            if (inputExpressionText != null && PLAIN_REFERENCE.matcher(inputExpressionText.trim()).matches()) {
+                compiledDecisionTable.inputExpressions[i] = createExpression("#{" + inputExpressionText + "}", expressionManager);
+            }
+        }
+
+        for (DecisionRule rule : decisionTable.getRules()) {
+            for (RuleInputClauseContainer inputClauseContainer : rule.getInputEntries()) {
+                UnaryTests inputEntry = inputClauseContainer.getInputEntry();
+                if (inputEntry != null) {
+                    CompiledInputEntry compiledInputEntry = compileInputEntry(inputClauseContainer, compiledDecisionTable, expressionManager);
+                    if (compiledInputEntry != null) {
+                        compiledDecisionTable.inputEntries.put(inputEntry, compiledInputEntry);
+                    }
+                }
+            }
+
+            for (RuleOutputClauseContainer outputClauseContainer : rule.getOutputEntries()) {
+                LiteralExpression outputEntry = outputClauseContainer.getOutputEntry();
+                if (outputEntry != null && StringUtils.isNotEmpty(outputEntry.getText())) {
+                    Expression expression = createExpression(ELOutputEntryExpressionPreParser.parse(outputEntry.getText()), expressionManager);
+                    if (expression != null) {
+                        compiledDecisionTable.outputEntries.put(outputEntry, expression);
+                    }
+                }
+            }
+        }
+
+        compiledDecisionTable.indexFirstInputEntries();
+        return compiledDecisionTable;
+    }
+
+    protected static CompiledInputEntry compileInputEntry(RuleInputClauseContainer inputClauseContainer, CompiledDecisionTable compiledDecisionTable,
+            ExpressionManager expressionManager) {
+
+        String inputEntryText = inputClauseContainer.getInputEntry().getText();
+        if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+            return CompiledInputEntry.alwaysTrue();
+        }
+
+        InputClause inputClause = inputClauseContainer.getInputClause();
+        if (inputClause == null || inputClause.getInputExpression() == null || StringUtils.isEmpty(inputClause.getInputExpression().getText())) {
+            // Invalid input clauses are handled (and reported) by the regular EL execution
+            return null;
+        }
+
+        Integer inputIndex = compiledDecisionTable.inputClauseIndexes.get(inputClause);
+        if (inputIndex == null || compiledDecisionTable.inputExpressions[inputIndex] == null) {
+            // Entries of inputs that aren't plain references are evaluated by the regular EL execution
+            return null;
+        }
+
+        LiteralExpression inputExpression = inputClause.getInputExpression();
+        String parsedExpression = ELInputEntryExpressionPreParser.parse(inputEntryText, inputExpression.getText(), inputExpression.getTypeRef());
+        Expression expression = createExpression(parsedExpression, expressionManager);
+        if (expression == null) {
+            return null;
+        }
+
+        return CompiledInputEntry.literalComparison(inputEntryText, parsedExpression, expression);
+    }
+
+    protected void indexFirstInputEntries() {
+        List<DecisionRule> rules = decisionTable.getRules();
+        InputClause firstInputClause = null;
+        Map<String, BitSet> rulesByLiteral = new HashMap<>();
+        BitSet rulesMatchingAnyValue = new BitSet(rules.size());
+
+        for (int i = 0; i < rules.size(); i++) {
+            List<RuleInputClauseContainer> ruleInputEntries = rules.get(i).getInputEntries();
+            if (ruleInputEntries.isEmpty() || ruleInputEntries.get(0).getInputEntry() == null) {
+                return;
+            }
+
+            RuleInputClauseContainer firstInputEntry = ruleInputEntries.get(0);
+            if (firstInputClause == null) {
+                firstInputClause = firstInputEntry.getInputClause();
+            } else if (firstInputEntry.getInputClause() != firstInputClause) {
+                return;
+            }
+
+            CompiledInputEntry compiledInputEntry = inputEntries.get(firstInputEntry.getInputEntry());
+            if (compiledInputEntry == null) {
+                return;
+            } else if (compiledInputEntry.isAlwaysTrue()) {
+                rulesMatchingAnyValue.set(i);
+            } else if ("==".equals(compiledInputEntry.getOperator()) && compiledInputEntry.getLiteral() instanceof String literal) {
+                rulesByLiteral.computeIfAbsent(literal, key -> new BitSet(rules.size())).set(i);
+            } else {
+                return;
+            }
+        }
+
+        if (!rulesByLiteral.isEmpty()) {
+            this.indexedInputClause = firstInputClause;
+            this.rulesByIndexedLiteral = rulesByLiteral;
+            this.rulesMatchingAnyIndexedValue = rulesMatchingAnyValue;
+        }
+    }
+
+    /**
+     * Looks up the rules whose first input entry matches the value of its input expression, in case the rules are indexed on their first input entry.
+     * The other rules fail on their first input entry, so they don't need to be evaluated.
+     *
+     * @return the positions of the rules that need to be evaluated, or null if all rules need to be evaluated
+     */
+    public BitSet findCandidateRules(ELExecutionContext executionContext) {
+        if (indexedInputClause == null) {
+            return null;
+        }
+
+        // Values that aren't strings are compared through EL, which might coerce them
+        Object inputValue = getInputValue(indexedInputClause, executionContext);
+        if (!(inputValue instanceof String)) {
+            return null;
+        }
+
+        BitSet candidateRules = (BitSet) rulesMatchingAnyIndexedValue.clone();
+        BitSet matchingRules = rulesByIndexedLiteral.get(inputValue);
+        if (matchingRules != null) {
+            candidateRules.or(matchingRules);
+        }
+        return candidateRules;
+    }
+
+    /**
+     * Expressions that can't be parsed are not compiled, so the parse failure is reported when the decision is executed, like before.
+     */
+    protected static Expression createExpression(String expressionText, ExpressionManager expressionManager) {
+        try {
+            return expressionManager.createExpression(expressionText);
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not compile decision table expression {}", expressionText, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return the compiled input entry for the given rule input, or null if the entry needs to be evaluated by the regular {@link ELExpressionExecutor}.
+     */
+    public CompiledInputEntry getCompiledInputEntry(RuleInputClauseContainer inputClauseContainer) {
+        return inputEntries.get(inputClauseContainer.getInputEntry());
+    }
+
+    public Boolean executeInputEntry(RuleInputClauseContainer inputClauseContainer, CompiledInputEntry compiledInputEntry, ELExecutionContext executionContext) {
+        if (compiledInputEntry.isAlwaysTrue()) {
+            return Boolean.TRUE;
+        }
+
+        if (compiledInputEntry.isLiteralComparison()) {
+            Object inputValue = getInputValue(inputClauseContainer.getInputClause(), executionContext);
+            if (inputValue != NOT_AVAILABLE && compiledInputEntry.canCompare(inputValue)) {
+                return compiledInputEntry.compare(inputValue);
+            }
+        }
+
+        RuleExpressionCondition condition = new RuleExpressionCondition(compiledInputEntry.getExpression());
+        try {
+            return condition.evaluate(executionContext.getStackVariables(), executionContext);
+        } catch (Exception ex) {
+            LOGGER.warn("Error while executing input entry: {}", compiledInputEntry.getParsedExpression(), ex);
+            throw new FlowableDmnExpressionException("error while executing input entry", compiledInputEntry.getParsedExpression(), ex);
+        }
+    }
+
+    /**
+     * @return the pre-built output entry expression, or null if the entry needs to be evaluated by the regular {@link ELExpressionExecutor}.
+     */
+    public Expression getOutputEntryExpression(LiteralExpression outputEntry) {
+        return outputEntries.get(outputEntry);
+    }
+
+    public Object executeOutputEntry(LiteralExpression outputEntry, Expression outputEntryExpression, ELExecutionContext executionContext) {
+        RuleExpressionOutput outputExpression = new RuleExpressionOutput(outputEntryExpression);
+        try {
+            return outputExpression.getValue(executionContext.getStackVariables());
+        } catch (Exception ex) {
+            LOGGER.warn("Error while executing output entry: {}", outputEntry.getText(), ex);
+            throw new FlowableDmnExpressionException("error while executing output entry", outputEntry.getText(), ex);
+        }
+    }
+
+    /**
+     * Returns the value of the input expression of the given clause. The value is evaluated at most once per execution.
+     * In case the value can't be evaluated, {@link #NOT_AVAILABLE} is returned and the entries need to be evaluated through EL,
+     * so the failure is reported in the same way as before.
+     */
+    protected Object getInputValue(InputClause inputClause, ELExecutionContext executionContext) {
+        Integer inputIndex = inputClauseIndexes.get(inputClause);
+        if (inputIndex == null) {
+            return NOT_AVAILABLE;
+        }
+
+        Object[] inputValues = executionContext.getCompiledInputValues();
+        if (inputValues == null) {
+            inputValues = new Object[inputExpressions.length];
+            Arrays.fill(inputValues, NOT_EVALUATED);
+            executionContext.setCompiledInputValues(inputValues);
+        }
+
+        Object inputValue = inputValues[inputIndex];
+        if (inputValue == NOT_EVALUATED) {
+            try {
+                VariableContainerWrapper variableContainer = new VariableContainerWrapper(executionContext.getStackVariables());
+                variableContainer.setInstanceId(executionContext.getInstanceId());
+                variableContainer.setScopeType(executionContext.getScopeType());
+                variableContainer.setTenantId(executionContext.getTenantId());
+                inputValue = inputExpressions[inputIndex].getValue(variableContainer);
+
+            } catch (Exception e) {
+                LOGGER.debug("Could not evaluate input expression {}, falling back to input entry expressions", inputClause.getInputExpression().getText(), e);
+                inputValue = NOT_AVAILABLE;
+            }
+            inputValues[inputIndex] = inputValue;
+        }
+        return inputValue;
+    }
+
+    public DecisionTable getDecisionTable() {
+        return decisionTable;
+    }
+
+}
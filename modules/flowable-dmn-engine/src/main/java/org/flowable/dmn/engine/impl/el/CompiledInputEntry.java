@@ -0,0 +1,174 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.el;
+
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.BooleanOperations;
+import org.flowable.common.engine.impl.de.odysseus.el.misc.TypeConverter;
+
+/**
+ * A pre-parsed input entry of a decision table rule.
+ *
+ * The entry always has a pre-built EL {@link Expression}. When the entry is a simple literal unary test (e.g. <code>"gold"</code>, <code>&gt;= 10</code> or <code>== true</code>),
+ * the operator and the typed literal are kept as well, so the entry can be evaluated as a direct comparison against the value of the input expression.
+ */
+public class CompiledInputEntry {
+
+    protected static final String[] OPERATORS = new String[] { "==", "!=", ">=", "<=", "<", ">" };
+
+    protected static final Pattern STRING_LITERAL = Pattern.compile("\"[^\"\\\\]*\"|'[^'\\\\]*'");
+    protected static final Pattern INTEGER_LITERAL = Pattern.compile("-?\\d{1,18}");
+    protected static final Pattern DECIMAL_LITERAL = Pattern.compile("-?\\d+\\.\\d+");
+
+    protected final String parsedExpression;
+    protected final Expression expression;
+    protected final boolean alwaysTrue;
+
+    protected String operator;
+    protected Object literal;
+
+    protected CompiledInputEntry(String parsedExpression, Expression expression, boolean alwaysTrue) {
+        this.parsedExpression = parsedExpression;
+        this.expression = expression;
+        this.alwaysTrue = alwaysTrue;
+    }
+
+    public static CompiledInputEntry alwaysTrue() {
+        return new CompiledInputEntry(null, null, true);
+    }
+
+    public static CompiledInputEntry expression(String parsedExpression, Expression expression) {
+        return new CompiledInputEntry(parsedExpression, expression, false);
+    }
+
+    /**
+     * Creates an input entry for the given entry text, which also keeps the typed literal comparison in case the text is a simple literal unary test.
+     */
+    public static CompiledInputEntry literalComparison(String inputEntryText, String parsedExpression, Expression expression) {
+        CompiledInputEntry compiledInputEntry = expression(parsedExpression, expression);
+
+        // Functions and explicit expressions are always evaluated through EL
+        if (inputEntryText.contains("fn_") || inputEntryText.contains("{")) {
+            return compiledInputEntry;
+        }
+
+        String operator = "==";
+        String literalText = inputEntryText;
+        if (inputEntryText.length() >= 2) {
+            for (String possibleOperator : OPERATORS) {
+                if (inputEntryText.startsWith(possibleOperator)) {
+                    operator = possibleOperator;
+                    literalText = inputEntryText.substring(possibleOperator.length());
+                    break;
+                }
+            }
+        }
+
+        Object literal = parseLiteral(literalText.trim());
+        if (literal != null) {
+            if (literal instanceof Boolean && !"==".equals(operator) && !"!=".equals(operator)) {
+                return compiledInputEntry;
+            }
+            compiledInputEntry.operator = operator;
+            compiledInputEntry.literal = literal;
+        }
+        return compiledInputEntry;
+    }
+
+    protected static Object parseLiteral(String literalText) {
+        if (STRING_LITERAL.matcher(literalText).matches()) {
+            return literalText.substring(1, literalText.length() - 1);
+        } else if (INTEGER_LITERAL.matcher(literalText).matches()) {
+            return Long.valueOf(literalText);
+        } else if (DECIMAL_LITERAL.matcher(literalText).matches()) {
+            return Double.valueOf(literalText);
+        } else if ("true".equals(literalText) || "false".equals(literalText)) {
+            return Boolean.valueOf(literalText);
+        }
+        return null;
+    }
+
+    /**
+     * @return true if this entry can be evaluated as a typed comparison against the given input value.
+     *         This is only the case when the comparison gives exactly the same result as the EL expression would.
+     */
+    public boolean canCompare(Object inputValue) {
+        if (literal == null || inputValue == null) {
+            return false;
+        }
+
+        if (literal instanceof String) {
+            return inputValue instanceof String;
+        } else if (literal instanceof Boolean) {
+            return inputValue instanceof Boolean;
+        } else {
+            return inputValue instanceof Long || inputValue instanceof Integer || inputValue instanceof Double
+                    || inputValue instanceof Short || inputValue instanceof Byte || inputValue instanceof Float;
+        }
+    }
+
+    /**
+     * Compares the input value with the literal, using the same operations as the EL implementation.
+     * Should only be called when {@link #canCompare(Object)} returns true.
+     */
+    public boolean compare(Object inputValue) {
+        switch (operator) {
+            case "==":
+                return BooleanOperations.eq(TypeConverter.DEFAULT, inputValue, literal);
+            case "!=":
+                return BooleanOperations.ne(TypeConverter.DEFAULT, inputValue, literal);
+            case ">=":
+                return BooleanOperations.ge(TypeConverter.DEFAULT, inputValue, literal);
+            case "<=":
+                return BooleanOperations.le(TypeConverter.DEFAULT, inputValue, literal);
+            case "<":
+                return BooleanOperations.lt(TypeConverter.DEFAULT, inputValue, literal);
+            case ">":
+                return BooleanOperations.gt(TypeConverter.DEFAULT, inputValue, literal);
+            default:
+                throw new IllegalStateException("Unsupported operator " + operator);
+        }
+    }
+
+    public boolean isAlwaysTrue() {
+        return alwaysTrue;
+    }
+
+    public boolean isLiteralComparison() {
+        return literal != null;
+    }
+
+    public String getParsedExpression() {
+        return parsedExpression;
+    }
+
+    public Expression getExpression() {
+        return expression;
+    }
+
+    public String getOperator() {
+        return operator;
+    }
+
+    public Object getLiteral() {
+        return literal;
+    }
+
+    @Override
+    public String toString() {
+        return isAlwaysTrue() ? "-" : StringUtils.defaultString(parsedExpression);
+    }
+}
@@ -35,6 +35,8 @@ public class ELExecutionContext {
     protected String scopeType;
     protected String tenantId;
     protected boolean forceDMN11;
+    protected CompiledDecisionTable compiledDecisionTable;
+    protected Object[] compiledInputValues;
 
     public void checkExecutionContext(String variableId) {
         if (StringUtils.isEmpty(variableId)) {
@@ -123,4 +125,20 @@ public class ELExecutionContext {
     public void setForceDMN11(boolean forceDMN11) {
         this.forceDMN11 = forceDMN11;
     }
+
+    public CompiledDecisionTable getCompiledDecisionTable() {
+        return compiledDecisionTable;
+    }
+
+    public void setCompiledDecisionTable(CompiledDecisionTable compiledDecisionTable) {
+        this.compiledDecisionTable = compiledDecisionTable;
+    }
+
+    public Object[] getCompiledInputValues() {
+        return compiledInputValues;
+    }
+
+    public void setCompiledInputValues(Object[] compiledInputValues) {
+        this.compiledInputValues = compiledInputValues;
+    }
 }
@@ -13,7 +13,9 @@
 package org.flowable.dmn.engine.impl.persistence.deploy;
 
 import java.io.Serializable;
+import java.util.Map;
 
+import org.flowable.dmn.engine.impl.el.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionEntity;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionService;
@@ -31,6 +33,7 @@ public class DecisionCacheEntry implements Serializable {
     protected DmnDefinition dmnDefinition;
     protected DecisionService decisionService;
     protected Decision decision;
+    protected transient Map<String, CompiledDecisionTable> compiledDecisionTables;
 
     public DecisionCacheEntry(DecisionEntity decisionEntity, DmnDefinition dmnDefinition, DecisionService decisionService) {
         this.decisionEntity = decisionEntity;
@@ -72,4 +75,16 @@ public class DecisionCacheEntry implements Serializable {
     public void setDecision(Decision decision) {
         this.decision = decision;
     }
+
+    public Map<String, CompiledDecisionTable> getCompiledDecisionTables() {
+        return compiledDecisionTables;
+    }
+
+    public void setCompiledDecisionTables(Map<String, CompiledDecisionTable> compiledDecisionTables) {
+        this.compiledDecisionTables = compiledDecisionTables;
+    }
+
+    public CompiledDecisionTable getCompiledDecisionTable(String decisionId) {
+        return compiledDecisionTables != null ? compiledDecisionTables.get(decisionId) : null;
+    }
 }
@@ -0,0 +1,175 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecision;
+import org.flowable.dmn.api.RuleExecutionAuditContainer;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionCacheEntry;
+import org.flowable.dmn.engine.test.BaseFlowableDmnTest;
+import org.flowable.dmn.engine.test.DmnConfigurationResource;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.junit.jupiter.api.Test;
+
+@DmnConfigurationResource("compiled.flowable.dmn.cfg.xml")
+public class CompiledDecisionTableTest extends BaseFlowableDmnTest {
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/deployment/risk_rating_spec_example.dmn")
+    public void riskRating() {
+        assertCompiled("RiskRatingDecisionTable");
+
+        Map<String, Object> processVariablesInput = new HashMap<>();
+        processVariablesInput.put("age", 17);
+        processVariablesInput.put("riskcategory", "HIGH");
+        processVariablesInput.put("debtreview", true);
+
+        List<Map<String, Object>> result = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("RiskRatingDecisionTable")
+                .variables(processVariablesInput)
+                .execute();
+
+        assertThat(result)
+                .extracting("routing", "reason", "reviewlevel")
+                .containsExactly(
+                        tuple("DECLINE", "Applicant too young", "NONE"),
+                        tuple("REFER", "Applicant under debt review", "LEVEL 2"),
+                        tuple("REFER", "High risk application", "LEVEL 1"),
+                        tuple("ACCEPT", "Acceptable", "NONE")
+                );
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/deployment/risk_rating_spec_example.dmn")
+    public void riskRatingWithCoercedInput() {
+        // a String age can't be compared directly and falls back to the EL evaluation, which coerces it
+        Map<String, Object> processVariablesInput = new HashMap<>();
+        processVariablesInput.put("age", "17");
+        processVariablesInput.put("riskcategory", "HIGH");
+        processVariablesInput.put("debtreview", true);
+
+        List<Map<String, Object>> result = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("RiskRatingDecisionTable")
+                .variables(processVariablesInput)
+                .execute();
+
+        assertThat(result)
+                .extracting("routing")
+                .containsExactly("DECLINE", "REFER", "REFER", "ACCEPT");
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/deployment/numbers_1.dmn")
+    public void numbers() {
+        assertCompiled("ad");
+
+        Map<String, Object> processVariablesInput = new HashMap<>();
+        processVariablesInput.put("count", 101L);
+        processVariablesInput.put("price", 100L);
+        processVariablesInput.put("status", "");
+
+        Map<String, Object> result = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("ad")
+                .variables(processVariablesInput)
+                .executeWithSingleResult();
+
+        assertThat(result)
+                .containsOnly(
+                        entry("total", 500D),
+                        entry("discount", 0D)
+                );
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/deployment/strings_1.dmn")
+    public void methodCallInputEntries() {
+        Map<String, Object> result = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("decision")
+                .variable("input1", "testString")
+                .executeWithSingleResult();
+
+        assertThat(result).containsEntry("output1", "test1");
+    }
+
+    @Test
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/deployment/risk_rating_spec_example.dmn")
+    public void missingInputVariable() {
+        Map<String, Object> processVariablesInput = new HashMap<>();
+        processVariablesInput.put("riskcategory", "HIGH");
+        processVariablesInput.put("debtreview", true);
+
+        DecisionExecutionAuditContainer auditContainer = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("RiskRatingDecisionTable")
+                .variables(processVariablesInput)
+                .executeWithAuditTrail();
+
+        assertThat(auditContainer.isFailed()).isTrue();
+        assertThat(auditContainer.getDecisionResult()).isEmpty();
+    }
+
+    @Test
+    @DmnDeployment
+    public void indexedFirstInput() {
+        assertThat(executeDiscountDecision("gold", 150L)).isEqualTo(20D);
+        assertThat(executeDiscountDecision("gold", 50L)).isEqualTo(10D);
+        assertThat(executeDiscountDecision("bronze", 150L)).isEqualTo(0D);
+
+        DecisionExecutionAuditContainer auditContainer = ruleService.createExecuteDecisionBuilder()
+                .decisionKey("discountDecision")
+                .variable("customer", Map.of("category", "silver"))
+                .variable("amount", 150L)
+                .executeWithAuditTrail();
+
+        assertThat(auditContainer.isFailed()).isFalse();
+        assertThat(auditContainer.getDecisionResult())
+                .extracting(result -> result.get("discount"))
+                .containsExactly(5D);
+
+        // The gold rules are not evaluated, but are recorded as failing on their first input entry
+        Map<Integer, RuleExecutionAuditContainer> ruleExecutions = auditContainer.getRuleExecutions();
+        assertThat(ruleExecutions).containsOnlyKeys(1, 2, 3);
+        assertThat(ruleExecutions.get(1).isValid()).isFalse();
+        assertThat(ruleExecutions.get(1).getConditionResults())
+                .extracting("id", "result")
+                .containsExactly(tuple("inputEntry1_1", false));
+        assertThat(ruleExecutions.get(2).isValid()).isFalse();
+        assertThat(ruleExecutions.get(3).isValid()).isTrue();
+        assertThat(ruleExecutions.get(3).getConditionResults())
+                .extracting("id", "result")
+                .containsExactly(tuple("inputEntry3_1", true), tuple("inputEntry3_2", true));
+    }
+
+    protected Object executeDiscountDecision(String category, long amount) {
+        return ruleService.createExecuteDecisionBuilder()
+                .decisionKey("discountDecision")
+                .variable("customer", Map.of("category", category))
+                .variable("amount", amount)
+                .executeWithSingleResult()
+                .get("discount");
+    }
+
+    protected void assertCompiled(String decisionKey) {
+        DmnDecision decision = repositoryService.createDecisionQuery().decisionKey(decisionKey).singleResult();
+        DecisionCacheEntry cacheEntry = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decision.getId());
+        assertThat(cacheEntry).isNotNull();
+        assertThat(cacheEntry.getCompiledDecisionTable(decision.getKey())).isNotNull();
+    }
+}
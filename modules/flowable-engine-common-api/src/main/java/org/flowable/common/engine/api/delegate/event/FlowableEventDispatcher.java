@@ -55,6 +55,19 @@ public interface FlowableEventDispatcher {
      */
     void dispatchEvent(FlowableEvent event, String engineType);
 
+    /**
+     * Returns whether an event of the given type would be dispatched to at least one listener.
+     * This allows callers to skip creating events that nobody listens to.
+     * 
+     * @param type
+     *            type of the event
+     * @param engineType
+     *            type of engine the event would be dispatched for
+     */
+    default boolean hasListeners(FlowableEventType type, String engineType) {
+        return true;
+    }
+
     /**
      * @param enabled
      *            true, if event dispatching should be enabled.
@@ -171,6 +171,12 @@ public abstract class AbstractEngineConfiguration {
     protected String jdbcPingQuery;
     protected int jdbcPingConnectionNotUsedFor;
     protected int jdbcDefaultTransactionIsolationLevel;
+
+    /**
+     * The JDBC fetch size used for the select statements that don't define one themselves (e.g. when streaming query results with a cursor).
+     * When null, the default of the JDBC driver is used.
+     */
+    protected Integer jdbcDefaultFetchSize;
     protected DataSource dataSource;
     protected Map<String, SchemaManager> additionalSchemaManagers;
     protected SchemaManager commonSchemaManager;
@@ -238,6 +244,36 @@ public abstract class AbstractEngineConfiguration {
      */
     protected int maxNrOfStatementsInBulkInsert = 100;
 
+    /**
+     * If set to true, entities implementing {@link org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity} are no longer
+     * snapshotted when they are loaded. Instead, their setters mark them as dirty (keeping the state from before the first change)
+     * and only dirty entities are updated at flush time.
+     * This avoids building and comparing the persistent state of every cached entity on each flush. Default false.
+     */
+    protected boolean entityDirtyTrackingEnabled;
+
+    /**
+     * The update statements of the entities only set the columns that have changed (and REV_).
+     * If set to true, the updates of a flush are grouped per entity type and set of changed columns,
+     * so that the updates resulting in the same SQL statement are executed consecutively and can be batched by the JDBC driver. Default false.
+     */
+    protected boolean updateGroupingEnabled;
+
+    /**
+     * If set to true, the entity updates and deletes of a flush are executed as JDBC batches instead of one statement (and round-trip) per entity.
+     * Optimistic locking failures are still detected through the update counts of the individual statements,
+     * hence this requires a JDBC driver that reports those (e.g. H2, PostgreSQL, MySQL, SQL Server and Oracle 12c or later).
+     * A flush fails when the driver doesn't report the update count of a batched statement. Default false.
+     */
+    protected boolean jdbcBatchEnabled;
+
+    /**
+     * If set to true, the definition and expression caches created by the engine are {@link org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache}s,
+     * which can be read without locking and evict the least frequently used entries, instead of {@link org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache}s.
+     * Only applies to the caches that are not set explicitly. Default false.
+     */
+    protected boolean concurrentDeploymentCacheEnabled;
+
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 55; // currently Execution has most params (35). 2000 / 35 = 57.
 
     protected String mybatisMappingFile;
@@ -748,6 +784,9 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setEntityDirtyTrackingEnabled(entityDirtyTrackingEnabled);
+        dbSqlSessionFactory.setUpdateGroupingEnabled(updateGroupingEnabled);
+        dbSqlSessionFactory.setJdbcBatchEnabled(jdbcBatchEnabled);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -871,6 +910,9 @@ public abstract class AbstractEngineConfiguration {
         }
 
         configuration = parseMybatisConfiguration(parser);
+        if (jdbcDefaultFetchSize != null) {
+            configuration.setDefaultFetchSize(jdbcDefaultFetchSize);
+        }
         return configuration;
     }
 
@@ -1319,6 +1361,15 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public Integer getJdbcDefaultFetchSize() {
+        return jdbcDefaultFetchSize;
+    }
+
+    public AbstractEngineConfiguration setJdbcDefaultFetchSize(Integer jdbcDefaultFetchSize) {
+        this.jdbcDefaultFetchSize = jdbcDefaultFetchSize;
+        return this;
+    }
+
     public String getJdbcPingQuery() {
         return jdbcPingQuery;
     }
@@ -1604,6 +1655,42 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isEntityDirtyTrackingEnabled() {
+        return entityDirtyTrackingEnabled;
+    }
+
+    public AbstractEngineConfiguration setEntityDirtyTrackingEnabled(boolean entityDirtyTrackingEnabled) {
+        this.entityDirtyTrackingEnabled = entityDirtyTrackingEnabled;
+        return this;
+    }
+
+    public boolean isUpdateGroupingEnabled() {
+        return updateGroupingEnabled;
+    }
+
+    public AbstractEngineConfiguration setUpdateGroupingEnabled(boolean updateGroupingEnabled) {
+        this.updateGroupingEnabled = updateGroupingEnabled;
+        return this;
+    }
+
+    public boolean isJdbcBatchEnabled() {
+        return jdbcBatchEnabled;
+    }
+
+    public AbstractEngineConfiguration setJdbcBatchEnabled(boolean jdbcBatchEnabled) {
+        this.jdbcBatchEnabled = jdbcBatchEnabled;
+        return this;
+    }
+
+    public boolean isConcurrentDeploymentCacheEnabled() {
+        return concurrentDeploymentCacheEnabled;
+    }
+
+    public AbstractEngineConfiguration setConcurrentDeploymentCacheEnabled(boolean concurrentDeploymentCacheEnabled) {
+        this.concurrentDeploymentCacheEnabled = concurrentDeploymentCacheEnabled;
+        return this;
+    }
+
     public boolean isBulkInsertEnabled() {
         return isBulkInsertEnabled;
     }
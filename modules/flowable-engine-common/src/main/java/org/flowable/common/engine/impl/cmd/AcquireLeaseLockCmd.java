@@ -0,0 +1,63 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.cmd;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+
+/**
+ * Acquires a lease on a lock in the property table.
+ * The lock is free when it has no value or when its lease (the time of the last renewal + the lease duration) has expired.
+ *
+ * Returns whether the lease was acquired, it is not acquired when the lock is held by someone else.
+ */
+public class AcquireLeaseLockCmd implements Command<Boolean> {
+
+    protected String lockName;
+    protected String lockOwner;
+    protected Duration leaseDuration;
+    protected String engineType;
+
+    public AcquireLeaseLockCmd(String lockName, String lockOwner, Duration leaseDuration, String engineType) {
+        this.lockName = lockName;
+        this.lockOwner = lockOwner;
+        this.leaseDuration = leaseDuration;
+        this.engineType = engineType;
+    }
+
+    @Override
+    public Boolean execute(CommandContext commandContext) {
+        PropertyEntityManager propertyEntityManager = commandContext.getEngineConfigurations().get(engineType).getPropertyEntityManager();
+        PropertyEntity property = propertyEntityManager.findById(lockName);
+        if (property == null) {
+            property = propertyEntityManager.create();
+            property.setName(lockName);
+            property.setValue(LeaseLockValue.create(lockOwner));
+            propertyEntityManager.insert(property);
+            return true;
+
+        } else if (property.getValue() == null || LeaseLockValue.isOwnedBy(property.getValue(), lockOwner)
+                || LeaseLockValue.getRenewalTime(property.getValue()).plus(leaseDuration).isBefore(Instant.now())) {
+            property.setValue(LeaseLockValue.create(lockOwner));
+            return true;
+
+        } else {
+            return false;
+        }
+    }
+}
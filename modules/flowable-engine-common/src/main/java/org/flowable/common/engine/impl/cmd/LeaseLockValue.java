@@ -0,0 +1,39 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.cmd;
+
+import java.time.Instant;
+
+/**
+ * The value of a lease lock in the property table: the time of the last renewal in ISO8601 - owner - hostName(hostAddress).
+ * It starts with the time (as the value of the locks of the {@link LockCmd}), so that the lock value stays readable for the same tooling.
+ */
+public class LeaseLockValue {
+
+    protected static final int MAX_LENGTH = 255;
+    protected static final String SEPARATOR = " - ";
+
+    public static String create(String lockOwner) {
+        String value = Instant.now().toString() + SEPARATOR + lockOwner + LockCmd.hostLockDescription;
+        return value.length() > MAX_LENGTH ? value.substring(0, MAX_LENGTH) : value;
+    }
+
+    public static Instant getRenewalTime(String value) {
+        return Instant.parse(value.substring(0, value.indexOf('Z') + 1));
+    }
+
+    public static boolean isOwnedBy(String value, String lockOwner) {
+        return value != null && value.startsWith(SEPARATOR + lockOwner, value.indexOf('Z') + 1);
+    }
+
+}
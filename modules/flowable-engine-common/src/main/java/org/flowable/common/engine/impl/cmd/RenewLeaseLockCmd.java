@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.cmd;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+
+/**
+ * Renews the lease of a lock in the property table, when it is still owned by the given owner.
+ */
+public class RenewLeaseLockCmd implements Command<Boolean> {
+
+    protected String lockName;
+    protected String lockOwner;
+    protected String engineType;
+
+    public RenewLeaseLockCmd(String lockName, String lockOwner, String engineType) {
+        this.lockName = lockName;
+        this.lockOwner = lockOwner;
+        this.engineType = engineType;
+    }
+
+    @Override
+    public Boolean execute(CommandContext commandContext) {
+        PropertyEntity property = commandContext.getEngineConfigurations().get(engineType).getPropertyEntityManager().findById(lockName);
+        if (property != null && LeaseLockValue.isOwnedBy(property.getValue(), lockOwner)) {
+            property.setValue(LeaseLockValue.create(lockOwner));
+            return true;
+        }
+        return false;
+    }
+}
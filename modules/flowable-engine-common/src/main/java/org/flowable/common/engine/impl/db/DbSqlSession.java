@@ -13,18 +13,32 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.io.IOException;
 import java.sql.Connection;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.query.CacheAwareQuery;
@@ -34,6 +48,7 @@ import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.entity.AlwaysUpdatedPersistentObject;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -105,6 +120,10 @@ public class DbSqlSession implements Session {
 
     public void update(Entity entity) {
         entityCache.put(entity, false); // false -> we don't store state, meaning it will always be seen as changed
+        if (entity instanceof DirtyTrackingEntity dirtyTrackingEntity && !dirtyTrackingEntity.isDirty()) {
+            entity.setOriginalPersistentState(entity.getPersistentState());
+            dirtyTrackingEntity.setDirty(true);
+        }
         entity.setUpdated(true);
     }
 
@@ -289,6 +308,23 @@ public class DbSqlSession implements Session {
         }
     }
     
+    /**
+     * Executes the select statement with a MyBatis {@link Cursor}, passing the results to the consumer one by one while they are being read.
+     * The results are not stored in the entity cache, so they can be garbage collected as soon as they have been consumed.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void selectWithCursor(String statement, ListQueryParameterObject parameter, Consumer<T> consumer) {
+        parameter.setDatabaseType(dbSqlSessionFactory.getDatabaseType());
+        statement = dbSqlSessionFactory.mapStatement(statement);
+        try (Cursor<Object> cursor = sqlSession.selectCursor(statement, parameter)) {
+            for (Object result : cursor) {
+                consumer.accept((T) result);
+            }
+        } catch (IOException e) {
+            throw new FlowableException("Could not close the cursor of statement " + statement, e);
+        }
+    }
+
     public Object selectOne(String statement, Object parameter) {
         statement = dbSqlSessionFactory.mapStatement(statement);
         Object result = sqlSession.selectOne(statement, parameter);
@@ -320,7 +356,7 @@ public class DbSqlSession implements Session {
             return null;
         }
 
-        entityCache.put(entity, true); // true -> store state so we can see later if it is updated later on
+        cachePutLoadedEntity(entity);
         return entity;
     }
 
@@ -356,10 +392,28 @@ public class DbSqlSession implements Session {
             }
             return cachedEntity;
         }
-        entityCache.put(entity, true);
+        cachePutLoadedEntity(entity);
         return entity;
     }
 
+    /**
+     * Puts a freshly loaded entity in the cache. By default, the persistent state is stored so we can see later if it is updated.
+     * When dirty tracking is enabled, {@link DirtyTrackingEntity} instances are not snapshotted,
+     * but their dirty flag (which could have been set by the setters while mapping the result) is reset.
+     */
+    protected void cachePutLoadedEntity(Entity entity) {
+        if (isDirtyTracked(entity)) {
+            entityCache.put(entity, false);
+            ((DirtyTrackingEntity) entity).setDirty(false);
+        } else {
+            entityCache.put(entity, true); // true -> store state so we can see later if it is updated later on
+        }
+    }
+
+    protected boolean isDirtyTracked(Entity entity) {
+        return dbSqlSessionFactory.isEntityDirtyTrackingEnabled() && entity instanceof DirtyTrackingEntity;
+    }
+
     // flush
     // ////////////////////////////////////////////////////////////////////
 
@@ -433,7 +487,7 @@ public class DbSqlSession implements Session {
 
                 if (!isEntityInserted(cachedEntity) &&
                         (cachedEntity instanceof AlwaysUpdatedPersistentObject || !isEntityToBeDeleted(cachedEntity)) &&
-                        cachedObject.hasChanged()) {
+                        hasChanged(cachedObject)) {
 
                     updatedObjects.add(cachedEntity);
                 }
@@ -441,6 +495,17 @@ public class DbSqlSession implements Session {
         }
     }
 
+    protected boolean hasChanged(CachedEntity cachedObject) {
+        Entity cachedEntity = cachedObject.getEntity();
+        if (isDirtyTracked(cachedEntity)) {
+            // Only dirty entities are compared with the state from before their first change:
+            // changes that were reverted in the same transaction don't need an update (and a revision increment)
+            return ((DirtyTrackingEntity) cachedEntity).isDirty()
+                    && (cachedEntity.isUpdated() || !Objects.equals(cachedEntity.getPersistentState(), cachedEntity.getOriginalPersistentState()));
+        }
+        return cachedObject.hasChanged();
+    }
+
     protected void debugFlush() {
         LOGGER.debug("Flushing dbSqlSession");
         int nrOfInserts = 0;
@@ -600,21 +665,63 @@ public class DbSqlSession implements Session {
         }
 
         if (!updatedObjects.isEmpty()) {
-            updatedObjects.forEach(this::flushUpdateEntity);
+            List<Entity> objectsToUpdate = dbSqlSessionFactory.isUpdateGroupingEnabled() ? groupUpdatedObjectsByChangedColumns() : updatedObjects;
+            if (dbSqlSessionFactory.isJdbcBatchEnabled()) {
+                flushBatchedUpdateEntities(objectsToUpdate);
+            } else {
+                objectsToUpdate.forEach(this::flushUpdateEntity);
+            }
         }
 
         updatedObjects.clear();
         bulkUpdateOperations.clear();
     }
 
-    protected void flushUpdateEntity(Entity updatedObject) {
-        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+    /**
+     * The update statements only set the columns of which the persistent state has changed.
+     * This returns the updated objects ordered such that the updates of the same entity type that change the same columns
+     * (and thus result in the same SQL statement) are executed after each other, which allows the JDBC driver to batch them.
+     * The order of the entity types and the order within one group are kept.
+     */
+    protected List<Entity> groupUpdatedObjectsByChangedColumns() {
+        Map<Object, List<Entity>> updatesPerStatement = new LinkedHashMap<>();
+        for (Entity updatedObject : updatedObjects) {
+            Object statementKey = List.of(updatedObject.getClass(), determineChangedPersistentStateKeys(updatedObject));
+            updatesPerStatement.computeIfAbsent(statementKey, key -> new ArrayList<>()).add(updatedObject);
+        }
 
-        if (updateStatement == null) {
-            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        List<Entity> groupedUpdatedObjects = new ArrayList<>(updatedObjects.size());
+        updatesPerStatement.values().forEach(groupedUpdatedObjects::addAll);
+        return groupedUpdatedObjects;
+    }
+
+    /**
+     * Returns the (sorted) keys of the persistent state that differ from the original persistent state of the entity,
+     * or an empty set when the persistent state is not a map (in which case the full update statement is used).
+     */
+    protected Set<String> determineChangedPersistentStateKeys(Entity entity) {
+        if (!(entity.getPersistentState() instanceof Map<?, ?> persistentState)
+                || !(entity.getOriginalPersistentState() instanceof Map<?, ?> originalPersistentState)) {
+            return Collections.emptySet();
         }
 
+        Set<String> changedKeys = new TreeSet<>();
+        for (Map.Entry<?, ?> entry : persistentState.entrySet()) {
+            if (!Objects.equals(entry.getValue(), originalPersistentState.get(entry.getKey()))) {
+                changedKeys.add(String.valueOf(entry.getKey()));
+            }
+        }
+        for (Object originalKey : originalPersistentState.keySet()) {
+            if (!persistentState.containsKey(originalKey)) {
+                changedKeys.add(String.valueOf(originalKey));
+            }
+        }
+        return changedKeys;
+    }
+
+    protected void flushUpdateEntity(Entity updatedObject) {
+        String updateStatement = getMappedUpdateStatement(updatedObject);
+
         LOGGER.debug("updating: {}", updatedObject);
 
         int updatedRecords = sqlSession.update(updateStatement, updatedObject);
@@ -622,10 +729,43 @@ public class DbSqlSession implements Session {
             throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
         }
 
+        entityUpdated(updatedObject);
+    }
+
+    protected void flushBatchedUpdateEntities(List<Entity> entitiesToUpdate) {
+        List<BatchResult> batchResults = executeBatch(batchSqlSession -> {
+            for (Entity updatedObject : entitiesToUpdate) {
+                String updateStatement = getMappedUpdateStatement(updatedObject);
+                LOGGER.debug("updating (batched): {}", updatedObject);
+                batchSqlSession.update(updateStatement, updatedObject);
+            }
+        });
+
+        // Every update has a revision (or id) check, hence each updated entity needs to have changed exactly one row
+        checkBatchUpdateCounts(batchResults, updatedObject -> true);
+
+        entitiesToUpdate.forEach(this::entityUpdated);
+    }
+
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
+
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        }
+        return updateStatement;
+    }
+
+    protected void entityUpdated(Entity updatedObject) {
         // See https://activiti.atlassian.net/browse/ACT-1290
         if (updatedObject instanceof HasRevision) {
             ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
         }
+
+        if (updatedObject instanceof DirtyTrackingEntity dirtyTrackingEntity) {
+            dirtyTrackingEntity.setDirty(false);
+        }
     }
 
     protected void flushBulkUpdate(BulkUpdateOperation bulkUpdateOperation) {
@@ -675,12 +815,13 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (dbSqlSessionFactory.isJdbcBatchEnabled()) {
+            flushBatchedDeleteEntities(entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
-            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
-            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
-            if (deleteStatement == null) {
-                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
-            }
+            String deleteStatement = getMappedDeleteStatement(entity);
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
@@ -695,6 +836,80 @@ public class DbSqlSession implements Session {
         }
     }
 
+    protected void flushBatchedDeleteEntities(Collection<Entity> entitiesToDelete) {
+        List<BatchResult> batchResults = executeBatch(batchSqlSession -> {
+            for (Entity entity : entitiesToDelete) {
+                batchSqlSession.delete(getMappedDeleteStatement(entity), entity);
+            }
+        });
+
+        // It only makes sense to check for optimistic locking exceptions
+        // for objects that actually have a revision
+        checkBatchUpdateCounts(batchResults, deletedObject -> deletedObject instanceof HasRevision);
+    }
+
+    protected String getMappedDeleteStatement(Entity entity) {
+        String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+        deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+        if (deleteStatement == null) {
+            throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+        }
+        return deleteStatement;
+    }
+
+    /**
+     * Executes the statements issued on the given batch session as JDBC batches.
+     * Consecutive statements with the same SQL end up in the same batch.
+     */
+    protected List<BatchResult> executeBatch(Consumer<SqlSession> batchStatements) {
+        SqlSession batchSqlSession = openBatchSqlSession();
+        try {
+            batchStatements.accept(batchSqlSession);
+            return batchSqlSession.flushStatements();
+
+        } finally {
+            batchSqlSession.close();
+
+            // The regular session didn't see the batched statements, so its local cache could be stale
+            sqlSession.clearCache();
+        }
+    }
+
+    /**
+     * Opens a batch session on the connection (and thus in the transaction) of the regular session.
+     * Closing the batch session does not close, commit or rollback that connection.
+     */
+    protected SqlSession openBatchSqlSession() {
+        Configuration configuration = sqlSession.getConfiguration();
+        Executor executor = configuration.newExecutor(new ManagedTransaction(sqlSession.getConnection(), false), ExecutorType.BATCH);
+        return new DefaultSqlSession(configuration, executor, false);
+    }
+
+    /**
+     * Throws a {@link FlowableOptimisticLockingException} when one of the statements for the parameters matching the predicate
+     * didn't affect any row. This requires a JDBC driver that returns the update counts of the individual statements of a batch:
+     * when the driver only reports {@link Statement#SUCCESS_NO_INFO}, concurrent modifications can't be detected,
+     * hence the flush fails (and the transaction is rolled back) instead of silently losing the optimistic locking check.
+     */
+    protected void checkBatchUpdateCounts(List<BatchResult> batchResults, Predicate<Object> updateCountChecked) {
+        for (BatchResult batchResult : batchResults) {
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            int[] updateCounts = batchResult.getUpdateCounts();
+            for (int i = 0; i < updateCounts.length; i++) {
+                Object parameterObject = parameterObjects.get(i);
+                if (updateCountChecked.test(parameterObject)) {
+                    if (updateCounts[i] == 0) {
+                        throw new FlowableOptimisticLockingException(parameterObject + " was updated by another transaction concurrently");
+
+                    } else if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                        throw new FlowableException("The JDBC driver did not report the update count of the batched statement for " + parameterObject
+                                + ", which is needed to detect concurrent modifications. Disable jdbcBatchEnabled for this database.");
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     public void close() {
         sqlSession.close();
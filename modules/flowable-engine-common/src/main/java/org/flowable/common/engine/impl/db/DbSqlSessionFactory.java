@@ -64,6 +64,12 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
 
     protected int maxNrOfStatementsInBulkInsert = 100;
+
+    protected boolean entityDirtyTrackingEnabled;
+
+    protected boolean updateGroupingEnabled;
+
+    protected boolean jdbcBatchEnabled;
     
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
@@ -204,6 +210,30 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isEntityDirtyTrackingEnabled() {
+        return entityDirtyTrackingEnabled;
+    }
+
+    public void setEntityDirtyTrackingEnabled(boolean entityDirtyTrackingEnabled) {
+        this.entityDirtyTrackingEnabled = entityDirtyTrackingEnabled;
+    }
+
+    public boolean isUpdateGroupingEnabled() {
+        return updateGroupingEnabled;
+    }
+
+    public void setUpdateGroupingEnabled(boolean updateGroupingEnabled) {
+        this.updateGroupingEnabled = updateGroupingEnabled;
+    }
+
+    public boolean isJdbcBatchEnabled() {
+        return jdbcBatchEnabled;
+    }
+
+    public void setJdbcBatchEnabled(boolean jdbcBatchEnabled) {
+        this.jdbcBatchEnabled = jdbcBatchEnabled;
+    }
+
     public Map<Class<?>, String> getBulkInsertStatements() {
         return bulkInsertStatements;
     }
@@ -74,6 +74,8 @@ public class ListQueryParameterObject {
     protected NullHandlingOnOrder nullHandlingOnOrder;
     protected ResultType resultType;
     protected String databaseType;
+    // Only results with an id after this one are returned, used for keyset pagination when streaming results
+    protected String keysetAfterId;
     
     public ListQueryParameterObject() {
         
@@ -280,6 +282,14 @@ public class ListQueryParameterObject {
         return databaseType;
     }
 
+    public String getKeysetAfterId() {
+        return keysetAfterId;
+    }
+
+    public void setKeysetAfterId(String keysetAfterId) {
+        this.keysetAfterId = keysetAfterId;
+    }
+
     public String getNullHandlingColumn() {
         return nullHandlingColumn;
     }
@@ -13,10 +13,19 @@
 package org.flowable.common.engine.impl.event;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventType;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 
 public interface EventDispatchAction {
     
     void dispatchEvent(CommandContext commandContext, FlowableEventSupport eventSupport, FlowableEvent event); 
 
+    /**
+     * Returns whether this action could dispatch an event of the given type to a listener.
+     * When unsure, implementations must return true.
+     */
+    default boolean hasListeners(CommandContext commandContext, FlowableEventType type) {
+        return true;
+    }
+
 }
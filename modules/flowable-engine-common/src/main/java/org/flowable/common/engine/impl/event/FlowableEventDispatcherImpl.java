@@ -76,6 +76,26 @@ public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
         }
     }
 
+    @Override
+    public boolean hasListeners(FlowableEventType type, String engineType) {
+        if (enabled && eventSupport.hasListeners(type)) {
+            return true;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            AbstractEngineConfiguration engineConfiguration = commandContext.getEngineConfigurations().get(engineType);
+            if (engineConfiguration != null && engineConfiguration.getAdditionalEventDispatchActions() != null) {
+                for (EventDispatchAction eventDispatchAction : engineConfiguration.getAdditionalEventDispatchActions()) {
+                    if (eventDispatchAction.hasListeners(commandContext, type)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     public FlowableEventSupport getEventSupport() {
         return eventSupport;
     }
@@ -12,11 +12,12 @@
  */
 package org.flowable.common.engine.impl.event;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
@@ -30,6 +31,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Class that allows adding and removing event listeners and dispatching events to the appropriate listeners.
+ *
+ * The listeners are kept in immutable snapshots, which are replaced as a whole when a listener is added or removed.
+ * Dispatching (and checking whether there are listeners for a type) thus never needs to lock.
  * 
  * @author Frederik Heremans
  */
@@ -37,12 +41,12 @@ public class FlowableEventSupport {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FlowableEventSupport.class);
 
-    protected List<FlowableEventListener> eventListeners;
-    protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
+    protected volatile List<FlowableEventListener> eventListeners;
+    protected volatile Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
 
     public FlowableEventSupport() {
-        eventListeners = new CopyOnWriteArrayList<>();
-        typedListeners = new HashMap<>();
+        eventListeners = Collections.emptyList();
+        typedListeners = Collections.emptyMap();
     }
 
     public synchronized void addEventListener(FlowableEventListener listenerToAdd) {
@@ -52,7 +56,9 @@ public class FlowableEventSupport {
         Collection<? extends FlowableEventType> types = listenerToAdd.getTypes();
         if (types.isEmpty()) {
             if (!eventListeners.contains(listenerToAdd)) {
-                eventListeners.add(listenerToAdd);
+                List<FlowableEventListener> newEventListeners = new ArrayList<>(eventListeners);
+                newEventListeners.add(listenerToAdd);
+                eventListeners = List.copyOf(newEventListeners);
             }
         } else {
             for (FlowableEventType type : types) {
@@ -76,12 +82,34 @@ public class FlowableEventSupport {
         }
     }
 
-    public void removeEventListener(FlowableEventListener listenerToRemove) {
-        eventListeners.remove(listenerToRemove);
+    public synchronized void removeEventListener(FlowableEventListener listenerToRemove) {
+        if (eventListeners.contains(listenerToRemove)) {
+            List<FlowableEventListener> newEventListeners = new ArrayList<>(eventListeners);
+            newEventListeners.remove(listenerToRemove);
+            eventListeners = List.copyOf(newEventListeners);
+        }
+
+        Map<FlowableEventType, List<FlowableEventListener>> newTypedListeners = new HashMap<>();
+        for (Map.Entry<FlowableEventType, List<FlowableEventListener>> entry : typedListeners.entrySet()) {
+            List<FlowableEventListener> listeners = entry.getValue();
+            if (listeners.contains(listenerToRemove)) {
+                listeners = new ArrayList<>(listeners);
+                listeners.remove(listenerToRemove);
+            }
 
-        for (List<FlowableEventListener> listeners : typedListeners.values()) {
-            listeners.remove(listenerToRemove);
+            // Types without listeners are not kept, so that hasListeners doesn't have to check for empty lists
+            if (!listeners.isEmpty()) {
+                newTypedListeners.put(entry.getKey(), List.copyOf(listeners));
+            }
         }
+        typedListeners = Collections.unmodifiableMap(newTypedListeners);
+    }
+
+    /**
+     * @return true, if an event of the given type would be dispatched to at least one listener of this event support.
+     */
+    public boolean hasListeners(FlowableEventType type) {
+        return !eventListeners.isEmpty() || typedListeners.containsKey(type);
     }
 
     public void dispatchEvent(FlowableEvent event) {
@@ -94,15 +122,13 @@ public class FlowableEventSupport {
         }
 
         // Call global listeners
-        if (!eventListeners.isEmpty()) {
-            for (FlowableEventListener listener : eventListeners) {
-                dispatchEvent(event, listener);
-            }
+        for (FlowableEventListener listener : eventListeners) {
+            dispatchEvent(event, listener);
         }
 
         // Call typed listeners, if any
         List<FlowableEventListener> typed = typedListeners.get(event.getType());
-        if (typed != null && !typed.isEmpty()) {
+        if (typed != null) {
             for (FlowableEventListener listener : typed) {
                 dispatchEvent(event, listener);
             }
@@ -156,15 +182,14 @@ public class FlowableEventSupport {
     }
 
     protected synchronized void addTypedEventListener(FlowableEventListener listener, FlowableEventType type) {
-        List<FlowableEventListener> listeners = typedListeners.get(type);
-        if (listeners == null) {
-            // Add an empty list of listeners for this type
-            listeners = new CopyOnWriteArrayList<>();
-            typedListeners.put(type, listeners);
-        }
-
+        List<FlowableEventListener> listeners = typedListeners.getOrDefault(type, Collections.emptyList());
         if (!listeners.contains(listener)) {
-            listeners.add(listener);
+            List<FlowableEventListener> newListeners = new ArrayList<>(listeners);
+            newListeners.add(listener);
+
+            Map<FlowableEventType, List<FlowableEventListener>> newTypedListeners = new HashMap<>(typedListeners);
+            newTypedListeners.put(type, List.copyOf(newListeners));
+            typedListeners = Collections.unmodifiableMap(newTypedListeners);
         }
     }
 }
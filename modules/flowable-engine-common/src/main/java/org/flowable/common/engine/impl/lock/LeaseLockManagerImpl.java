@@ -0,0 +1,261 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.lock;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.cmd.AcquireLeaseLockCmd;
+import org.flowable.common.engine.impl.cmd.GetLockValueCmd;
+import org.flowable.common.engine.impl.cmd.ReleaseLeaseLockCmd;
+import org.flowable.common.engine.impl.cmd.RenewLeaseLockCmd;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+
+/**
+ * A {@link org.flowable.common.engine.api.lock.LockManager} that holds a lock for a limited time (the lease) instead of until it is released.
+ *
+ * While the lock is held, the lease is renewed in the background (every third of the lease duration).
+ * When the holder dies without releasing the lock, the lock becomes available once the lease expires,
+ * without having to configure a force acquire time.
+ * The holder considers its lease lost once the lease duration has passed since the last successful renewal (e.g. when the database
+ * can't be reached), as another node can acquire the lock from then on.
+ * Note that the lease only limits how long the lock is held: work done under the lock is not fenced,
+ * so it must still be safe when a holder that lost its lease is still running.
+ *
+ * Threads of the same engine waiting for a lock are woken up when the lock is released, instead of waiting for the next poll.
+ * Waiting for a lock held by another node starts polling fast and backs off up to the lock poll rate.
+ *
+ * Database advisory locks are not used: they are bound to a database session,
+ * while the engine executes every lock command on a connection taken from (and returned to) the pool.
+ */
+public class LeaseLockManagerImpl extends LockManagerImpl {
+
+    protected static final Map<String, Object> LOCAL_WAITERS = new ConcurrentHashMap<>();
+    protected static volatile ScheduledExecutorService heartbeatExecutor;
+
+    protected final String lockOwner = UUID.randomUUID().toString();
+    protected Duration leaseDuration;
+    protected volatile boolean leaseHeld;
+    protected volatile long lastRenewalNanos;
+    protected ScheduledFuture<?> heartbeat;
+
+    public LeaseLockManagerImpl(CommandExecutor commandExecutor, String lockName, Duration lockPollRate, Duration leaseDuration, String engineType) {
+        super(commandExecutor, lockName, lockPollRate, engineType);
+        this.leaseDuration = leaseDuration;
+    }
+
+    @Override
+    public void waitForLock(Duration waitTime) {
+        long timeToGiveUp = System.currentTimeMillis() + waitTime.toMillis();
+        long maxPollMillis = Math.max(1, getLockPollRate().toMillis());
+        long pollMillis = Math.max(1, maxPollMillis / 16);
+        Object waiter = getLocalWaiter();
+        boolean locked = acquireLock();
+        while (!locked && System.currentTimeMillis() < timeToGiveUp) {
+            long sleepMillis = Math.min(pollMillis, timeToGiveUp - System.currentTimeMillis());
+            if (sleepMillis > 0) {
+                synchronized (waiter) {
+                    try {
+                        waiter.wait(sleepMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+            pollMillis = Math.min(pollMillis * 2, maxPollMillis);
+            locked = acquireLock();
+        }
+
+        if (!locked) {
+            String lockValue = executeCommand(new GetLockValueCmd(lockName, engineType));
+            throw new FlowableException("Could not acquire lock " + lockName + ". Current lock value: " + lockValue);
+        }
+    }
+
+    @Override
+    public boolean acquireLock(Duration lockForceAcquireAfter) {
+        // The force acquire time is not relevant: the lock is released when the lease expires
+        if (leaseHeld) {
+            if (!isLeaseExpired()) {
+                return true;
+            }
+            leaseLost();
+        }
+
+        try {
+            long requestNanos = System.nanoTime();
+            if (executeCommand(new AcquireLeaseLockCmd(lockName, lockOwner, leaseDuration, engineType))) {
+                lastRenewalNanos = requestNanos;
+                leaseHeld = true;
+                startHeartbeat();
+                LOGGER.debug("Successfully acquired lease for lock {}", lockName);
+            }
+        } catch (FlowableOptimisticLockingException ex) {
+            LOGGER.debug("Failed to acquire lease for lock {} due to optimistic locking", lockName, ex);
+        } catch (FlowableException ex) {
+            if (ex.getClass().equals(FlowableException.class)) {
+                LOGGER.warn("Failed to acquire lease for lock {} due to unknown exception", lockName, ex);
+            } else {
+                throw ex;
+            }
+        } catch (RuntimeException ex) {
+            if (ex.getCause() instanceof SQLIntegrityConstraintViolationException) {
+                // This can happen if 2 nodes try to create the lock row in the exact same time
+                LOGGER.debug("Failed to acquire lease for lock {} due to constraint violation", lockName, ex);
+            } else {
+                LOGGER.info("Failed to acquire lease for lock {} due to unknown exception", lockName, ex);
+            }
+        }
+        hasAcquiredLock = leaseHeld;
+        return leaseHeld;
+    }
+
+    @Override
+    public void releaseLock() {
+        release(false);
+    }
+
+    @Override
+    public void releaseAndDeleteLock() {
+        release(true);
+    }
+
+    protected void release(boolean delete) {
+        stopHeartbeat();
+        try {
+            if (leaseHeld) {
+                boolean released = executeCommand(new ReleaseLeaseLockCmd(lockName, lockOwner, engineType, delete));
+                if (released) {
+                    LOGGER.debug("successfully released lease for lock {}", lockName);
+                } else {
+                    LOGGER.warn("Lease for lock {} was already taken over by another owner when releasing it", lockName);
+                }
+            }
+        } finally {
+            leaseHeld = false;
+            hasAcquiredLock = false;
+            Object waiter = getLocalWaiter();
+            synchronized (waiter) {
+                waiter.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Renews the lease of the lock, this is done in the background while the lease is held.
+     *
+     * @return whether the lease is still held
+     */
+    public boolean renewLease() {
+        if (!leaseHeld) {
+            return false;
+        }
+
+        try {
+            long requestNanos = System.nanoTime();
+            if (executeCommand(new RenewLeaseLockCmd(lockName, lockOwner, engineType))) {
+                lastRenewalNanos = requestNanos;
+            } else {
+                LOGGER.warn("Lease for lock {} was taken over by another owner", lockName);
+                leaseLost();
+            }
+        } catch (RuntimeException ex) {
+            if (isLeaseExpired()) {
+                LOGGER.warn("Failed to renew lease for lock {}, the lease has expired", lockName, ex);
+                leaseLost();
+            } else {
+                // The lease is still held until it expires, the next heartbeat tries again
+                LOGGER.warn("Failed to renew lease for lock {}", lockName, ex);
+            }
+        }
+        return leaseHeld;
+    }
+
+    /**
+     * @return whether the lease duration has passed since the last successful acquisition or renewal,
+     *          measured from the moment the acquisition or renewal was requested
+     */
+    protected boolean isLeaseExpired() {
+        return System.nanoTime() - lastRenewalNanos >= leaseDuration.toNanos();
+    }
+
+    protected void leaseLost() {
+        leaseHeld = false;
+        hasAcquiredLock = false;
+        stopHeartbeat();
+    }
+
+    protected synchronized void startHeartbeat() {
+        if (heartbeat == null) {
+            long periodMillis = Math.max(1, leaseDuration.toMillis() / 3);
+            heartbeat = getHeartbeatExecutor().scheduleWithFixedDelay(this::renewLease, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    protected synchronized void stopHeartbeat() {
+        if (heartbeat != null) {
+            heartbeat.cancel(false);
+            heartbeat = null;
+        }
+    }
+
+    protected Object getLocalWaiter() {
+        return LOCAL_WAITERS.computeIfAbsent(engineType + "." + lockName, key -> new Object());
+    }
+
+    protected static ScheduledExecutorService getHeartbeatExecutor() {
+        if (heartbeatExecutor == null) {
+            synchronized (LeaseLockManagerImpl.class) {
+                if (heartbeatExecutor == null) {
+                    // Daemon thread that terminates when idle, so that no explicit shutdown is needed
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                        Thread thread = new Thread(runnable, "flowable-lock-lease-heartbeat");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    executor.setKeepAliveTime(60, TimeUnit.SECONDS);
+                    executor.allowCoreThreadTimeOut(true);
+                    executor.setRemoveOnCancelPolicy(true);
+                    heartbeatExecutor = executor;
+                }
+            }
+        }
+        return heartbeatExecutor;
+    }
+
+    /**
+     * @return whether the lease of the lock is (still) held, it is lost when it could not be renewed in time
+     */
+    public boolean isLeaseHeld() {
+        return leaseHeld && !isLeaseExpired();
+    }
+
+    public String getLockOwner() {
+        return lockOwner;
+    }
+
+    public Duration getLeaseDuration() {
+        return leaseDuration;
+    }
+
+}
@@ -158,4 +158,8 @@ public class LockManagerImpl implements LockManager {
         return lockPollRate;
     }
 
+    public String getLockName() {
+        return lockName;
+    }
+
 }
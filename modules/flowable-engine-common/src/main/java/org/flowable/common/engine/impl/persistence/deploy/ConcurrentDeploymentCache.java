@@ -0,0 +1,432 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache that can be read concurrently without locking, as opposed to the {@link DefaultDeploymentCache} which synchronizes every access.
+ *
+ * When a limit is set, the eviction is frequency-aware (following the W-TinyLFU policy):
+ * <ul>
+ * <li>New entries are added to a small window region (1% of the limit), which is evicted in insertion order.</li>
+ * <li>Entries leaving the window are admitted to the main region when they are accessed more often than the entry that would be evicted for them.
+ * The access frequencies are estimated with a count-min sketch, which is aged periodically so that old popularity fades.</li>
+ * <li>The main region picks its eviction candidates with the CLOCK algorithm (an approximation of LRU), so that reads only set a flag.</li>
+ * </ul>
+ * Hence a burst of entries that are used only once (e.g. ad-hoc expressions) doesn't evict the frequently used entries.
+ *
+ * The limit can be a number of entries, or a weight when a weigher is given (e.g. the estimated size of a model).
+ * Adding, removing and evicting entries is done under a lock, reads are not.
+ * The most recently added entry is never evicted, so that it can always be read after it has been added.
+ * Elements without an id (e.g. a definition that is added before its id has been set) are not cached.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected static final int WINDOW_PERCENTAGE = 1;
+
+    protected final ConcurrentHashMap<String, Node<T>> cache = new ConcurrentHashMap<>();
+    protected final long maximumWeight;
+    protected final long maximumWindowWeight;
+    protected final ToIntFunction<T> weigher;
+    protected final FrequencySketch sketch;
+
+    // The regions are only accessed while holding the eviction lock
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+    protected final Node<T> window = Node.sentinel();
+    protected final Node<T> main = Node.sentinel();
+    protected Node<T> clockHand;
+    protected long windowWeight;
+    protected long mainWeight;
+    protected int mainSize;
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(-1, null);
+    }
+
+    /**
+     * Cache which has a hard limit: no more elements will be cached than the limit.
+     */
+    public ConcurrentDeploymentCache(int limit) {
+        this(limit, null);
+    }
+
+    /**
+     * Cache which has a limit on the total weight of the cached elements, as determined by the weigher.
+     */
+    public ConcurrentDeploymentCache(long maximumWeight, ToIntFunction<T> weigher) {
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        if (maximumWeight > 0) {
+            this.maximumWindowWeight = Math.max(1, maximumWeight * WINDOW_PERCENTAGE / 100);
+            this.sketch = new FrequencySketch(weigher != null ? Math.min(maximumWeight, 1 << 16) : maximumWeight);
+        } else {
+            this.maximumWindowWeight = 0;
+            this.sketch = null;
+        }
+    }
+
+    @Override
+    public T get(String id) {
+        if (id == null) {
+            return null;
+        }
+
+        Node<T> node = cache.get(id);
+        if (sketch != null) {
+            sketch.increment(id);
+        }
+
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        node.referenced = true;
+        return node.value;
+    }
+
+    @Override
+    public void add(String id, T obj) {
+        if (id == null) {
+            return;
+        }
+
+        Node<T> node = new Node<>(id, obj, weigher != null ? Math.max(1, weigher.applyAsInt(obj)) : 1);
+        if (sketch == null) {
+            cache.put(id, node);
+            return;
+        }
+
+        sketch.increment(id);
+        evictionLock.lock();
+        try {
+            Node<T> previous = cache.put(id, node);
+            if (previous != null) {
+                unlink(previous);
+            }
+            linkWindow(node);
+            evict(node);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        if (id == null) {
+            return;
+        }
+
+        if (sketch == null) {
+            cache.remove(id);
+            return;
+        }
+
+        evictionLock.lock();
+        try {
+            Node<T> node = cache.remove(id);
+            if (node != null) {
+                unlink(node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return id != null && cache.containsKey(id);
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            cache.clear();
+            window.prev = window.next = window;
+            main.prev = main.next = main;
+            clockHand = null;
+            windowWeight = 0;
+            mainWeight = 0;
+            mainSize = 0;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        List<T> values = new ArrayList<>(cache.size());
+        for (Node<T> node : cache.values()) {
+            values.add(node.value);
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    protected void evict(Node<T> added) {
+        // Entries that overflow the window become candidates for the main region
+        while (windowWeight > maximumWindowWeight && window.next != added) {
+            Node<T> candidate = window.next;
+            unlink(candidate);
+            admit(candidate);
+        }
+    }
+
+    protected void admit(Node<T> candidate) {
+        linkMain(candidate);
+
+        long maximumMainWeight = Math.max(0, maximumWeight - maximumWindowWeight);
+        while (mainWeight > maximumMainWeight) {
+            Node<T> victim = selectVictim(candidate);
+            if (candidate != null && (victim == null || sketch.frequency(candidate.key) <= sketch.frequency(victim.key))) {
+                // The candidate isn't used more often than the entry it would replace
+                evictNode(candidate);
+                candidate = null;
+            } else if (victim != null) {
+                evictNode(victim);
+            } else {
+                return;
+            }
+        }
+    }
+
+    protected Node<T> selectVictim(Node<T> skip) {
+        if (mainSize == 0 || (mainSize == 1 && skip != null)) {
+            return null;
+        }
+
+        // CLOCK: entries that have been read since the hand last passed them get a second chance
+        Node<T> node = clockHand != null ? clockHand : main.next;
+        // After two rounds all flags have been cleared, unless the entries are being read concurrently
+        for (int i = 0; i < 2 * (mainSize + 1); i++) {
+            if (node != main && node != skip) {
+                if (!node.referenced) {
+                    clockHand = node.next;
+                    return node;
+                }
+                node.referenced = false;
+            }
+            node = node.next;
+        }
+
+        while (node == main || node == skip) {
+            node = node.next;
+        }
+        clockHand = node.next;
+        return node;
+    }
+
+    protected void evictNode(Node<T> node) {
+        cache.remove(node.key, node);
+        unlink(node);
+        evictionCount.increment();
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Cache limit is reached, {} will be evicted", node.key);
+        }
+    }
+
+    protected void linkWindow(Node<T> node) {
+        link(window, node);
+        node.inMain = false;
+        windowWeight += node.weight;
+    }
+
+    protected void linkMain(Node<T> node) {
+        link(main, node);
+        node.inMain = true;
+        mainWeight += node.weight;
+        mainSize++;
+    }
+
+    protected void link(Node<T> sentinel, Node<T> node) {
+        node.prev = sentinel.prev;
+        node.next = sentinel;
+        sentinel.prev.next = node;
+        sentinel.prev = node;
+    }
+
+    protected void unlink(Node<T> node) {
+        if (node.prev == null) {
+            return;
+        }
+
+        if (node.inMain) {
+            if (clockHand == node) {
+                clockHand = node.next != main ? node.next : null;
+            }
+            mainWeight -= node.weight;
+            mainSize--;
+        } else {
+            windowWeight -= node.weight;
+        }
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * @return the number of lookups of an element that was cached
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of lookups of an element that was not cached
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return the number of elements that were evicted because the limit was reached
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * @return the total weight of the cached elements (the number of elements when there is no weigher)
+     */
+    public long getWeightedSize() {
+        evictionLock.lock();
+        try {
+            return sketch != null ? windowWeight + mainWeight : cache.size();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    protected static class Node<T> {
+
+        protected final String key;
+        protected final T value;
+        protected final int weight;
+        protected volatile boolean referenced;
+        protected boolean inMain;
+        protected Node<T> prev;
+        protected Node<T> next;
+
+        protected Node(String key, T value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+
+        protected static <T> Node<T> sentinel() {
+            Node<T> sentinel = new Node<>(null, null, 0);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+    }
+
+    /**
+     * Count-min sketch estimating how often a key has been accessed recently.
+     * The counters are updated without synchronization: lost updates only make the estimation slightly less accurate.
+     * All counters are halved after a number of increments (proportional to the size of the table), so that the estimation favours recent accesses.
+     */
+    protected static class FrequencySketch {
+
+        protected static final int MAX_FREQUENCY = 15;
+        protected static final int[] SEEDS = { 0x97cb3127, 0xb0f7d11d, 0x3c6ef372, 0xa54ff53a };
+
+        protected final byte[] table;
+        protected final int mask;
+        protected final int sampleSize;
+        protected int additions;
+
+        protected FrequencySketch(long expectedSize) {
+            // 16 counters per expected entry keeps the collisions low, a counter only needs 4 bits (hence a byte)
+            int size = Integer.highestOneBit((int) Math.max(16, Math.min(expectedSize, 1 << 22)) - 1) << 1;
+            this.table = new byte[size * 16];
+            this.mask = table.length - 1;
+            this.sampleSize = 10 * size;
+        }
+
+        protected int frequency(String key) {
+            int hash = spread(key.hashCode());
+            int frequency = MAX_FREQUENCY;
+            for (int seed : SEEDS) {
+                frequency = Math.min(frequency, table[index(hash, seed)]);
+            }
+            return frequency;
+        }
+
+        protected void increment(String key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int seed : SEEDS) {
+                int index = index(hash, seed);
+                if (table[index] < MAX_FREQUENCY) {
+                    table[index]++;
+                    added = true;
+                }
+            }
+
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        protected void reset() {
+            additions = 0;
+            for (int i = 0; i < table.length; i++) {
+                table[i] >>= 1;
+            }
+        }
+
+        protected int index(int hash, int seed) {
+            int h = hash * seed;
+            h ^= h >>> 17;
+            return h & mask;
+        }
+
+        protected static int spread(int hash) {
+            hash ^= hash >>> 16;
+            hash *= 0x45d9f3b;
+            hash ^= hash >>> 16;
+            return hash;
+        }
+    }
+
+}
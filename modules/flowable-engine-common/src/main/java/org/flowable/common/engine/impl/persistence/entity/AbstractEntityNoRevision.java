@@ -12,6 +12,8 @@
  */
 package org.flowable.common.engine.impl.persistence.entity;
 
+import java.util.Objects;
+
 /**
  * Abstract superclass for the common properties of all {@link Entity} implementations.
  * 
@@ -24,6 +26,9 @@ public abstract class AbstractEntityNoRevision implements Entity {
     protected boolean isInserted;
     protected boolean isUpdated;
     protected boolean isDeleted;
+    // Dirty by default, so that setting the properties when the entity is created or loaded doesn't keep any state.
+    // The flag is reset once a loaded entity is put in the entity cache.
+    protected boolean isDirty = true;
     
     protected Object originalPersistentState;
 
@@ -76,4 +81,33 @@ public abstract class AbstractEntityNoRevision implements Entity {
     public void setOriginalPersistentState(Object persistentState) {
         this.originalPersistentState = persistentState;
     }
+
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    public void setDirty(boolean isDirty) {
+        this.isDirty = isDirty;
+    }
+
+    /**
+     * Marks this entity as dirty when the new value of a persistent property differs from the current value.
+     * Used by the setters of {@link DirtyTrackingEntity} implementations.
+     */
+    protected void markDirty(Object currentValue, Object newValue) {
+        if (!Objects.equals(currentValue, newValue)) {
+            markDirty();
+        }
+    }
+
+    /**
+     * Marks this entity as dirty. On the first change, the persistent state from before the change is kept
+     * as the original persistent state, as the update statements use it to only update the changed columns.
+     */
+    protected void markDirty() {
+        if (!isDirty) {
+            originalPersistentState = getPersistentState();
+            isDirty = true;
+        }
+    }
 }
@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.entity;
+
+/**
+ * An {@link Entity} of which all setters for persistent properties mark the entity as dirty when the value changes.
+ *
+ * When entity dirty tracking is enabled on the engine configuration, the flush will use the dirty flag of such entities
+ * to determine if an update is needed, instead of comparing the current persistent state with a snapshot taken when the entity was loaded.
+ * 
+ * Implementations must make sure that every change to a property that is part of the {@link #getPersistentState()} goes through a method that marks the entity as dirty.
+ */
+public interface DirtyTrackingEntity extends Entity {
+
+    boolean isDirty();
+
+    void setDirty(boolean dirty);
+
+}
@@ -21,5 +21,10 @@ public interface PropertyEntityManager extends EntityManager<PropertyEntity> {
 
     List<PropertyEntity> findAll();
 
+    /**
+     * Returns the properties of which the name starts with the given prefix.
+     */
+    List<PropertyEntity> findByNamePrefix(String namePrefix);
+
     void directInsertProperty(String name, String value);
 }
\ No newline at end of file
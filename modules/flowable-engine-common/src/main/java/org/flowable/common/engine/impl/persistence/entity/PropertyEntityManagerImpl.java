@@ -34,6 +34,11 @@ public class PropertyEntityManagerImpl
     public List<PropertyEntity> findAll() {
         return dataManager.findAll();
     }
+
+    @Override
+    public List<PropertyEntity> findByNamePrefix(String namePrefix) {
+        return dataManager.findByNamePrefix(namePrefix);
+    }
     
     @Override
     public void directInsertProperty(String name, String value) {
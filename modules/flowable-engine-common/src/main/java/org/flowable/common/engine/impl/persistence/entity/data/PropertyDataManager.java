@@ -23,5 +23,7 @@ public interface PropertyDataManager extends DataManager<PropertyEntity> {
 
     List<PropertyEntity> findAll();
 
+    List<PropertyEntity> findByNamePrefix(String namePrefix);
+
     void directInsertProperty(String name, String value);
 }
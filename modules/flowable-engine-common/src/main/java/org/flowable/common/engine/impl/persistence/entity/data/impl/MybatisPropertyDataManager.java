@@ -56,6 +56,15 @@ public class MybatisPropertyDataManager extends AbstractDataManager<PropertyEnti
         return getDbSqlSession().selectList("selectProperties");
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PropertyEntity> findByNamePrefix(String namePrefix) {
+        List<PropertyEntity> properties = getDbSqlSession().selectList("selectPropertiesByNamePrefix", namePrefix + "%");
+        // An underscore in the prefix is a single character wildcard in the like
+        properties.removeIf(property -> !property.getName().startsWith(namePrefix));
+        return properties;
+    }
+
     @Override
     protected IdGenerator getIdGenerator() {
         return idGenerator;
@@ -13,8 +13,16 @@
 package org.flowable.common.engine.impl.query;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -162,6 +170,31 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return executeCount(Context.getCommandContext());
     }
 
+    /**
+     * Streams the results with keyset pagination, for the queries that support streaming by implementing {@link #executeStreamPage(CommandContext, Consumer)}.
+     */
+    protected Stream<U> streamInPages(int pageSize) {
+        if (pageSize <= 0) {
+            throw new FlowableIllegalArgumentException("The page size must be a positive number, but was " + pageSize);
+        }
+        checkQueryOk();
+        if (orderByCollection != null && !orderByCollection.isEmpty()) {
+            throw new FlowableIllegalArgumentException("Ordering is not possible when streaming the results, they are always ordered by id");
+        }
+        return StreamSupport.stream(new KeysetPageSpliterator(pageSize), false);
+    }
+
+    /**
+     * Executes the query for one page of a {@link #streamInPages(int)}, passing the results to the consumer while they are read from the database.
+     * The first result and max results are set for the page, and the keyset after id to the id of the last result of the previous page.
+     * These are reset when the page has been read, so that the query can still be executed in any other way afterwards.
+     *
+     * @return the id of the last result passed to the consumer, or null when there were no results
+     */
+    protected String executeStreamPage(CommandContext commandContext, Consumer<U> consumer) {
+        throw new FlowableException("Streaming the results is not supported by " + getClass().getName());
+    }
+
     @Override
     public Object execute(CommandContext commandContext) {
         checkQueryOk();
@@ -193,4 +226,78 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return null;
     }
 
+    /**
+     * Reads the results page by page, each page in a separate command.
+     * A page is pushed directly from the database cursor to the action when all remaining results are consumed,
+     * and only buffered when the results are consumed one by one.
+     */
+    protected class KeysetPageSpliterator extends Spliterators.AbstractSpliterator<U> {
+
+        protected final int pageSize;
+        protected String lastId;
+        protected boolean lastPageRead;
+        protected Iterator<U> bufferedResults = Collections.emptyIterator();
+
+        protected KeysetPageSpliterator(int pageSize) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super U> action) {
+            while (!bufferedResults.hasNext()) {
+                if (lastPageRead) {
+                    return false;
+                }
+                List<U> page = new ArrayList<>(pageSize);
+                readPage(page::add);
+                bufferedResults = page.iterator();
+            }
+            action.accept(bufferedResults.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super U> action) {
+            bufferedResults.forEachRemaining(action);
+            while (!lastPageRead) {
+                readPage(action);
+            }
+        }
+
+        protected void readPage(Consumer<? super U> action) {
+            int[] resultCount = new int[1];
+            Command<String> pageCommand = commandContext -> {
+                int originalFirstResult = firstResult;
+                int originalMaxResults = maxResults;
+                OrderBy originalDefaultOrderBy = defaultOrderBy;
+                ResultType originalResultType = resultType;
+                try {
+                    firstResult = 0;
+                    maxResults = pageSize;
+                    keysetAfterId = lastId;
+                    defaultOrderBy = DEFAULT_ORDER_BY;
+                    resultType = ResultType.LIST_PAGE;
+                    return executeStreamPage(commandContext, result -> {
+                        resultCount[0]++;
+                        action.accept(result);
+                    });
+
+                } finally {
+                    firstResult = originalFirstResult;
+                    maxResults = originalMaxResults;
+                    keysetAfterId = null;
+                    defaultOrderBy = originalDefaultOrderBy;
+                    resultType = originalResultType;
+                }
+            };
+
+            String lastIdOfPage = commandExecutor != null ? commandExecutor.execute(pageCommand) : pageCommand.execute(Context.getCommandContext());
+            if (lastIdOfPage != null) {
+                lastId = lastIdOfPage;
+            }
+            lastPageRead = resultCount[0] < pageSize;
+        }
+    }
+
 }
@@ -16,7 +16,7 @@ create table ACT_GE_BYTEARRAY (
 );
 
 insert into ACT_GE_PROPERTY
-values ('common.schema.version', '8.1.0.1', 1);
+values ('common.schema.version', '8.1.0.2', 1);
 
 insert into ACT_GE_PROPERTY
 values ('next.dbid', '1', 1);
@@ -141,6 +141,7 @@ create table ACT_RU_JOB (
     CUSTOM_VALUES_ID_ varchar(64),
     CREATE_TIME_ timestamp,
     TENANT_ID_ varchar(255) default '',
+    PARTITION_ integer,
     primary key (ID_)
 );
 
@@ -246,6 +247,8 @@ create table ACT_RU_HISTORY_JOB (
     ADV_HANDLER_CFG_ID_ varchar(64),
     CREATE_TIME_ timestamp,
     SCOPE_TYPE_ varchar(255),
+    SCOPE_ID_ varchar(255),
+    SEQUENCE_ bigint,
     TENANT_ID_ varchar(255) default '',
     primary key (ID_)
 );
@@ -372,6 +375,8 @@ create index ACT_IDX_EJOB_SCOPE on ACT_RU_EXTERNAL_JOB(SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_EJOB_SUB_SCOPE on ACT_RU_EXTERNAL_JOB(SUB_SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_EJOB_SCOPE_DEF on ACT_RU_EXTERNAL_JOB(SCOPE_DEFINITION_ID_, SCOPE_TYPE_);
 
+create index ACT_IDX_HJOB_SCOPE_SEQ on ACT_RU_HISTORY_JOB(SCOPE_ID_, SEQUENCE_);
+
 create table FLW_RU_BATCH (
     ID_ varchar(64) not null,
     REV_ integer,
@@ -77,6 +77,7 @@ drop index ACT_IDX_EJOB_CORRELATION_ID;
 drop index ACT_IDX_EJOB_SCOPE;
 drop index ACT_IDX_EJOB_SUB_SCOPE;
 drop index ACT_IDX_EJOB_SCOPE_DEF;
+drop index ACT_IDX_HJOB_SCOPE_SEQ;
 
 alter table ACT_RU_JOB
     drop foreign key ACT_FK_JOB_EXCEPTION;
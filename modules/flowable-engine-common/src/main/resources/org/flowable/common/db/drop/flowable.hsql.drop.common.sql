@@ -74,6 +74,7 @@ drop index if exists ACT_IDX_EXTERNAL_JOB_CORRELATION_ID;
 drop index if exists ACT_IDX_EJOB_SCOPE;
 drop index if exists ACT_IDX_EJOB_SUB_SCOPE;
 drop index if exists ACT_IDX_EJOB_SCOPE_DEF;
+drop index if exists ACT_IDX_HJOB_SCOPE_SEQ;
 
 drop table if exists ACT_RU_JOB cascade constraints;
 drop table if exists ACT_RU_EXTERNAL_JOB cascade constraints;
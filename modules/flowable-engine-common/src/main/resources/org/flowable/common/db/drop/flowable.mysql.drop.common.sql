@@ -107,6 +107,7 @@ drop index ACT_IDX_EXTERNAL_JOB_CORRELATION_ID on ACT_RU_EXTERNAL_JOB;
 drop index ACT_IDX_EJOB_SCOPE on ACT_RU_EXTERNAL_JOB;
 drop index ACT_IDX_EJOB_SUB_SCOPE on ACT_RU_EXTERNAL_JOB;
 drop index ACT_IDX_EJOB_SCOPE_DEF on ACT_RU_EXTERNAL_JOB;
+drop index ACT_IDX_HJOB_SCOPE_SEQ on ACT_RU_HISTORY_JOB;
 
 drop table if exists ACT_RU_JOB;
 drop table if exists ACT_RU_TIMER_JOB;
@@ -56,6 +56,7 @@ drop index ACT_IDX_DJOB_SCOPE_DEF;
 drop index ACT_IDX_EJOB_SCOPE;
 drop index ACT_IDX_EJOB_SUB_SCOPE;
 drop index ACT_IDX_EJOB_SCOPE_DEF;
+drop index ACT_IDX_HJOB_SCOPE_SEQ;
 
 drop index ACT_IDX_JOB_EXCEPTION;
 drop index ACT_IDX_JOB_CUSTOM_VAL_ID;
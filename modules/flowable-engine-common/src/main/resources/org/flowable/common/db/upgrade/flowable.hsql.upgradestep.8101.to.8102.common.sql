@@ -0,0 +1,5 @@
+alter table ACT_RU_JOB add column PARTITION_ integer;
+
+alter table ACT_RU_HISTORY_JOB add column SCOPE_ID_ varchar(255);
+alter table ACT_RU_HISTORY_JOB add column SEQUENCE_ bigint;
+create index ACT_IDX_HJOB_SCOPE_SEQ on ACT_RU_HISTORY_JOB(SCOPE_ID_, SEQUENCE_);
@@ -0,0 +1,5 @@
+alter table ACT_RU_JOB add PARTITION_ int;
+
+alter table ACT_RU_HISTORY_JOB add SCOPE_ID_ nvarchar(255);
+alter table ACT_RU_HISTORY_JOB add SEQUENCE_ bigint;
+create index ACT_IDX_HJOB_SCOPE_SEQ on ACT_RU_HISTORY_JOB(SCOPE_ID_, SEQUENCE_);
@@ -155,6 +155,34 @@ class FlowableEventSupportTest {
             .containsExactly(otherTest1Event);
     }
 
+    @Test
+    void hasListenersShouldReflectRegisteredListeners() {
+        TestFlowableEventType testEventType = new TestFlowableEventType("test");
+        TestFlowableEventType otherTestEventType = new TestFlowableEventType("otherTest");
+        assertThat(flowableEventSupport.hasListeners(testEventType)).isFalse();
+
+        TestFlowableEventListener testListener = new TestFlowableEventListener();
+        flowableEventSupport.addEventListener(testListener, testEventType);
+        assertThat(flowableEventSupport.hasListeners(testEventType)).isTrue();
+        assertThat(flowableEventSupport.hasListeners(otherTestEventType)).isFalse();
+
+        TestFlowableEventListener globalListener = new TestFlowableEventListener();
+        flowableEventSupport.addEventListener(globalListener);
+        assertThat(flowableEventSupport.hasListeners(otherTestEventType)).isTrue();
+
+        flowableEventSupport.removeEventListener(globalListener);
+        assertThat(flowableEventSupport.hasListeners(testEventType)).isTrue();
+        assertThat(flowableEventSupport.hasListeners(otherTestEventType)).isFalse();
+
+        flowableEventSupport.removeEventListener(testListener);
+        assertThat(flowableEventSupport.hasListeners(testEventType)).isFalse();
+
+        FlowableEvent testEvent = new TestFlowableEvent(testEventType);
+        flowableEventSupport.dispatchEvent(testEvent);
+        assertThat(testListener.getReceivedEvents()).isEmpty();
+        assertThat(globalListener.getReceivedEvents()).isEmpty();
+    }
+
     @Test
     void dispatchEventWithFailOnExceptionShouldStopDispatchingToOtherListeners() {
         TestFlowableEventListener globalListener = new TestFlowableEventListener();
@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentDeploymentCacheTest {
+
+    @Test
+    void unboundedCacheKeepsEverything() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        for (int i = 0; i < 1000; i++) {
+            cache.add("key" + i, "value" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(1000);
+        assertThat(cache.get("key500")).isEqualTo("value500");
+        assertThat(cache.get("unknown")).isNull();
+        assertThat(cache.getEvictionCount()).isZero();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+
+        cache.remove("key500");
+        assertThat(cache.contains("key500")).isFalse();
+        cache.clear();
+        assertThat(cache.getAll()).isEmpty();
+    }
+
+    @Test
+    void limitedCacheEvicts() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(100);
+        for (int i = 0; i < 1000; i++) {
+            cache.add("key" + i, "value" + i);
+            // The most recently added entry can always be read
+            assertThat(cache.get("key" + i)).isEqualTo("value" + i);
+            assertThat(cache.size()).isLessThanOrEqualTo(100);
+        }
+
+        assertThat(cache.getEvictionCount()).isEqualTo(900);
+        assertThat(cache.getWeightedSize()).isEqualTo(100);
+        assertThat(cache.getAll()).hasSize(100);
+    }
+
+    @Test
+    void frequentlyUsedEntriesSurviveScan() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(100);
+        for (int i = 0; i < 50; i++) {
+            cache.add("hot" + i, "value" + i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                assertThat(cache.get("hot" + i)).isNotNull();
+            }
+        }
+
+        // Entries that are used once don't push out the entries that keep being used
+        for (int i = 0; i < 1000; i++) {
+            cache.add("cold" + i, "value" + i);
+            cache.get("cold" + i);
+            cache.get("hot" + (i % 50));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(cache.contains("hot" + i)).as("hot" + i).isTrue();
+        }
+    }
+
+    @Test
+    void weightedCacheEvictsByWeight() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(100, String::length);
+        for (int i = 0; i < 100; i++) {
+            cache.add("key" + i, "0123456789");
+        }
+
+        assertThat(cache.getWeightedSize()).isLessThanOrEqualTo(100);
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+
+        // An entry heavier than the limit is kept until another entry is added
+        cache.add("big", "0".repeat(200));
+        assertThat(cache.get("big")).isNotNull();
+        cache.add("small", "0");
+        assertThat(cache.contains("big")).isFalse();
+    }
+
+    @Test
+    void concurrentAccess() throws Exception {
+        ConcurrentDeploymentCache<Integer> cache = new ConcurrentDeploymentCache<>(64);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        String key = "key" + ((i * 31 + thread) % 200);
+                        Integer value = cache.get(key);
+                        if (value == null) {
+                            cache.add(key, i);
+                        }
+                        if (i % 1000 == 0) {
+                            cache.remove(key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(64);
+        assertThat(cache.getWeightedSize()).isEqualTo(cache.size());
+        assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(80000);
+    }
+
+}
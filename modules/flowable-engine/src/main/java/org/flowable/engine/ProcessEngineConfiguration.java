@@ -153,6 +153,7 @@ public abstract class ProcessEngineConfiguration extends AbstractBuildableEngine
     protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
     protected Duration cleanInstancesEndedAfter = Duration.ofDays(365);
     protected int cleanInstancesBatchSize = 100;
+    protected int cleanInstancesParallelism = 1;
     protected HistoryCleaningManager historyCleaningManager;
 
 
@@ -898,6 +899,20 @@ public abstract class ProcessEngineConfiguration extends AbstractBuildableEngine
         return this;
     }
 
+    public int getCleanInstancesParallelism() {
+        return cleanInstancesParallelism;
+    }
+
+    /**
+     * The number of end time ranges the instances to clean are split in.
+     * When larger than 1, the ranges are deleted in parallel by the async executor, each range in chunks of {@link #getCleanInstancesBatchSize()}.
+     * By default (1) the instances are deleted sequentially.
+     */
+    public ProcessEngineConfiguration setCleanInstancesParallelism(int cleanInstancesParallelism) {
+        this.cleanInstancesParallelism = cleanInstancesParallelism;
+        return this;
+    }
+
     public HistoryCleaningManager getHistoryCleaningManager() {
         return historyCleaningManager;
     }
@@ -17,6 +17,8 @@ import org.flowable.common.engine.api.delegate.event.FlowableEngineEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEntityEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEventType;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventSupport;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -24,8 +26,17 @@ import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.repository.ProcessDefinition;
 
+/**
+ * Dispatches the events to the event listeners of the process definition they belong to.
+ *
+ * The event support of the process definitions is created by this action (see {@link #createBpmnModelEventSupport()}).
+ * As long as no listener has been added to any of them (e.g. none of the deployed process definitions declares event listeners),
+ * {@link #hasListeners(CommandContext, FlowableEventType)} returns false, so that entity events are not created for nothing.
+ */
 public class BpmnModelEventDispatchAction implements EventDispatchAction {
 
+    protected volatile boolean bpmnModelListenersAdded;
+
     @Override
     public void dispatchEvent(CommandContext commandContext, FlowableEventSupport eventSupport, FlowableEvent event) {
         if (event.getType() == FlowableEngineEventType.ENTITY_DELETED && event instanceof FlowableEntityEvent entityEvent) {
@@ -43,6 +54,31 @@ public class BpmnModelEventDispatchAction implements EventDispatchAction {
             }
         }
     }
+
+    @Override
+    public boolean hasListeners(CommandContext commandContext, FlowableEventType type) {
+        return bpmnModelListenersAdded;
+    }
+
+    /**
+     * Creates the event support of a parsed {@link BpmnModel}, which marks this action as having listeners once a listener is added to it.
+     */
+    public FlowableEventSupport createBpmnModelEventSupport() {
+        return new FlowableEventSupport() {
+
+            @Override
+            public synchronized void addEventListener(FlowableEventListener listenerToAdd) {
+                bpmnModelListenersAdded = true;
+                super.addEventListener(listenerToAdd);
+            }
+
+            @Override
+            protected synchronized void addTypedEventListener(FlowableEventListener listener, FlowableEventType type) {
+                bpmnModelListenersAdded = true;
+                super.addTypedEventListener(listener, type);
+            }
+        };
+    }
     
     /**
      * In case no process-context is active, this method attempts to extract a process-definition based on the event. In case it's an event related to an entity, this can be deducted by inspecting the
@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.query.BatchDeleteQuery;
 import org.flowable.common.engine.api.query.DeleteQuery;
@@ -633,4 +634,15 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
      * Return only the id value of the process instances, to reduce any additional instance data to be returned.
      */
     HistoricProcessInstanceQuery returnIdsOnly();
+
+    /**
+     * Executes the query and lazily streams the results ordered by id, fetching them in pages of the given size.
+     *
+     * Every page is fetched in a separate command, continuing after the id of the last result of the previous page instead of using an offset,
+     * and the results aren't kept in the entity cache. Memory usage hence stays flat and every page takes about the same time,
+     * no matter how many results have been streamed before. The results are read-only: changes to them are not persisted.
+     *
+     * Ordering the query with one of the orderByXxx methods, including the process variables or returning only ids is not possible when streaming.
+     */
+    Stream<HistoricProcessInstance> stream(int pageSize);
 }
@@ -20,6 +20,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -1224,6 +1226,35 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return results;
     }
 
+    @Override
+    public Stream<HistoricProcessInstance> stream(int pageSize) {
+        return streamInPages(pageSize);
+    }
+
+    @Override
+    protected String executeStreamPage(CommandContext commandContext, Consumer<HistoricProcessInstance> consumer) {
+        if (returnIdsOnly || includeProcessVariables) {
+            throw new FlowableIllegalArgumentException("Including process variables or returning only ids is not possible when streaming historic process instances");
+        }
+
+        ensureVariablesInitialized();
+        if (processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor() != null) {
+            processEngineConfiguration.getHistoricProcessInstanceQueryInterceptor().beforeHistoricProcessInstanceQueryExecute(this);
+        }
+
+        boolean localize = processEngineConfiguration.getPerformanceSettings().isEnableLocalization()
+                && processEngineConfiguration.getInternalProcessLocalizationManager() != null;
+        String[] lastProcessInstanceId = new String[1];
+        processEngineConfiguration.getHistoricProcessInstanceEntityManager().streamHistoricProcessInstancesByQueryCriteria(this, processInstance -> {
+            if (localize) {
+                processEngineConfiguration.getInternalProcessLocalizationManager().localize(processInstance, locale, withLocalizationFallback);
+            }
+            lastProcessInstanceId[0] = processInstance.getId();
+            consumer.accept(processInstance);
+        });
+        return lastProcessInstanceId[0];
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<HistoricProcessInstance> results) {
 
         // Unlike the ExecutionEntityImpl, variables are not stored on the HistoricExecutionEntityImpl.
@@ -479,6 +479,19 @@ public abstract class MultiInstanceActivityBehavior extends FlowNodeActivityBeha
         CommandContextUtil.getAgenda().planContinueMultiInstanceOperation((ExecutionEntity) execution, multiInstanceRootExecution, loopCounter);
     }
 
+    /**
+     * Same as {@link #executeOriginalBehavior(DelegateExecution, ExecutionEntity, int)}, but with the element of the collection already resolved
+     * (only used when a collection and element variable are used).
+     */
+    protected void executeOriginalBehavior(DelegateExecution execution, ExecutionEntity multiInstanceRootExecution, int loopCounter, Object collectionElement) {
+        if (usesCollection() && collectionElementVariable != null) {
+            setLoopVariable(execution, collectionElementVariable, collectionElement);
+        }
+
+        execution.setCurrentFlowElement(activity);
+        CommandContextUtil.getAgenda().planContinueMultiInstanceOperation((ExecutionEntity) execution, multiInstanceRootExecution, loopCounter);
+    }
+
     @SuppressWarnings("rawtypes")
     protected Collection resolveAndValidateCollection(DelegateExecution execution) {
         Object obj = resolveCollection(execution);
@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.bpmn.behavior;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -75,10 +76,43 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_COMPLETED_INSTANCES, ParallelMultiInstanceLoopVariable.completed(multiInstanceRootExecution.getId()));
         setLoopVariable(multiInstanceRootExecution, NUMBER_OF_ACTIVE_INSTANCES, ParallelMultiInstanceLoopVariable.active(multiInstanceRootExecution.getId()));
 
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        List<ExecutionEntity> concurrentExecutions;
+        if (processEngineConfiguration.getPerformanceSettings().isEnableParallelMultiInstanceBulkCreation()) {
+            concurrentExecutions = createInstancesInBulk((ExecutionEntity) multiInstanceRootExecution, nrOfInstances);
+        } else {
+            concurrentExecutions = createInstancesOneByOne((ExecutionEntity) multiInstanceRootExecution, nrOfInstances);
+        }
+
+        // See ACT-1586: ExecutionQuery returns wrong results when using multi
+        // instance on a receive task The parent execution must be set to false, so it wouldn't show up in
+        // the execution query when using .activityId(something). Do not we cannot nullify the
+        // activityId (that would have been a better solution), as it would break boundary event behavior.
+        if (!concurrentExecutions.isEmpty()) {
+            multiInstanceRootExecution.setActive(false);
+        }
+
+        // No need to check the completed variable for backwards compatibility(like below),
+        // as this is for new instances and not for existing ones that get completed and might be started in the 'old way'
+        if (isAsyncWithoutWaitStates(processEngineConfiguration)) {
+
+            // The difference with the ParallelMultiInstanceActivityCompletionJobHandler approach is that here the job gets created up front
+            // (as the flag for no wait states has been set, this won't create an ever-recreating job).
+
+            JobEntity job = JobUtil.createJob(concurrentExecutions.get(0), ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler.TYPE, processEngineConfiguration);
+            JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
+            jobService.createAsyncJobNoTriggerAsyncExecutor(job, true);
+            jobService.insertJob(job);
+        }
+
+        return nrOfInstances;
+    }
+
+    protected List<ExecutionEntity> createInstancesOneByOne(ExecutionEntity multiInstanceRootExecution, int nrOfInstances) {
         List<ExecutionEntity> concurrentExecutions = new ArrayList<>();
         for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
             ExecutionEntity concurrentExecution = CommandContextUtil.getExecutionEntityManager()
-                    .createChildExecution((ExecutionEntity) multiInstanceRootExecution);
+                    .createChildExecution(multiInstanceRootExecution);
             concurrentExecution.setCurrentFlowElement(activity);
             concurrentExecution.setActive(true);
             concurrentExecution.setScope(false);
@@ -99,33 +133,45 @@ public class ParallelMultiInstanceBehavior extends MultiInstanceActivityBehavior
             if (concurrentExecution.isActive() 
                     && !concurrentExecution.isEnded() 
                     && !concurrentExecution.getParent().isEnded()) {
-                executeOriginalBehavior(concurrentExecution, (ExecutionEntity) multiInstanceRootExecution, loopCounter);
+                executeOriginalBehavior(concurrentExecution, multiInstanceRootExecution, loopCounter);
             } 
         }
 
-        // See ACT-1586: ExecutionQuery returns wrong results when using multi
-        // instance on a receive task The parent execution must be set to false, so it wouldn't show up in
-        // the execution query when using .activityId(something). Do not we cannot nullify the
-        // activityId (that would have been a better solution), as it would break boundary event behavior.
-        if (!concurrentExecutions.isEmpty()) {
-            multiInstanceRootExecution.setActive(false);
-        }
+        return concurrentExecutions;
+    }
 
-        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-        // No need to check the completed variable for backwards compatibility(like below),
-        // as this is for new instances and not for existing ones that get completed and might be started in the 'old way'
-        if (isAsyncWithoutWaitStates(processEngineConfiguration)) {
+    /**
+     * Creates all child executions before executing any of them and resolves the collection only once,
+     * instead of resolving and iterating it again for every instance (which is quadratic in the size of the collection).
+     */
+    @SuppressWarnings("rawtypes")
+    protected List<ExecutionEntity> createInstancesInBulk(ExecutionEntity multiInstanceRootExecution, int nrOfInstances) {
+        List<ExecutionEntity> concurrentExecutions = CommandContextUtil.getExecutionEntityManager()
+                .createChildExecutions(multiInstanceRootExecution, nrOfInstances);
+        for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
+            ExecutionEntity concurrentExecution = concurrentExecutions.get(loopCounter);
+            concurrentExecution.setCurrentFlowElement(activity);
+            concurrentExecution.setActive(true);
+            logLoopDetails(concurrentExecution, "initialized", loopCounter, 0, nrOfInstances, nrOfInstances);
+        }
 
-            // The difference with the ParallelMultiInstanceActivityCompletionJobHandler approach is that here the job gets created up front
-            // (as the flag for no wait states has been set, this won't create an ever-recreating job).
+        // As above, all executions are created before any of the activities is executed
+        Iterator collectionElements = null;
+        if (usesCollection() && collectionElementVariable != null) {
+            collectionElements = resolveAndValidateCollection(concurrentExecutions.get(0)).iterator();
+        }
 
-            JobEntity job = JobUtil.createJob(concurrentExecutions.get(0), ParallelMultiInstanceWithNoWaitStatesAsyncLeaveJobHandler.TYPE, processEngineConfiguration);
-            JobService jobService = processEngineConfiguration.getJobServiceConfiguration().getJobService();
-            jobService.createAsyncJobNoTriggerAsyncExecutor(job, true);
-            jobService.insertJob(job);
+        for (int loopCounter = 0; loopCounter < nrOfInstances; loopCounter++) {
+            ExecutionEntity concurrentExecution = concurrentExecutions.get(loopCounter);
+            Object collectionElement = collectionElements != null ? collectionElements.next() : null;
+            if (concurrentExecution.isActive()
+                    && !concurrentExecution.isEnded()
+                    && !concurrentExecution.getParent().isEnded()) {
+                executeOriginalBehavior(concurrentExecution, multiInstanceRootExecution, loopCounter, collectionElement);
+            }
         }
 
-        return nrOfInstances;
+        return concurrentExecutions;
     }
 
     public boolean isAsyncWithoutWaitStates(ProcessEngineConfigurationImpl processEngineConfiguration) {
@@ -37,11 +37,13 @@ import org.flowable.bpmn.model.SubProcess;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.repository.EngineDeployment;
+import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventSupport;
 import org.flowable.common.engine.impl.util.io.InputStreamSource;
 import org.flowable.common.engine.impl.util.io.StreamSource;
 import org.flowable.common.engine.impl.util.io.StringStreamSource;
 import org.flowable.common.engine.impl.util.io.UrlStreamSource;
+import org.flowable.engine.delegate.event.impl.BpmnModelEventDispatchAction;
 import org.flowable.engine.impl.bpmn.parser.factory.ActivityBehaviorFactory;
 import org.flowable.engine.impl.bpmn.parser.factory.ListenerFactory;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -187,7 +189,7 @@ public class BpmnParse implements BpmnXMLConstants {
             }
 
             bpmnModel.setSourceSystemId(sourceSystemId);
-            bpmnModel.setEventSupport(new FlowableEventSupport());
+            bpmnModel.setEventSupport(createEventSupport(processEngineConfiguration));
 
             // Validation successful (or no validation)
 
@@ -271,6 +273,17 @@ public class BpmnParse implements BpmnXMLConstants {
         return this;
     }
 
+    protected FlowableEventSupport createEventSupport(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        if (processEngineConfiguration != null && processEngineConfiguration.getAdditionalEventDispatchActions() != null) {
+            for (EventDispatchAction eventDispatchAction : processEngineConfiguration.getAdditionalEventDispatchActions()) {
+                if (eventDispatchAction instanceof BpmnModelEventDispatchAction bpmnModelEventDispatchAction) {
+                    return bpmnModelEventDispatchAction.createBpmnModelEventSupport();
+                }
+            }
+        }
+        return new FlowableEventSupport();
+    }
+
     /**
      * Parses the 'definitions' root element
      */
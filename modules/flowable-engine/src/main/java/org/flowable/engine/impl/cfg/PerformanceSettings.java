@@ -28,6 +28,32 @@ public class PerformanceSettings {
      */
     protected boolean enableEagerExecutionTreeFetching = false;
 
+    /**
+     * If true, the first time the variables of an execution are needed in a transaction,
+     * the variables of all the executions of its process instance are fetched in the same roundtrip.
+     * 
+     * Looking up a variable walks up the execution tree (e.g. from a multi instance execution in an embedded subprocess
+     * to the process instance), which otherwise leads to one query for the variables of each execution on the way.
+     */
+    protected boolean enableVariablePrefetching = false;
+
+    /**
+     * If true, the child executions of an execution are kept in an index for the duration of a command,
+     * the first time they are looked up. The index is updated when executions are created or moved to another parent.
+     * 
+     * While executing a large process instance (e.g. completing the instances of a parallel multi instance activity),
+     * the children of the same executions are looked up over and over, which otherwise leads to a query every time.
+     */
+    protected boolean enableExecutionTreeIndex = false;
+
+    /**
+     * If true, the instances of a parallel multi instance activity are created in one go: the child executions are created together
+     * and the collection (if any) is resolved and iterated once, instead of once for every instance.
+     * 
+     * Note that a custom collection handler is then only called once, with the first instance.
+     */
+    protected boolean enableParallelMultiInstanceBulkCreation = false;
+
     /**
      * Keeps a count on each execution that holds how many variables, jobs, tasks, event subscriptions, etc. the execution has.
      * 
@@ -69,6 +95,30 @@ public class PerformanceSettings {
         this.enableEagerExecutionTreeFetching = enableEagerExecutionTreeFetching;
     }
 
+    public boolean isEnableVariablePrefetching() {
+        return enableVariablePrefetching;
+    }
+
+    public void setEnableVariablePrefetching(boolean enableVariablePrefetching) {
+        this.enableVariablePrefetching = enableVariablePrefetching;
+    }
+
+    public boolean isEnableExecutionTreeIndex() {
+        return enableExecutionTreeIndex;
+    }
+
+    public void setEnableExecutionTreeIndex(boolean enableExecutionTreeIndex) {
+        this.enableExecutionTreeIndex = enableExecutionTreeIndex;
+    }
+
+    public boolean isEnableParallelMultiInstanceBulkCreation() {
+        return enableParallelMultiInstanceBulkCreation;
+    }
+
+    public void setEnableParallelMultiInstanceBulkCreation(boolean enableParallelMultiInstanceBulkCreation) {
+        this.enableParallelMultiInstanceBulkCreation = enableParallelMultiInstanceBulkCreation;
+    }
+
     public boolean isEnableExecutionRelationshipCounts() {
         return enableExecutionRelationshipCounts;
     }
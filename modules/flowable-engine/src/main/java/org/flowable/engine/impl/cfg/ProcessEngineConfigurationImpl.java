@@ -105,6 +105,7 @@ import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayEntityManager;
@@ -230,12 +231,14 @@ import org.flowable.engine.impl.cmmn.CaseInstanceService;
 import org.flowable.engine.impl.db.DbIdGenerator;
 import org.flowable.engine.impl.db.EntityDependencyOrder;
 import org.flowable.engine.impl.db.ProcessDbSchemaManager;
+import org.flowable.engine.impl.db.SegmentedDbIdGenerator;
 import org.flowable.engine.impl.delegate.JsonVariableAggregator;
 import org.flowable.engine.impl.delegate.invocation.DefaultDelegateInterceptor;
 import org.flowable.engine.impl.delete.ComputeDeleteHistoricProcessInstanceIdsJobHandler;
 import org.flowable.engine.impl.delete.ComputeDeleteHistoricProcessInstanceStatusJobHandler;
 import org.flowable.engine.impl.delete.DeleteHistoricProcessInstanceIdsJobHandler;
 import org.flowable.engine.impl.delete.DeleteHistoricProcessInstanceIdsStatusJobHandler;
+import org.flowable.engine.impl.delete.DeleteHistoricProcessInstancesInEndTimeRangeJobHandler;
 import org.flowable.engine.impl.delete.DeleteHistoricProcessInstancesSequentialJobHandler;
 import org.flowable.engine.impl.dynamic.DefaultDynamicStateManager;
 import org.flowable.engine.impl.el.FlowableDateFunctionDelegate;
@@ -265,6 +268,16 @@ import org.flowable.engine.impl.history.DefaultHistoryTaskManager;
 import org.flowable.engine.impl.history.DefaultHistoryVariableManager;
 import org.flowable.engine.impl.history.HistoryConfigurationSettings;
 import org.flowable.engine.impl.history.HistoryManager;
+import org.flowable.engine.impl.history.async.ActivityInstanceHistoryJsonTransformer;
+import org.flowable.engine.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.engine.impl.history.async.AsyncHistoryManager;
+import org.flowable.engine.impl.history.async.AsyncHistorySession;
+import org.flowable.engine.impl.history.async.AsyncHistorySessionFactory;
+import org.flowable.engine.impl.history.async.HistoryJsonTransformer;
+import org.flowable.engine.impl.history.async.IdentityLinkHistoryJsonTransformer;
+import org.flowable.engine.impl.history.async.ProcessInstanceHistoryJsonTransformer;
+import org.flowable.engine.impl.history.async.TaskInstanceHistoryJsonTransformer;
+import org.flowable.engine.impl.history.async.VariableInstanceHistoryJsonTransformer;
 import org.flowable.engine.impl.interceptor.BpmnOverrideContextInterceptor;
 import org.flowable.engine.impl.interceptor.CommandInvoker;
 import org.flowable.engine.impl.interceptor.DefaultIdentityLinkInterceptor;
@@ -570,6 +583,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected DeploymentManager deploymentManager;
 
     protected int processDefinitionCacheLimit = -1; // By default, no limit
+    /**
+     * Limits the process definition cache by the estimated size of the process models (their number of flow elements) instead of the number of process definitions.
+     * Only applies when {@link #concurrentDeploymentCacheEnabled} is set. By default, no limit.
+     */
+    protected long processDefinitionCacheMaxWeight = -1;
+    /**
+     * When a process definition is not cached, only the BPMN resource of that process definition is parsed again,
+     * instead of all the BPMN resources of its deployment. Default false.
+     */
+    protected boolean processDefinitionCacheSingleResourceRebuildEnabled;
+    /**
+     * Whether the process definition cache should be filled with the latest versions of the process definitions in the background, when the engine is built.
+     * Default false.
+     */
+    protected boolean processDefinitionCachePrewarmEnabled;
+    protected int processDefinitionCachePrewarmThreads = 4;
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
@@ -592,6 +621,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected Map<String, HistoryJobHandler> historyJobHandlers;
     protected List<HistoryJobHandler> customHistoryJobHandlers;
+    protected List<HistoryJsonTransformer> customHistoryJsonTransformers;
 
     // HELPERS //////////////////////////////////////////////////////////////////
     protected ProcessInstanceHelper processInstanceHelper;
@@ -651,6 +681,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected String jobExecutionScope;
     protected String historyJobExecutionScope;
 
+    /**
+     * The number of partitions the executable async jobs are spread over, see {@link JobServiceConfiguration#setJobPartitionCount(int)}.
+     * When the async executor is shared between engines, all engines need to use the same partition count.
+     */
+    protected int jobPartitionCount;
+
     protected String batchStatusTimeCycleConfig = "30 * * * * ?";
 
     /**
@@ -821,6 +857,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected Duration eventRegistryUniqueProcessInstanceStartLockTime = Duration.ofMinutes(10);
 
+    /**
+     * Whether inbound events that can't match any event subscription should be discarded using an in-memory index of the event subscriptions,
+     * instead of querying the database for every event. Disabled by default and only meant for single node deployments,
+     * see {@link org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration#setEventSubscriptionIndexEnabled(boolean)}.
+     */
+    protected boolean eventRegistryEventSubscriptionIndexEnabled;
+
+    /**
+     * Whether the default id generator should be a {@link SegmentedDbIdGenerator}, which reserves id blocks ahead of time in the background
+     * and hands out ids without synchronization, instead of a {@link DbIdGenerator}. Only applies when no id generator is set.
+     */
+    protected boolean segmentedIdGeneratorEnabled;
+
     /**
      * Set this to true if you want to have extra checks on the BPMN xml that is parsed. See http://www.jorambarrez.be/blog/2013/02/19/uploading-a-funny-xml -can-bring-down-your-server/
      * <p>
@@ -1250,7 +1299,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initHistoryManager() {
         if (historyManager == null) {
-            historyManager = new DefaultHistoryManager(this);
+            if (isAsyncHistoryEnabled) {
+                historyManager = new AsyncHistoryManager(this);
+            } else {
+                historyManager = new DefaultHistoryManager(this);
+            }
         }
     }
 
@@ -1333,6 +1386,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             }
         }
         
+        if (isAsyncHistoryEnabled && !sessionFactories.containsKey(AsyncHistorySession.class)) {
+            addSessionFactory(new AsyncHistorySessionFactory(this));
+        }
+
         if (!sessionFactories.containsKey(VariableListenerSession.class)) {
             sessionFactories.put(VariableListenerSession.class, new GenericManagerFactory(VariableListenerSession.class, VariableListenerSession::new));
         }
@@ -1433,6 +1490,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
         this.eventSubscriptionServiceConfiguration.setEventSubscriptionLockTime(this.eventRegistryUniqueProcessInstanceStartLockTime);
+        this.eventSubscriptionServiceConfiguration.setEventSubscriptionIndexEnabled(this.eventRegistryEventSubscriptionIndexEnabled);
 
         this.eventSubscriptionServiceConfiguration.setConfigurators(this.eventSubscriptionServiceConfigurators);
         this.eventSubscriptionServiceConfiguration.init();
@@ -1551,6 +1609,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
             this.jobServiceConfiguration.setJobExecutionScope(this.jobExecutionScope);
             this.jobServiceConfiguration.setHistoryJobExecutionScope(this.historyJobExecutionScope);
+            this.jobServiceConfiguration.setJobPartitionCount(this.jobPartitionCount);
             
             if (enabledJobCategories != null) {
                 this.jobServiceConfiguration.setEnabledJobCategories(enabledJobCategories);
@@ -1662,7 +1721,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
+            if (concurrentDeploymentCacheEnabled) {
+                if (processDefinitionCacheMaxWeight > 0) {
+                    processDefinitionCache = new ConcurrentDeploymentCache<>(processDefinitionCacheMaxWeight, ProcessDefinitionCacheEntry::getEstimatedWeight);
+                } else {
+                    processDefinitionCache = new ConcurrentDeploymentCache<>(processDefinitionCacheLimit);
+                }
+            } else if (processDefinitionCacheLimit <= 0) {
                 processDefinitionCache = new DefaultDeploymentCache<>();
             } else {
                 processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
@@ -1996,6 +2061,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         DeleteHistoricProcessInstancesSequentialJobHandler deleteHistoricProcessInstancesSequentialJobHandler = new DeleteHistoricProcessInstancesSequentialJobHandler();
         jobHandlers.put(deleteHistoricProcessInstancesSequentialJobHandler.getType(), deleteHistoricProcessInstancesSequentialJobHandler);
 
+        DeleteHistoricProcessInstancesInEndTimeRangeJobHandler deleteHistoricProcessInstancesInEndTimeRangeJobHandler = new DeleteHistoricProcessInstancesInEndTimeRangeJobHandler();
+        jobHandlers.put(deleteHistoricProcessInstancesInEndTimeRangeJobHandler.getType(), deleteHistoricProcessInstancesInEndTimeRangeJobHandler);
+
         DeleteHistoricProcessInstanceIdsStatusJobHandler deleteHistoricProcessInstanceStatusJobHandler = new DeleteHistoricProcessInstanceIdsStatusJobHandler();
         jobHandlers.put(deleteHistoricProcessInstanceStatusJobHandler.getType(), deleteHistoricProcessInstanceStatusJobHandler);
 
@@ -2011,6 +2079,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (isAsyncHistoryEnabled) {
             historyJobHandlers = new HashMap<>();
 
+            List<HistoryJsonTransformer> historyJsonTransformers = new ArrayList<>();
+            historyJsonTransformers.add(new ProcessInstanceHistoryJsonTransformer(this));
+            historyJsonTransformers.add(new ActivityInstanceHistoryJsonTransformer(this));
+            historyJsonTransformers.add(new TaskInstanceHistoryJsonTransformer(this));
+            historyJsonTransformers.add(new VariableInstanceHistoryJsonTransformer(this));
+            historyJsonTransformers.add(new IdentityLinkHistoryJsonTransformer(this));
+            if (getCustomHistoryJsonTransformers() != null) {
+                historyJsonTransformers.addAll(getCustomHistoryJsonTransformers());
+            }
+
+            AsyncHistoryJobHandler asyncHistoryJobHandler = new AsyncHistoryJobHandler(this, historyJsonTransformers);
+            historyJobHandlers.put(asyncHistoryJobHandler.getType(), asyncHistoryJobHandler);
+
             if (getCustomHistoryJobHandlers() != null) {
                 for (HistoryJobHandler customJobHandler : getCustomHistoryJobHandlers()) {
                     historyJobHandlers.put(customJobHandler.getType(), customJobHandler);
@@ -2157,7 +2238,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     @Override
     public void initIdGenerator() {
         if (idGenerator == null) {
-            DbIdGenerator dbIdGenerator = new DbIdGenerator();
+            DbIdGenerator dbIdGenerator = segmentedIdGeneratorEnabled ? new SegmentedDbIdGenerator() : new DbIdGenerator();
             dbIdGenerator.setIdBlockSize(idBlockSize);
             idGenerator = dbIdGenerator;
         }
@@ -2343,7 +2424,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             ProcessExpressionManager processExpressionManager = new ProcessExpressionManager(delegateInterceptor, beans);
 
             if (isExpressionCacheEnabled) {
-                processExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                processExpressionManager.setExpressionCache(concurrentDeploymentCacheEnabled
+                        ? new ConcurrentDeploymentCache<>(expressionCacheSize) : new DefaultDeploymentCache<>(expressionCacheSize));
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
@@ -3621,6 +3703,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public List<HistoryJsonTransformer> getCustomHistoryJsonTransformers() {
+        return customHistoryJsonTransformers;
+    }
+
+    public ProcessEngineConfigurationImpl setCustomHistoryJsonTransformers(List<HistoryJsonTransformer> customHistoryJsonTransformers) {
+        this.customHistoryJsonTransformers = customHistoryJsonTransformers;
+        return this;
+    }
+
     public List<FormEngine> getCustomFormEngines() {
         return customFormEngines;
     }
@@ -3885,6 +3976,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionCacheMaxWeight() {
+        return processDefinitionCacheMaxWeight;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheMaxWeight(long processDefinitionCacheMaxWeight) {
+        this.processDefinitionCacheMaxWeight = processDefinitionCacheMaxWeight;
+        return this;
+    }
+
+    public boolean isProcessDefinitionCacheSingleResourceRebuildEnabled() {
+        return processDefinitionCacheSingleResourceRebuildEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheSingleResourceRebuildEnabled(boolean processDefinitionCacheSingleResourceRebuildEnabled) {
+        this.processDefinitionCacheSingleResourceRebuildEnabled = processDefinitionCacheSingleResourceRebuildEnabled;
+        return this;
+    }
+
+    public boolean isProcessDefinitionCachePrewarmEnabled() {
+        return processDefinitionCachePrewarmEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCachePrewarmEnabled(boolean processDefinitionCachePrewarmEnabled) {
+        this.processDefinitionCachePrewarmEnabled = processDefinitionCachePrewarmEnabled;
+        return this;
+    }
+
+    public int getProcessDefinitionCachePrewarmThreads() {
+        return processDefinitionCachePrewarmThreads;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCachePrewarmThreads(int processDefinitionCachePrewarmThreads) {
+        this.processDefinitionCachePrewarmThreads = processDefinitionCachePrewarmThreads;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -4053,6 +4180,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEventRegistryEventSubscriptionIndexEnabled() {
+        return eventRegistryEventSubscriptionIndexEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setEventRegistryEventSubscriptionIndexEnabled(boolean eventRegistryEventSubscriptionIndexEnabled) {
+        this.eventRegistryEventSubscriptionIndexEnabled = eventRegistryEventSubscriptionIndexEnabled;
+        return this;
+    }
+
+    public boolean isSegmentedIdGeneratorEnabled() {
+        return segmentedIdGeneratorEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setSegmentedIdGeneratorEnabled(boolean segmentedIdGeneratorEnabled) {
+        this.segmentedIdGeneratorEnabled = segmentedIdGeneratorEnabled;
+        return this;
+    }
+
     public List<FlowableFunctionDelegate> getFlowableFunctionDelegates() {
         return flowableFunctionDelegates;
     }
@@ -4117,6 +4262,21 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableVariablePrefetching(boolean enableVariablePrefetching) {
+        this.performanceSettings.setEnableVariablePrefetching(enableVariablePrefetching);
+        return this;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableExecutionTreeIndex(boolean enableExecutionTreeIndex) {
+        this.performanceSettings.setEnableExecutionTreeIndex(enableExecutionTreeIndex);
+        return this;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableParallelMultiInstanceBulkCreation(boolean enableParallelMultiInstanceBulkCreation) {
+        this.performanceSettings.setEnableParallelMultiInstanceBulkCreation(enableParallelMultiInstanceBulkCreation);
+        return this;
+    }
+
     public ProcessEngineConfigurationImpl setEnableExecutionRelationshipCounts(boolean enableExecutionRelationshipCounts) {
         this.performanceSettings.setEnableExecutionRelationshipCounts(enableExecutionRelationshipCounts);
         return this;
@@ -5149,6 +5309,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getJobPartitionCount() {
+        return jobPartitionCount;
+    }
+
+    public ProcessEngineConfigurationImpl setJobPartitionCount(int jobPartitionCount) {
+        this.jobPartitionCount = jobPartitionCount;
+        return this;
+    }
+
     public String getHistoryJobExecutionScope() {
         return historyJobExecutionScope;
     }
@@ -52,6 +52,10 @@ public class ProcessEnginePostEngineBuildConsumer implements Consumer<ProcessEng
             }
         }
 
+        if (engineConfiguration.isProcessDefinitionCachePrewarmEnabled()) {
+            engineConfiguration.getDeploymentManager().prewarmProcessDefinitionCache(engineConfiguration.getProcessDefinitionCachePrewarmThreads());
+        }
+
         engineConfiguration.postProcessEngineInitialisation();
     }
 }
@@ -0,0 +1,260 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.db.IdBlock;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DbIdGenerator} that doesn't let threads wait on the id block row in the property table.
+ *
+ * Id blocks are reserved ahead of time by a background thread, before the block in use runs out.
+ * Threads take a small buffer of ids from the block in use without locking (an atomic increment)
+ * and hand out the ids of that buffer without any synchronization.
+ * Only when no reserved block is available (e.g. at startup), a block is fetched synchronously.
+ *
+ * The ids are unique, but they are not handed out in increasing order:
+ * the ids of different threads and blocks interleave (as the ids of different nodes already do with the {@link DbIdGenerator}).
+ */
+public class SegmentedDbIdGenerator extends DbIdGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SegmentedDbIdGenerator.class);
+
+    protected int threadBufferSize = 50;
+    protected int reservedBlockCount = 1;
+    protected int refillThresholdPercentage = 50;
+    protected int maxBlockFetchRetries = 10;
+
+    protected final AtomicReference<IdSegment> currentSegment = new AtomicReference<>(new IdSegment(0, -1));
+    protected final Queue<IdBlock> reservedBlocks = new ConcurrentLinkedQueue<>();
+    protected final AtomicBoolean refillInProgress = new AtomicBoolean(false);
+    protected final ThreadLocal<long[]> threadBuffer = ThreadLocal.withInitial(() -> new long[] { 0, -1 });
+    protected volatile Executor refillExecutor;
+
+    // Metrics
+    protected final LongAdder blockFetchCount = new LongAdder();
+    protected final LongAdder synchronousBlockFetchCount = new LongAdder();
+    protected final LongAdder blockFetchOptimisticLockingFailureCount = new LongAdder();
+    protected final LongAdder blockFetchTimeNanos = new LongAdder();
+
+    @Override
+    public String getNextId() {
+        long[] buffer = threadBuffer.get();
+        if (buffer[0] > buffer[1]) {
+            fillThreadBuffer(buffer);
+        }
+        return Long.toString(buffer[0]++);
+    }
+
+    protected void fillThreadBuffer(long[] buffer) {
+        while (true) {
+            IdSegment segment = currentSegment.get();
+            long firstId = segment.nextId.getAndAdd(threadBufferSize);
+            if (firstId <= segment.lastId) {
+                buffer[0] = firstId;
+                buffer[1] = Math.min(firstId + threadBufferSize - 1, segment.lastId);
+
+                if (segment.lastId - buffer[1] <= segment.refillThreshold) {
+                    triggerRefill();
+                }
+                return;
+            }
+
+            switchSegment(segment);
+        }
+    }
+
+    protected synchronized void switchSegment(IdSegment exhaustedSegment) {
+        if (currentSegment.get() != exhaustedSegment) {
+            // Another thread already switched to a new segment
+            return;
+        }
+
+        IdBlock idBlock = reservedBlocks.poll();
+        if (idBlock == null) {
+            // The reserved blocks couldn't keep up (or this is the first block): the thread has to wait for a block
+            synchronousBlockFetchCount.increment();
+            idBlock = fetchBlock();
+        }
+
+        long refillThreshold = (idBlock.getLastId() - idBlock.getNextId() + 1) * refillThresholdPercentage / 100;
+        currentSegment.set(new IdSegment(idBlock.getNextId(), idBlock.getLastId(), refillThreshold));
+        triggerRefill();
+    }
+
+    protected void triggerRefill() {
+        if (reservedBlocks.size() < reservedBlockCount && refillInProgress.compareAndSet(false, true)) {
+            try {
+                getRefillExecutor().execute(this::refillReservedBlocks);
+            } catch (RuntimeException e) {
+                refillInProgress.set(false);
+                LOGGER.warn("Could not schedule the reservation of id blocks", e);
+            }
+        }
+    }
+
+    protected void refillReservedBlocks() {
+        try {
+            while (reservedBlocks.size() < reservedBlockCount) {
+                reservedBlocks.add(fetchBlock());
+            }
+        } catch (RuntimeException e) {
+            // The next thread that needs a block will fetch it synchronously
+            LOGGER.warn("Could not reserve an id block", e);
+        } finally {
+            refillInProgress.set(false);
+        }
+    }
+
+    protected IdBlock fetchBlock() {
+        long start = System.nanoTime();
+        try {
+            int attempt = 0;
+            while (true) {
+                try {
+                    IdBlock idBlock = commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
+                    blockFetchCount.increment();
+                    return idBlock;
+
+                } catch (FlowableOptimisticLockingException e) {
+                    // Another node (or thread) fetched a block concurrently
+                    blockFetchOptimisticLockingFailureCount.increment();
+                    attempt++;
+                    if (attempt >= maxBlockFetchRetries) {
+                        throw e;
+                    }
+                    LOGGER.debug("Optimistic locking exception while fetching id block, retrying (attempt {})", attempt);
+                }
+            }
+        } finally {
+            blockFetchTimeNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    protected Executor getRefillExecutor() {
+        if (refillExecutor == null) {
+            synchronized (this) {
+                if (refillExecutor == null) {
+                    // At most one thread, which terminates when idle, so that no explicit shutdown is needed
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "flowable-id-block-reservation");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    executor.allowCoreThreadTimeOut(true);
+                    refillExecutor = executor;
+                }
+            }
+        }
+        return refillExecutor;
+    }
+
+    /**
+     * @return the number of id blocks that have been fetched from the database
+     */
+    public long getBlockFetchCount() {
+        return blockFetchCount.sum();
+    }
+
+    /**
+     * @return the number of times a thread had to wait for an id block to be fetched, because no reserved block was available
+     */
+    public long getSynchronousBlockFetchCount() {
+        return synchronousBlockFetchCount.sum();
+    }
+
+    /**
+     * @return the number of times fetching an id block failed because another node or thread updated the id block row concurrently
+     */
+    public long getBlockFetchOptimisticLockingFailureCount() {
+        return blockFetchOptimisticLockingFailureCount.sum();
+    }
+
+    /**
+     * @return the total time spent fetching id blocks (including the retries), in milliseconds
+     */
+    public long getBlockFetchTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(blockFetchTimeNanos.sum());
+    }
+
+    public int getReservedBlocksAvailable() {
+        return reservedBlocks.size();
+    }
+
+    public int getThreadBufferSize() {
+        return threadBufferSize;
+    }
+
+    public void setThreadBufferSize(int threadBufferSize) {
+        this.threadBufferSize = threadBufferSize;
+    }
+
+    public int getReservedBlockCount() {
+        return reservedBlockCount;
+    }
+
+    public void setReservedBlockCount(int reservedBlockCount) {
+        this.reservedBlockCount = reservedBlockCount;
+    }
+
+    public int getRefillThresholdPercentage() {
+        return refillThresholdPercentage;
+    }
+
+    public void setRefillThresholdPercentage(int refillThresholdPercentage) {
+        this.refillThresholdPercentage = refillThresholdPercentage;
+    }
+
+    public int getMaxBlockFetchRetries() {
+        return maxBlockFetchRetries;
+    }
+
+    public void setMaxBlockFetchRetries(int maxBlockFetchRetries) {
+        this.maxBlockFetchRetries = maxBlockFetchRetries;
+    }
+
+    public void setRefillExecutor(Executor refillExecutor) {
+        this.refillExecutor = refillExecutor;
+    }
+
+    protected static class IdSegment {
+
+        protected final AtomicLong nextId;
+        protected final long lastId;
+        protected final long refillThreshold;
+
+        protected IdSegment(long nextId, long lastId) {
+            this(nextId, lastId, 0);
+        }
+
+        protected IdSegment(long nextId, long lastId, long refillThreshold) {
+            this.nextId = new AtomicLong(nextId);
+            this.lastId = lastId;
+            this.refillThreshold = refillThreshold;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.delete;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes the first batch size historic process instances of one end time range (see {@link DeleteHistoricProcessInstancesInEndTimeRangesCmd}).
+ * The next chunk of the range is scheduled as a new batch part, until the range has no instances anymore.
+ * The last batch part of a range contains the number of deleted instances and the throughput of the range.
+ */
+public class DeleteHistoricProcessInstancesInEndTimeRangeJobHandler implements JobHandler {
+
+    public static final String TYPE = "delete-historic-processes-end-time-range";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl engineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = engineConfiguration.getBatchServiceConfiguration().getBatchService();
+
+        BatchDeleteProcessConfig config = BatchDeleteProcessConfig.create(configuration, engineConfiguration);
+        BatchPart batchPart = config.getBatchPart();
+        Batch batch = config.getBatch();
+        if (config.hasError()) {
+            // The batch will be failed by the status job once all the ranges are done
+            batchService.completeBatchPart(batchPart.getId(), DeleteProcessInstanceBatchConstants.STATUS_FAILED, config.getError());
+            return;
+        }
+
+        if (DeleteProcessInstanceBatchConstants.STATUS_STOPPED.equals(batch.getStatus())) {
+            batchService.completeBatchPart(batchPart.getId(), DeleteProcessInstanceBatchConstants.STATUS_STOPPED, null);
+            return;
+        }
+
+        JsonNode rangesNode = BatchDeleteProcessConfig.getBatchConfiguration(batch, engineConfiguration).path("endTimeRanges");
+        int range = Integer.parseInt(batchPart.getSearchKey());
+        long rangeFrom = rangesNode.path("boundaries").path(range).longValue();
+        long rangeTo = rangesNode.path("boundaries").path(range + 1).longValue();
+
+        // Both bounds of the query are inclusive, the end of the range is not
+        HistoricProcessInstanceQuery query = config.getQuery()
+                .finishedAfter(new Date(rangeFrom))
+                .finishedBefore(new Date(rangeTo - 1));
+
+        // Deleted instances are no longer returned, so we are always deleting the first elements
+        List<HistoricProcessInstance> historicProcessInstances = query.withoutSorting().returnIdsOnly().listPage(0, config.getBatchSize());
+        ObjectNode resultNode = engineConfiguration.getObjectMapper().createObjectNode();
+        Set<String> processInstanceIdsToDelete = new HashSet<>();
+        for (HistoricProcessInstance historicProcessInstance : historicProcessInstances) {
+            processInstanceIdsToDelete.add(historicProcessInstance.getId());
+        }
+
+        if (processInstanceIdsToDelete.isEmpty()) {
+            resultNode.set("rangeMetrics", createRangeMetrics(batchPart, rangeFrom, rangeTo, engineConfiguration));
+            batchService.completeBatchPart(batchPart.getId(), DeleteProcessInstanceBatchConstants.STATUS_COMPLETED, resultNode.toString());
+            return;
+        }
+
+        String status = DeleteProcessInstanceBatchConstants.STATUS_COMPLETED;
+
+        try {
+            engineConfiguration.getHistoryService().bulkDeleteHistoricProcessInstances(processInstanceIdsToDelete);
+            ArrayNode deletedProcessInstanceIdsNode = resultNode.withArray("processInstanceIdsDeleted");
+            processInstanceIdsToDelete.forEach(deletedProcessInstanceIdsNode::add);
+
+        } catch (FlowableException ex) {
+            status = DeleteProcessInstanceBatchConstants.STATUS_FAILED;
+            resultNode.withArray("processInstanceIdsFailedToDelete")
+                    .addObject()
+                    .put("id", processInstanceIdsToDelete.iterator().next())
+                    .put("error", ex.getMessage())
+                    .put("stacktrace", ExceptionUtils.getStackTrace(ex));
+        }
+
+        batchService.completeBatchPart(batchPart.getId(), status, resultNode.toString());
+
+        if (DeleteProcessInstanceBatchConstants.STATUS_COMPLETED.equals(status)) {
+            // Create the next batch part of the range and schedule a job for it
+            BatchPart nextBatchPart = engineConfiguration.getManagementService()
+                    .createBatchPartBuilder(batch)
+                    .type(DeleteProcessInstanceBatchConstants.BATCH_PART_DELETE_PROCESS_INSTANCES_TYPE)
+                    .searchKey(batchPart.getSearchKey())
+                    .searchKey2(String.valueOf(Integer.parseInt(batchPart.getSearchKey2()) + 1))
+                    .status(DeleteProcessInstanceBatchConstants.STATUS_WAITING)
+                    .create();
+
+            JobService jobService = engineConfiguration.getJobServiceConfiguration().getJobService();
+
+            JobEntity nextJob = jobService.createJob();
+            nextJob.setJobHandlerType(DeleteHistoricProcessInstancesInEndTimeRangeJobHandler.TYPE);
+            nextJob.setJobHandlerConfiguration(nextBatchPart.getId());
+            jobService.createAsyncJob(nextJob, false);
+            jobService.scheduleAsyncJob(nextJob);
+        }
+    }
+
+    protected ObjectNode createRangeMetrics(BatchPart lastBatchPart, long rangeFrom, long rangeTo, ProcessEngineConfigurationImpl engineConfiguration) {
+        ManagementService managementService = engineConfiguration.getManagementService();
+        List<BatchPart> rangeBatchParts = managementService.createBatchPartQuery()
+                .batchId(lastBatchPart.getBatchId())
+                .type(DeleteProcessInstanceBatchConstants.BATCH_PART_DELETE_PROCESS_INSTANCES_TYPE)
+                .searchKey(lastBatchPart.getSearchKey())
+                .list();
+
+        long numberOfInstancesDeleted = 0;
+        long rangeStartTime = lastBatchPart.getCreateTime().getTime();
+        for (BatchPart rangeBatchPart : rangeBatchParts) {
+            rangeStartTime = Math.min(rangeStartTime, rangeBatchPart.getCreateTime().getTime());
+            String resultJson = rangeBatchPart.getResultDocumentJson(ScopeTypes.BPMN);
+            if (resultJson != null) {
+                numberOfInstancesDeleted += engineConfiguration.getObjectMapper().readTree(resultJson).path("processInstanceIdsDeleted").size();
+            }
+        }
+
+        long durationInMillis = Math.max(engineConfiguration.getClock().getCurrentTime().getTime() - rangeStartTime, 0);
+
+        ObjectNode metricsNode = engineConfiguration.getObjectMapper().createObjectNode();
+        metricsNode.put("endTimeFrom", rangeFrom);
+        metricsNode.put("endTimeTo", rangeTo);
+        metricsNode.put("numberOfBatchParts", rangeBatchParts.size());
+        metricsNode.put("numberOfInstancesDeleted", numberOfInstancesDeleted);
+        metricsNode.put("durationInMillis", durationInMillis);
+        if (durationInMillis > 0) {
+            metricsNode.put("instancesPerSecond", numberOfInstancesDeleted * 1000.0 / durationInMillis);
+        }
+        return metricsNode;
+    }
+}
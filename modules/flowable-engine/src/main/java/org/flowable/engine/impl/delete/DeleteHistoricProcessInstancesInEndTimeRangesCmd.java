@@ -0,0 +1,191 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.delete;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.calendar.BusinessCalendar;
+import org.flowable.common.engine.impl.calendar.CycleBusinessCalendar;
+import org.flowable.common.engine.impl.identity.Authentication;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes the finished historic process instances matching the query in parallel.
+ * The end time range of the matching instances is split in a number of ranges with about the same number of instances,
+ * which are independent of each other. The boundaries of the ranges are the end times of the instances at the positions
+ * {@code count * i / numberOfRanges} in the end time order, so the ranges stay balanced when the end times are not evenly distributed.
+ * Each range is deleted by its own chain of jobs ({@link DeleteHistoricProcessInstancesInEndTimeRangeJobHandler}),
+ * that always deletes the first batch size instances of the range, so no offset paging is needed.
+ */
+public class DeleteHistoricProcessInstancesInEndTimeRangesCmd extends DeleteHistoricProcessInstancesUsingBatchesCmd {
+
+    protected int numberOfRanges;
+
+    public DeleteHistoricProcessInstancesInEndTimeRangesCmd(HistoricProcessInstanceQueryImpl query, int batchSize, int numberOfRanges, String batchName) {
+        super(query, batchSize, batchName, false);
+        this.numberOfRanges = numberOfRanges;
+    }
+
+    @Override
+    public String execute(CommandContext commandContext) {
+        if (historicProcessInstanceQuery == null) {
+            throw new FlowableIllegalArgumentException("query is null");
+        }
+
+        if (batchSize <= 0) {
+            throw new FlowableIllegalArgumentException("batchSize has to be larger than 0");
+        }
+
+        if (numberOfRanges <= 0) {
+            throw new FlowableIllegalArgumentException("numberOfRanges has to be larger than 0");
+        }
+
+        ProcessEngineConfigurationImpl engineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = engineConfiguration.getBatchServiceConfiguration()
+                .getBatchService();
+
+        // Only finished instances have an end time and can be part of a range
+        historicProcessInstanceQuery.finished();
+        long numberOfProcessInstancesToDelete = historicProcessInstanceQuery.count();
+
+        ObjectNode batchConfiguration = engineConfiguration.getObjectMapper().createObjectNode();
+        batchConfiguration.put("numberOfInstances", numberOfProcessInstancesToDelete);
+        batchConfiguration.put("batchSize", batchSize);
+
+        ObjectNode queryNode = batchConfiguration.putObject("query");
+
+        populateQueryNode(queryNode, historicProcessInstanceQuery);
+        for (HistoricProcessInstanceQueryImpl orQueryObject : historicProcessInstanceQuery.getOrQueryObjects()) {
+            ObjectNode orQueryNode = queryNode.withArray("orQueryObjects")
+                    .addObject();
+            populateQueryNode(orQueryNode, orQueryObject);
+        }
+
+        int rangesToCreate = 0;
+        if (numberOfProcessInstancesToDelete > 0) {
+            List<Long> boundaries = determineRangeBoundaries(queryNode, numberOfProcessInstancesToDelete, engineConfiguration);
+            rangesToCreate = boundaries.size() - 1;
+
+            ObjectNode rangesNode = batchConfiguration.putObject("endTimeRanges");
+            ArrayNode boundariesNode = rangesNode.putArray("boundaries");
+            boundaries.forEach(boundariesNode::add);
+            rangesNode.put("numberOfRanges", rangesToCreate);
+        }
+
+        String tenantId = historicProcessInstanceQuery.getTenantId();
+        if (historicProcessInstanceQuery.isWithoutTenantId()) {
+            tenantId = ProcessEngineConfigurationImpl.NO_TENANT_ID;
+        }
+
+        Batch batch = batchService.createBatchBuilder()
+                .batchType(Batch.HISTORIC_PROCESS_DELETE_TYPE)
+                .tenantId(tenantId)
+                .searchKey(batchName)
+                .searchKey2(Authentication.getAuthenticatedUserId())
+                .status(DeleteProcessInstanceBatchConstants.STATUS_IN_PROGRESS)
+                .batchDocumentJson(batchConfiguration.toString())
+                .create();
+
+        if (rangesToCreate > 0) {
+            createBatchPartsForRanges(engineConfiguration, batch, rangesToCreate);
+        } else {
+            batchService.completeBatch(batch.getId(), DeleteProcessInstanceBatchConstants.STATUS_COMPLETED);
+        }
+
+        return batch.getId();
+    }
+
+    /**
+     * Returns the ascending boundaries of the ranges: range i contains the end times from boundary i (inclusive) to boundary i + 1 (exclusive).
+     * Instances with the same end time always belong to the same range, so there can be fewer ranges than requested.
+     */
+    protected List<Long> determineRangeBoundaries(JsonNode queryNode, long numberOfProcessInstances, ProcessEngineConfigurationImpl engineConfiguration) {
+        List<Long> boundaries = new ArrayList<>(numberOfRanges + 1);
+        for (int i = 0; i < numberOfRanges; i++) {
+            long endTime = getEndTimeAt(queryNode, (int) (numberOfProcessInstances * i / numberOfRanges), engineConfiguration);
+            if (boundaries.isEmpty() || endTime > boundaries.get(boundaries.size() - 1)) {
+                boundaries.add(endTime);
+            }
+        }
+
+        // The end of the last range is exclusive
+        boundaries.add(getEndTimeAt(queryNode, (int) (numberOfProcessInstances - 1), engineConfiguration) + 1);
+        return boundaries;
+    }
+
+    protected long getEndTimeAt(JsonNode queryNode, int position, ProcessEngineConfigurationImpl engineConfiguration) {
+        // The query is created from the batch configuration in order to use the same query as the jobs deleting the ranges
+        HistoricProcessInstanceQuery query = engineConfiguration.getHistoryService().createHistoricProcessInstanceQuery();
+        BatchDeleteProcessConfig.populateQuery(queryNode, query, engineConfiguration);
+
+        List<HistoricProcessInstance> processInstances = query.orderByProcessInstanceEndTime().asc().listPage(position, 1);
+        return processInstances.get(0).getEndTime().getTime();
+    }
+
+    protected void createBatchPartsForRanges(ProcessEngineConfigurationImpl engineConfiguration, Batch batch, int numberOfRanges) {
+        JobService jobService = engineConfiguration.getJobServiceConfiguration()
+                .getJobService();
+
+        ManagementService managementService = engineConfiguration.getManagementService();
+
+        for (int i = 0; i < numberOfRanges; i++) {
+            // The search key is the range and the second search key is the number of the chunk within the range
+            BatchPart batchPart = managementService.createBatchPartBuilder(batch)
+                    .type(DeleteProcessInstanceBatchConstants.BATCH_PART_DELETE_PROCESS_INSTANCES_TYPE)
+                    .searchKey(Integer.toString(i))
+                    .searchKey2(Integer.toString(0))
+                    .status(DeleteProcessInstanceBatchConstants.STATUS_WAITING)
+                    .create();
+
+            JobEntity job = jobService.createJob();
+            job.setJobHandlerType(DeleteHistoricProcessInstancesInEndTimeRangeJobHandler.TYPE);
+            job.setJobHandlerConfiguration(batchPart.getId());
+            jobService.createAsyncJob(job, false);
+            jobService.scheduleAsyncJob(job);
+        }
+
+        TimerJobService timerJobService = engineConfiguration.getJobServiceConfiguration()
+                .getTimerJobService();
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(Job.JOB_TYPE_TIMER);
+        timerJob.setRevision(1);
+        timerJob.setJobHandlerType(DeleteHistoricProcessInstanceIdsStatusJobHandler.TYPE);
+        timerJob.setJobHandlerConfiguration(batch.getId());
+
+        BusinessCalendar businessCalendar = engineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+        timerJob.setDuedate(businessCalendar.resolveDuedate(engineConfiguration.getBatchStatusTimeCycleConfig()));
+        timerJob.setRepeat(engineConfiguration.getBatchStatusTimeCycleConfig());
+
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+}
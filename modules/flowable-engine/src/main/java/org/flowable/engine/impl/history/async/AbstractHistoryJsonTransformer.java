@@ -0,0 +1,133 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.util.Date;
+import java.util.function.Consumer;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.job.service.impl.history.async.AsyncHistoryDateUtil;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+public abstract class AbstractHistoryJsonTransformer implements HistoryJsonTransformer {
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+    public AbstractHistoryJsonTransformer(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        this.processEngineConfiguration = processEngineConfiguration;
+    }
+
+    @Override
+    public void transform(String operation, String id, ObjectNode historicalData, CommandContext commandContext) {
+        if (HistoryJsonConstants.OPERATION_INSERT.equals(operation)) {
+            insert(id, historicalData, commandContext);
+        } else if (HistoryJsonConstants.OPERATION_UPDATE.equals(operation)) {
+            update(id, historicalData, commandContext);
+        } else if (HistoryJsonConstants.OPERATION_DELETE.equals(operation)) {
+            delete(id, commandContext);
+        } else {
+            throw new FlowableException("Unknown operation '" + operation + "' for historic data of type " + getType());
+        }
+    }
+
+    /**
+     * Inserts the historic entity. When the entity already exists, the data is applied to the existing entity.
+     */
+    protected abstract void insert(String id, ObjectNode historicalData, CommandContext commandContext);
+
+    /**
+     * Applies the data to the existing historic entity.
+     * Throws an {@link AsyncHistoryJobNotApplicableException} when the entity doesn't exist (yet).
+     */
+    protected abstract void update(String id, ObjectNode historicalData, CommandContext commandContext);
+
+    /**
+     * Deletes the historic entity, if it exists.
+     */
+    protected abstract void delete(String id, CommandContext commandContext);
+
+    protected AsyncHistoryJobNotApplicableException createNotApplicableException(String id) {
+        return new AsyncHistoryJobNotApplicableException("No historic entity of type " + getType() + " found with id " + id);
+    }
+
+    protected void dispatchEvent(FlowableEngineEventType eventType, Object entity) {
+        FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
+        if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(eventType, entity), processEngineConfiguration.getEngineCfgKey());
+        }
+    }
+
+    // Only the fields present in the historic data are applied, a json null clears the field
+
+    protected void setString(ObjectNode historicalData, String fieldName, Consumer<String> setter) {
+        if (historicalData.has(fieldName)) {
+            setter.accept(getStringValue(historicalData, fieldName));
+        }
+    }
+
+    protected void setDate(ObjectNode historicalData, String fieldName, Consumer<Date> setter) {
+        if (historicalData.has(fieldName)) {
+            setter.accept(getDateValue(historicalData, fieldName));
+        }
+    }
+
+    protected void setInteger(ObjectNode historicalData, String fieldName, Consumer<Integer> setter) {
+        if (historicalData.has(fieldName)) {
+            setter.accept(getIntegerValue(historicalData, fieldName));
+        }
+    }
+
+    protected void setLong(ObjectNode historicalData, String fieldName, Consumer<Long> setter) {
+        if (historicalData.has(fieldName)) {
+            setter.accept(getLongValue(historicalData, fieldName));
+        }
+    }
+
+    protected void setDouble(ObjectNode historicalData, String fieldName, Consumer<Double> setter) {
+        if (historicalData.has(fieldName)) {
+            setter.accept(getDoubleValue(historicalData, fieldName));
+        }
+    }
+
+    protected String getStringValue(ObjectNode historicalData, String fieldName) {
+        JsonNode value = historicalData.get(fieldName);
+        return value != null && !value.isNull() ? value.asString() : null;
+    }
+
+    protected Date getDateValue(ObjectNode historicalData, String fieldName) {
+        return AsyncHistoryDateUtil.parseDate(getStringValue(historicalData, fieldName));
+    }
+
+    protected Integer getIntegerValue(ObjectNode historicalData, String fieldName) {
+        JsonNode value = historicalData.get(fieldName);
+        return value != null && !value.isNull() ? value.asInt() : null;
+    }
+
+    protected Long getLongValue(ObjectNode historicalData, String fieldName) {
+        JsonNode value = historicalData.get(fieldName);
+        return value != null && !value.isNull() ? value.asLong() : null;
+    }
+
+    protected Double getDoubleValue(ObjectNode historicalData, String fieldName) {
+        JsonNode value = historicalData.get(fieldName);
+        return value != null && !value.isNull() ? value.asDouble() : null;
+    }
+
+}
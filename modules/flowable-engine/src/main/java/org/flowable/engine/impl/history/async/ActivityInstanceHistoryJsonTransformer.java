@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntityManager;
+
+import tools.jackson.databind.node.ObjectNode;
+
+public class ActivityInstanceHistoryJsonTransformer extends AbstractHistoryJsonTransformer {
+
+    public ActivityInstanceHistoryJsonTransformer(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
+    @Override
+    public String getType() {
+        return HistoryJsonConstants.TYPE_ACTIVITY_INSTANCE;
+    }
+
+    @Override
+    protected void insert(String id, ObjectNode historicalData, CommandContext commandContext) {
+        HistoricActivityInstanceEntityManager historicActivityInstanceEntityManager = processEngineConfiguration.getHistoricActivityInstanceEntityManager();
+        HistoricActivityInstanceEntity historicActivityInstance = historicActivityInstanceEntityManager.findById(id);
+        if (historicActivityInstance != null) {
+            applyHistoricalData(historicActivityInstance, historicalData);
+            return;
+        }
+
+        historicActivityInstance = historicActivityInstanceEntityManager.create();
+        historicActivityInstance.setId(id);
+        applyHistoricalData(historicActivityInstance, historicalData);
+        historicActivityInstanceEntityManager.insert(historicActivityInstance);
+
+        dispatchEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_CREATED, historicActivityInstance);
+        if (historicActivityInstance.getEndTime() != null) {
+            dispatchEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance);
+        }
+    }
+
+    @Override
+    protected void update(String id, ObjectNode historicalData, CommandContext commandContext) {
+        HistoricActivityInstanceEntity historicActivityInstance = processEngineConfiguration.getHistoricActivityInstanceEntityManager().findById(id);
+        if (historicActivityInstance == null) {
+            throw createNotApplicableException(id);
+        }
+
+        boolean ended = historicActivityInstance.getEndTime() != null;
+        applyHistoricalData(historicActivityInstance, historicalData);
+        if (!ended && historicActivityInstance.getEndTime() != null) {
+            dispatchEvent(FlowableEngineEventType.HISTORIC_ACTIVITY_INSTANCE_ENDED, historicActivityInstance);
+        }
+    }
+
+    @Override
+    protected void delete(String id, CommandContext commandContext) {
+        HistoricActivityInstanceEntityManager historicActivityInstanceEntityManager = processEngineConfiguration.getHistoricActivityInstanceEntityManager();
+        HistoricActivityInstanceEntity historicActivityInstance = historicActivityInstanceEntityManager.findById(id);
+        if (historicActivityInstance != null) {
+            historicActivityInstanceEntityManager.delete(historicActivityInstance);
+        }
+    }
+
+    protected void applyHistoricalData(HistoricActivityInstanceEntity historicActivityInstance, ObjectNode historicalData) {
+        setString(historicalData, HistoryJsonConstants.PROCESS_DEFINITION_ID, historicActivityInstance::setProcessDefinitionId);
+        setString(historicalData, HistoryJsonConstants.PROCESS_INSTANCE_ID, historicActivityInstance::setProcessInstanceId);
+        setString(historicalData, HistoryJsonConstants.EXECUTION_ID, historicActivityInstance::setExecutionId);
+        setString(historicalData, HistoryJsonConstants.ACTIVITY_ID, historicActivityInstance::setActivityId);
+        setString(historicalData, HistoryJsonConstants.TASK_ID, historicActivityInstance::setTaskId);
+        setString(historicalData, HistoryJsonConstants.CALLED_PROCESS_INSTANCE_ID, historicActivityInstance::setCalledProcessInstanceId);
+        setString(historicalData, HistoryJsonConstants.ACTIVITY_NAME, historicActivityInstance::setActivityName);
+        setString(historicalData, HistoryJsonConstants.ACTIVITY_TYPE, historicActivityInstance::setActivityType);
+        setString(historicalData, HistoryJsonConstants.ASSIGNEE, historicActivityInstance::setAssignee);
+        setString(historicalData, HistoryJsonConstants.COMPLETED_BY, historicActivityInstance::setCompletedBy);
+        setDate(historicalData, HistoryJsonConstants.START_TIME, historicActivityInstance::setStartTime);
+        setDate(historicalData, HistoryJsonConstants.END_TIME, historicActivityInstance::setEndTime);
+        setInteger(historicalData, HistoryJsonConstants.TRANSACTION_ORDER, historicActivityInstance::setTransactionOrder);
+        setLong(historicalData, HistoryJsonConstants.DURATION, historicActivityInstance::setDurationInMillis);
+        setString(historicalData, HistoryJsonConstants.DELETE_REASON, historicActivityInstance::setDeleteReason);
+        setString(historicalData, HistoryJsonConstants.TENANT_ID, historicActivityInstance::setTenantId);
+    }
+
+}
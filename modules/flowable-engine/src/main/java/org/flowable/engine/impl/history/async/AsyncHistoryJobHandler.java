@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJobDeferredException;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Applies the historic data collected by the {@link AsyncHistoryManager} in one transaction.
+ * Each entry is handed to the {@link HistoryJsonTransformer} for its type.
+ *
+ * History jobs are executed in parallel, but the history jobs of a scope (e.g. a process instance) are applied in the order of their sequence
+ * (e.g. a delete is never applied before the insert of the same historic entity): a history job is deferred as long as there are history jobs
+ * with a lower sequence for the same scope. History jobs without a scope or sequence (e.g. created before the sequence was introduced) are never deferred.
+ */
+public class AsyncHistoryJobHandler implements HistoryJobHandler {
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected Map<String, HistoryJsonTransformer> historyJsonTransformers = new HashMap<>();
+
+    public AsyncHistoryJobHandler(ProcessEngineConfigurationImpl processEngineConfiguration, List<HistoryJsonTransformer> historyJsonTransformers) {
+        this.processEngineConfiguration = processEngineConfiguration;
+        for (HistoryJsonTransformer historyJsonTransformer : historyJsonTransformers) {
+            this.historyJsonTransformers.put(historyJsonTransformer.getType(), historyJsonTransformer);
+        }
+    }
+
+    @Override
+    public String getType() {
+        return HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY;
+    }
+
+    @Override
+    public void execute(HistoryJobEntity job, String configuration, CommandContext commandContext, JobServiceConfiguration jobServiceConfiguration) {
+        if (jobServiceConfiguration.getHistoryJobEntityManager().findOlderHistoryJobCount(job) > 0) {
+            throw new AsyncHistoryJobDeferredException("Older history jobs have to be executed before " + job);
+        }
+
+        String historyJson = job.getAdvancedJobHandlerConfiguration();
+        if (historyJson == null) {
+            throw new FlowableException("No historic data found for " + job);
+        }
+
+        JsonNode historicEntries = processEngineConfiguration.getObjectMapper().readTree(historyJson);
+        for (JsonNode historicEntry : historicEntries) {
+            String type = historicEntry.path(HistoryJsonConstants.TYPE).asString();
+            HistoryJsonTransformer historyJsonTransformer = historyJsonTransformers.get(type);
+            if (historyJsonTransformer == null) {
+                throw new FlowableException("No history json transformer found for type " + type + " in " + job);
+            }
+
+            historyJsonTransformer.transform(historicEntry.path(HistoryJsonConstants.OPERATION).asString(),
+                    historicEntry.path(HistoryJsonConstants.ID).asString(),
+                    (ObjectNode) historicEntry.get(HistoryJsonConstants.DATA), commandContext);
+        }
+    }
+
+    public Map<String, HistoryJsonTransformer> getHistoryJsonTransformers() {
+        return historyJsonTransformers;
+    }
+
+}
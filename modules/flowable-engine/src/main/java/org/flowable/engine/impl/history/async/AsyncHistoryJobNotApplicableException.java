@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * Thrown when historic data can't be applied yet, typically because the historic entity it updates
+ * is created by another history job that hasn't been executed yet.
+ * The history job will be retried later.
+ */
+public class AsyncHistoryJobNotApplicableException extends FlowableException {
+
+    private static final long serialVersionUID = 1L;
+
+    public AsyncHistoryJobNotApplicableException(String message) {
+        super(message);
+    }
+
+}
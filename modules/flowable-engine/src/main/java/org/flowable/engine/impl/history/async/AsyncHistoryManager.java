@@ -0,0 +1,461 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.putIfNotNull;
+
+import java.util.Date;
+import java.util.Objects;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.identity.Authentication;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.DefaultHistoryManager;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
+import org.flowable.engine.runtime.ActivityInstance;
+import org.flowable.identitylink.api.IdentityLinkType;
+import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
+import org.flowable.job.service.impl.history.async.AsyncHistoryDateUtil;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * {@link org.flowable.engine.impl.history.HistoryManager} that doesn't write the historic process instances, activity instances,
+ * task instances, variable instances and identity links in the runtime transaction.
+ * Instead, the changes are collected in the {@link AsyncHistorySession} and stored as a history job,
+ * which is applied later by the async history executor (see {@link AsyncHistoryJobHandler}).
+ *
+ * All other history (e.g. historic details, comments, entity links, task log entries and the deletion of history) is still written directly.
+ */
+public class AsyncHistoryManager extends DefaultHistoryManager {
+
+    public AsyncHistoryManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
+    // Process related history
+
+    @Override
+    public void recordProcessInstanceStart(ExecutionEntity processInstance) {
+        if (getHistoryConfigurationSettings().isHistoryEnabledForProcessInstance(processInstance)) {
+            HistoricProcessInstanceEntity historicProcessInstance = getHistoricProcessInstanceEntityManager().create(processInstance);
+
+            ObjectNode data = createHistoricData();
+            putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, historicProcessInstance.getProcessInstanceId());
+            putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_ID, historicProcessInstance.getProcessDefinitionId());
+            putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_KEY, historicProcessInstance.getProcessDefinitionKey());
+            putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_NAME, historicProcessInstance.getProcessDefinitionName());
+            putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_VERSION, historicProcessInstance.getProcessDefinitionVersion());
+            putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_CATEGORY, historicProcessInstance.getProcessDefinitionCategory());
+            putIfNotNull(data, HistoryJsonConstants.DEPLOYMENT_ID, historicProcessInstance.getDeploymentId());
+            putIfNotNull(data, HistoryJsonConstants.BUSINESS_KEY, historicProcessInstance.getBusinessKey());
+            putIfNotNull(data, HistoryJsonConstants.BUSINESS_STATUS, historicProcessInstance.getBusinessStatus());
+            putIfNotNull(data, HistoryJsonConstants.NAME, historicProcessInstance.getName());
+            putIfNotNull(data, HistoryJsonConstants.START_TIME, historicProcessInstance.getStartTime());
+            putIfNotNull(data, HistoryJsonConstants.START_USER_ID, historicProcessInstance.getStartUserId());
+            putIfNotNull(data, HistoryJsonConstants.START_ACTIVITY_ID, historicProcessInstance.getStartActivityId());
+            putIfNotNull(data, HistoryJsonConstants.SUPER_PROCESS_INSTANCE_ID, historicProcessInstance.getSuperProcessInstanceId());
+            putIfNotNull(data, HistoryJsonConstants.CALLBACK_ID, historicProcessInstance.getCallbackId());
+            putIfNotNull(data, HistoryJsonConstants.CALLBACK_TYPE, historicProcessInstance.getCallbackType());
+            putIfNotNull(data, HistoryJsonConstants.REFERENCE_ID, historicProcessInstance.getReferenceId());
+            putIfNotNull(data, HistoryJsonConstants.REFERENCE_TYPE, historicProcessInstance.getReferenceType());
+            putIfNotNull(data, HistoryJsonConstants.PROPAGATED_STAGE_INSTANCE_ID, historicProcessInstance.getPropagatedStageInstanceId());
+            putIfNotNull(data, HistoryJsonConstants.STATE, historicProcessInstance.getState());
+            putIfNotNull(data, HistoryJsonConstants.TENANT_ID, historicProcessInstance.getTenantId());
+
+            addHistoricData(historicProcessInstance.getId(), HistoryJsonConstants.TYPE_PROCESS_INSTANCE, HistoryJsonConstants.OPERATION_INSERT, historicProcessInstance.getId(), data);
+        }
+    }
+
+    @Override
+    public void recordProcessInstanceEnd(ExecutionEntity processInstance, String state, String deleteReason, String activityId, Date endTime) {
+        if (getHistoryConfigurationSettings().isHistoryEnabledForProcessInstance(processInstance)) {
+            ObjectNode data = createHistoricData();
+            data.put(HistoryJsonConstants.END_TIME, AsyncHistoryDateUtil.formatDate(endTime != null ? endTime : getClock().getCurrentTime()));
+            if (endTime != null && processInstance.getStartTime() != null) {
+                data.put(HistoryJsonConstants.DURATION, endTime.getTime() - processInstance.getStartTime().getTime());
+            }
+            data.put(HistoryJsonConstants.DELETE_REASON, deleteReason);
+            data.put(HistoryJsonConstants.END_ACTIVITY_ID, activityId);
+            data.put(HistoryJsonConstants.STATE, state);
+            data.put(HistoryJsonConstants.END_USER_ID, Authentication.getAuthenticatedUserId());
+
+            addHistoricData(processInstance.getId(), HistoryJsonConstants.TYPE_PROCESS_INSTANCE, HistoryJsonConstants.OPERATION_UPDATE, processInstance.getId(), data);
+        }
+    }
+
+    @Override
+    public void recordProcessInstanceNameChange(ExecutionEntity processInstanceExecution, String newName) {
+        if (getHistoryConfigurationSettings().isHistoryEnabledForProcessInstance(processInstanceExecution)) {
+            ObjectNode data = createHistoricData();
+            data.put(HistoryJsonConstants.NAME, newName);
+            addHistoricData(processInstanceExecution.getId(), HistoryJsonConstants.TYPE_PROCESS_INSTANCE, HistoryJsonConstants.OPERATION_UPDATE, processInstanceExecution.getId(), data);
+        }
+    }
+
+    @Override
+    public void recordProcessDefinitionChange(String processInstanceId, String processDefinitionId) {
+        if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processDefinitionId)) {
+            ObjectNode data = createHistoricData();
+            data.put(HistoryJsonConstants.PROCESS_DEFINITION_ID, processDefinitionId);
+            addHistoricData(processInstanceId, HistoryJsonConstants.TYPE_PROCESS_INSTANCE, HistoryJsonConstants.OPERATION_UPDATE, processInstanceId, data);
+        }
+    }
+
+    @Override
+    public void updateProcessBusinessKeyInHistory(ExecutionEntity processInstance) {
+        if (processInstance != null && isHistoryEnabled(processInstance.getProcessDefinitionId())) {
+            ObjectNode data = createHistoricData();
+            data.put(HistoryJsonConstants.BUSINESS_KEY, processInstance.getProcessInstanceBusinessKey());
+            addHistoricData(processInstance.getId(), HistoryJsonConstants.TYPE_PROCESS_INSTANCE, HistoryJsonConstants.OPERATION_UPDATE, processInstance.getId(), data);
+        }
+    }
+
+    @Override
+    public void updateProcessBusinessStatusInHistory(ExecutionEntity processInstance) {
+        if (processInstance != null && isHistoryEnabled(processInstance.getProcessDefinitionId())) {
+            ObjectNode data = createHistoricData();
+            data.put(HistoryJsonConstants.BUSINESS_STATUS, processInstance.getProcessInstanceBusinessStatus());
+            addHistoricData(processInstance.getId(), HistoryJsonConstants.TYPE_PROCESS_INSTANCE, HistoryJsonConstants.OPERATION_UPDATE, processInstance.getId(), data);
+        }
+    }
+
+    @Override
+    public void updateProcessDueDateInHistory(ExecutionEntity processInstance) {
+        if (processInstance != null && isHistoryEnabled(processInstance.getProcessDefinitionId())) {
+            ObjectNode data = createHistoricData();
+            data.put(HistoryJsonConstants.DUE_DATE, AsyncHistoryDateUtil.formatDate(processInstance.getDueDate()));
+            addHistoricData(processInstance.getId(), HistoryJsonConstants.TYPE_PROCESS_INSTANCE, HistoryJsonConstants.OPERATION_UPDATE, processInstance.getId(), data);
+        }
+    }
+
+    @Override
+    public void updateProcessClaimTimeInHistory(ExecutionEntity processInstance) {
+        if (processInstance != null && isHistoryEnabled(processInstance.getProcessDefinitionId())) {
+            ObjectNode data = createHistoricData();
+            data.put(HistoryJsonConstants.CLAIM_TIME, AsyncHistoryDateUtil.formatDate(processInstance.getClaimTime()));
+            data.put(HistoryJsonConstants.CLAIMED_BY, processInstance.getClaimedBy());
+            addHistoricData(processInstance.getId(), HistoryJsonConstants.TYPE_PROCESS_INSTANCE, HistoryJsonConstants.OPERATION_UPDATE, processInstance.getId(), data);
+        }
+    }
+
+    // Activity related history
+
+    @Override
+    public void recordActivityStart(ActivityInstance activityInstance) {
+        if (activityInstance != null && getHistoryConfigurationSettings().isHistoryEnabledForActivity(activityInstance)) {
+            if (activityInstance.getActivityId() != null) {
+                addHistoricActivityInstanceInsert(activityInstance);
+            }
+        }
+    }
+
+    @Override
+    public void createHistoricActivityInstance(ActivityInstance activityInstance) {
+        if (getHistoryConfigurationSettings().isHistoryEnabledForActivity(activityInstance)) {
+            addHistoricActivityInstanceInsert(activityInstance);
+        }
+    }
+
+    protected void addHistoricActivityInstanceInsert(ActivityInstance activityInstance) {
+        HistoricActivityInstanceEntity historicActivityInstance = getHistoricActivityInstanceEntityManager().create(activityInstance);
+
+        ObjectNode data = createHistoricData();
+        putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_ID, historicActivityInstance.getProcessDefinitionId());
+        putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, historicActivityInstance.getProcessInstanceId());
+        putIfNotNull(data, HistoryJsonConstants.EXECUTION_ID, historicActivityInstance.getExecutionId());
+        putIfNotNull(data, HistoryJsonConstants.ACTIVITY_ID, historicActivityInstance.getActivityId());
+        putIfNotNull(data, HistoryJsonConstants.TASK_ID, historicActivityInstance.getTaskId());
+        putIfNotNull(data, HistoryJsonConstants.CALLED_PROCESS_INSTANCE_ID, historicActivityInstance.getCalledProcessInstanceId());
+        putIfNotNull(data, HistoryJsonConstants.ACTIVITY_NAME, historicActivityInstance.getActivityName());
+        putIfNotNull(data, HistoryJsonConstants.ACTIVITY_TYPE, historicActivityInstance.getActivityType());
+        putIfNotNull(data, HistoryJsonConstants.ASSIGNEE, historicActivityInstance.getAssignee());
+        putIfNotNull(data, HistoryJsonConstants.COMPLETED_BY, historicActivityInstance.getCompletedBy());
+        putIfNotNull(data, HistoryJsonConstants.START_TIME, historicActivityInstance.getStartTime());
+        putIfNotNull(data, HistoryJsonConstants.END_TIME, historicActivityInstance.getEndTime());
+        putIfNotNull(data, HistoryJsonConstants.TRANSACTION_ORDER, historicActivityInstance.getTransactionOrder());
+        putIfNotNull(data, HistoryJsonConstants.DURATION, historicActivityInstance.getDurationInMillis());
+        putIfNotNull(data, HistoryJsonConstants.DELETE_REASON, historicActivityInstance.getDeleteReason());
+        putIfNotNull(data, HistoryJsonConstants.TENANT_ID, historicActivityInstance.getTenantId());
+
+        addHistoricData(historicActivityInstance.getProcessInstanceId(), HistoryJsonConstants.TYPE_ACTIVITY_INSTANCE, HistoryJsonConstants.OPERATION_INSERT, historicActivityInstance.getId(), data);
+    }
+
+    @Override
+    public void recordActivityEnd(ActivityInstance activityInstance) {
+        if (activityInstance != null && getHistoryConfigurationSettings().isHistoryEnabledForActivity(activityInstance)) {
+            ObjectNode data = createHistoricData();
+            data.put(HistoryJsonConstants.DELETE_REASON, activityInstance.getDeleteReason());
+            data.put(HistoryJsonConstants.END_TIME, AsyncHistoryDateUtil.formatDate(activityInstance.getEndTime()));
+            data.put(HistoryJsonConstants.DURATION, activityInstance.getDurationInMillis());
+            addHistoricData(activityInstance.getProcessInstanceId(), HistoryJsonConstants.TYPE_ACTIVITY_INSTANCE, HistoryJsonConstants.OPERATION_UPDATE, activityInstance.getId(), data);
+        }
+    }
+
+    @Override
+    public void updateHistoricActivityInstance(ActivityInstance activityInstance) {
+        if (getHistoryConfigurationSettings().isHistoryEnabledForActivity(activityInstance) && activityInstance.getExecutionId() != null) {
+            ObjectNode data = createHistoricData();
+            data.put(HistoryJsonConstants.TASK_ID, activityInstance.getTaskId());
+            data.put(HistoryJsonConstants.ASSIGNEE, activityInstance.getAssignee());
+            data.put(HistoryJsonConstants.COMPLETED_BY, activityInstance.getCompletedBy());
+            data.put(HistoryJsonConstants.CALLED_PROCESS_INSTANCE_ID, activityInstance.getCalledProcessInstanceId());
+            addHistoricData(activityInstance.getProcessInstanceId(), HistoryJsonConstants.TYPE_ACTIVITY_INSTANCE, HistoryJsonConstants.OPERATION_UPDATE, activityInstance.getId(), data);
+        }
+    }
+
+    // Task related history
+
+    @Override
+    public void recordTaskCreated(TaskEntity task, ExecutionEntity execution) {
+        if (getHistoryConfigurationSettings().isHistoryEnabledForUserTask(execution, task)) {
+            if (execution != null) {
+                task.setExecutionId(execution.getId());
+                task.setProcessInstanceId(execution.getProcessInstanceId());
+                task.setProcessDefinitionId(execution.getProcessDefinitionId());
+
+                if (execution.getTenantId() != null) {
+                    task.setTenantId(execution.getTenantId());
+                }
+            }
+
+            HistoricTaskInstanceEntity historicTaskInstance = processEngineConfiguration.getTaskServiceConfiguration().getHistoricTaskService().createHistoricTask(task);
+
+            ObjectNode data = createHistoricData();
+            putIfNotNull(data, HistoryJsonConstants.TASK_DEFINITION_ID, historicTaskInstance.getTaskDefinitionId());
+            putIfNotNull(data, HistoryJsonConstants.PROCESS_DEFINITION_ID, historicTaskInstance.getProcessDefinitionId());
+            putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, historicTaskInstance.getProcessInstanceId());
+            putIfNotNull(data, HistoryJsonConstants.EXECUTION_ID, historicTaskInstance.getExecutionId());
+            putIfNotNull(data, HistoryJsonConstants.SCOPE_ID, historicTaskInstance.getScopeId());
+            putIfNotNull(data, HistoryJsonConstants.SUB_SCOPE_ID, historicTaskInstance.getSubScopeId());
+            putIfNotNull(data, HistoryJsonConstants.SCOPE_TYPE, historicTaskInstance.getScopeType());
+            putIfNotNull(data, HistoryJsonConstants.SCOPE_DEFINITION_ID, historicTaskInstance.getScopeDefinitionId());
+            putIfNotNull(data, HistoryJsonConstants.PROPAGATED_STAGE_INSTANCE_ID, historicTaskInstance.getPropagatedStageInstanceId());
+            putIfNotNull(data, HistoryJsonConstants.STATE, historicTaskInstance.getState());
+            putIfNotNull(data, HistoryJsonConstants.NAME, historicTaskInstance.getName());
+            putIfNotNull(data, HistoryJsonConstants.PARENT_TASK_ID, historicTaskInstance.getParentTaskId());
+            putIfNotNull(data, HistoryJsonConstants.DESCRIPTION, historicTaskInstance.getDescription());
+            putIfNotNull(data, HistoryJsonConstants.OWNER, historicTaskInstance.getOwner());
+            putIfNotNull(data, HistoryJsonConstants.ASSIGNEE, historicTaskInstance.getAssignee());
+            putIfNotNull(data, HistoryJsonConstants.CREATE_TIME, historicTaskInstance.getCreateTime());
+            putIfNotNull(data, HistoryJsonConstants.IN_PROGRESS_START_TIME, historicTaskInstance.getInProgressStartTime());
+            putIfNotNull(data, HistoryJsonConstants.IN_PROGRESS_STARTED_BY, historicTaskInstance.getInProgressStartedBy());
+            putIfNotNull(data, HistoryJsonConstants.CLAIM_TIME, historicTaskInstance.getClaimTime());
+            putIfNotNull(data, HistoryJsonConstants.CLAIMED_BY, historicTaskInstance.getClaimedBy());
+            putIfNotNull(data, HistoryJsonConstants.SUSPENDED_TIME, historicTaskInstance.getSuspendedTime());
+            putIfNotNull(data, HistoryJsonConstants.SUSPENDED_BY, historicTaskInstance.getSuspendedBy());
+            putIfNotNull(data, HistoryJsonConstants.TASK_DEFINITION_KEY, historicTaskInstance.getTaskDefinitionKey());
+            putIfNotNull(data, HistoryJsonConstants.FORM_KEY, historicTaskInstance.getFormKey());
+            data.put(HistoryJsonConstants.PRIORITY, historicTaskInstance.getPriority());
+            putIfNotNull(data, HistoryJsonConstants.IN_PROGRESS_DUE_DATE, historicTaskInstance.getInProgressStartDueDate());
+            putIfNotNull(data, HistoryJsonConstants.DUE_DATE, historicTaskInstance.getDueDate());
+            putIfNotNull(data, HistoryJsonConstants.CATEGORY, historicTaskInstance.getCategory());
+            putIfNotNull(data, HistoryJsonConstants.TENANT_ID, historicTaskInstance.getTenantId());
+            putIfNotNull(data, HistoryJsonConstants.LAST_UPDATE_TIME, getClock().getCurrentTime());
+
+            addHistoricData(getScopeId(historicTaskInstance.getProcessInstanceId(), historicTaskInstance.getId()), HistoryJsonConstants.TYPE_TASK_INSTANCE, HistoryJsonConstants.OPERATION_INSERT, historicTaskInstance.getId(), data);
+        }
+    }
+
+    @Override
+    public void recordTaskEnd(TaskEntity task, ExecutionEntity execution, String userId, String deleteReason, Date endTime) {
+        if (getHistoryConfigurationSettings().isHistoryEnabledForUserTask(execution, task)) {
+            ObjectNode data = createHistoricData();
+            data.put(HistoryJsonConstants.END_TIME, AsyncHistoryDateUtil.formatDate(endTime != null ? endTime : getClock().getCurrentTime()));
+            if (endTime != null && task.getCreateTime() != null) {
+                data.put(HistoryJsonConstants.DURATION, endTime.getTime() - task.getCreateTime().getTime());
+            }
+            data.put(HistoryJsonConstants.DELETE_REASON, deleteReason);
+            data.put(HistoryJsonConstants.STATE, Task.COMPLETED);
+            data.put(HistoryJsonConstants.COMPLETED_BY, userId);
+            data.put(HistoryJsonConstants.LAST_UPDATE_TIME, AsyncHistoryDateUtil.formatDate(endTime));
+
+            addHistoricData(getScopeId(task.getProcessInstanceId(), task.getId()), HistoryJsonConstants.TYPE_TASK_INSTANCE, HistoryJsonConstants.OPERATION_UPDATE, task.getId(), data);
+        }
+    }
+
+    @Override
+    public void recordTaskInfoChange(TaskEntity taskEntity, String activityInstanceId, Date changeTime) {
+        // The assignee of the historic activity instance is updated through updateHistoricActivityInstance
+        if (getHistoryConfigurationSettings().isHistoryEnabledForUserTask(taskEntity)) {
+            ObjectNode data = createHistoricData();
+            data.put(HistoryJsonConstants.STATE, taskEntity.getState());
+            data.put(HistoryJsonConstants.NAME, taskEntity.getName());
+            data.put(HistoryJsonConstants.DESCRIPTION, taskEntity.getDescription());
+            data.put(HistoryJsonConstants.IN_PROGRESS_DUE_DATE, AsyncHistoryDateUtil.formatDate(taskEntity.getInProgressStartDueDate()));
+            data.put(HistoryJsonConstants.DUE_DATE, AsyncHistoryDateUtil.formatDate(taskEntity.getDueDate()));
+            data.put(HistoryJsonConstants.PRIORITY, taskEntity.getPriority());
+            data.put(HistoryJsonConstants.CATEGORY, taskEntity.getCategory());
+            data.put(HistoryJsonConstants.FORM_KEY, taskEntity.getFormKey());
+            data.put(HistoryJsonConstants.PARENT_TASK_ID, taskEntity.getParentTaskId());
+            data.put(HistoryJsonConstants.TASK_DEFINITION_KEY, taskEntity.getTaskDefinitionKey());
+            data.put(HistoryJsonConstants.PROCESS_DEFINITION_ID, taskEntity.getProcessDefinitionId());
+            data.put(HistoryJsonConstants.IN_PROGRESS_START_TIME, AsyncHistoryDateUtil.formatDate(taskEntity.getInProgressStartTime()));
+            data.put(HistoryJsonConstants.IN_PROGRESS_STARTED_BY, taskEntity.getInProgressStartedBy());
+            data.put(HistoryJsonConstants.CLAIM_TIME, AsyncHistoryDateUtil.formatDate(taskEntity.getClaimTime()));
+            data.put(HistoryJsonConstants.CLAIMED_BY, taskEntity.getClaimedBy());
+            data.put(HistoryJsonConstants.SUSPENDED_TIME, AsyncHistoryDateUtil.formatDate(taskEntity.getSuspendedTime()));
+            data.put(HistoryJsonConstants.SUSPENDED_BY, taskEntity.getSuspendedBy());
+            data.put(HistoryJsonConstants.LAST_UPDATE_TIME, AsyncHistoryDateUtil.formatDate(changeTime));
+            data.put(HistoryJsonConstants.ASSIGNEE, taskEntity.getAssignee());
+            data.put(HistoryJsonConstants.OWNER, taskEntity.getOwner());
+
+            ObjectNode pendingData = getAsyncHistorySession().getHistoricData(HistoryJsonConstants.TYPE_TASK_INSTANCE, taskEntity.getId());
+            if (pendingData != null) {
+                // The historic assignee and owner are known from the earlier changes in this transaction
+                if (!Objects.equals(getStringValue(pendingData, HistoryJsonConstants.ASSIGNEE), taskEntity.getAssignee())) {
+                    addHistoricTaskIdentityLink(taskEntity, IdentityLinkType.ASSIGNEE, taskEntity.getAssignee());
+                }
+                if (!Objects.equals(getStringValue(pendingData, HistoryJsonConstants.OWNER), taskEntity.getOwner())) {
+                    addHistoricTaskIdentityLink(taskEntity, IdentityLinkType.OWNER, taskEntity.getOwner());
+                }
+
+            } else {
+                // The stored assignee and owner are compared when the history job is applied
+                data.put(HistoryJsonConstants.ASSIGNEE_CHANGE_CHECK, taskEntity.getAssignee());
+                data.put(HistoryJsonConstants.OWNER_CHANGE_CHECK, taskEntity.getOwner());
+            }
+
+            addHistoricData(getScopeId(taskEntity.getProcessInstanceId(), taskEntity.getId()), HistoryJsonConstants.TYPE_TASK_INSTANCE, HistoryJsonConstants.OPERATION_UPDATE, taskEntity.getId(), data);
+        }
+    }
+
+    protected void addHistoricTaskIdentityLink(TaskEntity task, String type, String userId) {
+        ObjectNode data = createHistoricData();
+        data.put(HistoryJsonConstants.TASK_ID, task.getId());
+        data.put(HistoryJsonConstants.IDENTITY_LINK_TYPE, type);
+        putIfNotNull(data, HistoryJsonConstants.USER_ID, userId);
+        putIfNotNull(data, HistoryJsonConstants.CREATE_TIME, getClock().getCurrentTime());
+
+        addHistoricData(getScopeId(task.getProcessInstanceId(), task.getId()), HistoryJsonConstants.TYPE_IDENTITY_LINK, HistoryJsonConstants.OPERATION_INSERT,
+                processEngineConfiguration.getIdGenerator().getNextId(), data);
+    }
+
+    // Variables related history
+
+    @Override
+    public void recordVariableCreate(VariableInstanceEntity variable, Date createTime) {
+        if (getHistoryConfigurationSettings().isHistoryEnabledForVariableInstance(variable)) {
+            ObjectNode data = createHistoricVariableData(variable);
+            data.put(HistoryJsonConstants.REVISION, variable.getRevision());
+            putIfNotNull(data, HistoryJsonConstants.CREATE_TIME, createTime);
+            putIfNotNull(data, HistoryJsonConstants.LAST_UPDATE_TIME, createTime);
+
+            addHistoricData(getScopeId(variable.getProcessInstanceId(), variable.getTaskId()), HistoryJsonConstants.TYPE_VARIABLE_INSTANCE, HistoryJsonConstants.OPERATION_INSERT, variable.getId(), data);
+        }
+    }
+
+    @Override
+    public void recordVariableUpdate(VariableInstanceEntity variableInstanceEntity, Date updateTime) {
+        if (getHistoryConfigurationSettings().isHistoryEnabledForVariableInstance(variableInstanceEntity)) {
+            ObjectNode data = createHistoricVariableData(variableInstanceEntity);
+            data.put(HistoryJsonConstants.LAST_UPDATE_TIME, AsyncHistoryDateUtil.formatDate(updateTime));
+
+            addHistoricData(getScopeId(variableInstanceEntity.getProcessInstanceId(), variableInstanceEntity.getTaskId()), HistoryJsonConstants.TYPE_VARIABLE_INSTANCE, HistoryJsonConstants.OPERATION_UPDATE, variableInstanceEntity.getId(), data);
+        }
+    }
+
+    @Override
+    public void recordVariableRemoved(VariableInstanceEntity variableInstanceEntity) {
+        if (getHistoryConfigurationSettings().isHistoryEnabledForVariableInstance(variableInstanceEntity)) {
+            addHistoricData(getScopeId(variableInstanceEntity.getProcessInstanceId(), variableInstanceEntity.getTaskId()), HistoryJsonConstants.TYPE_VARIABLE_INSTANCE, HistoryJsonConstants.OPERATION_DELETE,
+                    variableInstanceEntity.getId(), createHistoricData());
+        }
+    }
+
+    protected ObjectNode createHistoricVariableData(VariableInstanceEntity variable) {
+        ObjectNode data = createHistoricData();
+        data.put(HistoryJsonConstants.NAME, variable.getName());
+        data.put(HistoryJsonConstants.VARIABLE_TYPE, variable.getType().getTypeName());
+        data.put(HistoryJsonConstants.PROCESS_INSTANCE_ID, variable.getProcessInstanceId());
+        data.put(HistoryJsonConstants.EXECUTION_ID, variable.getExecutionId());
+        data.put(HistoryJsonConstants.TASK_ID, variable.getTaskId());
+        data.put(HistoryJsonConstants.SCOPE_ID, variable.getScopeId());
+        data.put(HistoryJsonConstants.SUB_SCOPE_ID, variable.getSubScopeId());
+        data.put(HistoryJsonConstants.SCOPE_TYPE, variable.getScopeType());
+        data.put(HistoryJsonConstants.META_INFO, variable.getMetaInfo());
+        data.put(HistoryJsonConstants.TEXT_VALUE, variable.getTextValue());
+        data.put(HistoryJsonConstants.TEXT_VALUE2, variable.getTextValue2());
+        data.put(HistoryJsonConstants.DOUBLE_VALUE, variable.getDoubleValue());
+        data.put(HistoryJsonConstants.LONG_VALUE, variable.getLongValue());
+        if (variable.getByteArrayRef() != null) {
+            data.put(HistoryJsonConstants.BYTES, AsyncHistoryJsonUtil.convertToBase64(variable));
+        }
+        return data;
+    }
+
+    // Identity link related history
+
+    @Override
+    public void recordIdentityLinkCreated(ExecutionEntity processInstance, IdentityLinkEntity identityLink) {
+        // It makes no sense storing historic counterpart for an identity link that is related
+        // to a process definition only as this is never kept in history
+        if (getHistoryConfigurationSettings().isHistoryEnabledForIdentityLink(identityLink)
+                && (identityLink.getProcessInstanceId() != null || identityLink.getTaskId() != null)) {
+            ObjectNode data = createHistoricData();
+            putIfNotNull(data, HistoryJsonConstants.GROUP_ID, identityLink.getGroupId());
+            putIfNotNull(data, HistoryJsonConstants.PROCESS_INSTANCE_ID, identityLink.getProcessInstanceId());
+            putIfNotNull(data, HistoryJsonConstants.TASK_ID, identityLink.getTaskId());
+            putIfNotNull(data, HistoryJsonConstants.IDENTITY_LINK_TYPE, identityLink.getType());
+            putIfNotNull(data, HistoryJsonConstants.USER_ID, identityLink.getUserId());
+            putIfNotNull(data, HistoryJsonConstants.CREATE_TIME, getClock().getCurrentTime());
+
+            addHistoricData(processInstance != null ? processInstance.getId() : getScopeId(identityLink.getProcessInstanceId(), identityLink.getTaskId()),
+                    HistoryJsonConstants.TYPE_IDENTITY_LINK,
+                    HistoryJsonConstants.OPERATION_INSERT, identityLink.getId(), data);
+        }
+    }
+
+    @Override
+    public void recordIdentityLinkDeleted(IdentityLinkEntity identityLink) {
+        if (getHistoryConfigurationSettings().isHistoryEnabledForIdentityLink(identityLink)) {
+            addHistoricData(getScopeId(identityLink.getProcessInstanceId(), identityLink.getTaskId()), HistoryJsonConstants.TYPE_IDENTITY_LINK, HistoryJsonConstants.OPERATION_DELETE, identityLink.getId(),
+                    createHistoricData());
+        }
+    }
+
+    // Helper methods
+
+    protected ObjectNode createHistoricData() {
+        return processEngineConfiguration.getObjectMapper().createObjectNode();
+    }
+
+    /**
+     * The historic data of a process instance is applied in order, the data of a standalone task (and its variables and identity links) is applied in order per task.
+     */
+    protected String getScopeId(String processInstanceId, String taskId) {
+        return processInstanceId != null ? processInstanceId : taskId;
+    }
+
+    protected void addHistoricData(String scopeId, String type, String operation, String id, ObjectNode data) {
+        getAsyncHistorySession().addHistoricData(scopeId, type, operation, id, data);
+    }
+
+    protected AsyncHistorySession getAsyncHistorySession() {
+        return getSession(AsyncHistorySession.class);
+    }
+
+    protected String getStringValue(ObjectNode data, String fieldName) {
+        JsonNode value = data.get(fieldName);
+        return value != null && !value.isNull() ? value.asString() : null;
+    }
+
+}
@@ -0,0 +1,195 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.Session;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.job.service.HistoryJobService;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityManager;
+
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Collects the historic data of one transaction. Multiple changes to the same historic entity are coalesced
+ * (e.g. an insert followed by updates results in one insert with the latest values)
+ * and the data is written as history jobs when the command context is closing.
+ *
+ * One history job is written per scope: the process instance the data belongs to, or the historic entity itself when it doesn't belong to one.
+ * The history job gets the next sequence of its scope, which the {@link AsyncHistoryJobHandler} uses to apply the history jobs of a scope in order.
+ */
+public class AsyncHistorySession implements Session {
+
+    protected CommandContext commandContext;
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected AsyncHistorySessionCommandContextCloseListener commandContextCloseListener;
+
+    protected Map<String, ObjectNode> historicData;
+    protected Map<String, String> historicDataScopeIds;
+    protected Map<String, Long> scopeSequences = new HashMap<>();
+    protected boolean historyJobsCreated;
+
+    public AsyncHistorySession(CommandContext commandContext, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        this.commandContext = commandContext;
+        this.processEngineConfiguration = processEngineConfiguration;
+
+        initCommandContextCloseListener();
+    }
+
+    protected void initCommandContextCloseListener() {
+        this.commandContextCloseListener = new AsyncHistorySessionCommandContextCloseListener(this);
+    }
+
+    /**
+     * @param scopeId the scope in which the historic data is applied in order (e.g. the process instance it belongs to),
+     *          null to use the id of the historic entity as scope
+     */
+    public void addHistoricData(String scopeId, String type, String operation, String id, ObjectNode data) {
+        if (scopeId == null) {
+            scopeId = id;
+        }
+
+        if (historyJobsCreated) {
+            // The history jobs for this transaction have already been created (e.g. history was produced by another close listener)
+            ObjectNode historicEntry = createHistoricEntry(type, operation, id, data);
+            createHistoryJob(Collections.singletonList(historicEntry), scopeId);
+            return;
+        }
+
+        if (historicData == null) {
+            historicData = new LinkedHashMap<>();
+            historicDataScopeIds = new HashMap<>();
+            commandContext.addCloseListener(commandContextCloseListener);
+        }
+
+        String key = type + ':' + id;
+        historicDataScopeIds.putIfAbsent(key, scopeId);
+        ObjectNode existingEntry = historicData.get(key);
+        if (existingEntry == null) {
+            historicData.put(key, createHistoricEntry(type, operation, id, data));
+
+        } else {
+            String existingOperation = existingEntry.get(HistoryJsonConstants.OPERATION).asString();
+            if (HistoryJsonConstants.OPERATION_DELETE.equals(operation)) {
+                if (HistoryJsonConstants.OPERATION_INSERT.equals(existingOperation)) {
+                    // The entity never reached the database, nothing needs to be written
+                    historicData.remove(key);
+                } else {
+                    historicData.put(key, createHistoricEntry(type, operation, id, data));
+                }
+
+            } else if (HistoryJsonConstants.OPERATION_DELETE.equals(existingOperation)) {
+                historicData.put(key, createHistoricEntry(type, operation, id, data));
+
+            } else {
+                ((ObjectNode) existingEntry.get(HistoryJsonConstants.DATA)).setAll(data);
+                if (HistoryJsonConstants.OPERATION_INSERT.equals(operation)) {
+                    existingEntry.put(HistoryJsonConstants.OPERATION, operation);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the pending insert or update data for the given historic entity in this transaction, or null if there is none.
+     */
+    public ObjectNode getHistoricData(String type, String id) {
+        if (historicData != null) {
+            ObjectNode historicEntry = historicData.get(type + ':' + id);
+            if (historicEntry != null && !HistoryJsonConstants.OPERATION_DELETE.equals(historicEntry.get(HistoryJsonConstants.OPERATION).asString())) {
+                return (ObjectNode) historicEntry.get(HistoryJsonConstants.DATA);
+            }
+        }
+        return null;
+    }
+
+    protected ObjectNode createHistoricEntry(String type, String operation, String id, ObjectNode data) {
+        ObjectNode historicEntry = processEngineConfiguration.getObjectMapper().createObjectNode();
+        historicEntry.put(HistoryJsonConstants.TYPE, type);
+        historicEntry.put(HistoryJsonConstants.OPERATION, operation);
+        historicEntry.put(HistoryJsonConstants.ID, id);
+        historicEntry.set(HistoryJsonConstants.DATA, data);
+        return historicEntry;
+    }
+
+    public void createHistoryJobs() {
+        if (historicData != null && !historicData.isEmpty()) {
+            Map<String, List<ObjectNode>> historicEntriesByScopeId = new LinkedHashMap<>();
+            for (Map.Entry<String, ObjectNode> historicDataEntry : historicData.entrySet()) {
+                historicEntriesByScopeId.computeIfAbsent(historicDataScopeIds.get(historicDataEntry.getKey()), key -> new ArrayList<>())
+                        .add(historicDataEntry.getValue());
+            }
+
+            for (Map.Entry<String, List<ObjectNode>> historicEntries : historicEntriesByScopeId.entrySet()) {
+                createHistoryJob(historicEntries.getValue(), historicEntries.getKey());
+            }
+        }
+
+        historicData = null;
+        historicDataScopeIds = null;
+        historyJobsCreated = true;
+    }
+
+    protected void createHistoryJob(Collection<ObjectNode> historicEntries, String scopeId) {
+        ArrayNode historyJson = processEngineConfiguration.getObjectMapper().createArrayNode();
+        historyJson.addAll(historicEntries);
+
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        HistoryJobService historyJobService = jobServiceConfiguration.getHistoryJobService();
+        HistoryJobEntity historyJob = historyJobService.createHistoryJob();
+        historyJob.setJobHandlerType(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
+        historyJob.setScopeId(scopeId);
+        historyJob.setSequence(getNextSequence(jobServiceConfiguration.getHistoryJobEntityManager(), scopeId));
+        historyJob.setRetries(jobServiceConfiguration.getAsyncHistoryExecutorNumberOfRetries());
+        historyJob.setCreateTime(processEngineConfiguration.getClock().getCurrentTime());
+        historyJob.setAdvancedJobHandlerConfiguration(historyJson.toString());
+        historyJobService.scheduleHistoryJob(historyJob);
+    }
+
+    /**
+     * Concurrent transactions for the same scope can get the same sequence, their history jobs can be applied in any order.
+     */
+    protected long getNextSequence(HistoryJobEntityManager historyJobEntityManager, String scopeId) {
+        Long maxSequence = scopeSequences.get(scopeId);
+        if (maxSequence == null) {
+            maxSequence = historyJobEntityManager.findMaxHistoryJobSequence(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY, scopeId);
+        }
+
+        // The history jobs of this transaction are not flushed yet, so the sequence is kept for a later history job of the same scope
+        long sequence = maxSequence != null ? maxSequence + 1 : 1;
+        scopeSequences.put(scopeId, sequence);
+        return sequence;
+    }
+
+    @Override
+    public void flush() {
+
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+}
@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
+
+/**
+ * Writes the historic data collected in the {@link AsyncHistorySession} as history jobs
+ * before the sessions are flushed, so that they are part of the same transaction as the runtime changes.
+ */
+public class AsyncHistorySessionCommandContextCloseListener implements CommandContextCloseListener {
+
+    protected AsyncHistorySession asyncHistorySession;
+
+    public AsyncHistorySessionCommandContextCloseListener(AsyncHistorySession asyncHistorySession) {
+        this.asyncHistorySession = asyncHistorySession;
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+        asyncHistorySession.createHistoryJobs();
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+        // nothing to do
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        // nothing to do
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+        // nothing to do
+    }
+
+    @Override
+    public Integer order() {
+        return 1000;
+    }
+
+    @Override
+    public boolean multipleAllowed() {
+        return false;
+    }
+
+    public AsyncHistorySession getAsyncHistorySession() {
+        return asyncHistorySession;
+    }
+
+}
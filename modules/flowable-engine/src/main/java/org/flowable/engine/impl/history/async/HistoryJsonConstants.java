@@ -0,0 +1,126 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+/**
+ * Keys and values used in the json of the history jobs created when async history is enabled.
+ */
+public interface HistoryJsonConstants {
+
+    String JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY = "async-history";
+
+    // Historic entry
+
+    String TYPE = "type";
+    String OPERATION = "op";
+    String ID = "id";
+    String DATA = "data";
+
+    String TYPE_PROCESS_INSTANCE = "process-instance";
+    String TYPE_ACTIVITY_INSTANCE = "activity-instance";
+    String TYPE_TASK_INSTANCE = "task-instance";
+    String TYPE_VARIABLE_INSTANCE = "variable-instance";
+    String TYPE_IDENTITY_LINK = "identity-link";
+
+    String OPERATION_INSERT = "insert";
+    String OPERATION_UPDATE = "update";
+    String OPERATION_DELETE = "delete";
+
+    // Historic data
+
+    String PROCESS_INSTANCE_ID = "processInstanceId";
+    String PROCESS_DEFINITION_ID = "processDefinitionId";
+    String PROCESS_DEFINITION_KEY = "processDefinitionKey";
+    String PROCESS_DEFINITION_NAME = "processDefinitionName";
+    String PROCESS_DEFINITION_VERSION = "processDefinitionVersion";
+    String PROCESS_DEFINITION_CATEGORY = "processDefinitionCategory";
+    String DEPLOYMENT_ID = "deploymentId";
+    String EXECUTION_ID = "executionId";
+    String TASK_ID = "taskId";
+    String SCOPE_ID = "scopeId";
+    String SUB_SCOPE_ID = "subScopeId";
+    String SCOPE_TYPE = "scopeType";
+    String SCOPE_DEFINITION_ID = "scopeDefinitionId";
+    String PROPAGATED_STAGE_INSTANCE_ID = "propagatedStageInstanceId";
+    String TENANT_ID = "tenantId";
+
+    String NAME = "name";
+    String DESCRIPTION = "description";
+    String BUSINESS_KEY = "businessKey";
+    String BUSINESS_STATUS = "businessStatus";
+    String STATE = "state";
+    String START_TIME = "startTime";
+    String START_USER_ID = "startUserId";
+    String START_ACTIVITY_ID = "startActivityId";
+    String END_TIME = "endTime";
+    String END_USER_ID = "endUserId";
+    String END_ACTIVITY_ID = "endActivityId";
+    String DURATION = "durationInMillis";
+    String DELETE_REASON = "deleteReason";
+    String SUPER_PROCESS_INSTANCE_ID = "superProcessInstanceId";
+    String CALLBACK_ID = "callbackId";
+    String CALLBACK_TYPE = "callbackType";
+    String REFERENCE_ID = "referenceId";
+    String REFERENCE_TYPE = "referenceType";
+    String DUE_DATE = "dueDate";
+    String CLAIM_TIME = "claimTime";
+    String CLAIMED_BY = "claimedBy";
+
+    String ACTIVITY_ID = "activityId";
+    String ACTIVITY_NAME = "activityName";
+    String ACTIVITY_TYPE = "activityType";
+    String CALLED_PROCESS_INSTANCE_ID = "calledProcessInstanceId";
+    String TRANSACTION_ORDER = "transactionOrder";
+    String ASSIGNEE = "assignee";
+    String COMPLETED_BY = "completedBy";
+
+    String TASK_DEFINITION_ID = "taskDefinitionId";
+    String TASK_DEFINITION_KEY = "taskDefinitionKey";
+    String PARENT_TASK_ID = "parentTaskId";
+    String OWNER = "owner";
+    String PRIORITY = "priority";
+    String CATEGORY = "category";
+    String FORM_KEY = "formKey";
+    String CREATE_TIME = "createTime";
+    String IN_PROGRESS_START_TIME = "inProgressStartTime";
+    String IN_PROGRESS_STARTED_BY = "inProgressStartedBy";
+    String IN_PROGRESS_DUE_DATE = "inProgressStartDueDate";
+    String SUSPENDED_TIME = "suspendedTime";
+    String SUSPENDED_BY = "suspendedBy";
+    String LAST_UPDATE_TIME = "lastUpdateTime";
+
+    /**
+     * Set on a task update when the assignee known at the time of the change could not be determined in the transaction itself.
+     * When applying the update, a historic identity link is created if the stored assignee differs from this value.
+     */
+    String ASSIGNEE_CHANGE_CHECK = "assigneeChangeCheck";
+
+    /**
+     * Same as {@link #ASSIGNEE_CHANGE_CHECK}, but for the owner of the task.
+     */
+    String OWNER_CHANGE_CHECK = "ownerChangeCheck";
+
+    String REVISION = "revision";
+    String VARIABLE_TYPE = "variableType";
+    String TEXT_VALUE = "textValue";
+    String TEXT_VALUE2 = "textValue2";
+    String DOUBLE_VALUE = "doubleValue";
+    String LONG_VALUE = "longValue";
+    String BYTES = "bytes";
+    String META_INFO = "metaInfo";
+
+    String IDENTITY_LINK_TYPE = "identityLinkType";
+    String USER_ID = "userId";
+    String GROUP_ID = "groupId";
+
+}
@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Applies the historic data of one type (see the TYPE_ constants of {@link HistoryJsonConstants}) to the history tables.
+ */
+public interface HistoryJsonTransformer {
+
+    String getType();
+
+    void transform(String operation, String id, ObjectNode historicalData, CommandContext commandContext);
+
+}
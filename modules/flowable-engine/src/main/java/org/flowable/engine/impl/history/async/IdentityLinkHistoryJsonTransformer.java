@@ -0,0 +1,80 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.identitylink.service.HistoricIdentityLinkService;
+import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
+
+import tools.jackson.databind.node.ObjectNode;
+
+public class IdentityLinkHistoryJsonTransformer extends AbstractHistoryJsonTransformer {
+
+    public IdentityLinkHistoryJsonTransformer(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
+    @Override
+    public String getType() {
+        return HistoryJsonConstants.TYPE_IDENTITY_LINK;
+    }
+
+    @Override
+    protected void insert(String id, ObjectNode historicalData, CommandContext commandContext) {
+        HistoricIdentityLinkService historicIdentityLinkService = getHistoricIdentityLinkService();
+        HistoricIdentityLinkEntity historicIdentityLink = historicIdentityLinkService.getHistoricIdentityLink(id);
+        if (historicIdentityLink != null) {
+            applyHistoricalData(historicIdentityLink, historicalData);
+            return;
+        }
+
+        historicIdentityLink = historicIdentityLinkService.createHistoricIdentityLink();
+        historicIdentityLink.setId(id);
+        applyHistoricalData(historicIdentityLink, historicalData);
+        historicIdentityLinkService.insertHistoricIdentityLink(historicIdentityLink, false);
+    }
+
+    @Override
+    protected void update(String id, ObjectNode historicalData, CommandContext commandContext) {
+        HistoricIdentityLinkEntity historicIdentityLink = getHistoricIdentityLinkService().getHistoricIdentityLink(id);
+        if (historicIdentityLink == null) {
+            throw createNotApplicableException(id);
+        }
+
+        applyHistoricalData(historicIdentityLink, historicalData);
+    }
+
+    @Override
+    protected void delete(String id, CommandContext commandContext) {
+        HistoricIdentityLinkService historicIdentityLinkService = getHistoricIdentityLinkService();
+        HistoricIdentityLinkEntity historicIdentityLink = historicIdentityLinkService.getHistoricIdentityLink(id);
+        if (historicIdentityLink != null) {
+            historicIdentityLinkService.deleteHistoricIdentityLink(historicIdentityLink);
+        }
+    }
+
+    protected void applyHistoricalData(HistoricIdentityLinkEntity historicIdentityLink, ObjectNode historicalData) {
+        setString(historicalData, HistoryJsonConstants.GROUP_ID, historicIdentityLink::setGroupId);
+        setString(historicalData, HistoryJsonConstants.PROCESS_INSTANCE_ID, historicIdentityLink::setProcessInstanceId);
+        setString(historicalData, HistoryJsonConstants.TASK_ID, historicIdentityLink::setTaskId);
+        setString(historicalData, HistoryJsonConstants.IDENTITY_LINK_TYPE, historicIdentityLink::setType);
+        setString(historicalData, HistoryJsonConstants.USER_ID, historicIdentityLink::setUserId);
+        setDate(historicalData, HistoryJsonConstants.CREATE_TIME, historicIdentityLink::setCreateTime);
+    }
+
+    protected HistoricIdentityLinkService getHistoricIdentityLinkService() {
+        return processEngineConfiguration.getIdentityLinkServiceConfiguration().getHistoricIdentityLinkService();
+    }
+
+}
@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityManager;
+
+import tools.jackson.databind.node.ObjectNode;
+
+public class ProcessInstanceHistoryJsonTransformer extends AbstractHistoryJsonTransformer {
+
+    public ProcessInstanceHistoryJsonTransformer(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
+    @Override
+    public String getType() {
+        return HistoryJsonConstants.TYPE_PROCESS_INSTANCE;
+    }
+
+    @Override
+    protected void insert(String id, ObjectNode historicalData, CommandContext commandContext) {
+        HistoricProcessInstanceEntityManager historicProcessInstanceEntityManager = processEngineConfiguration.getHistoricProcessInstanceEntityManager();
+        HistoricProcessInstanceEntity historicProcessInstance = historicProcessInstanceEntityManager.findById(id);
+        if (historicProcessInstance != null) {
+            applyHistoricalData(historicProcessInstance, historicalData);
+            return;
+        }
+
+        historicProcessInstance = historicProcessInstanceEntityManager.create();
+        historicProcessInstance.setId(id);
+        applyHistoricalData(historicProcessInstance, historicalData);
+        historicProcessInstanceEntityManager.insert(historicProcessInstance, false);
+
+        dispatchEvent(FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_CREATED, historicProcessInstance);
+        if (historicProcessInstance.getEndTime() != null) {
+            dispatchEvent(FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_ENDED, historicProcessInstance);
+        }
+    }
+
+    @Override
+    protected void update(String id, ObjectNode historicalData, CommandContext commandContext) {
+        HistoricProcessInstanceEntity historicProcessInstance = processEngineConfiguration.getHistoricProcessInstanceEntityManager().findById(id);
+        if (historicProcessInstance == null) {
+            throw createNotApplicableException(id);
+        }
+
+        boolean ended = historicProcessInstance.getEndTime() != null;
+        applyHistoricalData(historicProcessInstance, historicalData);
+        if (!ended && historicProcessInstance.getEndTime() != null) {
+            dispatchEvent(FlowableEngineEventType.HISTORIC_PROCESS_INSTANCE_ENDED, historicProcessInstance);
+        }
+    }
+
+    @Override
+    protected void delete(String id, CommandContext commandContext) {
+        HistoricProcessInstanceEntityManager historicProcessInstanceEntityManager = processEngineConfiguration.getHistoricProcessInstanceEntityManager();
+        HistoricProcessInstanceEntity historicProcessInstance = historicProcessInstanceEntityManager.findById(id);
+        if (historicProcessInstance != null) {
+            historicProcessInstanceEntityManager.delete(historicProcessInstance);
+        }
+    }
+
+    protected void applyHistoricalData(HistoricProcessInstanceEntity historicProcessInstance, ObjectNode historicalData) {
+        setString(historicalData, HistoryJsonConstants.PROCESS_INSTANCE_ID, historicProcessInstance::setProcessInstanceId);
+        setString(historicalData, HistoryJsonConstants.PROCESS_DEFINITION_ID, historicProcessInstance::setProcessDefinitionId);
+        setString(historicalData, HistoryJsonConstants.PROCESS_DEFINITION_KEY, historicProcessInstance::setProcessDefinitionKey);
+        setString(historicalData, HistoryJsonConstants.PROCESS_DEFINITION_NAME, historicProcessInstance::setProcessDefinitionName);
+        setInteger(historicalData, HistoryJsonConstants.PROCESS_DEFINITION_VERSION, historicProcessInstance::setProcessDefinitionVersion);
+        setString(historicalData, HistoryJsonConstants.PROCESS_DEFINITION_CATEGORY, historicProcessInstance::setProcessDefinitionCategory);
+        setString(historicalData, HistoryJsonConstants.DEPLOYMENT_ID, historicProcessInstance::setDeploymentId);
+        setString(historicalData, HistoryJsonConstants.BUSINESS_KEY, historicProcessInstance::setBusinessKey);
+        setString(historicalData, HistoryJsonConstants.BUSINESS_STATUS, historicProcessInstance::setBusinessStatus);
+        setString(historicalData, HistoryJsonConstants.NAME, historicProcessInstance::setName);
+        setDate(historicalData, HistoryJsonConstants.START_TIME, historicProcessInstance::setStartTime);
+        setString(historicalData, HistoryJsonConstants.START_USER_ID, historicProcessInstance::setStartUserId);
+        setString(historicalData, HistoryJsonConstants.START_ACTIVITY_ID, historicProcessInstance::setStartActivityId);
+        setString(historicalData, HistoryJsonConstants.SUPER_PROCESS_INSTANCE_ID, historicProcessInstance::setSuperProcessInstanceId);
+        setString(historicalData, HistoryJsonConstants.CALLBACK_ID, historicProcessInstance::setCallbackId);
+        setString(historicalData, HistoryJsonConstants.CALLBACK_TYPE, historicProcessInstance::setCallbackType);
+        setString(historicalData, HistoryJsonConstants.REFERENCE_ID, historicProcessInstance::setReferenceId);
+        setString(historicalData, HistoryJsonConstants.REFERENCE_TYPE, historicProcessInstance::setReferenceType);
+        setString(historicalData, HistoryJsonConstants.PROPAGATED_STAGE_INSTANCE_ID, historicProcessInstance::setPropagatedStageInstanceId);
+        setString(historicalData, HistoryJsonConstants.STATE, historicProcessInstance::setState);
+        setString(historicalData, HistoryJsonConstants.TENANT_ID, historicProcessInstance::setTenantId);
+        setDate(historicalData, HistoryJsonConstants.DUE_DATE, historicProcessInstance::setDueDate);
+        setDate(historicalData, HistoryJsonConstants.CLAIM_TIME, historicProcessInstance::setClaimTime);
+        setString(historicalData, HistoryJsonConstants.CLAIMED_BY, historicProcessInstance::setClaimedBy);
+        setDate(historicalData, HistoryJsonConstants.END_TIME, historicProcessInstance::setEndTime);
+        setLong(historicalData, HistoryJsonConstants.DURATION, historicProcessInstance::setDurationInMillis);
+        setString(historicalData, HistoryJsonConstants.DELETE_REASON, historicProcessInstance::setDeleteReason);
+        setString(historicalData, HistoryJsonConstants.END_ACTIVITY_ID, historicProcessInstance::setEndActivityId);
+        setString(historicalData, HistoryJsonConstants.END_USER_ID, historicProcessInstance::setEndUserId);
+    }
+
+}
@@ -0,0 +1,145 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.util.Date;
+import java.util.Objects;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.identitylink.api.IdentityLinkType;
+import org.flowable.identitylink.service.HistoricIdentityLinkService;
+import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
+import org.flowable.task.service.HistoricTaskService;
+import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
+
+import tools.jackson.databind.node.ObjectNode;
+
+public class TaskInstanceHistoryJsonTransformer extends AbstractHistoryJsonTransformer {
+
+    public TaskInstanceHistoryJsonTransformer(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
+    @Override
+    public String getType() {
+        return HistoryJsonConstants.TYPE_TASK_INSTANCE;
+    }
+
+    @Override
+    protected void insert(String id, ObjectNode historicalData, CommandContext commandContext) {
+        HistoricTaskService historicTaskService = getHistoricTaskService();
+        HistoricTaskInstanceEntity historicTaskInstance = historicTaskService.getHistoricTask(id);
+        if (historicTaskInstance != null) {
+            applyHistoricalData(historicTaskInstance, historicalData);
+            return;
+        }
+
+        historicTaskInstance = historicTaskService.createHistoricTask();
+        historicTaskInstance.setId(id);
+        applyHistoricalData(historicTaskInstance, historicalData);
+        historicTaskService.insertHistoricTask(historicTaskInstance, true);
+    }
+
+    @Override
+    protected void update(String id, ObjectNode historicalData, CommandContext commandContext) {
+        HistoricTaskInstanceEntity historicTaskInstance = getHistoricTaskService().getHistoricTask(id);
+        if (historicTaskInstance == null) {
+            throw createNotApplicableException(id);
+        }
+
+        if (historicalData.has(HistoryJsonConstants.ASSIGNEE_CHANGE_CHECK)) {
+            String assignee = getStringValue(historicalData, HistoryJsonConstants.ASSIGNEE_CHANGE_CHECK);
+            if (!Objects.equals(historicTaskInstance.getAssignee(), assignee)) {
+                createHistoricIdentityLink(id, IdentityLinkType.ASSIGNEE, assignee, historicalData);
+            }
+        }
+
+        if (historicalData.has(HistoryJsonConstants.OWNER_CHANGE_CHECK)) {
+            String owner = getStringValue(historicalData, HistoryJsonConstants.OWNER_CHANGE_CHECK);
+            if (!Objects.equals(historicTaskInstance.getOwner(), owner)) {
+                createHistoricIdentityLink(id, IdentityLinkType.OWNER, owner, historicalData);
+            }
+        }
+
+        applyHistoricalData(historicTaskInstance, historicalData);
+    }
+
+    @Override
+    protected void delete(String id, CommandContext commandContext) {
+        HistoricTaskService historicTaskService = getHistoricTaskService();
+        HistoricTaskInstanceEntity historicTaskInstance = historicTaskService.getHistoricTask(id);
+        if (historicTaskInstance != null) {
+            historicTaskService.deleteHistoricTask(historicTaskInstance);
+        }
+    }
+
+    protected void createHistoricIdentityLink(String taskId, String type, String userId, ObjectNode historicalData) {
+        Date createTime = getDateValue(historicalData, HistoryJsonConstants.LAST_UPDATE_TIME);
+
+        HistoricIdentityLinkService historicIdentityLinkService = processEngineConfiguration.getIdentityLinkServiceConfiguration().getHistoricIdentityLinkService();
+        HistoricIdentityLinkEntity historicIdentityLink = historicIdentityLinkService.createHistoricIdentityLink();
+        historicIdentityLink.setTaskId(taskId);
+        historicIdentityLink.setType(type);
+        historicIdentityLink.setUserId(userId);
+        if (createTime != null) {
+            historicIdentityLink.setCreateTime(createTime);
+        }
+        historicIdentityLinkService.insertHistoricIdentityLink(historicIdentityLink, false);
+    }
+
+    protected void applyHistoricalData(HistoricTaskInstanceEntity historicTaskInstance, ObjectNode historicalData) {
+        setString(historicalData, HistoryJsonConstants.TASK_DEFINITION_ID, historicTaskInstance::setTaskDefinitionId);
+        setString(historicalData, HistoryJsonConstants.PROCESS_DEFINITION_ID, historicTaskInstance::setProcessDefinitionId);
+        setString(historicalData, HistoryJsonConstants.PROCESS_INSTANCE_ID, historicTaskInstance::setProcessInstanceId);
+        setString(historicalData, HistoryJsonConstants.EXECUTION_ID, historicTaskInstance::setExecutionId);
+        setString(historicalData, HistoryJsonConstants.SCOPE_ID, historicTaskInstance::setScopeId);
+        setString(historicalData, HistoryJsonConstants.SUB_SCOPE_ID, historicTaskInstance::setSubScopeId);
+        setString(historicalData, HistoryJsonConstants.SCOPE_TYPE, historicTaskInstance::setScopeType);
+        setString(historicalData, HistoryJsonConstants.SCOPE_DEFINITION_ID, historicTaskInstance::setScopeDefinitionId);
+        setString(historicalData, HistoryJsonConstants.PROPAGATED_STAGE_INSTANCE_ID, historicTaskInstance::setPropagatedStageInstanceId);
+        setString(historicalData, HistoryJsonConstants.STATE, historicTaskInstance::setState);
+        setString(historicalData, HistoryJsonConstants.NAME, historicTaskInstance::setName);
+        setString(historicalData, HistoryJsonConstants.PARENT_TASK_ID, historicTaskInstance::setParentTaskId);
+        setString(historicalData, HistoryJsonConstants.DESCRIPTION, historicTaskInstance::setDescription);
+        setString(historicalData, HistoryJsonConstants.OWNER, historicTaskInstance::setOwner);
+        setString(historicalData, HistoryJsonConstants.ASSIGNEE, historicTaskInstance::setAssignee);
+        setDate(historicalData, HistoryJsonConstants.CREATE_TIME, historicTaskInstance::setCreateTime);
+        setDate(historicalData, HistoryJsonConstants.IN_PROGRESS_START_TIME, historicTaskInstance::setInProgressStartTime);
+        setString(historicalData, HistoryJsonConstants.IN_PROGRESS_STARTED_BY, historicTaskInstance::setInProgressStartedBy);
+        setDate(historicalData, HistoryJsonConstants.CLAIM_TIME, historicTaskInstance::setClaimTime);
+        setString(historicalData, HistoryJsonConstants.CLAIMED_BY, historicTaskInstance::setClaimedBy);
+        setDate(historicalData, HistoryJsonConstants.SUSPENDED_TIME, historicTaskInstance::setSuspendedTime);
+        setString(historicalData, HistoryJsonConstants.SUSPENDED_BY, historicTaskInstance::setSuspendedBy);
+        setDate(historicalData, HistoryJsonConstants.END_TIME, historicTaskInstance::setEndTime);
+        setString(historicalData, HistoryJsonConstants.COMPLETED_BY, historicTaskInstance::setCompletedBy);
+        setLong(historicalData, HistoryJsonConstants.DURATION, historicTaskInstance::setDurationInMillis);
+        setString(historicalData, HistoryJsonConstants.DELETE_REASON, historicTaskInstance::setDeleteReason);
+        setString(historicalData, HistoryJsonConstants.TASK_DEFINITION_KEY, historicTaskInstance::setTaskDefinitionKey);
+        setString(historicalData, HistoryJsonConstants.FORM_KEY, historicTaskInstance::setFormKey);
+        Integer priority = getIntegerValue(historicalData, HistoryJsonConstants.PRIORITY);
+        if (priority != null) {
+            historicTaskInstance.setPriority(priority);
+        }
+        setDate(historicalData, HistoryJsonConstants.IN_PROGRESS_DUE_DATE, historicTaskInstance::setInProgressStartDueDate);
+        setDate(historicalData, HistoryJsonConstants.DUE_DATE, historicTaskInstance::setDueDate);
+        setString(historicalData, HistoryJsonConstants.CATEGORY, historicTaskInstance::setCategory);
+        setString(historicalData, HistoryJsonConstants.TENANT_ID, historicTaskInstance::setTenantId);
+        setDate(historicalData, HistoryJsonConstants.LAST_UPDATE_TIME, historicTaskInstance::setLastUpdateTime);
+    }
+
+    protected HistoricTaskService getHistoricTaskService() {
+        return processEngineConfiguration.getTaskServiceConfiguration().getHistoricTaskService();
+    }
+
+}
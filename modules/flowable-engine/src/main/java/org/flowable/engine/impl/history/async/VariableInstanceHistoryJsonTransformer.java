@@ -0,0 +1,116 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.HistoricVariableService;
+import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
+
+import tools.jackson.databind.node.ObjectNode;
+
+public class VariableInstanceHistoryJsonTransformer extends AbstractHistoryJsonTransformer {
+
+    public VariableInstanceHistoryJsonTransformer(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
+    @Override
+    public String getType() {
+        return HistoryJsonConstants.TYPE_VARIABLE_INSTANCE;
+    }
+
+    @Override
+    protected void insert(String id, ObjectNode historicalData, CommandContext commandContext) {
+        HistoricVariableService historicVariableService = getVariableServiceConfiguration().getHistoricVariableService();
+        HistoricVariableInstanceEntity historicVariableInstance = historicVariableService.getHistoricVariableInstance(id);
+        if (historicVariableInstance != null) {
+            applyHistoricalData(historicVariableInstance, historicalData);
+            return;
+        }
+
+        historicVariableInstance = historicVariableService.createHistoricVariableInstance();
+        historicVariableInstance.setId(id);
+        applyHistoricalData(historicVariableInstance, historicalData);
+        setDate(historicalData, HistoryJsonConstants.CREATE_TIME, historicVariableInstance::setCreateTime);
+        Integer revision = getIntegerValue(historicalData, HistoryJsonConstants.REVISION);
+        if (revision != null) {
+            historicVariableInstance.setRevision(revision);
+        }
+        historicVariableService.insertHistoricVariableInstance(historicVariableInstance);
+    }
+
+    @Override
+    protected void update(String id, ObjectNode historicalData, CommandContext commandContext) {
+        HistoricVariableInstanceEntity historicVariableInstance = getVariableServiceConfiguration().getHistoricVariableService().getHistoricVariableInstance(id);
+        if (historicVariableInstance == null) {
+            throw createNotApplicableException(id);
+        }
+
+        // Updates of concurrent transactions can be applied out of order, an older value never overwrites a newer one
+        Date lastUpdatedTime = getDateValue(historicalData, HistoryJsonConstants.LAST_UPDATE_TIME);
+        if (lastUpdatedTime != null && historicVariableInstance.getLastUpdatedTime() != null
+                && lastUpdatedTime.before(historicVariableInstance.getLastUpdatedTime())) {
+            return;
+        }
+
+        applyHistoricalData(historicVariableInstance, historicalData);
+    }
+
+    @Override
+    protected void delete(String id, CommandContext commandContext) {
+        HistoricVariableService historicVariableService = getVariableServiceConfiguration().getHistoricVariableService();
+        HistoricVariableInstanceEntity historicVariableInstance = historicVariableService.getHistoricVariableInstance(id);
+        if (historicVariableInstance != null) {
+            historicVariableService.deleteHistoricVariableInstance(historicVariableInstance);
+        }
+    }
+
+    protected void applyHistoricalData(HistoricVariableInstanceEntity historicVariableInstance, ObjectNode historicalData) {
+        setString(historicalData, HistoryJsonConstants.NAME, historicVariableInstance::setName);
+        setString(historicalData, HistoryJsonConstants.PROCESS_INSTANCE_ID, historicVariableInstance::setProcessInstanceId);
+        setString(historicalData, HistoryJsonConstants.EXECUTION_ID, historicVariableInstance::setExecutionId);
+        setString(historicalData, HistoryJsonConstants.TASK_ID, historicVariableInstance::setTaskId);
+        setString(historicalData, HistoryJsonConstants.SCOPE_ID, historicVariableInstance::setScopeId);
+        setString(historicalData, HistoryJsonConstants.SUB_SCOPE_ID, historicVariableInstance::setSubScopeId);
+        setString(historicalData, HistoryJsonConstants.SCOPE_TYPE, historicVariableInstance::setScopeType);
+        setString(historicalData, HistoryJsonConstants.META_INFO, historicVariableInstance::setMetaInfo);
+        setString(historicalData, HistoryJsonConstants.TEXT_VALUE, historicVariableInstance::setTextValue);
+        setString(historicalData, HistoryJsonConstants.TEXT_VALUE2, historicVariableInstance::setTextValue2);
+        setDouble(historicalData, HistoryJsonConstants.DOUBLE_VALUE, historicVariableInstance::setDoubleValue);
+        setLong(historicalData, HistoryJsonConstants.LONG_VALUE, historicVariableInstance::setLongValue);
+        setDate(historicalData, HistoryJsonConstants.LAST_UPDATE_TIME, historicVariableInstance::setLastUpdatedTime);
+
+        String variableTypeName = getStringValue(historicalData, HistoryJsonConstants.VARIABLE_TYPE);
+        if (variableTypeName != null) {
+            VariableType variableType = getVariableServiceConfiguration().getVariableTypes().getVariableType(variableTypeName);
+            historicVariableInstance.setVariableType(variableType);
+        }
+
+        String bytes = getStringValue(historicalData, HistoryJsonConstants.BYTES);
+        if (bytes != null) {
+            historicVariableInstance.setBytes(Base64.getDecoder().decode(bytes.getBytes(StandardCharsets.US_ASCII)));
+        }
+    }
+
+    protected VariableServiceConfiguration getVariableServiceConfiguration() {
+        return processEngineConfiguration.getVariableServiceConfiguration();
+    }
+
+}
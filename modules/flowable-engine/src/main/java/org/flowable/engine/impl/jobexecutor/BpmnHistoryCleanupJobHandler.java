@@ -15,7 +15,9 @@ package org.flowable.engine.impl.jobexecutor;
 import org.flowable.batch.api.BatchQuery;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.delete.DeleteHistoricProcessInstancesInEndTimeRangesCmd;
 import org.flowable.engine.impl.delete.DeleteProcessInstanceBatchConstants;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.JobHandler;
@@ -48,8 +50,15 @@ public class BpmnHistoryCleanupJobHandler implements JobHandler {
 
         int batchSize = processEngineConfiguration.getCleanInstancesBatchSize();
 
+        int parallelism = processEngineConfiguration.getCleanInstancesParallelism();
+
         HistoricProcessInstanceQuery query = processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery();
-        query.deleteSequentiallyUsingBatch(batchSize, DEFAULT_BATCH_NAME);
+        if (parallelism > 1 && query instanceof HistoricProcessInstanceQueryImpl queryImpl) {
+            processEngineConfiguration.getCommandExecutor()
+                    .execute(new DeleteHistoricProcessInstancesInEndTimeRangesCmd(queryImpl, batchSize, parallelism, DEFAULT_BATCH_NAME));
+        } else {
+            query.deleteSequentiallyUsingBatch(batchSize, DEFAULT_BATCH_NAME);
+        }
 
         BatchQuery batchCleaningQuery = processEngineConfiguration.getHistoryCleaningManager().createBatchCleaningQuery();
         if (batchCleaningQuery != null) {
@@ -13,8 +13,15 @@
 
 package org.flowable.engine.impl.persistence.deploy;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.api.FlowableException;
@@ -22,11 +29,14 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.api.repository.EngineResource;
 import org.flowable.common.engine.impl.EngineDeployer;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.app.AppModel;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
+import org.flowable.engine.impl.bpmn.deployer.ResourceNameUtil;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
@@ -35,6 +45,8 @@ import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManage
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Tom Baeyens
@@ -43,6 +55,8 @@ import org.flowable.engine.repository.ProcessDefinition;
  */
 public class DeploymentManager {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeploymentManager.class);
+
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
     protected DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache;
     protected DeploymentCache<Object> appResourceCache;
@@ -127,7 +141,11 @@ public class DeploymentManager {
 
             DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
             deployment.setNew(false);
-            deploy(deployment, null);
+            if (processEngineConfiguration.isProcessDefinitionCacheSingleResourceRebuildEnabled() && processDefinition.getResourceName() != null) {
+                deployWithoutOtherBpmnResources(deployment, processDefinition.getResourceName());
+            } else {
+                deploy(deployment, null);
+            }
             cachedProcessDefinition = deployment.getProcessDefinitionCacheEntry(processDefinitionId);
 
             if (cachedProcessDefinition == null) {
@@ -227,6 +245,91 @@ public class DeploymentManager {
         knowledgeBaseCache.remove(deploymentId);
     }
 
+    /**
+     * Redeploys the deployment without the BPMN resources other than the given one,
+     * so that only the process definitions of that resource are parsed and cached.
+     */
+    protected void deployWithoutOtherBpmnResources(DeploymentEntity deployment, String bpmnResourceName) {
+        Map<String, EngineResource> resources = deployment.getResources();
+        Map<String, EngineResource> deployedResources = new LinkedHashMap<>();
+        for (Map.Entry<String, EngineResource> resource : resources.entrySet()) {
+            if (resource.getKey().equals(bpmnResourceName) || !isBpmnResource(resource.getKey())) {
+                deployedResources.put(resource.getKey(), resource.getValue());
+            }
+        }
+
+        // The deployment entity can be cached in the command context, hence the resources are restored afterwards
+        deployment.setResources(deployedResources);
+        try {
+            deploy(deployment, null);
+        } finally {
+            deployment.setResources(resources);
+        }
+    }
+
+    protected boolean isBpmnResource(String resourceName) {
+        for (String suffix : ResourceNameUtil.BPMN_RESOURCE_SUFFIXES) {
+            if (resourceName.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fills the process definition cache with the latest versions of the process definitions, in the background.
+     * The deployments are resolved in parallel, using the given number of threads, each in its own transaction.
+     * When the process definition cache has a limit, no more process definitions than the limit are resolved.
+     */
+    public void prewarmProcessDefinitionCache(int threads) {
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        List<ProcessDefinition> processDefinitions = processEngineConfiguration.getRepositoryService().createProcessDefinitionQuery()
+                .latestVersion()
+                .orderByProcessDefinitionKey().asc()
+                .list();
+
+        int limit = processEngineConfiguration.getProcessDefinitionCacheLimit();
+        if (limit > 0 && processDefinitions.size() > limit) {
+            processDefinitions = processDefinitions.subList(0, limit);
+        }
+
+        // Resolving a process definition resolves the other definitions of its deployment as well (unless only the resource is rebuilt)
+        Map<String, List<ProcessDefinition>> processDefinitionsByDeployment = new LinkedHashMap<>();
+        for (ProcessDefinition processDefinition : processDefinitions) {
+            processDefinitionsByDeployment.computeIfAbsent(processDefinition.getDeploymentId(), key -> new ArrayList<>()).add(processDefinition);
+        }
+
+        if (processDefinitionsByDeployment.isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, processDefinitionsByDeployment.size())),
+                new BasicThreadFactory.Builder().namingPattern("flowable-process-definition-cache-prewarm-%d").daemon(true).build());
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>(processDefinitionsByDeployment.size());
+            for (List<ProcessDefinition> deploymentProcessDefinitions : processDefinitionsByDeployment.values()) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (ProcessDefinition processDefinition : deploymentProcessDefinitions) {
+                        try {
+                            commandExecutor.execute(commandContext -> resolveProcessDefinition(processDefinition));
+                        } catch (RuntimeException e) {
+                            LOGGER.warn("Could not prewarm the process definition cache with process definition {}", processDefinition.getId(), e);
+                        }
+                    }
+                }, executorService));
+            }
+
+            int prewarmed = processDefinitions.size();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .whenComplete((result, exception) -> LOGGER.info("Prewarmed the process definition cache with {} process definitions in {} ms",
+                            prewarmed, System.currentTimeMillis() - start));
+        } finally {
+            // The submitted deployments are still resolved, after which the threads terminate
+            executorService.shutdown();
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -59,4 +59,19 @@ public class ProcessDefinitionCacheEntry implements Serializable {
         this.process = process;
     }
 
+    /**
+     * @return an estimation of the memory used by this entry: the number of flow elements of the processes in the model (including the nested elements)
+     */
+    public int getEstimatedWeight() {
+        int weight = 1;
+        if (bpmnModel != null) {
+            for (Process modelProcess : bpmnModel.getProcesses()) {
+                weight += modelProcess.getFlowElementMap().size();
+            }
+        } else if (process != null) {
+            weight += process.getFlowElementMap().size();
+        }
+        return weight;
+    }
+
 }
@@ -33,6 +33,7 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.db.SuspensionState;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.common.engine.impl.variablelistener.VariableListenerSession;
 import org.flowable.common.engine.impl.variablelistener.VariableListenerSessionData;
@@ -45,6 +46,7 @@ import org.flowable.engine.impl.util.BpmnLoggingSessionUtil;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.CountingEntityUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+import org.flowable.engine.impl.util.VariablePrefetchUtil;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
@@ -64,7 +66,7 @@ import tools.jackson.databind.node.ObjectNode;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity implements ExecutionEntity, CountingExecutionEntity, DirtyTrackingEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -340,9 +342,11 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     public void setCurrentFlowElement(FlowElement currentFlowElement) {
         this.currentFlowElement = currentFlowElement;
         if (currentFlowElement != null) {
+            markDirty(this.activityId, currentFlowElement.getId());
             this.activityId = currentFlowElement.getId();
             this.activityName = currentFlowElement.getName();
         } else {
+            markDirty(this.activityId, null);
             this.activityId = null;
             this.activityName = null;
         }
@@ -400,6 +404,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setBusinessKey(String businessKey) {
+        markDirty(this.businessKey, businessKey);
         this.businessKey = businessKey;
     }
 
@@ -410,6 +415,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setBusinessStatus(String businessStatus) {
+        markDirty(this.businessStatus, businessStatus);
         this.businessStatus = businessStatus;
     }
 
@@ -427,6 +433,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        markDirty(this.processDefinitionId, processDefinitionId);
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -550,11 +557,25 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     public void setParent(ExecutionEntity parent) {
         this.parent = (ExecutionEntityImpl) parent;
 
+        String oldParentId = this.parentId;
         if (parent != null) {
+            markDirty(this.parentId, parent.getId());
             this.parentId = parent.getId();
         } else {
+            markDirty(this.parentId, null);
             this.parentId = null;
         }
+        parentIdChanged(oldParentId);
+    }
+
+    protected void parentIdChanged(String oldParentId) {
+        // A new execution gets indexed when it's inserted, an execution that is being loaded never had a parent before
+        if (oldParentId != null && !oldParentId.equals(parentId)) {
+            ExecutionTreeIndex executionTreeIndex = ExecutionTreeIndex.getIfPresent();
+            if (executionTreeIndex != null) {
+                executionTreeIndex.parentChanged(this, oldParentId, parentId);
+            }
+        }
     }
 
     // super- and subprocess executions /////////////////////////////////////////
@@ -565,6 +586,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     }
     
     public void setSuperExecutionId(String superExecutionId) {
+        markDirty(this.superExecutionId, superExecutionId);
         this.superExecutionId = superExecutionId;
     }
 
@@ -582,8 +604,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         }
 
         if (superExecution != null) {
+            markDirty(this.superExecutionId, superExecution.getId());
             this.superExecutionId = ((ExecutionEntityImpl) superExecution).getId();
         } else {
+            markDirty(this.superExecutionId, null);
             this.superExecutionId = null;
         }
     }
@@ -632,8 +656,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
         this.rootProcessInstance = (ExecutionEntityImpl) rootProcessInstance;
 
         if (rootProcessInstance != null) {
+            markDirty(this.rootProcessInstanceId, rootProcessInstance.getId());
             this.rootProcessInstanceId = rootProcessInstance.getId();
         } else {
+            markDirty(this.rootProcessInstanceId, null);
             this.rootProcessInstanceId = null;
         }
     }
@@ -645,6 +671,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
+        markDirty(this.rootProcessInstanceId, rootProcessInstanceId);
         this.rootProcessInstanceId = rootProcessInstanceId;
     }
 
@@ -661,15 +688,18 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setScope(boolean isScope) {
+        markDirty(this.isScope, isScope);
         this.isScope = isScope;
     }
 
     public void setIsScope(boolean isScope) {
+        markDirty(this.isScope, isScope);
         this.isScope = isScope;
     }
 
     @Override
     public void forceUpdate() {
+        markDirty();
         this.forcedUpdate = true;
     }
 
@@ -721,6 +751,9 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     @Override
     protected Collection<VariableInstanceEntity> loadVariableInstances() {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        if (processInstanceId != null && processEngineConfiguration.getPerformanceSettings().isEnableVariablePrefetching()) {
+            return VariablePrefetchUtil.findExecutionVariableInstances(this, CommandContextUtil.getCommandContext());
+        }
         return processEngineConfiguration.getVariableServiceConfiguration().getVariableService().findVariableInstancesByExecutionId(id);
     }
 
@@ -1021,7 +1054,10 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setParentId(String parentId) {
+        String oldParentId = this.parentId;
+        markDirty(this.parentId, parentId);
         this.parentId = parentId;
+        parentIdChanged(oldParentId);
     }
 
     @Override
@@ -1030,6 +1066,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
     }
     
     public void setActivityId(String activityId) {
+        markDirty(this.activityId, activityId);
         this.activityId = activityId;
     }
 
@@ -1044,10 +1081,12 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setConcurrent(boolean isConcurrent) {
+        markDirty(this.isConcurrent, isConcurrent);
         this.isConcurrent = isConcurrent;
     }
 
     public void setIsConcurrent(boolean isConcurrent) {
+        markDirty(this.isConcurrent, isConcurrent);
         this.isConcurrent = isConcurrent;
     }
 
@@ -1062,15 +1101,18 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setActive(boolean isActive) {
+        markDirty(this.isActive, isActive);
         this.isActive = isActive;
     }
 
     public void setIsActive(boolean isActive) {
+        markDirty(this.isActive, isActive);
         this.isActive = isActive;
     }
 
     @Override
     public void inactivate() {
+        markDirty(this.isActive, false);
         this.isActive = false;
     }
 
@@ -1119,6 +1161,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSuspensionState(int suspensionState) {
+        markDirty(this.suspensionState, suspensionState);
         this.suspensionState = suspensionState;
     }
 
@@ -1138,10 +1181,12 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setEventScope(boolean isEventScope) {
+        markDirty(this.isEventScope, isEventScope);
         this.isEventScope = isEventScope;
     }
 
     public void setIsEventScope(boolean isEventScope) {
+        markDirty(this.isEventScope, isEventScope);
         this.isEventScope = isEventScope;
     }
 
@@ -1156,10 +1201,12 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setMultiInstanceRoot(boolean isMultiInstanceRoot) {
+        markDirty(this.isMultiInstanceRoot, isMultiInstanceRoot);
         this.isMultiInstanceRoot = isMultiInstanceRoot;
     }
 
     public void setIsMultiInstanceRoot(boolean isMultiInstanceRoot) {
+        markDirty(this.isMultiInstanceRoot, isMultiInstanceRoot);
         this.isMultiInstanceRoot = isMultiInstanceRoot;
     }
 
@@ -1174,10 +1221,12 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
+        markDirty(this.isCountEnabled, isCountEnabled);
         this.isCountEnabled = isCountEnabled;
     }
 
     public void setIsCountEnabled(boolean isCountEnabled) {
+        markDirty(this.isCountEnabled, isCountEnabled);
         this.isCountEnabled = isCountEnabled;
     }
 
@@ -1197,6 +1246,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setName(String name) {
+        markDirty(this.name, name);
         this.name = name;
     }
 
@@ -1251,6 +1301,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setDueDate(Date dueDate) {
+        markDirty(this.dueDate, dueDate);
         this.dueDate = dueDate;
     }
 
@@ -1261,6 +1312,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setClaimTime(Date claimTime) {
+        markDirty(this.claimTime, claimTime);
         this.claimTime = claimTime;
     }
 
@@ -1271,6 +1323,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setClaimedBy(String claimedBy) {
+        markDirty(this.claimedBy, claimedBy);
         this.claimedBy = claimedBy;
     }
 
@@ -1281,6 +1334,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setLockTime(Date lockTime) {
+        markDirty(this.lockTime, lockTime);
         this.lockTime = lockTime;
     }
 
@@ -1291,6 +1345,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setLockOwner(String lockOwner) {
+        markDirty(this.lockOwner, lockOwner);
         this.lockOwner = lockOwner;
     }
 
@@ -1349,6 +1404,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartActivityId(String startActivityId) {
+        markDirty(this.startActivityId, startActivityId);
         this.startActivityId = startActivityId;
     }
 
@@ -1359,6 +1415,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartUserId(String startUserId) {
+        markDirty(this.startUserId, startUserId);
         this.startUserId = startUserId;
     }
 
@@ -1369,6 +1426,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setStartTime(Date startTime) {
+        markDirty(this.startTime, startTime);
         this.startTime = startTime;
     }
 
@@ -1379,6 +1437,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setEventSubscriptionCount(int eventSubscriptionCount) {
+        markDirty(this.eventSubscriptionCount, eventSubscriptionCount);
         this.eventSubscriptionCount = eventSubscriptionCount;
     }
 
@@ -1389,6 +1448,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setTaskCount(int taskCount) {
+        markDirty(this.taskCount, taskCount);
         this.taskCount = taskCount;
     }
 
@@ -1399,6 +1459,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setJobCount(int jobCount) {
+        markDirty(this.jobCount, jobCount);
         this.jobCount = jobCount;
     }
 
@@ -1409,6 +1470,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setTimerJobCount(int timerJobCount) {
+        markDirty(this.timerJobCount, timerJobCount);
         this.timerJobCount = timerJobCount;
     }
 
@@ -1419,6 +1481,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setSuspendedJobCount(int suspendedJobCount) {
+        markDirty(this.suspendedJobCount, suspendedJobCount);
         this.suspendedJobCount = suspendedJobCount;
     }
 
@@ -1429,6 +1492,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setDeadLetterJobCount(int deadLetterJobCount) {
+        markDirty(this.deadLetterJobCount, deadLetterJobCount);
         this.deadLetterJobCount = deadLetterJobCount;
     }
 
@@ -1439,6 +1503,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setExternalWorkerJobCount(int externalWorkerJobCount) {
+        markDirty(this.externalWorkerJobCount, externalWorkerJobCount);
         this.externalWorkerJobCount = externalWorkerJobCount;
     }
 
@@ -1449,6 +1514,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setVariableCount(int variableCount) {
+        markDirty(this.variableCount, variableCount);
         this.variableCount = variableCount;
     }
 
@@ -1459,6 +1525,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
+        markDirty(this.identityLinkCount, identityLinkCount);
         this.identityLinkCount = identityLinkCount;
     }
     
@@ -1469,6 +1536,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCallbackId(String callbackId) {
+        markDirty(this.callbackId, callbackId);
         this.callbackId = callbackId;
     }
 
@@ -1479,6 +1547,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setCallbackType(String callbackType) {
+        markDirty(this.callbackType, callbackType);
         this.callbackType = callbackType;
     }
 
@@ -1489,6 +1558,7 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setReferenceId(String referenceId) {
+        markDirty(this.referenceId, referenceId);
         this.referenceId = referenceId;
     }
 
@@ -1499,11 +1569,13 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     public void setReferenceType(String referenceType) {
+        markDirty(this.referenceType, referenceType);
         this.referenceType = referenceType;
     }
 
     @Override
     public void setPropagatedStageInstanceId(String propagatedStageInstanceId) {
+        markDirty(this.propagatedStageInstanceId, propagatedStageInstanceId);
         this.propagatedStageInstanceId = propagatedStageInstanceId;
     }
 
@@ -36,6 +36,12 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     ExecutionEntity createChildExecution(ExecutionEntity parentExecutionEntity);
 
+    /**
+     * Creates a number of child executions at once (e.g. the instances of a parallel multi instance activity).
+     * Every child execution is created (and its entity events are dispatched) as with {@link #createChildExecution(ExecutionEntity)}.
+     */
+    List<ExecutionEntity> createChildExecutions(ExecutionEntity parentExecutionEntity, int nrOfChildExecutions);
+
     ExecutionEntity createSubprocessInstance(ProcessDefinition processDefinition, ExecutionEntity superExecutionEntity, 
                     String businessKey, String startActivityId);
 
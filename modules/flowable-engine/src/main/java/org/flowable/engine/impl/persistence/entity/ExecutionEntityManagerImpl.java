@@ -350,6 +350,15 @@ public class ExecutionEntityManagerImpl
         return childExecution;
     }
 
+    @Override
+    public List<ExecutionEntity> createChildExecutions(ExecutionEntity parentExecutionEntity, int nrOfChildExecutions) {
+        List<ExecutionEntity> childExecutions = new ArrayList<>(nrOfChildExecutions);
+        for (int i = 0; i < nrOfChildExecutions; i++) {
+            childExecutions.add(createChildExecution(parentExecutionEntity));
+        }
+        return childExecutions;
+    }
+
     @Override
     public ExecutionEntity createSubprocessInstance(ProcessDefinition processDefinition, ExecutionEntity superExecutionEntity,
                                                     String businessKey, String activityId) {
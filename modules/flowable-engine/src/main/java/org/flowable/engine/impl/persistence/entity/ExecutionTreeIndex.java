@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Index of the child executions per parent execution, kept for the duration of a command context.
+ *
+ * The children of a parent are indexed the first time they are looked up (from the database or, when the execution tree has been fetched eagerly,
+ * from the entity cache). From then on, executions that are inserted or moved to another parent are added to the index,
+ * so that looking up the children of that parent again doesn't need to go to the database anymore.
+ *
+ * Executions that are moved to another parent or deleted are filtered out when reading from the index.
+ */
+public class ExecutionTreeIndex {
+
+    public static final String ATTRIBUTE_EXECUTION_TREE_INDEX = "ctx.attribute.executionTreeIndex";
+
+    // Only contains the parents of which all children are known
+    protected Map<String, Map<String, ExecutionEntity>> childExecutionsByParentId = new HashMap<>();
+
+    public static ExecutionTreeIndex getOrCreate(CommandContext commandContext) {
+        ExecutionTreeIndex executionTreeIndex = (ExecutionTreeIndex) commandContext.getAttribute(ATTRIBUTE_EXECUTION_TREE_INDEX);
+        if (executionTreeIndex == null) {
+            executionTreeIndex = new ExecutionTreeIndex();
+            commandContext.addAttribute(ATTRIBUTE_EXECUTION_TREE_INDEX, executionTreeIndex);
+        }
+        return executionTreeIndex;
+    }
+
+    /**
+     * @return the index of the current command context, or null when no child executions have been indexed in it
+     */
+    public static ExecutionTreeIndex getIfPresent() {
+        CommandContext commandContext = Context.getCommandContext();
+        return commandContext != null ? (ExecutionTreeIndex) commandContext.getAttribute(ATTRIBUTE_EXECUTION_TREE_INDEX) : null;
+    }
+
+    /**
+     * @return the child executions of the parent, or null when they haven't been indexed
+     */
+    public List<ExecutionEntity> getChildExecutions(String parentExecutionId, DbSqlSession dbSqlSession) {
+        Map<String, ExecutionEntity> childExecutions = childExecutionsByParentId.get(parentExecutionId);
+        if (childExecutions == null) {
+            return null;
+        }
+
+        // A new list every time, as callers are allowed to change it
+        List<ExecutionEntity> result = new ArrayList<>(childExecutions.size());
+        for (ExecutionEntity childExecution : childExecutions.values()) {
+            if (parentExecutionId.equals(childExecution.getParentId()) && !dbSqlSession.isEntityToBeDeleted(childExecution)) {
+                result.add(childExecution);
+            }
+        }
+        return result;
+    }
+
+    public void setChildExecutions(String parentExecutionId, Collection<ExecutionEntity> childExecutions) {
+        Map<String, ExecutionEntity> indexedChildExecutions = new LinkedHashMap<>();
+        for (ExecutionEntity childExecution : childExecutions) {
+            indexedChildExecutions.put(childExecution.getId(), childExecution);
+        }
+        childExecutionsByParentId.put(parentExecutionId, indexedChildExecutions);
+    }
+
+    public void executionInserted(ExecutionEntity execution) {
+        addChildExecution(execution.getParentId(), execution);
+    }
+
+    public void parentChanged(ExecutionEntity execution, String oldParentId, String newParentId) {
+        if (oldParentId != null) {
+            Map<String, ExecutionEntity> oldSiblings = childExecutionsByParentId.get(oldParentId);
+            if (oldSiblings != null) {
+                oldSiblings.remove(execution.getId());
+            }
+        }
+        addChildExecution(newParentId, execution);
+    }
+
+    protected void addChildExecution(String parentExecutionId, ExecutionEntity execution) {
+        if (parentExecutionId != null && execution.getId() != null) {
+            Map<String, ExecutionEntity> siblings = childExecutionsByParentId.get(parentExecutionId);
+            if (siblings != null) {
+                siblings.putIfAbsent(execution.getId(), execution);
+            }
+        }
+    }
+
+}
@@ -16,6 +16,7 @@ package org.flowable.engine.impl.persistence.entity;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -50,6 +51,11 @@ public class HistoricProcessInstanceEntityManagerImpl
         return dataManager.findHistoricProcessInstancesByQueryCriteria(historicProcessInstanceQuery);
     }
 
+    @Override
+    public void streamHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, Consumer<HistoricProcessInstance> consumer) {
+        dataManager.streamHistoricProcessInstancesByQueryCriteria(historicProcessInstanceQuery, consumer);
+    }
+
     @Override
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
         return dataManager.findHistoricProcessInstancesAndVariablesByQueryCriteria(historicProcessInstanceQuery);
@@ -27,6 +27,7 @@ import org.flowable.engine.impl.cfg.PerformanceSettings;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionTreeIndex;
 import org.flowable.engine.impl.persistence.entity.data.AbstractProcessDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ExecutionDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionByProcessInstanceMatcher;
@@ -138,8 +139,32 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
                 !treeFetched);
     }
 
+    @Override
+    public void insert(ExecutionEntity entity) {
+        super.insert(entity);
+
+        ExecutionTreeIndex executionTreeIndex = ExecutionTreeIndex.getIfPresent();
+        if (executionTreeIndex != null) {
+            executionTreeIndex.executionInserted(entity);
+        }
+    }
+
     @Override
     public List<ExecutionEntity> findChildExecutionsByParentExecutionId(final String parentExecutionId) {
+        if (!performanceSettings.isEnableExecutionTreeIndex()) {
+            return findChildExecutionsByParentExecutionIdInternal(parentExecutionId);
+        }
+
+        ExecutionTreeIndex executionTreeIndex = ExecutionTreeIndex.getOrCreate(getCommandContext());
+        List<ExecutionEntity> childExecutions = executionTreeIndex.getChildExecutions(parentExecutionId, getDbSqlSession());
+        if (childExecutions == null) {
+            childExecutions = findChildExecutionsByParentExecutionIdInternal(parentExecutionId);
+            executionTreeIndex.setChildExecutions(parentExecutionId, childExecutions);
+        }
+        return childExecutions;
+    }
+
+    protected List<ExecutionEntity> findChildExecutionsByParentExecutionIdInternal(String parentExecutionId) {
         if (isExecutionTreeFetched(parentExecutionId)) {
             return getListFromCache(executionsByParentIdMatcher, parentExecutionId);
         } else {
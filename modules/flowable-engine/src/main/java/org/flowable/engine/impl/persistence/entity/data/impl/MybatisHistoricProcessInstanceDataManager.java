@@ -15,6 +15,7 @@ package org.flowable.engine.impl.persistence.entity.data.impl;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -80,6 +81,12 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         return getDbSqlSession().selectList("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery, getManagedEntityClass());
     }
 
+    @Override
+    public void streamHistoricProcessInstancesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery, Consumer<HistoricProcessInstance> consumer) {
+        setSafeInValueLists(historicProcessInstanceQuery);
+        getDbSqlSession().selectWithCursor("selectHistoricProcessInstancesByQueryCriteria", historicProcessInstanceQuery, consumer);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricProcessInstance> findHistoricProcessInstancesAndVariablesByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
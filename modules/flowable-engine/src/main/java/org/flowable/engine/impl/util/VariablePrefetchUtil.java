@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * Loads the variables of all the executions of a process instance with one query,
+ * the first time the variables of one of its executions are needed in a command context.
+ *
+ * The fetched variables end up in the entity cache (as any fetched entity), hence the variables of the other executions
+ * of the process instance are taken from the entity cache from then on, instead of querying them per execution.
+ */
+public class VariablePrefetchUtil {
+
+    public static final String ATTRIBUTE_PREFETCHED_PROCESS_INSTANCE_IDS = "ctx.attribute.prefetchedProcessInstanceVariables";
+
+    public static List<VariableInstanceEntity> findExecutionVariableInstances(ExecutionEntity execution, CommandContext commandContext) {
+        String processInstanceId = execution.getProcessInstanceId();
+        if (getPrefetchedProcessInstanceIds(commandContext).add(processInstanceId)) {
+            List<VariableInstanceEntity> processInstanceVariables = CommandContextUtil.getProcessEngineConfiguration(commandContext)
+                    .getVariableServiceConfiguration().getVariableService()
+                    .createInternalVariableInstanceQuery()
+                    .processInstanceId(processInstanceId)
+                    .withoutTaskId()
+                    .list();
+            return filterExecutionVariables(processInstanceVariables, execution.getId(), null);
+        }
+
+        // All variables of the process instance are in the entity cache: fetched by the prefetch or created afterwards
+        Collection<VariableInstanceEntity> cachedVariables = CommandContextUtil.getEntityCache(commandContext).findInCache(VariableInstanceEntity.class);
+        return filterExecutionVariables(cachedVariables, execution.getId(), CommandContextUtil.getDbSqlSession(commandContext));
+    }
+
+    protected static List<VariableInstanceEntity> filterExecutionVariables(Collection<VariableInstanceEntity> variables, String executionId, DbSqlSession dbSqlSession) {
+        List<VariableInstanceEntity> executionVariables = new ArrayList<>();
+        for (VariableInstanceEntity variable : variables) {
+            if (executionId.equals(variable.getExecutionId()) && variable.getTaskId() == null
+                    && (dbSqlSession == null || (!variable.isDeleted() && !dbSqlSession.isEntityToBeDeleted(variable)))) {
+                executionVariables.add(variable);
+            }
+        }
+        return executionVariables;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static Set<String> getPrefetchedProcessInstanceIds(CommandContext commandContext) {
+        Set<String> prefetchedProcessInstanceIds = (Set<String>) commandContext.getAttribute(ATTRIBUTE_PREFETCHED_PROCESS_INSTANCE_IDS);
+        if (prefetchedProcessInstanceIds == null) {
+            prefetchedProcessInstanceIds = new HashSet<>();
+            commandContext.addAttribute(ATTRIBUTE_PREFETCHED_PROCESS_INSTANCE_IDS, prefetchedProcessInstanceIds);
+        }
+        return prefetchedProcessInstanceIds;
+    }
+
+}
@@ -52,6 +52,11 @@ public class ParallelMultiInstanceLoopVariableType implements VariableType {
         return value instanceof ParallelMultiInstanceLoopVariable;
     }
 
+    @Override
+    public boolean isAbleToStoreByClass() {
+        return true;
+    }
+
     @Override
     public void setValue(Object value, ValueFields valueFields) {
         if (value instanceof ParallelMultiInstanceLoopVariable) {
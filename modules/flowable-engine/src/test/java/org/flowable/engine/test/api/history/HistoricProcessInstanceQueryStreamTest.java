@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class HistoricProcessInstanceQueryStreamTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStreamHistoricProcessInstances() {
+        for (int i = 0; i < 13; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            if (i % 3 == 0) {
+                Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+                taskService.complete(task.getId());
+            }
+        }
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+            List<String> expectedIds = historyService.createHistoricProcessInstanceQuery().list().stream()
+                    .map(HistoricProcessInstance::getId)
+                    .collect(Collectors.toList());
+            assertThat(expectedIds).hasSize(13);
+
+            assertThat(historyService.createHistoricProcessInstanceQuery().stream(4).map(HistoricProcessInstance::getId))
+                    .containsExactlyElementsOf(expectedIds);
+
+            assertThat(historyService.createHistoricProcessInstanceQuery().finished().stream(2))
+                    .hasSize(5)
+                    .allSatisfy(historicProcessInstance -> {
+                        assertThat(historicProcessInstance.getEndTime()).isNotNull();
+                        assertThat(historicProcessInstance.getProcessDefinitionKey()).isEqualTo("oneTaskProcess");
+                    });
+
+            assertThat(historyService.createHistoricProcessInstanceQuery().unfinished().stream(100)).hasSize(8);
+        }
+    }
+
+}
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.lang3.RandomStringUtils;
 import org.flowable.common.engine.api.FlowableException;
@@ -30,7 +31,9 @@ import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.lock.LockManager;
 import org.flowable.common.engine.api.management.TableMetaData;
+import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.lock.LeaseLockManagerImpl;
 import org.flowable.common.engine.impl.lock.LockManagerImpl;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
@@ -578,6 +581,129 @@ public class ManagementServiceTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    void testLeaseLock() {
+        String lockName = "testLeaseLock";
+        try {
+            CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+            String engineType = processEngineConfiguration.getEngineCfgKey();
+            LeaseLockManagerImpl testLockManager1 = new LeaseLockManagerImpl(commandExecutor, lockName, Duration.ofMillis(100), Duration.ofMinutes(1), engineType);
+            LeaseLockManagerImpl testLockManager2 = new LeaseLockManagerImpl(commandExecutor, lockName, Duration.ofMillis(100), Duration.ofMinutes(1), engineType);
+
+            assertThat(testLockManager1.acquireLock()).isTrue();
+            assertThat(testLockManager1.acquireLock()).isTrue();
+            assertThat(testLockManager1.isLeaseHeld()).isTrue();
+            assertThat(managementService.getProperties().get(lockName)).contains(testLockManager1.getLockOwner());
+
+            assertThat(testLockManager2.acquireLock()).isFalse();
+            assertThatThrownBy(() -> testLockManager2.waitForLock(Duration.ofMillis(250)))
+                    .isExactlyInstanceOf(FlowableException.class)
+                    .hasMessageContaining("Could not acquire lock testLeaseLock. Current lock value:");
+
+            testLockManager1.releaseLock();
+            assertThat(testLockManager1.isLeaseHeld()).isFalse();
+            assertThat(managementService.getProperties()).containsEntry(lockName, null);
+
+            testLockManager2.waitForLock(Duration.ofSeconds(1));
+            assertThat(testLockManager2.isLeaseHeld()).isTrue();
+
+            // The lease of the first lock manager has been taken over, so releasing it again leaves the lock untouched
+            testLockManager1.releaseLock();
+            assertThat(managementService.getProperties().get(lockName)).contains(testLockManager2.getLockOwner());
+
+            testLockManager2.releaseLock();
+            assertThat(managementService.getProperties()).containsEntry(lockName, null);
+        } finally {
+            deletePropertyIfExists(lockName);
+        }
+    }
+
+    @Test
+    void testAcquireExpiredLeaseLock() {
+        String lockName = "testExpiredLeaseLock";
+        try {
+            CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+            String engineType = processEngineConfiguration.getEngineCfgKey();
+            LeaseLockManagerImpl testLockManager1 = new LeaseLockManagerImpl(commandExecutor, lockName, Duration.ofMillis(100), Duration.ofMinutes(1), engineType);
+            assertThat(testLockManager1.acquireLock()).isTrue();
+
+            // Simulate a holder that died 2 minutes ago, without renewing its lease
+            String lockValue = managementService.getProperties().get(lockName);
+            updatePropertyValue(lockName, Instant.now().minus(2, ChronoUnit.MINUTES).toString() + lockValue.substring(lockValue.indexOf('Z') + 1));
+
+            LeaseLockManagerImpl testLockManager2 = new LeaseLockManagerImpl(commandExecutor, lockName, Duration.ofMillis(100), Duration.ofMinutes(1), engineType);
+            assertThat(testLockManager2.acquireLock()).isTrue();
+
+            // The first lock manager notices that it lost its lease when renewing it
+            assertThat(testLockManager1.renewLease()).isFalse();
+            assertThat(testLockManager1.isLeaseHeld()).isFalse();
+            assertThat(testLockManager1.acquireLock()).isFalse();
+
+            testLockManager2.releaseLock();
+        } finally {
+            deletePropertyIfExists(lockName);
+        }
+    }
+
+    @Test
+    void testLeaseLockIsRenewed() throws InterruptedException {
+        String lockName = "testRenewedLeaseLock";
+        try {
+            CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+            String engineType = processEngineConfiguration.getEngineCfgKey();
+            LeaseLockManagerImpl testLockManager1 = new LeaseLockManagerImpl(commandExecutor, lockName, Duration.ofMillis(100), Duration.ofMillis(600), engineType);
+            LeaseLockManagerImpl testLockManager2 = new LeaseLockManagerImpl(commandExecutor, lockName, Duration.ofMillis(100), Duration.ofMillis(600), engineType);
+            assertThat(testLockManager1.acquireLock()).isTrue();
+
+            // The lease is renewed in the background, so it doesn't expire while it is held
+            Thread.sleep(1500);
+            assertThat(testLockManager1.isLeaseHeld()).isTrue();
+            assertThat(testLockManager2.acquireLock()).isFalse();
+
+            testLockManager1.releaseLock();
+            assertThat(testLockManager2.acquireLock()).isTrue();
+            testLockManager2.releaseLock();
+        } finally {
+            deletePropertyIfExists(lockName);
+        }
+    }
+
+    @Test
+    void testLeaseLockIsLostWhenItCannotBeRenewed() throws InterruptedException {
+        String lockName = "testUnrenewedLeaseLock";
+        try {
+            CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+            String engineType = processEngineConfiguration.getEngineCfgKey();
+            AtomicBoolean databaseUnavailable = new AtomicBoolean();
+            LeaseLockManagerImpl testLockManager = new LeaseLockManagerImpl(commandExecutor, lockName, Duration.ofMillis(100), Duration.ofMillis(600), engineType) {
+
+                @Override
+                protected <T> T executeCommand(Command<T> command) {
+                    if (databaseUnavailable.get()) {
+                        throw new FlowableException("Database unavailable");
+                    }
+                    return super.executeCommand(command);
+                }
+            };
+            assertThat(testLockManager.acquireLock()).isTrue();
+
+            databaseUnavailable.set(true);
+            assertThat(testLockManager.renewLease()).isTrue();
+
+            // Without a successful renewal, the lease is lost once the lease duration has passed
+            Thread.sleep(700);
+            assertThat(testLockManager.isLeaseHeld()).isFalse();
+            assertThat(testLockManager.renewLease()).isFalse();
+            assertThat(testLockManager.acquireLock()).isFalse();
+
+            databaseUnavailable.set(false);
+            assertThat(testLockManager.acquireLock()).isTrue();
+            testLockManager.releaseLock();
+        } finally {
+            deletePropertyIfExists(lockName);
+        }
+    }
+
     @Test
     void testFindJobByCorrelationId() {
         Job asyncJob = managementService.executeCommand(context -> {
@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.TaskQuery;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TaskQueryStreamTest extends PluggableFlowableTestCase {
+
+    protected List<String> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    protected void createTasks() {
+        for (int i = 0; i < 25; i++) {
+            Task task = taskService.newTask();
+            task.setName(i % 2 == 0 ? "even" : "odd");
+            taskService.saveTask(task);
+            taskIds.add(task.getId());
+        }
+    }
+
+    @AfterEach
+    protected void deleteTasks() {
+        taskService.deleteTasks(taskIds, true);
+    }
+
+    @Test
+    public void testStreamAllPages() {
+        List<String> expectedTaskIds = taskService.createTaskQuery().list().stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+        assertThat(expectedTaskIds).hasSize(25);
+
+        assertThat(taskService.createTaskQuery().stream(10).map(Task::getId))
+                .containsExactlyElementsOf(expectedTaskIds);
+
+        // A last page with exactly the page size
+        assertThat(taskService.createTaskQuery().stream(5).map(Task::getId))
+                .containsExactlyElementsOf(expectedTaskIds);
+
+        assertThat(taskService.createTaskQuery().stream(100).map(Task::getId))
+                .containsExactlyElementsOf(expectedTaskIds);
+    }
+
+    @Test
+    public void testStreamWithCriteria() {
+        assertThat(taskService.createTaskQuery().taskName("odd").stream(3))
+                .hasSize(12)
+                .extracting(Task::getName)
+                .containsOnly("odd");
+
+        assertThat(taskService.createTaskQuery().taskName("unknown").stream(3)).isEmpty();
+    }
+
+    @Test
+    public void testStreamConsumedOneByOne() {
+        List<String> expectedTaskIds = taskService.createTaskQuery().listPage(0, 12).stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+
+        assertThat(taskService.createTaskQuery().stream(5).limit(12).map(Task::getId))
+                .containsExactlyElementsOf(expectedTaskIds);
+    }
+
+    @Test
+    public void testQueryCanBeExecutedAfterStreaming() {
+        TaskQuery query = taskService.createTaskQuery().taskName("odd");
+        assertThat(query.stream(5).limit(7)).hasSize(7);
+        assertThat(query.stream(5)).hasSize(12);
+
+        // The paging of the stream doesn't leak into other executions of the same query
+        assertThat(query.count()).isEqualTo(12);
+        assertThat(query.list()).hasSize(12);
+        assertThat(query.listPage(10, 5)).hasSize(2);
+    }
+
+    @Test
+    public void testStreamedTasksAreNotCached() {
+        managementService.executeCommand(commandContext -> {
+            assertThat(taskService.createTaskQuery().stream(10)).hasSize(25);
+            assertThat(commandContext.getSession(EntityCache.class).findInCache(TaskEntity.class)).isEmpty();
+            return null;
+        });
+    }
+
+    @Test
+    public void testStreamInvalidUsage() {
+        assertThatThrownBy(() -> taskService.createTaskQuery().orderByTaskName().asc().stream(10))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.createTaskQuery().stream(0))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.createTaskQuery().includeProcessVariables().stream(10).count())
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+}
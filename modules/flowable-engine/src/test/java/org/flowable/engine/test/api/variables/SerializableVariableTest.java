@@ -15,9 +15,12 @@ package org.flowable.engine.test.api.variables;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.delegate.DelegateExecution;
@@ -142,6 +145,52 @@ public class SerializableVariableTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testOverwriteSerializableValueDoesNotDeserializeOldValue() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("var", new DeserializationCountingVariable())
+                .start();
+
+        DeserializationCountingVariable.DESERIALIZATION_COUNT.set(0);
+        runtimeService.setVariable(processInstance.getId(), "var", new TestSerializableVariable(20));
+        assertThat(DeserializationCountingVariable.DESERIALIZATION_COUNT.get()).isZero();
+
+        assertThat(runtimeService.getVariable(processInstance.getId(), "var", TestSerializableVariable.class))
+                .extracting(TestSerializableVariable::getNumber)
+                .isEqualTo(20);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void testQueriedSerializableValueIsDeserializedOnFirstAccess() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("var", new DeserializationCountingVariable())
+                .start();
+
+        DeserializationCountingVariable.DESERIALIZATION_COUNT.set(0);
+        VariableInstance variableInstance = runtimeService.createVariableInstanceQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(variableInstance.getName()).isEqualTo("var");
+        assertThat(DeserializationCountingVariable.DESERIALIZATION_COUNT.get()).isZero();
+
+        // The bytes have been fetched by the query, the value is deserialized from those
+        assertThat(variableInstance.getValue()).isInstanceOf(DeserializationCountingVariable.class);
+        assertThat(variableInstance.getValue()).isInstanceOf(DeserializationCountingVariable.class);
+        assertThat(DeserializationCountingVariable.DESERIALIZATION_COUNT.get()).isEqualTo(1);
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            DeserializationCountingVariable.DESERIALIZATION_COUNT.set(0);
+            HistoricVariableInstance historicVariableInstance = historyService.createHistoricVariableInstanceQuery()
+                    .processInstanceId(processInstance.getId())
+                    .singleResult();
+            assertThat(DeserializationCountingVariable.DESERIALIZATION_COUNT.get()).isZero();
+            assertThat(historicVariableInstance.getValue()).isInstanceOf(DeserializationCountingVariable.class);
+            assertThat(DeserializationCountingVariable.DESERIALIZATION_COUNT.get()).isEqualTo(1);
+        }
+    }
+
     public static class TestUpdateSerializableVariableDelegate implements JavaDelegate {
 
         @Override
@@ -152,6 +201,19 @@ public class SerializableVariableTest extends PluggableFlowableTestCase {
 
     }
 
+    public static class DeserializationCountingVariable implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        static final AtomicInteger DESERIALIZATION_COUNT = new AtomicInteger();
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            DESERIALIZATION_COUNT.incrementAndGet();
+        }
+
+    }
+
     public static class TestSerializableVariable implements Serializable {
 
         private static final long serialVersionUID = 1L;
@@ -0,0 +1,123 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.api.types.VariableTypes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class VariableTypeLookupTest extends PluggableFlowableTestCase {
+
+    protected VariableType customType;
+
+    @AfterEach
+    public void removeCustomType() {
+        if (customType != null) {
+            processEngineConfiguration.getVariableTypes().removeType(customType);
+        }
+    }
+
+    @Test
+    public void testValueDependentTypesAreCheckedForEveryValue() {
+        VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+        String shortString = "short";
+        String longString = "a".repeat(processEngineConfiguration.getMaxLengthString() + 1);
+
+        assertThat(variableTypes.findVariableType(shortString).getTypeName()).isEqualTo("string");
+        assertThat(variableTypes.findVariableType(longString).getTypeName()).isEqualTo("longString");
+        assertThat(variableTypes.findVariableType(shortString).getTypeName()).isEqualTo("string");
+
+        assertThat(variableTypes.findVariableType(new ArrayList<>()).getTypeName()).isEqualTo("serializable");
+        assertThat(variableTypes.findVariableType(null).getTypeName()).isEqualTo("null");
+        assertThat(variableTypes.findVariableType(1).getTypeName()).isEqualTo("integer");
+        assertThat(variableTypes.findVariableType(new Date()).getTypeName()).isEqualTo("date");
+    }
+
+    @Test
+    public void testClassBasedTypeIsResolvedOncePerClass() {
+        CountingDateType countingType = new CountingDateType();
+        customType = countingType;
+
+        VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+        variableTypes.addTypeBefore(countingType, "date");
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(variableTypes.findVariableType(new Date())).isSameAs(countingType);
+            assertThat(variableTypes.findVariableType(i).getTypeName()).isEqualTo("integer");
+        }
+
+        // Once for resolving the date class and then once for every date value.
+        // The integer type comes first, so integers never reach the custom type.
+        assertThat(countingType.invocationCount.get()).isEqualTo(11);
+    }
+
+    @Test
+    public void testAddingTypeResetsLookup() {
+        VariableTypes variableTypes = processEngineConfiguration.getVariableTypes();
+        assertThat(variableTypes.findVariableType(new Date()).getTypeName()).isEqualTo("date");
+
+        customType = new CountingDateType();
+        variableTypes.addType(customType, 0);
+        assertThat(variableTypes.findVariableType(new Date())).isSameAs(customType);
+
+        variableTypes.removeType(customType);
+        customType = null;
+        assertThat(variableTypes.findVariableType(new Date()).getTypeName()).isEqualTo("date");
+    }
+
+    protected static class CountingDateType implements VariableType {
+
+        protected AtomicInteger invocationCount = new AtomicInteger();
+
+        @Override
+        public String getTypeName() {
+            return "countingDate";
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public boolean isAbleToStore(Object value) {
+            invocationCount.incrementAndGet();
+            return value instanceof Date;
+        }
+
+        @Override
+        public boolean isAbleToStoreByClass() {
+            return true;
+        }
+
+        @Override
+        public void setValue(Object value, ValueFields valueFields) {
+            valueFields.setLongValue(value != null ? ((Date) value).getTime() : null);
+        }
+
+        @Override
+        public Object getValue(ValueFields valueFields) {
+            return valueFields.getLongValue() != null ? new Date(valueFields.getLongValue()) : null;
+        }
+    }
+
+}
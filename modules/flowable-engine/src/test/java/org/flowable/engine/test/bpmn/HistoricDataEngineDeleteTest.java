@@ -24,8 +24,12 @@ import java.util.List;
 import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.runtime.Clock;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.delete.DeleteHistoricProcessInstanceIdsStatusJobHandler;
+import org.flowable.engine.impl.delete.DeleteHistoricProcessInstancesInEndTimeRangeJobHandler;
 import org.flowable.engine.impl.delete.DeleteHistoricProcessInstancesSequentialJobHandler;
 import org.flowable.engine.impl.delete.DeleteProcessInstanceBatchConstants;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
@@ -39,6 +43,8 @@ import org.flowable.task.api.Task;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import tools.jackson.databind.JsonNode;
+
 public class HistoricDataEngineDeleteTest extends ResourceFlowableTestCase {
 
     public HistoricDataEngineDeleteTest() {
@@ -213,4 +219,106 @@ public class HistoricDataEngineDeleteTest extends ResourceFlowableTestCase {
             processEngineConfiguration.resetClock();
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @Deployment(resources="org/flowable/engine/test/bpmn/oneTask.bpmn20.xml")
+    public void testHistoryCleanupTimerJobInParallelEndTimeRanges() {
+        int originalBatchSize = processEngineConfiguration.getCleanInstancesBatchSize();
+        processEngineConfiguration.setCleanInstancesBatchSize(2);
+        processEngineConfiguration.setCleanInstancesParallelism(3);
+        try {
+            Clock clock = processEngineConfiguration.getClock();
+            Calendar cal = clock.getCurrentCalendar();
+            cal.add(Calendar.DAY_OF_YEAR, -400);
+
+            List<String> processInstanceIds = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                clock.setCurrentCalendar(cal);
+                ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startToEnd");
+                processInstanceIds.add(processInstance.getId());
+                runtimeService.setVariable(processInstance.getId(), "testVar", "testValue" + (i + 1));
+
+                // The first 10 instances end an hour after each other, except for the last 3 that end much later, the other 2 are still running
+                if (i < 10) {
+                    Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+                    taskService.complete(task.getId());
+                }
+                cal.add(Calendar.HOUR_OF_DAY, i == 6 ? 100 : 1);
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                assertThat(historyService.createHistoricProcessInstanceQuery().count()).isEqualTo(12);
+
+                processEngineConfiguration.getClock().reset();
+                Job executableJob = managementService.moveTimerToExecutableJob(
+                        managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(executableJob.getId());
+
+                Batch batch = managementService.createBatchQuery().searchKey("Flowable BPMN History Cleanup").singleResult();
+                assertThat(batch).isNotNull();
+                batchesToRemove.add(batch.getId());
+                assertThat(batch.getStatus()).isEqualTo(DeleteProcessInstanceBatchConstants.STATUS_IN_PROGRESS);
+
+                assertThat(managementService.createBatchPartQuery().batchId(batch.getId()).list())
+                        .extracting(BatchPart::getSearchKey, BatchPart::getSearchKey2, BatchPart::getStatus)
+                        .containsExactlyInAnyOrder(
+                                tuple("0", "0", DeleteProcessInstanceBatchConstants.STATUS_WAITING),
+                                tuple("1", "0", DeleteProcessInstanceBatchConstants.STATUS_WAITING),
+                                tuple("2", "0", DeleteProcessInstanceBatchConstants.STATUS_WAITING)
+                        );
+
+                assertThat(managementService.createJobQuery().list())
+                        .extracting(Job::getJobHandlerType)
+                        .containsOnly(DeleteHistoricProcessInstancesInEndTimeRangeJobHandler.TYPE)
+                        .hasSize(3);
+
+                waitForJobExecutorToProcessAllJobs(10000, 200);
+
+                // The ranges have about the same number of instances (3, 3 and 4) even though the end times are not evenly distributed,
+                // so each range is deleted in 2 chunks and finished by an empty one
+                List<BatchPart> batchParts = managementService.createBatchPartQuery().batchId(batch.getId()).list();
+                assertThat(batchParts)
+                        .hasSize(9)
+                        .extracting(BatchPart::getStatus)
+                        .containsOnly(DeleteProcessInstanceBatchConstants.STATUS_COMPLETED);
+
+                long totalDeleted = 0;
+                for (BatchPart batchPart : batchParts) {
+                    JsonNode resultNode = processEngineConfiguration.getObjectMapper().readTree(batchPart.getResultDocumentJson(ScopeTypes.BPMN));
+                    if ("2".equals(batchPart.getSearchKey2())) {
+                        JsonNode rangeMetrics = resultNode.path("rangeMetrics");
+                        assertThat(rangeMetrics.path("numberOfBatchParts").intValue()).isEqualTo(3);
+                        assertThat(rangeMetrics.path("numberOfInstancesDeleted").longValue()).isEqualTo("2".equals(batchPart.getSearchKey()) ? 4L : 3L);
+                        totalDeleted += rangeMetrics.path("numberOfInstancesDeleted").longValue();
+                    } else if ("0".equals(batchPart.getSearchKey2())) {
+                        assertThat(resultNode.path("processInstanceIdsDeleted").size()).isEqualTo(2);
+                    } else {
+                        assertThat(resultNode.path("processInstanceIdsDeleted").size()).isBetween(1, 2);
+                    }
+                }
+                assertThat(totalDeleted).isEqualTo(10);
+
+                // The status timer job completes the batch
+                Job statusJob = managementService.moveTimerToExecutableJob(
+                        managementService.createTimerJobQuery().handlerType(DeleteHistoricProcessInstanceIdsStatusJobHandler.TYPE).singleResult().getId());
+                managementService.executeJob(statusJob.getId());
+
+                batch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+                assertThat(batch.getStatus()).isEqualTo(DeleteProcessInstanceBatchConstants.STATUS_COMPLETED);
+
+                assertThat(historyService.createHistoricProcessInstanceQuery().list())
+                        .extracting(HistoricProcessInstance::getId)
+                        .containsExactlyInAnyOrderElementsOf(processInstanceIds.subList(10, 12));
+                assertThat(historyService.createHistoricTaskInstanceQuery().count()).isEqualTo(2);
+                assertThat(historyService.createHistoricVariableInstanceQuery().count()).isEqualTo(2);
+
+                managementService.deleteTimerJob(managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+            }
+
+        } finally {
+            processEngineConfiguration.setCleanInstancesBatchSize(originalBatchSize);
+            processEngineConfiguration.setCleanInstancesParallelism(1);
+            processEngineConfiguration.resetClock();
+        }
+    }
+}
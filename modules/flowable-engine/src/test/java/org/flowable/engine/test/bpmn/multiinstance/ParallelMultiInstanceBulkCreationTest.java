@@ -0,0 +1,107 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.multiinstance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelMultiInstanceBulkCreationTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    protected void enableBulkCreation() {
+        processEngineConfiguration.getPerformanceSettings().setEnableParallelMultiInstanceBulkCreation(true);
+    }
+
+    @AfterEach
+    protected void resetBulkCreation() {
+        processEngineConfiguration.getPerformanceSettings().setEnableParallelMultiInstanceBulkCreation(false);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml")
+    public void testParallelUserTasks() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelUserTasks");
+        Execution multiInstanceRoot = runtimeService.createExecutionQuery()
+                .parentId(processInstance.getId())
+                .singleResult();
+        assertThat(runtimeService.createExecutionQuery().parentId(multiInstanceRoot.getId()).count()).isEqualTo(3);
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).orderByTaskName().asc().list();
+        assertThat(tasks)
+                .extracting(Task::getName)
+                .containsExactly("My Task 0", "My Task 1", "My Task 2");
+
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasksBasedOnCollection.bpmn20.xml")
+    public void testParallelUserTasksBasedOnCollection() {
+        List<String> assigneeList = Arrays.asList("kermit", "gonzo", "mispiggy", "fozzie", "bubba");
+        String procId = runtimeService.startProcessInstanceByKey("miParallelUserTasksBasedOnCollection",
+                CollectionUtil.singletonMap("assigneeList", assigneeList)).getId();
+
+        // Every instance gets the element of the collection at its loop counter
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(procId).list();
+        assertThat(tasks).hasSize(5);
+        for (Task task : tasks) {
+            int loopCounter = (Integer) taskService.getVariable(task.getId(), "loopCounter");
+            assertThat(task.getAssignee()).isEqualTo(assigneeList.get(loopCounter));
+            assertThat(task.getName()).isEqualTo("My Task " + loopCounter);
+        }
+
+        // Completing 3 tasks will trigger the completion condition
+        for (int i = 0; i < 3; i++) {
+            taskService.complete(tasks.get(i).getId());
+        }
+        assertThat(taskService.createTaskQuery().processInstanceId(procId).count()).isZero();
+        assertProcessEnded(procId);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelScriptTasks.bpmn20.xml")
+    public void testParallelScriptTasks() {
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("sum", 0);
+        vars.put("nrOfLoops", 10);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelScriptTask", vars);
+
+        Execution waitStateExecution = runtimeService.createExecutionQuery()
+                .processInstanceId(processInstance.getId())
+                .activityId("waitState")
+                .singleResult();
+        assertThat(waitStateExecution).isNotNull();
+        assertThat(runtimeService.getVariable(processInstance.getId(), "sum")).isEqualTo(45);
+
+        runtimeService.trigger(waitStateExecution.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+}
@@ -0,0 +1,126 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EntityDirtyTrackingTest extends PluggableFlowableTestCase {
+
+    protected boolean oldEntityDirtyTrackingEnabled;
+
+    @BeforeEach
+    protected void enableDirtyTracking() {
+        DbSqlSessionFactory dbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
+        oldEntityDirtyTrackingEnabled = dbSqlSessionFactory.isEntityDirtyTrackingEnabled();
+        dbSqlSessionFactory.setEntityDirtyTrackingEnabled(true);
+    }
+
+    @AfterEach
+    protected void resetDirtyTracking() {
+        processEngineConfiguration.getDbSqlSessionFactory().setEntityDirtyTrackingEnabled(oldEntityDirtyTrackingEnabled);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+    public void testChangesAreFlushed() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("stringVar", "one");
+        variables.put("intVar", 1);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("twoTasksProcess", variables);
+
+        runtimeService.setVariable(processInstance.getId(), "stringVar", "two");
+        runtimeService.setVariable(processInstance.getId(), "intVar", 2);
+        assertThat(runtimeService.getVariables(processInstance.getId()))
+                .containsEntry("stringVar", "two")
+                .containsEntry("intVar", 2);
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(task.getTaskDefinitionKey()).isEqualTo("firstTask");
+        taskService.complete(task.getId());
+
+        assertThat(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).onlyChildExecutions().singleResult().getActivityId())
+                .isEqualTo("secondTask");
+
+        runtimeService.setProcessInstanceName(processInstance.getId(), "dirty tracked");
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).singleResult().getName())
+                .isEqualTo("dirty tracked");
+
+        task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+    public void testUnchangedEntitiesAreNotUpdated() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("twoTasksProcess", Map.of("var", "value"));
+
+        runtimeService.setProcessInstanceName(processInstance.getId(), "name");
+        int executionRevision = getProcessInstanceRevision(processInstance.getId());
+        int variableRevision = getVariableRevision(processInstance.getId(), "var");
+
+        // Setting the same value again should not lead to an update
+        runtimeService.setProcessInstanceName(processInstance.getId(), "name");
+        assertThat(getProcessInstanceRevision(processInstance.getId())).isEqualTo(executionRevision);
+
+        // A change that is reverted in the same transaction should not lead to an update either
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            execution.setName("temporaryName");
+            execution.setName("name");
+            return null;
+        });
+        assertThat(getProcessInstanceRevision(processInstance.getId())).isEqualTo(executionRevision);
+
+        runtimeService.setVariable(processInstance.getId(), "var", "value");
+        assertThat(getVariableRevision(processInstance.getId(), "var")).isEqualTo(variableRevision);
+
+        runtimeService.setProcessInstanceName(processInstance.getId(), "otherName");
+        assertThat(getProcessInstanceRevision(processInstance.getId())).isGreaterThan(executionRevision);
+
+        runtimeService.setVariable(processInstance.getId(), "var", "otherValue");
+        assertThat(getVariableRevision(processInstance.getId(), "var")).isEqualTo(variableRevision + 1);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "var")).isEqualTo("otherValue");
+    }
+
+    protected int getProcessInstanceRevision(String processInstanceId) {
+        return managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstanceId);
+            return execution.getRevision();
+        });
+    }
+
+    protected int getVariableRevision(String processInstanceId, String variableName) {
+        return managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstanceId);
+            VariableInstanceEntity variableInstance = (VariableInstanceEntity) execution.getVariableInstance(variableName);
+            return variableInstance.getRevision();
+        });
+    }
+
+}
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EntityUpdateGroupingTest extends PluggableFlowableTestCase {
+
+    protected boolean oldUpdateGroupingEnabled;
+
+    @BeforeEach
+    protected void enableUpdateGrouping() {
+        DbSqlSessionFactory dbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
+        oldUpdateGroupingEnabled = dbSqlSessionFactory.isUpdateGroupingEnabled();
+        dbSqlSessionFactory.setUpdateGroupingEnabled(true);
+    }
+
+    @AfterEach
+    protected void resetUpdateGrouping() {
+        processEngineConfiguration.getDbSqlSessionFactory().setUpdateGroupingEnabled(oldUpdateGroupingEnabled);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+    public void testGroupedUpdatesAreFlushed() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("a", "one");
+        variables.put("b", "one");
+        variables.put("c", 1);
+        variables.put("d", 1L);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("twoTasksProcess", variables);
+
+        // Updates of the same variables with different changed columns in one transaction
+        Map<String, Object> newVariables = new HashMap<>();
+        newVariables.put("a", "two");
+        newVariables.put("b", "two");
+        newVariables.put("c", 2);
+        newVariables.put("d", 2L);
+        runtimeService.setVariables(processInstance.getId(), newVariables);
+        assertThat(runtimeService.getVariables(processInstance.getId()))
+                .containsOnly(
+                        entry("a", "two"),
+                        entry("b", "two"),
+                        entry("c", 2),
+                        entry("d", 2L));
+
+        runtimeService.setVariable(processInstance.getId(), "a", 3);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "a")).isEqualTo(3);
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.setAssignee(task.getId(), "kermit");
+        taskService.setPriority(task.getId(), 10);
+        task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(task.getAssignee()).isEqualTo("kermit");
+        assertThat(task.getPriority()).isEqualTo(10);
+        taskService.complete(task.getId());
+
+        task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(task.getTaskDefinitionKey()).isEqualTo("secondTask");
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+    public void testChangedColumnsAreUpdated() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("twoTasksProcess");
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            execution.setCallbackId("someCallbackId");
+            execution.setCallbackType("someCallbackType");
+            return null;
+        });
+
+        ExecutionEntity execution = managementService.executeCommand(
+                commandContext -> CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId()));
+        assertThat(execution.getCallbackId()).isEqualTo("someCallbackId");
+        assertThat(execution.getCallbackType()).isEqualTo("someCallbackType");
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntity processInstanceExecution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            processInstanceExecution.setCallbackType("otherCallbackType");
+            return null;
+        });
+
+        List<ProcessInstance> processInstances = runtimeService.createProcessInstanceQuery().processInstanceCallbackId("someCallbackId").list();
+        assertThat(processInstances)
+                .extracting(ProcessInstance::getCallbackType)
+                .containsExactly("otherCallbackType");
+    }
+
+}
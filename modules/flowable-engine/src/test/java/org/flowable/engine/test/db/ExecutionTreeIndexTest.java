@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.persistence.entity.ExecutionTreeIndex;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ExecutionTreeIndexTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    protected void enableExecutionTreeIndex() {
+        processEngineConfiguration.getPerformanceSettings().setEnableExecutionTreeIndex(true);
+    }
+
+    @AfterEach
+    protected void resetExecutionTreeIndex() {
+        processEngineConfiguration.getPerformanceSettings().setEnableExecutionTreeIndex(false);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml")
+    public void testChildExecutionsAreKeptUpToDate() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelUserTasks");
+        Execution multiInstanceRoot = runtimeService.createExecutionQuery()
+                .parentId(processInstance.getId())
+                .singleResult();
+
+        // The changes are rolled back, to keep the process instance intact
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+            List<ExecutionEntity> childExecutions = executionEntityManager.findChildExecutionsByParentExecutionId(multiInstanceRoot.getId());
+            assertThat(childExecutions).hasSize(3);
+
+            ExecutionTreeIndex executionTreeIndex = ExecutionTreeIndex.getOrCreate(commandContext);
+            assertThat(executionTreeIndex.getChildExecutions(multiInstanceRoot.getId(), CommandContextUtil.getDbSqlSession(commandContext))).hasSize(3);
+
+            // Created executions are added to the index
+            ExecutionEntity multiInstanceRootExecution = executionEntityManager.findById(multiInstanceRoot.getId());
+            ExecutionEntity newChildExecution = executionEntityManager.createChildExecution(multiInstanceRootExecution);
+            assertThat(executionEntityManager.findChildExecutionsByParentExecutionId(multiInstanceRoot.getId()))
+                    .hasSize(4)
+                    .contains(newChildExecution);
+
+            // Moved executions are moved in the index
+            assertThat(executionEntityManager.findChildExecutionsByParentExecutionId(processInstance.getId()))
+                    .extracting(ExecutionEntity::getId)
+                    .containsExactly(multiInstanceRoot.getId());
+            ExecutionEntity movedChildExecution = childExecutions.get(0);
+            movedChildExecution.setParent(executionEntityManager.findById(processInstance.getId()));
+            assertThat(executionEntityManager.findChildExecutionsByParentExecutionId(multiInstanceRoot.getId()))
+                    .hasSize(3)
+                    .doesNotContain(movedChildExecution);
+            assertThat(executionEntityManager.findChildExecutionsByParentExecutionId(processInstance.getId()))
+                    .extracting(ExecutionEntity::getId)
+                    .containsExactlyInAnyOrder(multiInstanceRoot.getId(), movedChildExecution.getId());
+
+            // Deleted executions are left out
+            executionEntityManager.delete(newChildExecution);
+            assertThat(executionEntityManager.findChildExecutionsByParentExecutionId(multiInstanceRoot.getId()))
+                    .hasSize(2)
+                    .doesNotContain(newChildExecution);
+
+            throw new FlowableException("rollback");
+        })).hasMessage("rollback");
+
+        assertThat(runtimeService.createExecutionQuery().parentId(multiInstanceRoot.getId()).count()).isEqualTo(3);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml")
+    public void testCompleteParallelMultiInstance() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelUserTasks");
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks).hasSize(3);
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+
+        assertProcessEnded(processInstance.getId());
+    }
+
+}
@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JdbcBatchTest extends PluggableFlowableTestCase {
+
+    protected boolean oldJdbcBatchEnabled;
+    protected boolean oldUpdateGroupingEnabled;
+
+    @BeforeEach
+    protected void enableJdbcBatch() {
+        DbSqlSessionFactory dbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
+        oldJdbcBatchEnabled = dbSqlSessionFactory.isJdbcBatchEnabled();
+        oldUpdateGroupingEnabled = dbSqlSessionFactory.isUpdateGroupingEnabled();
+        dbSqlSessionFactory.setJdbcBatchEnabled(true);
+        dbSqlSessionFactory.setUpdateGroupingEnabled(true);
+    }
+
+    @AfterEach
+    protected void resetJdbcBatch() {
+        DbSqlSessionFactory dbSqlSessionFactory = processEngineConfiguration.getDbSqlSessionFactory();
+        dbSqlSessionFactory.setJdbcBatchEnabled(oldJdbcBatchEnabled);
+        dbSqlSessionFactory.setUpdateGroupingEnabled(oldUpdateGroupingEnabled);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/multiinstance/MultiInstanceTest.testParallelUserTasks.bpmn20.xml")
+    public void testBatchedUpdatesAndDeletes() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("miParallelUserTasks", Map.of("var", "value"));
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertThat(tasks).hasSize(3);
+
+        runtimeService.setVariables(processInstance.getId(), Map.of("var", "otherValue", "otherVar", 1));
+        assertThat(runtimeService.getVariables(processInstance.getId()))
+                .containsOnly(
+                        entry("var", "otherValue"),
+                        entry("otherVar", 1));
+
+        for (Task task : tasks) {
+            taskService.setPriority(task.getId(), 20);
+        }
+        assertThat(taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskPriority(20).count()).isEqualTo(3);
+
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+    public void testOptimisticLockingIsDetected() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("twoTasksProcess");
+
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+
+            // Another transaction updates the same execution concurrently
+            processEngineConfiguration.getCommandExecutor().execute(new CommandConfig(false, TransactionPropagation.REQUIRES_NEW), newCommandContext -> {
+                CommandContextUtil.getExecutionEntityManager(newCommandContext).findById(processInstance.getId()).setName("concurrentName");
+                return null;
+            });
+
+            execution.setName("name");
+            return null;
+        })).isInstanceOf(FlowableOptimisticLockingException.class);
+
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).singleResult().getName())
+                .isEqualTo("concurrentName");
+    }
+
+    @Test
+    public void testMissingUpdateCountIsNotTreatedAsSuccess() {
+        BatchResult batchResult = new BatchResult(null, "update ACT_RU_EXECUTION");
+        batchResult.addParameterObject("execution");
+        batchResult.setUpdateCounts(new int[] { Statement.SUCCESS_NO_INFO });
+
+        UpdateCountCheckingDbSqlSession dbSqlSession = new UpdateCountCheckingDbSqlSession(processEngineConfiguration.getDbSqlSessionFactory());
+        try {
+            // Without the update count, a concurrent modification can't be detected
+            assertThatThrownBy(() -> dbSqlSession.checkBatchUpdateCounts(List.of(batchResult), parameterObject -> true))
+                    .isExactlyInstanceOf(FlowableException.class)
+                    .hasMessageContaining("did not report the update count");
+
+            // Unless the update count doesn't need to be checked
+            dbSqlSession.checkBatchUpdateCounts(List.of(batchResult), parameterObject -> false);
+        } finally {
+            dbSqlSession.close();
+        }
+    }
+
+    protected static class UpdateCountCheckingDbSqlSession extends DbSqlSession {
+
+        public UpdateCountCheckingDbSqlSession(DbSqlSessionFactory dbSqlSessionFactory) {
+            super(dbSqlSessionFactory, new EntityCacheImpl());
+        }
+
+        @Override
+        public void checkBatchUpdateCounts(List<BatchResult> batchResults, Predicate<Object> updateCountChecked) {
+            super.checkBatchUpdateCounts(batchResults, updateCountChecked);
+        }
+    }
+
+}
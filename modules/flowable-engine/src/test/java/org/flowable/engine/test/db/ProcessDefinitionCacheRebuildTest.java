@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ProcessDefinitionCacheRebuildTest extends PluggableFlowableTestCase {
+
+    protected boolean oldSingleResourceRebuildEnabled;
+
+    @BeforeEach
+    protected void enableSingleResourceRebuild() {
+        oldSingleResourceRebuildEnabled = processEngineConfiguration.isProcessDefinitionCacheSingleResourceRebuildEnabled();
+        processEngineConfiguration.setProcessDefinitionCacheSingleResourceRebuildEnabled(true);
+    }
+
+    @AfterEach
+    protected void resetSingleResourceRebuild() {
+        processEngineConfiguration.setProcessDefinitionCacheSingleResourceRebuildEnabled(oldSingleResourceRebuildEnabled);
+    }
+
+    @Test
+    @Deployment(resources = {
+            "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml",
+            "org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml"
+    })
+    public void testOnlyResourceOfMissingProcessDefinitionIsParsed() {
+        ProcessDefinition oneTaskProcess = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult();
+        ProcessDefinition twoTasksProcess = repositoryService.createProcessDefinitionQuery().processDefinitionKey("twoTasksProcess").singleResult();
+
+        DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = processEngineConfiguration.getProcessDefinitionCache();
+        processDefinitionCache.clear();
+
+        assertThat(repositoryService.getBpmnModel(oneTaskProcess.getId()).getMainProcess().getId()).isEqualTo("oneTaskProcess");
+        assertThat(processDefinitionCache.contains(oneTaskProcess.getId())).isTrue();
+        assertThat(processDefinitionCache.contains(twoTasksProcess.getId())).isFalse();
+
+        ProcessDefinitionCacheEntry cacheEntry = processDefinitionCache.get(oneTaskProcess.getId());
+        assertThat(cacheEntry.getProcessDefinition().getVersion()).isEqualTo(oneTaskProcess.getVersion());
+        assertThat(cacheEntry.getProcessDefinition().getResourceName()).isEqualTo(oneTaskProcess.getResourceName());
+
+        // The process definition can be used after it has been rebuilt
+        String processInstanceId = runtimeService.startProcessInstanceById(oneTaskProcess.getId()).getId();
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+        assertProcessEnded(processInstanceId);
+
+        assertThat(repositoryService.getBpmnModel(twoTasksProcess.getId()).getMainProcess().getId()).isEqualTo("twoTasksProcess");
+        assertThat(processDefinitionCache.contains(twoTasksProcess.getId())).isTrue();
+    }
+
+    @Test
+    @Deployment(resources = {
+            "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml",
+            "org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml"
+    })
+    public void testPrewarmProcessDefinitionCache() throws InterruptedException {
+        ProcessDefinition oneTaskProcess = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult();
+        ProcessDefinition twoTasksProcess = repositoryService.createProcessDefinitionQuery().processDefinitionKey("twoTasksProcess").singleResult();
+
+        DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = processEngineConfiguration.getProcessDefinitionCache();
+        processDefinitionCache.clear();
+
+        processEngineConfiguration.getDeploymentManager().prewarmProcessDefinitionCache(2);
+
+        long timeToGiveUp = System.currentTimeMillis() + 10000;
+        while ((!processDefinitionCache.contains(oneTaskProcess.getId()) || !processDefinitionCache.contains(twoTasksProcess.getId()))
+                && System.currentTimeMillis() < timeToGiveUp) {
+            Thread.sleep(50);
+        }
+
+        assertThat(processDefinitionCache.contains(oneTaskProcess.getId())).isTrue();
+        assertThat(processDefinitionCache.contains(twoTasksProcess.getId())).isTrue();
+    }
+
+}
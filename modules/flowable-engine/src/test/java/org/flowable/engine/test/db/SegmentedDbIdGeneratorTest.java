@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.flowable.engine.impl.db.SegmentedDbIdGenerator;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SegmentedDbIdGeneratorTest extends PluggableFlowableTestCase {
+
+    protected SegmentedDbIdGenerator idGenerator;
+
+    @BeforeEach
+    protected void createIdGenerator() {
+        idGenerator = new SegmentedDbIdGenerator();
+        idGenerator.setIdBlockSize(100);
+        idGenerator.setThreadBufferSize(10);
+        idGenerator.setCommandExecutor(processEngineConfiguration.getCommandExecutor());
+        idGenerator.setCommandConfig(processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew());
+    }
+
+    @Test
+    public void testIdsAreUniqueAcrossThreads() throws Exception {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat(ids).hasSize(8000);
+        // 8000 ids need at least 80 blocks of 100 ids
+        assertThat(idGenerator.getBlockFetchCount()).isGreaterThanOrEqualTo(80);
+        assertThat(idGenerator.getSynchronousBlockFetchCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    public void testBlocksAreReservedAheadOfTime() throws Exception {
+        // The first id needs a synchronous fetch, after which the next block is reserved in the background
+        String firstId = idGenerator.getNextId();
+        assertThat(idGenerator.getSynchronousBlockFetchCount()).isEqualTo(1);
+
+        long timeToGiveUp = System.currentTimeMillis() + 5000;
+        while (idGenerator.getReservedBlocksAvailable() == 0 && System.currentTimeMillis() < timeToGiveUp) {
+            Thread.sleep(10);
+        }
+        assertThat(idGenerator.getReservedBlocksAvailable()).isEqualTo(1);
+
+        // Using up the first block switches to the reserved block without fetching synchronously
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ids.add(firstId);
+        for (int i = 0; i < 150; i++) {
+            ids.add(idGenerator.getNextId());
+        }
+
+        assertThat(ids).hasSize(151);
+        assertThat(idGenerator.getSynchronousBlockFetchCount()).isEqualTo(1);
+        assertThat(idGenerator.getBlockFetchCount()).isGreaterThanOrEqualTo(2);
+    }
+
+}
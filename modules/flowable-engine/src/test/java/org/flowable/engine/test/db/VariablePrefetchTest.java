@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.VariablePrefetchUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VariablePrefetchTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    protected void enableVariablePrefetching() {
+        processEngineConfiguration.getPerformanceSettings().setEnableVariablePrefetching(true);
+    }
+
+    @AfterEach
+    protected void resetVariablePrefetching() {
+        processEngineConfiguration.getPerformanceSettings().setEnableVariablePrefetching(false);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/db/VariableScopeTest.testVariableScope.bpmn20.xml")
+    public void testVariablesOfExecutionTreeArePrefetched() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleSubProcess", Map.of("test", "test", "other", "other"));
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        runtimeService.setVariableLocal(task.getExecutionId(), "local", "localValue");
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(task.getExecutionId());
+
+            // The variable lookup walks up the tree to the process instance, but the variables are fetched once
+            assertThat(execution.getVariable("test")).isEqualTo("test2");
+            assertThat(execution.getVariable("other")).isEqualTo("other");
+            assertThat(execution.getVariables())
+                    .containsOnly(Map.entry("test", "test2"), Map.entry("other", "other"), Map.entry("local", "localValue"));
+
+            @SuppressWarnings("unchecked")
+            Set<String> prefetchedProcessInstanceIds = (Set<String>) commandContext.getAttribute(VariablePrefetchUtil.ATTRIBUTE_PREFETCHED_PROCESS_INSTANCE_IDS);
+            assertThat(prefetchedProcessInstanceIds).containsExactly(processInstance.getId());
+
+            ExecutionEntity processInstanceExecution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            assertThat(processInstanceExecution.getVariablesLocal()).containsOnly(Map.entry("test", "test"), Map.entry("other", "other"));
+            return null;
+        });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/db/VariableScopeTest.testVariableScope.bpmn20.xml")
+    public void testChangedVariablesAreVisibleAfterPrefetch() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleSubProcess", Map.of("test", "test", "other", "other"));
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(task.getExecutionId());
+            assertThat(execution.getVariable("test")).isEqualTo("test2");
+
+            // Changes in the same transaction, to executions whose variables haven't been loaded yet
+            ExecutionEntity processInstanceExecution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            processInstanceExecution.setVariableLocal("added", "addedValue");
+            processInstanceExecution.removeVariableLocal("other");
+
+            assertThat(execution.getVariable("added")).isEqualTo("addedValue");
+            assertThat(execution.hasVariable("other")).isFalse();
+            return null;
+        });
+
+        assertThat(runtimeService.getVariables(task.getExecutionId())).containsOnly(Map.entry("test", "test2"), Map.entry("added", "addedValue"));
+        assertThat(runtimeService.getVariablesLocal(processInstance.getId())).containsOnly(Map.entry("test", "test"), Map.entry("added", "addedValue"));
+
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+    }
+
+}
@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.eventregistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.api.InboundEventBatchException;
+import org.flowable.eventregistry.impl.DefaultInboundEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.databind.ObjectMapper;
+
+public class BpmnEventRegistryConsumerBatchTest extends AbstractBpmnEventRegistryConsumerTest {
+
+    protected int originalBatchTransactionSize;
+
+    @BeforeEach
+    protected void setBatchTransactionSize() {
+        originalBatchTransactionSize = getEventRegistryEngineConfiguration().getInboundEventBatchTransactionSize();
+        getEventRegistryEngineConfiguration().setInboundEventBatchTransactionSize(2);
+    }
+
+    @AfterEach
+    protected void resetBatchTransactionSize() {
+        getEventRegistryEngineConfiguration().setInboundEventBatchTransactionSize(originalBatchTransactionSize);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testReceiveEventTaskWithCorrelationAndPayload.bpmn20.xml")
+    public void testReceiveEventTaskWithCorrelation() {
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "kermit"));
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "gonzo"));
+        ProcessInstance fozzieProcessInstance = runtimeService.startProcessInstanceByKey("process", Collections.singletonMap("customerIdVar", "fozzie"));
+
+        inboundEventChannelAdapter.triggerTestEvents("kermit", "gonzo", "fozzie", "unknown");
+
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).count()).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).count()).isEqualTo(1);
+        assertThat(taskService.createTaskQuery().processInstanceId(fozzieProcessInstance.getId()).count()).isEqualTo(1);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testProcessStartNoCorrelationParameter.bpmn20.xml")
+    public void testProcessStartNoCorrelationParameter() {
+        inboundEventChannelAdapter.triggerTestEvents("kermit", "gonzo", "fozzie");
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(3);
+    }
+
+    @Test
+    @Deployment
+    public void testFailingEventRollsBackOnlyItsChunk() {
+        assertThatThrownBy(() -> inboundEventChannelAdapter.triggerTestEvents("kermit", "gonzo", "fozzie", "failing", "piggy"))
+                .isInstanceOfSatisfying(InboundEventBatchException.class, exception -> assertThat(exception.getFailedEventIndex()).isEqualTo(2));
+
+        // The first chunk is committed, the second one is rolled back and the third one is not handled
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+                .extracting(processInstance -> runtimeService.getVariable(processInstance.getId(), "customerIdVar"))
+                .containsExactlyInAnyOrder("kermit", "gonzo");
+
+        // Redelivering the events from the failed event index on doesn't handle the committed events again
+        inboundEventChannelAdapter.triggerTestEvents("fozzie", "piggy");
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isEqualTo(4);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerBatchTest.testFailingEventRollsBackOnlyItsChunk.bpmn20.xml")
+    public void testEventThatCannotBeProcessedFailsAtItsIndex() {
+        ObjectMapper objectMapper = processEngineConfiguration.getObjectMapper();
+        List<InboundEvent> events = new ArrayList<>();
+        for (String customerId : List.of("kermit", "gonzo", "fozzie")) {
+            events.add(new DefaultInboundEvent(objectMapper.writeValueAsString(inboundEventChannelAdapter.createTestEventNode(customerId, null))));
+        }
+        events.add(new DefaultInboundEvent("{ not json"));
+        events.add(new DefaultInboundEvent(objectMapper.writeValueAsString(inboundEventChannelAdapter.createTestEventNode("piggy", null))));
+
+        assertThatThrownBy(() -> inboundEventChannelAdapter.eventRegistry.eventsReceived(inboundEventChannelAdapter.inboundChannelModel, events))
+                .isInstanceOfSatisfying(InboundEventBatchException.class, exception -> assertThat(exception.getFailedEventIndex()).isEqualTo(3));
+
+        // The events before the one that can't be deserialized are committed
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+                .extracting(processInstance -> runtimeService.getVariable(processInstance.getId(), "customerIdVar"))
+                .containsExactlyInAnyOrder("kermit", "gonzo", "fozzie");
+    }
+
+}
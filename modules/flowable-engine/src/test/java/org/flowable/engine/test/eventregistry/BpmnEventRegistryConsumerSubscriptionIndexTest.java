@@ -0,0 +1,133 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.eventregistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
+import org.flowable.eventsubscription.service.impl.InMemoryEventSubscriptionIndex;
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BpmnEventRegistryConsumerSubscriptionIndexTest extends AbstractBpmnEventRegistryConsumerTest {
+
+    protected EventSubscriptionIndex eventSubscriptionIndex;
+
+    @BeforeEach
+    protected void enableEventSubscriptionIndex() {
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = processEngineConfiguration.getEventSubscriptionServiceConfiguration();
+        eventSubscriptionIndex = new InMemoryEventSubscriptionIndex(eventSubscriptionServiceConfiguration);
+        eventSubscriptionServiceConfiguration.setEventSubscriptionIndex(eventSubscriptionIndex);
+    }
+
+    @AfterEach
+    protected void disableEventSubscriptionIndex() {
+        processEngineConfiguration.getEventSubscriptionServiceConfiguration().setEventSubscriptionIndex(null);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testReceiveEventTaskWithCorrelationAndPayload.bpmn20.xml")
+    public void testReceiveEventTaskWithCorrelation() {
+        Map<String, Object> variableMap = new HashMap<>();
+        variableMap.put("customerIdVar", "kermit");
+        ProcessInstance kermitProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        // Loads the index, no subscription for fozzie
+        inboundEventChannelAdapter.triggerTestEvent("fozzie");
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).count()).isZero();
+        assertThat(hasEventSubscriptions("unknownCorrelation")).isFalse();
+
+        // Subscriptions created after the index was loaded are added to it
+        variableMap.put("customerIdVar", "gonzo");
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+
+        inboundEventChannelAdapter.triggerTestEvent("gonzo");
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).count()).isZero();
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).count()).isEqualTo(1);
+
+        inboundEventChannelAdapter.triggerTestEvent("kermit");
+        assertThat(taskService.createTaskQuery().processInstanceId(kermitProcessInstance.getId()).count()).isEqualTo(1);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testReceiveEventTaskWithCorrelationAndPayload.bpmn20.xml")
+    public void testEventSubscriptionAddedWhileLoadingIsNotLost() {
+        Map<String, Object> variableMap = new HashMap<>();
+        variableMap.put("customerIdVar", "kermit");
+        runtimeService.startProcessInstanceByKey("process", variableMap);
+        variableMap.put("customerIdVar", "gonzo");
+        ProcessInstance gonzoProcessInstance = runtimeService.startProcessInstanceByKey("process", variableMap);
+        EventSubscriptionEntity gonzoEventSubscription = (EventSubscriptionEntity) runtimeService.createEventSubscriptionQuery()
+                .processInstanceId(gonzoProcessInstance.getId())
+                .singleResult();
+
+        // The first load misses the gonzo subscription, as if it was committed after the load started
+        EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration = processEngineConfiguration.getEventSubscriptionServiceConfiguration();
+        eventSubscriptionIndex = new InMemoryEventSubscriptionIndex(eventSubscriptionServiceConfiguration) {
+
+            protected boolean loaded;
+
+            @Override
+            protected IndexEntry loadIndexEntry(String eventType, String scopeType) {
+                if (!loaded) {
+                    loaded = true;
+                    addEventSubscription(gonzoEventSubscription);
+                    return new IndexEntry(System.currentTimeMillis());
+                }
+                return super.loadIndexEntry(eventType, scopeType);
+            }
+        };
+        eventSubscriptionServiceConfiguration.setEventSubscriptionIndex(eventSubscriptionIndex);
+
+        assertThat(hasEventSubscriptions(gonzoEventSubscription.getConfiguration())).isFalse();
+
+        // The racing load was not cached
+        assertThat(hasEventSubscriptions(gonzoEventSubscription.getConfiguration())).isTrue();
+        inboundEventChannelAdapter.triggerTestEvent("gonzo");
+        assertThat(taskService.createTaskQuery().processInstanceId(gonzoProcessInstance.getId()).count()).isEqualTo(1);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testProcessStartNoCorrelationParameter.bpmn20.xml")
+    public void testProcessStartNoCorrelationParameter() {
+        for (int i = 1; i <= 3; i++) {
+            inboundEventChannelAdapter.triggerTestEvent();
+            assertThat(runtimeService.createProcessInstanceQuery().list()).hasSize(i);
+        }
+
+        assertThat(hasEventSubscriptions("unknownCorrelation")).isTrue();
+    }
+
+    @Test
+    public void testNoEventSubscriptions() {
+        inboundEventChannelAdapter.triggerTestEvent("kermit");
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+        assertThat(hasEventSubscriptions("unknownCorrelation")).isFalse();
+    }
+
+    protected boolean hasEventSubscriptions(String configuration) {
+        return managementService.executeCommand(commandContext -> eventSubscriptionIndex.hasEventSubscriptions("myEvent", ScopeTypes.BPMN,
+                Collections.singleton(configuration)));
+    }
+
+}
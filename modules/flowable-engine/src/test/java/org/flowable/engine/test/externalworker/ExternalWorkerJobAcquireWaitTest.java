@@ -0,0 +1,178 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.externalworker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.AcquiredExternalWorkerJob;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.ExternalWorkerJobAvailableNotifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ExternalWorkerJobAcquireWaitTest extends PluggableFlowableTestCase {
+
+    protected Duration originalMaxWaitTime;
+
+    @BeforeEach
+    void rememberMaxWaitTime() {
+        originalMaxWaitTime = getJobServiceConfiguration().getExternalWorkerJobAcquireMaxWaitTime();
+    }
+
+    @AfterEach
+    void resetMaxWaitTime() {
+        getJobServiceConfiguration().setExternalWorkerJobAcquireMaxWaitTime(originalMaxWaitTime);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testWaitingAcquisitionIsWokenUpByNewJob() throws Exception {
+        long start = System.currentTimeMillis();
+        CompletableFuture<List<AcquiredExternalWorkerJob>> acquisition = CompletableFuture.supplyAsync(() -> managementService
+                .createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(10))
+                .waitForJobs(Duration.ofSeconds(30))
+                .acquireAndLock(1, "testWorker"));
+
+        // Give the acquisition the time to find no jobs and start waiting
+        Thread.sleep(500);
+        assertThat(acquisition).isNotDone();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = acquisition.get(20, TimeUnit.SECONDS);
+        assertThat(System.currentTimeMillis() - start).isLessThan(Duration.ofSeconds(20).toMillis());
+        assertThat(acquiredJobs)
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId)
+                .containsExactly(processInstance.getId());
+        assertThat(managementService.createExternalWorkerJobQuery().lockOwner("testWorker").count()).isEqualTo(1);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAvailableJobsAreReturnedWithoutWaiting() {
+        runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+
+        long start = System.currentTimeMillis();
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(10))
+                .waitForJobs(Duration.ofSeconds(30))
+                .acquireAndLock(5, "testWorker");
+
+        assertThat(acquiredJobs).hasSize(1);
+        assertThat(System.currentTimeMillis() - start).isLessThan(Duration.ofSeconds(20).toMillis());
+    }
+
+    @Test
+    void testWaitingAcquisitionTimesOut() {
+        long start = System.currentTimeMillis();
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(10))
+                .waitForJobs(Duration.ofMillis(300))
+                .acquireAndLock(1, "testWorker");
+
+        assertThat(acquiredJobs).isEmpty();
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(300);
+    }
+
+    @Test
+    void testWaitTimeIsLimitedByMaxWaitTime() {
+        getJobServiceConfiguration().setExternalWorkerJobAcquireMaxWaitTime(Duration.ofMillis(200));
+
+        long start = System.currentTimeMillis();
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(10))
+                .waitForJobs(Duration.ofHours(1))
+                .acquireAndLock(1, "testWorker");
+
+        assertThat(acquiredJobs).isEmpty();
+        assertThat(System.currentTimeMillis() - start).isLessThan(Duration.ofSeconds(20).toMillis());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testAsyncAcquisitionIsCompletedByNewJob() throws Exception {
+        CompletableFuture<List<AcquiredExternalWorkerJob>> acquisition = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(10))
+                .waitForJobs(Duration.ofSeconds(30))
+                .acquireAndLockAsync(1, "testWorker", 5);
+
+        // The acquisition has returned, no thread is waiting for the jobs
+        assertThat(acquisition).isNotDone();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+
+        assertThat(acquisition.get(20, TimeUnit.SECONDS))
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId)
+                .containsExactly(processInstance.getId());
+    }
+
+    @Test
+    void testOnlyAsManyWaitersAsJobsAreWokenUp() throws Exception {
+        ExternalWorkerJobAvailableNotifier notifier = getJobServiceConfiguration().getExternalWorkerJobAvailableNotifier();
+        long topicVersion = notifier.getTopicVersion("wakeUpTopic");
+        CompletableFuture<Boolean> firstWaiter = notifier.awaitJobsAvailable("wakeUpTopic", topicVersion, 30000);
+        CompletableFuture<Boolean> secondWaiter = notifier.awaitJobsAvailable("wakeUpTopic", topicVersion, 30000);
+        CompletableFuture<Boolean> thirdWaiter = notifier.awaitJobsAvailable("wakeUpTopic", topicVersion, 30000);
+
+        // A waiter that is no longer waiting doesn't use up a job
+        firstWaiter.cancel(false);
+        notifier.notifyJobsAvailable(Collections.singletonMap("wakeUpTopic", 1));
+
+        assertThat(secondWaiter.get(20, TimeUnit.SECONDS)).isTrue();
+        assertThat(thirdWaiter).isNotDone();
+
+        // A waiter that read the version before the jobs were created doesn't wait
+        assertThat(notifier.awaitJobsAvailable("wakeUpTopic", topicVersion, 30000)).isCompletedWithValue(true);
+
+        notifier.notifyJobsAvailable(Collections.singletonMap("wakeUpTopic", 1));
+        assertThat(thirdWaiter.get(20, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/externalworker/ExternalWorkerServiceTaskTest.testSimple.bpmn20.xml")
+    void testWakeUpIsPassedOnWhenWokenAcquisitionGetsNoJobs() throws Exception {
+        // The first waiter is woken up, but doesn't match the tenant of the new job
+        CompletableFuture<List<AcquiredExternalWorkerJob>> otherTenantAcquisition = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(10))
+                .tenantId("otherTenant")
+                .waitForJobs(Duration.ofSeconds(30))
+                .acquireAndLockAsync(1, "otherTenantWorker", 5);
+        CompletableFuture<List<AcquiredExternalWorkerJob>> acquisition = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(10))
+                .waitForJobs(Duration.ofSeconds(30))
+                .acquireAndLockAsync(1, "testWorker", 5);
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+
+        assertThat(acquisition.get(20, TimeUnit.SECONDS))
+                .extracting(AcquiredExternalWorkerJob::getProcessInstanceId)
+                .containsExactly(processInstance.getId());
+        assertThat(otherTenantAcquisition).isNotDone();
+        otherTenantAcquisition.cancel(false);
+    }
+
+    protected JobServiceConfiguration getJobServiceConfiguration() {
+        return processEngineConfiguration.getJobServiceConfiguration();
+    }
+}
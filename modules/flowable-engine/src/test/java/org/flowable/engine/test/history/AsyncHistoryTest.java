@@ -0,0 +1,219 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.history.async.AsyncHistoryManager;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.identitylink.api.history.HistoricIdentityLink;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJobDeferredException;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.databind.JsonNode;
+
+public class AsyncHistoryTest extends ResourceFlowableTestCase {
+
+    public AsyncHistoryTest() {
+        super("org/flowable/engine/test/history/AsyncHistoryTest.flowable.cfg.xml");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testHistoryIsWrittenByHistoryJobs() {
+        assertThat(processEngineConfiguration.getHistoryManager()).isInstanceOf(AsyncHistoryManager.class);
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", Map.of("myVar", "one"));
+
+        // All historic data of the transaction is stored in one history job
+        assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+        assertThat(managementService.createHistoryJobQuery().list())
+                .extracting(HistoryJob::getJobHandlerType)
+                .containsExactly(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
+
+        runtimeService.setVariable(processInstance.getId(), "myVar", "two");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.setAssignee(task.getId(), "kermit");
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+
+        waitForHistoryJobs();
+
+        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery()
+                .processInstanceId(processInstance.getId())
+                .singleResult();
+        assertThat(historicProcessInstance.getProcessDefinitionKey()).isEqualTo("oneTaskProcess");
+        assertThat(historicProcessInstance.getStartTime()).isNotNull();
+        assertThat(historicProcessInstance.getEndTime()).isNotNull();
+        assertThat(historicProcessInstance.getDurationInMillis()).isNotNull();
+
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId()).orderByHistoricActivityInstanceStartTime().asc().list())
+                .extracting(HistoricActivityInstance::getActivityId, HistoricActivityInstance::getAssignee)
+                .containsExactlyInAnyOrder(
+                        tuple("theStart", null),
+                        tuple("flow1", null),
+                        tuple("theTask", "kermit"),
+                        tuple("flow2", null),
+                        tuple("theEnd", null));
+        assertThat(historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId()).unfinished().count()).isZero();
+
+        HistoricTaskInstance historicTaskInstance = historyService.createHistoricTaskInstanceQuery().taskId(task.getId()).singleResult();
+        assertThat(historicTaskInstance.getName()).isEqualTo("my task");
+        assertThat(historicTaskInstance.getAssignee()).isEqualTo("kermit");
+        assertThat(historicTaskInstance.getEndTime()).isNotNull();
+        assertThat(historicTaskInstance.getState()).isEqualTo(Task.COMPLETED);
+
+        assertThat(historyService.getHistoricIdentityLinksForTask(task.getId()))
+                .extracting(HistoricIdentityLink::getType, HistoricIdentityLink::getUserId)
+                .containsExactly(tuple("assignee", "kermit"));
+
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).list())
+                .extracting(HistoricVariableInstance::getVariableName, HistoricVariableInstance::getValue)
+                .containsExactly(tuple("myVar", "two"));
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testChangesInOneTransactionAreCoalesced() {
+        String processInstanceId = managementService.executeCommand(commandContext -> {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", Map.of("myVar", "one"));
+            runtimeService.setVariable(processInstance.getId(), "myVar", "two");
+            runtimeService.setVariable(processInstance.getId(), "removedVar", "value");
+            runtimeService.removeVariable(processInstance.getId(), "removedVar");
+            return processInstance.getId();
+        });
+
+        // The variable update is merged into the insert and the removed variable never reaches the history job
+        String historyJson = managementService.getHistoryJobHistoryJson(managementService.createHistoryJobQuery().singleResult().getId());
+        List<JsonNode> variableEntries = new ArrayList<>();
+        for (JsonNode historicEntry : processEngineConfiguration.getObjectMapper().readTree(historyJson)) {
+            if (HistoryJsonConstants.TYPE_VARIABLE_INSTANCE.equals(historicEntry.path(HistoryJsonConstants.TYPE).asString())) {
+                variableEntries.add(historicEntry);
+            }
+        }
+        assertThat(variableEntries)
+                .extracting(entry -> entry.path(HistoryJsonConstants.OPERATION).asString(),
+                        entry -> entry.path(HistoryJsonConstants.DATA).path(HistoryJsonConstants.NAME).asString(),
+                        entry -> entry.path(HistoryJsonConstants.DATA).path(HistoryJsonConstants.TEXT_VALUE).asString())
+                .containsExactly(tuple(HistoryJsonConstants.OPERATION_INSERT, "myVar", "two"));
+
+        waitForHistoryJobs();
+
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId).list())
+                .extracting(HistoricVariableInstance::getVariableName, HistoricVariableInstance::getValue)
+                .containsExactly(tuple("myVar", "two"));
+
+        runtimeService.deleteProcessInstance(processInstanceId, "test");
+        waitForHistoryJobs();
+        assertThat(historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult().getDeleteReason())
+                .isEqualTo("test");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testHistoryJobsOfProcessInstanceAreAppliedInOrder() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        ProcessInstance otherProcessInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        waitForHistoryJobs();
+
+        runtimeService.setVariable(processInstance.getId(), "myVar", "value");
+        HistoryJob insertJob = managementService.createHistoryJobQuery().singleResult();
+        runtimeService.removeVariable(processInstance.getId(), "myVar");
+        HistoryJob deleteJob = managementService.createHistoryJobQuery().list().stream()
+                .filter(job -> !job.getId().equals(insertJob.getId()))
+                .findFirst()
+                .orElseThrow();
+        runtimeService.setVariable(otherProcessInstance.getId(), "myVar", "value");
+        HistoryJob otherProcessInstanceJob = managementService.createHistoryJobQuery().list().stream()
+                .filter(job -> !job.getId().equals(insertJob.getId()) && !job.getId().equals(deleteJob.getId()))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(((HistoryJobEntity) insertJob).getScopeId()).isEqualTo(processInstance.getId());
+        assertThat(((HistoryJobEntity) deleteJob).getScopeId()).isEqualTo(processInstance.getId());
+        assertThat(((HistoryJobEntity) deleteJob).getSequence()).isGreaterThan(((HistoryJobEntity) insertJob).getSequence());
+
+        // The delete can't be applied before the insert of the same process instance
+        assertThatThrownBy(() -> managementService.executeHistoryJob(deleteJob.getId()))
+                .hasRootCauseInstanceOf(AsyncHistoryJobDeferredException.class);
+
+        // The history of other process instances doesn't have to wait
+        managementService.executeHistoryJob(otherProcessInstanceJob.getId());
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(otherProcessInstance.getId()).count()).isEqualTo(1);
+
+        managementService.executeHistoryJob(insertJob.getId());
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).count()).isEqualTo(1);
+
+        managementService.executeHistoryJob(deleteJob.getId());
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertThat(managementService.createHistoryJobQuery().count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testOneHistoryJobPerProcessInstance() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        ProcessInstance otherProcessInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        waitForHistoryJobs();
+
+        runtimeService.setVariable(processInstance.getId(), "myVar", "value");
+        managementService.executeCommand(commandContext -> {
+            runtimeService.setVariable(processInstance.getId(), "myVar", "otherValue");
+            runtimeService.setVariable(otherProcessInstance.getId(), "myVar", "value");
+            return null;
+        });
+
+        List<HistoryJob> historyJobs = managementService.createHistoryJobQuery().list();
+        assertThat(historyJobs)
+                .extracting(historyJob -> ((HistoryJobEntity) historyJob).getScopeId(), historyJob -> ((HistoryJobEntity) historyJob).getSequence())
+                .containsExactlyInAnyOrder(
+                        tuple(processInstance.getId(), 1L),
+                        tuple(processInstance.getId(), 2L),
+                        tuple(otherProcessInstance.getId(), 1L)
+                );
+
+        // A transaction touching multiple process instances doesn't block the history of other process instances
+        HistoryJob otherProcessInstanceJob = historyJobs.stream()
+                .filter(historyJob -> otherProcessInstance.getId().equals(((HistoryJobEntity) historyJob).getScopeId()))
+                .findFirst()
+                .orElseThrow();
+        managementService.executeHistoryJob(otherProcessInstanceJob.getId());
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(otherProcessInstance.getId()).count()).isEqualTo(1);
+
+        waitForHistoryJobs();
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).singleResult().getValue())
+                .isEqualTo("otherValue");
+    }
+
+    protected void waitForHistoryJobs() {
+        HistoryTestHelper.waitForJobExecutorToProcessAllHistoryJobs(processEngineConfiguration, managementService, 10000, 200);
+    }
+
+}
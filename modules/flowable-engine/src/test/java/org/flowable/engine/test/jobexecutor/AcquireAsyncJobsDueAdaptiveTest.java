@@ -0,0 +1,342 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncJobsDueLifecycleListener;
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncJobsDueRunnable;
+import org.flowable.job.service.impl.asyncexecutor.AcquireJobsRunnableConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.DatabaseJobAvailableSignal;
+import org.flowable.job.service.impl.asyncexecutor.JobAvailableSignal;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+class AcquireAsyncJobsDueAdaptiveTest extends JobExecutorTestCase {
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super.configureConfiguration(processEngineConfiguration);
+        processEngineConfiguration.getAsyncExecutorConfiguration().setMaxAsyncJobsDuePerAcquisition(1);
+        processEngineConfiguration.getAsyncExecutorConfiguration().setDefaultAsyncJobAcquireWaitTime(Duration.ofMillis(300));
+        if (processEngineConfiguration.getAsyncExecutor() != null) {
+            processEngineConfiguration.getAsyncExecutor().setMaxAsyncJobsDuePerAcquisition(1);
+            processEngineConfiguration.getAsyncExecutor().setDefaultAsyncJobAcquireWaitTimeInMillis(300);
+        }
+    }
+
+    @Test
+    void waitTimeBacksOffWhenNoJobsAreFound() throws InterruptedException {
+        CountDownLatch waitingLatch = new CountDownLatch(4);
+        List<Long> waitTimes = new CopyOnWriteArrayList<>();
+        AcquireAsyncJobsDueRunnable runnable = new AcquireAsyncJobsDueRunnable("test-acquire-jobs", processEngineConfiguration.getAsyncExecutor(),
+                processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager(), new WaitTimeRecordingListener(waitTimes, waitingLatch),
+                new AdaptiveAcquireJobsRunnableConfiguration());
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        commandExecutor.execute(commandContext -> {
+            JobService jobService = CommandContextUtil.getProcessEngineConfiguration(commandContext).getJobServiceConfiguration().getJobService();
+            jobService.scheduleAsyncJob(createTweetMessage("Message 1"));
+            jobService.scheduleAsyncJob(createTweetMessage("Message 2"));
+            return null;
+        });
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CompletableFuture.runAsync(runnable, executorService);
+
+        try {
+            if (!waitingLatch.await(10, TimeUnit.SECONDS)) {
+                throw new AssertionFailedError("Acquire runnable did not wait 4 times");
+            }
+        } finally {
+            runnable.stop();
+            executorService.shutdown();
+        }
+
+        // The 2 jobs are acquired without waiting (1 job per acquisition), after that the wait time is doubled up to the default wait time
+        assertThat(waitTimes).startsWith(50L, 100L, 200L, 300L);
+
+        deleteJobs(managementService.createJobQuery().list());
+    }
+
+    @Test
+    void wakeUpResetsTheBackOff() throws InterruptedException {
+        CountDownLatch backedOffLatch = new CountDownLatch(4);
+        CountDownLatch wokenUpLatch = new CountDownLatch(5);
+        List<Long> waitTimes = new CopyOnWriteArrayList<>();
+        AcquireAsyncJobsDueRunnable runnable = new AcquireAsyncJobsDueRunnable("test-acquire-jobs", processEngineConfiguration.getAsyncExecutor(),
+                processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager(), new WaitTimeRecordingListener(waitTimes, backedOffLatch, wokenUpLatch),
+                new AdaptiveAcquireJobsRunnableConfiguration());
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CompletableFuture.runAsync(runnable, executorService);
+
+        try {
+            if (!backedOffLatch.await(10, TimeUnit.SECONDS)) {
+                throw new AssertionFailedError("Acquire runnable did not back off to the default wait time");
+            }
+
+            // E.g. another node signalled that jobs are available
+            runnable.wakeUp();
+
+            if (!wokenUpLatch.await(10, TimeUnit.SECONDS)) {
+                throw new AssertionFailedError("Acquire runnable did not wait after being woken up");
+            }
+        } finally {
+            runnable.stop();
+            executorService.shutdown();
+        }
+
+        assertThat(waitTimes).startsWith(50L, 100L, 200L, 300L, 50L);
+    }
+
+    @Test
+    void jobAvailableSignalIsSentOncePerTransaction() {
+        AbstractAsyncExecutor asyncExecutor = (AbstractAsyncExecutor) processEngineConfiguration.getAsyncExecutor();
+        AtomicInteger signals = new AtomicInteger();
+        asyncExecutor.setJobAvailableSignal(new JobAvailableSignal() {
+
+            @Override
+            public void start(Runnable jobsAvailableCallback) {
+            }
+
+            @Override
+            public void stop() {
+            }
+
+            @Override
+            public void signalJobsAvailable() {
+                signals.incrementAndGet();
+            }
+        });
+
+        try {
+            // The async executor isn't active, so the jobs have to be executed by another node
+            processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                JobService jobService = CommandContextUtil.getProcessEngineConfiguration(commandContext).getJobServiceConfiguration().getJobService();
+                jobService.scheduleAsyncJob(createTweetMessage("Message 1"));
+                jobService.scheduleAsyncJob(createTweetMessage("Message 2"));
+
+                assertThat(signals).hasValue(0);
+                return null;
+            });
+
+            assertThat(signals).hasValue(1);
+
+        } finally {
+            asyncExecutor.setJobAvailableSignal(null);
+        }
+
+        deleteJobs(managementService.createJobQuery().list());
+    }
+
+    @Test
+    void databaseJobAvailableSignalWakesUpOtherNodes() throws InterruptedException {
+        DatabaseJobAvailableSignal receivingSignal = new DatabaseJobAvailableSignal(processEngineConfiguration.getAsyncExecutor(), "test-", Duration.ofMillis(50));
+        DatabaseJobAvailableSignal sendingSignal = new DatabaseJobAvailableSignal(processEngineConfiguration.getAsyncExecutor(), "test-", Duration.ofMillis(50));
+
+        CountDownLatch signalLatch = new CountDownLatch(2);
+        receivingSignal.start(signalLatch::countDown);
+        try {
+            // Give the receiving signal the time to read the initial value
+            Thread.sleep(200);
+
+            sendingSignal.signalJobsAvailable();
+            waitForSignals(signalLatch, 1);
+
+            sendingSignal.signalJobsAvailable();
+            waitForSignals(signalLatch, 0);
+
+        } finally {
+            receivingSignal.stop();
+
+            processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                PropertyEntityManager propertyEntityManager = processEngineConfiguration.getPropertyEntityManager();
+                propertyEntityManager.delete(receivingSignal.getSignalName());
+                return null;
+            });
+        }
+    }
+
+    @Test
+    void databaseJobAvailableSignalWritesAreCoalesced() throws InterruptedException {
+        DatabaseJobAvailableSignal signal = new DatabaseJobAvailableSignal(processEngineConfiguration.getAsyncExecutor(), "test-", Duration.ofSeconds(1));
+        AtomicInteger ownSignals = new AtomicInteger();
+        signal.start(ownSignals::incrementAndGet);
+        try {
+            signal.signalJobsAvailable();
+            signal.signalJobsAvailable();
+            String firstValue = waitForSignalValueChange(signal, null);
+
+            // The next write is delayed until a poll interval after the first one, and covers all signals requested until then
+            signal.signalJobsAvailable();
+            signal.signalJobsAvailable();
+            signal.signalJobsAvailable();
+            Thread.sleep(300);
+            assertThat(getSignalValue(signal)).isEqualTo(firstValue);
+
+            String secondValue = waitForSignalValueChange(signal, firstValue);
+            Thread.sleep(1500);
+            assertThat(getSignalValue(signal)).isEqualTo(secondValue);
+
+            // A node is not woken up by its own signals
+            assertThat(ownSignals).hasValue(0);
+
+        } finally {
+            signal.stop();
+
+            processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                processEngineConfiguration.getPropertyEntityManager().delete(signal.getSignalName());
+                return null;
+            });
+        }
+    }
+
+    protected String waitForSignalValueChange(DatabaseJobAvailableSignal signal, String previousValue) throws InterruptedException {
+        long timeToGiveUp = System.currentTimeMillis() + 5000;
+        String signalValue = getSignalValue(signal);
+        while (Objects.equals(signalValue, previousValue) && System.currentTimeMillis() < timeToGiveUp) {
+            Thread.sleep(20);
+            signalValue = getSignalValue(signal);
+        }
+        assertThat(signalValue).isNotEqualTo(previousValue);
+        return signalValue;
+    }
+
+    protected String getSignalValue(DatabaseJobAvailableSignal signal) {
+        return processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            PropertyEntity signalProperty = processEngineConfiguration.getPropertyEntityManager().findById(signal.getSignalName());
+            return signalProperty != null ? signalProperty.getValue() : null;
+        });
+    }
+
+    protected void waitForSignals(CountDownLatch signalLatch, long expectedCount) throws InterruptedException {
+        long timeToGiveUp = System.currentTimeMillis() + 5000;
+        while (signalLatch.getCount() > expectedCount && System.currentTimeMillis() < timeToGiveUp) {
+            Thread.sleep(20);
+        }
+        assertThat(signalLatch.getCount()).isEqualTo(expectedCount);
+    }
+
+    protected void deleteJobs(List<Job> jobs) {
+        processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            JobService jobService = CommandContextUtil.getProcessEngineConfiguration(commandContext).getJobServiceConfiguration().getJobService();
+            for (Job job : jobs) {
+                JobEntity jobEntity = (JobEntity) job;
+                jobEntity.setLockExpirationTime(null);
+                jobEntity.setLockOwner(null);
+                jobService.updateJob(jobEntity);
+                jobService.deleteJob(jobEntity);
+            }
+
+            return null;
+        });
+    }
+
+    static class AdaptiveAcquireJobsRunnableConfiguration implements AcquireJobsRunnableConfiguration {
+
+        @Override
+        public boolean isGlobalAcquireLockEnabled() {
+            return false;
+        }
+
+        @Override
+        public String getGlobalAcquireLockPrefix() {
+            return "";
+        }
+
+        @Override
+        public Duration getLockWaitTime() {
+            return Duration.ofMinutes(1);
+        }
+
+        @Override
+        public Duration getLockPollRate() {
+            return Duration.ofMillis(500);
+        }
+
+        @Override
+        public Duration getLockForceAcquireAfter() {
+            return Duration.ofMinutes(1);
+        }
+
+        @Override
+        public boolean isAdaptiveAcquisitionEnabled() {
+            return true;
+        }
+
+        @Override
+        public Duration getAdaptiveAcquireMinWaitTime() {
+            return Duration.ofMillis(50);
+        }
+    }
+
+    static class WaitTimeRecordingListener implements AcquireAsyncJobsDueLifecycleListener {
+
+        protected final List<Long> waitTimes;
+        protected final CountDownLatch[] waitingLatches;
+
+        WaitTimeRecordingListener(List<Long> waitTimes, CountDownLatch... waitingLatches) {
+            this.waitTimes = waitTimes;
+            this.waitingLatches = waitingLatches;
+        }
+
+        @Override
+        public void startAcquiring(String engineName, int remainingCapacity, int maxAsyncJobsDuePerAcquisition) {
+        }
+
+        @Override
+        public void stopAcquiring(String engineName) {
+        }
+
+        @Override
+        public void acquiredJobs(String engineName, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+        }
+
+        @Override
+        public void rejectedJobs(String engineName, int jobsRejected, int jobsAcquired, int maxAsyncJobsDuePerAcquisition) {
+        }
+
+        @Override
+        public void optimistLockingException(String engineName, int maxAsyncJobsDuePerAcquisition) {
+        }
+
+        @Override
+        public void startWaiting(String engineName, long millisToWait) {
+            waitTimes.add(millisToWait);
+            for (CountDownLatch waitingLatch : waitingLatches) {
+                waitingLatch.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.asyncexecutor.AcquireJobsRunnableConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AcquireTimerJobsRunnable;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityManager;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+class AcquireTimerJobsPrefetchTest extends JobExecutorTestCase {
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super.configureConfiguration(processEngineConfiguration);
+        processEngineConfiguration.getAsyncExecutorConfiguration().setDefaultTimerJobAcquireWaitTime(Duration.ofMillis(100));
+        if (processEngineConfiguration.getAsyncExecutor() != null) {
+            processEngineConfiguration.getAsyncExecutor().setDefaultTimerJobAcquireWaitTimeInMillis(100);
+        }
+    }
+
+    @Test
+    void prefetchedTimerJobsAreMovedWhenDue() {
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        String timer1Id = scheduleTimer("Timer 1", now.plusSeconds(10));
+        String timer2Id = scheduleTimer("Timer 2", now.plusSeconds(20));
+        String timer3Id = scheduleTimer("Timer 3", now.plusSeconds(120));
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        AcquireTimerJobsRunnable runnable = new AcquireTimerJobsRunnable(asyncExecutor,
+                processEngineConfiguration.getJobServiceConfiguration().getJobManager(), null, new PrefetchConfiguration(), 1);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CompletableFuture.runAsync(runnable, executorService);
+
+        try {
+            // The timers within the look ahead time are locked, but not moved yet
+            waitUntil(() -> asyncExecutor.getLockOwner().equals(getTimerJob(timer1Id).getLockOwner())
+                    && asyncExecutor.getLockOwner().equals(getTimerJob(timer2Id).getLockOwner()), "Timer jobs were not prefetched");
+            assertThat(getTimerJob(timer3Id).getLockOwner()).isNull();
+            assertThat(managementService.createJobQuery().count()).isZero();
+
+            // E.g. the boundary timer of a task that has been completed, engine deletes don't check the lock
+            processEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                TimerJobEntityManager timerJobEntityManager = processEngineConfiguration.getJobServiceConfiguration().getTimerJobEntityManager();
+                timerJobEntityManager.delete(timerJobEntityManager.findById(timer2Id));
+                return null;
+            });
+
+            processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plusSeconds(25)));
+
+            waitUntil(() -> managementService.createJobQuery().count() > 0, "Prefetched timer job was not moved");
+        } finally {
+            runnable.stop();
+            executorService.shutdown();
+        }
+
+        List<Job> jobs = managementService.createJobQuery().list();
+        assertThat(jobs)
+                .extracting(Job::getJobHandlerConfiguration)
+                .containsExactly("Timer 1");
+        assertThat(managementService.createTimerJobQuery().list())
+                .extracting(Job::getId)
+                .containsExactly(timer3Id);
+        assertThat(getTimerJob(timer3Id).getLockOwner()).isNull();
+
+        jobs.forEach(job -> managementService.deleteJob(job.getId()));
+        managementService.deleteTimerJob(timer3Id);
+    }
+
+    @Test
+    void prefetchedTimerJobsAreUnlockedWhenStopping() {
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        String timerId = scheduleTimer("Timer 1", now.plusSeconds(10));
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        AcquireTimerJobsRunnable runnable = new AcquireTimerJobsRunnable(asyncExecutor,
+                processEngineConfiguration.getJobServiceConfiguration().getJobManager(), null, new PrefetchConfiguration(), 1);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CompletableFuture<Void> acquisition = CompletableFuture.runAsync(runnable, executorService);
+
+        try {
+            waitUntil(() -> asyncExecutor.getLockOwner().equals(getTimerJob(timerId).getLockOwner()), "Timer job was not prefetched");
+        } finally {
+            runnable.stop();
+            executorService.shutdown();
+        }
+
+        acquisition.join();
+        assertThat(getTimerJob(timerId).getLockOwner()).isNull();
+        assertThat(managementService.createJobQuery().count()).isZero();
+
+        managementService.deleteTimerJob(timerId);
+    }
+
+    @Test
+    void prefetchedTimerJobLocksAreRenewedWhenAboutToExpire() {
+        Instant now = Instant.now();
+        processEngineConfiguration.getClock().setCurrentTime(Date.from(now));
+
+        String timerId = scheduleTimer("Timer 1", now.plusSeconds(30));
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        AcquireTimerJobsRunnable runnable = new AcquireTimerJobsRunnable(asyncExecutor,
+                processEngineConfiguration.getJobServiceConfiguration().getJobManager(), null, new PrefetchConfiguration(), 1);
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CompletableFuture<Void> acquisition = CompletableFuture.runAsync(runnable, executorService);
+
+        try {
+            waitUntil(() -> asyncExecutor.getLockOwner().equals(getTimerJob(timerId).getLockOwner()), "Timer job was not prefetched");
+
+            // The lock only covers the look ahead time plus the acquire wait time
+            Date initialLockExpirationTime = getTimerJob(timerId).getLockExpirationTime();
+            assertThat(initialLockExpirationTime).isEqualTo(Date.from(now.plusSeconds(30).plusMillis(100)));
+
+            // E.g. the moves are lagging behind, the lock would expire before the next acquisitions
+            processEngineConfiguration.getClock().setCurrentTime(Date.from(now.plusSeconds(30).minusMillis(50)));
+
+            waitUntil(() -> getTimerJob(timerId).getLockExpirationTime().after(initialLockExpirationTime), "Timer job lock was not renewed");
+            assertThat(getTimerJob(timerId).getLockExpirationTime()).isEqualTo(Date.from(now.plusSeconds(60).plusMillis(50)));
+            assertThat(getTimerJob(timerId).getLockOwner()).isEqualTo(asyncExecutor.getLockOwner());
+        } finally {
+            runnable.stop();
+            executorService.shutdown();
+        }
+
+        acquisition.join();
+        assertThat(managementService.createJobQuery().count()).isZero();
+
+        managementService.deleteTimerJob(timerId);
+    }
+
+    protected String scheduleTimer(String message, Instant dueDate) {
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        return commandExecutor.execute(commandContext -> {
+            TimerJobService timerJobService = CommandContextUtil.getProcessEngineConfiguration(commandContext).getJobServiceConfiguration()
+                    .getTimerJobService();
+            TimerJobEntity timer = createTweetTimer(message, Date.from(dueDate));
+            timerJobService.scheduleTimerJob(timer);
+            return timer.getId();
+        });
+    }
+
+    protected TimerJobEntity getTimerJob(String timerJobId) {
+        return (TimerJobEntity) managementService.createTimerJobQuery().jobId(timerJobId).singleResult();
+    }
+
+    protected void waitUntil(BooleanSupplier condition, String message) {
+        long timeToGiveUp = System.currentTimeMillis() + 10000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > timeToGiveUp) {
+                throw new AssertionFailedError(message);
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionFailedError(message, e);
+            }
+        }
+    }
+
+    static class PrefetchConfiguration implements AcquireJobsRunnableConfiguration {
+
+        @Override
+        public boolean isGlobalAcquireLockEnabled() {
+            return false;
+        }
+
+        @Override
+        public String getGlobalAcquireLockPrefix() {
+            return "";
+        }
+
+        @Override
+        public Duration getLockWaitTime() {
+            return Duration.ofMinutes(1);
+        }
+
+        @Override
+        public Duration getLockPollRate() {
+            return Duration.ofMillis(500);
+        }
+
+        @Override
+        public Duration getLockForceAcquireAfter() {
+            return Duration.ofMinutes(1);
+        }
+
+        @Override
+        public boolean isPrefetchEnabled() {
+            return true;
+        }
+
+        @Override
+        public Duration getPrefetchLookAheadTime() {
+            return Duration.ofSeconds(30);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.JobExecutionObservation;
+import org.flowable.job.service.impl.asyncexecutor.JobExecutionObservationProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InstanceAffineJobExecutionTest extends PluggableFlowableTestCase {
+
+    protected LockCountingObservationProvider observationProvider = new LockCountingObservationProvider();
+
+    @BeforeEach
+    protected void enableInstanceAffineJobExecution() {
+        AbstractAsyncExecutor asyncExecutor = (AbstractAsyncExecutor) processEngineConfiguration.getAsyncExecutor();
+        asyncExecutor.getConfiguration().setInstanceAffineJobExecutionEnabled(true);
+        asyncExecutor.setJobExecutionObservationProvider(observationProvider);
+    }
+
+    @AfterEach
+    protected void disableInstanceAffineJobExecution() {
+        AbstractAsyncExecutor asyncExecutor = (AbstractAsyncExecutor) processEngineConfiguration.getAsyncExecutor();
+        asyncExecutor.getConfiguration().setInstanceAffineJobExecutionEnabled(false);
+        asyncExecutor.setJobExecutionObservationProvider(JobExecutionObservationProvider.NOOP);
+    }
+
+    @Test
+    @Deployment
+    public void testConcurrentJoin() {
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("concurrentJoin");
+        }
+        assertThat(managementService.createJobQuery().count()).isEqualTo(25);
+
+        waitForJobExecutorToProcessAllJobs(20000L, 200L);
+
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+        assertThat(managementService.createTimerJobQuery().count()).isZero();
+
+        // The jobs of an instance are executed one after another, so none of them fails to lock the instance
+        assertThat(observationProvider.lockErrors).hasValue(0);
+        // The lock is kept between consecutive jobs of an instance
+        assertThat(observationProvider.locks.get()).isLessThanOrEqualTo(25);
+        assertThat(((DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor()).getInstanceAffineJobDispatcher().getActiveInstanceCount()).isZero();
+    }
+
+    protected static class LockCountingObservationProvider implements JobExecutionObservationProvider {
+
+        protected final AtomicInteger locks = new AtomicInteger();
+        protected final AtomicInteger lockErrors = new AtomicInteger();
+
+        @Override
+        public JobExecutionObservation create(JobInfo job) {
+            return new JobExecutionObservation() {
+
+                @Override
+                public void start() {
+                }
+
+                @Override
+                public void stop() {
+                }
+
+                @Override
+                public Scope lockScope() {
+                    locks.incrementAndGet();
+                    return () -> { };
+                }
+
+                @Override
+                public void lockError(Throwable lockException) {
+                    lockErrors.incrementAndGet();
+                }
+
+                @Override
+                public Scope executionScope() {
+                    return () -> { };
+                }
+
+                @Override
+                public void executionError(Throwable exception) {
+                }
+            };
+        }
+    }
+
+}
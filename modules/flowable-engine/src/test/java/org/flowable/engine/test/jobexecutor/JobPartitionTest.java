@@ -0,0 +1,128 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.impl.test.JobTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.JobPartitionLeaseManager;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class JobPartitionTest extends PluggableFlowableTestCase {
+
+    @AfterEach
+    void resetJobPartitionCount() {
+        getJobServiceConfiguration().setJobPartitionCount(0);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/ResetExpiredJobsTest.testResetExpiredJobs.bpmn20.xml")
+    void testPartitionIsAssignedAtJobCreation() {
+        ProcessInstance unpartitionedInstance = runtimeService.startProcessInstanceByKey("myProcess");
+
+        getJobServiceConfiguration().setJobPartitionCount(4);
+        List<ProcessInstance> processInstances = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            processInstances.add(runtimeService.startProcessInstanceByKey("myProcess"));
+        }
+
+        assertThat(getJob(unpartitionedInstance.getId()).getPartition()).isNull();
+        for (ProcessInstance processInstance : processInstances) {
+            assertThat(getJob(processInstance.getId()).getPartition()).isEqualTo(Math.floorMod(processInstance.getId().hashCode(), 4));
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/ResetExpiredJobsTest.testResetExpiredJobs.bpmn20.xml")
+    void testAcquireOnlyJobsOfGivenPartitions() {
+        ProcessInstance unpartitionedInstance = runtimeService.startProcessInstanceByKey("myProcess");
+
+        getJobServiceConfiguration().setJobPartitionCount(2);
+        for (int i = 0; i < 10; i++) {
+            runtimeService.startProcessInstanceByKey("myProcess");
+        }
+
+        List<? extends JobInfoEntity> partition1Jobs = managementService.executeCommand(new AcquireJobsCmd(processEngineConfiguration.getAsyncExecutor(),
+                Integer.MAX_VALUE, getJobServiceConfiguration().getJobEntityManager(), List.of(1)));
+        assertThat(partition1Jobs)
+                .extracting(job -> ((JobEntity) job).getPartition())
+                .containsOnly(1);
+
+        // The jobs without a partition are acquired with partition 0
+        List<? extends JobInfoEntity> partition0Jobs = managementService.executeCommand(new AcquireJobsCmd(processEngineConfiguration.getAsyncExecutor(),
+                Integer.MAX_VALUE, getJobServiceConfiguration().getJobEntityManager(), List.of(0)));
+        assertThat(partition0Jobs)
+                .extracting(job -> ((JobEntity) job).getPartition())
+                .containsOnly(0, null);
+        assertThat(partition0Jobs)
+                .extracting(job -> ((JobEntity) job).getProcessInstanceId())
+                .contains(unpartitionedInstance.getId());
+
+        assertThat(partition0Jobs.size() + partition1Jobs.size()).isEqualTo(11);
+    }
+
+    @Test
+    void testPartitionsAreRebalancedWhenNodesJoinAndLeave() {
+        Duration leaseDuration = Duration.ofMillis(600);
+        JobPartitionLeaseManager node1 = createPartitionLeaseManager(leaseDuration);
+        JobPartitionLeaseManager node2 = createPartitionLeaseManager(leaseDuration);
+
+        try {
+            assertThat(node1.getAssignedPartitions()).containsExactly(0, 1, 2, 3);
+
+            List<Integer> node2Partitions = node2.getAssignedPartitions();
+            assertThat(node2Partitions).hasSize(2);
+
+            // The partitions of the first node are rebalanced with one of its next refreshes
+            JobTestHelper.waitForJobExecutorOnCondition(processEngineConfiguration, 10000L, 50L,
+                    () -> node1.getAssignedPartitions().size() == 2);
+            assertThat(node1.getAssignedPartitions()).doesNotContainAnyElementsOf(node2Partitions);
+
+            node2.release();
+            JobTestHelper.waitForJobExecutorOnCondition(processEngineConfiguration, 10000L, 50L,
+                    () -> node1.getAssignedPartitions().size() == 4);
+            assertThat(node1.getAssignedPartitions()).containsExactly(0, 1, 2, 3);
+
+        } finally {
+            node1.release();
+            node2.release();
+        }
+    }
+
+    protected JobPartitionLeaseManager createPartitionLeaseManager(Duration leaseDuration) {
+        return new JobPartitionLeaseManager(processEngineConfiguration.getCommandExecutor(), "test-", 4, leaseDuration,
+                getJobServiceConfiguration().getEngineName());
+    }
+
+    protected JobEntity getJob(String processInstanceId) {
+        Job job = managementService.createJobQuery().processInstanceId(processInstanceId).singleResult();
+        return (JobEntity) job;
+    }
+
+    protected JobServiceConfiguration getJobServiceConfiguration() {
+        return processEngineConfiguration.getJobServiceConfiguration();
+    }
+}
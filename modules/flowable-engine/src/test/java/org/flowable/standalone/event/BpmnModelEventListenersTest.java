@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.common.engine.impl.event.FlowableEventSupport;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.api.event.TestFlowableEventListener;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for skipping entity events when neither the engine nor any process definition has event listeners.
+ */
+public class BpmnModelEventListenersTest extends ResourceFlowableTestCase {
+
+    public BpmnModelEventListenersTest() {
+        super("flowable.cfg.xml");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testNoListenersWithoutProcessDefinitionListeners() {
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        assertThat(hasListeners(FlowableEngineEventType.ENTITY_CREATED)).isFalse();
+        assertThat(hasListeners(FlowableEngineEventType.ENTITY_DELETED)).isFalse();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/event/TransactionEventListenerTest.testProcessDefinitionDefinedEventListener.bpmn20.xml")
+    public void testListenersDeclaredInProcessDefinition() {
+        assertThat(hasListeners(FlowableEngineEventType.ENTITY_CREATED)).isTrue();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testListenerAddedToProcessDefinition() {
+        assertThat(hasListeners(FlowableEngineEventType.ENTITY_CREATED)).isFalse();
+
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult();
+        BpmnModel bpmnModel = repositoryService.getBpmnModel(processDefinition.getId());
+        TestFlowableEventListener listener = new TestFlowableEventListener();
+        ((FlowableEventSupport) bpmnModel.getEventSupport()).addEventListener(listener);
+
+        assertThat(hasListeners(FlowableEngineEventType.ENTITY_CREATED)).isTrue();
+
+        runtimeService.startProcessInstanceById(processDefinition.getId());
+        assertThat(listener.getEventsReceived())
+                .extracting(event -> event.getType())
+                .contains(FlowableEngineEventType.ENTITY_CREATED);
+    }
+
+    protected boolean hasListeners(FlowableEngineEventType type) {
+        return managementService.executeCommand(commandContext -> processEngineConfiguration.getEventDispatcher()
+                .hasListeners(type, processEngineConfiguration.getEngineCfgKey()));
+    }
+}
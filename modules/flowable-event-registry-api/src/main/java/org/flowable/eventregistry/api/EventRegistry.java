@@ -73,6 +73,16 @@ public interface EventRegistry {
      */
     void eventReceived(InboundChannelModel channelModel, InboundEvent event);
 
+    /**
+     * Adapters receiving events in batches (e.g. the records of a single poll) should call this method to process them.
+     * When this method returns, the events have been passed to the event consumers and the transactions in which they
+     * have been handled are committed, so the adapter can acknowledge the whole batch.
+     *
+     * When the event consumers fail to handle an event, an {@link InboundEventBatchException} with the index of the first event
+     * that has not been committed is thrown, the events before that index are committed. Any other exception means that none of the events have been committed.
+     */
+    void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events);
+
     /**
      * Send an event to all the registered event consumers.
      */
@@ -0,0 +1,40 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.api;
+
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * Thrown when handling a batch of inbound events failed. The events before the failed event index have already been handled
+ * and committed, so an adapter that redelivers the batch should only redeliver the events starting from the failed event index,
+ * as the earlier ones would be handled twice otherwise.
+ */
+public class InboundEventBatchException extends FlowableException {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final int failedEventIndex;
+
+    public InboundEventBatchException(String message, int failedEventIndex, Throwable cause) {
+        super(message, cause);
+        this.failedEventIndex = failedEventIndex;
+    }
+
+    /**
+     * @return the index (within the batch) of the first event that has not been committed
+     */
+    public int getFailedEventIndex() {
+        return failedEventIndex;
+    }
+
+}
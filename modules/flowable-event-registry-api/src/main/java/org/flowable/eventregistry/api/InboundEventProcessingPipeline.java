@@ -12,7 +12,9 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.flowable.eventregistry.model.InboundChannelModel;
 
@@ -23,5 +25,18 @@ import org.flowable.eventregistry.model.InboundChannelModel;
 public interface InboundEventProcessingPipeline {
 
     Collection<EventRegistryEvent> run(InboundChannelModel inboundChannel, InboundEvent inboundEvent);
-    
+
+    /**
+     * Runs the pipeline for a batch of events received on the same channel.
+     * The returned list contains the resulting events of every inbound event, at the index of the inbound event in the batch.
+     * The default implementation runs the pipeline for every event separately.
+     */
+    default List<Collection<EventRegistryEvent>> runBatch(InboundChannelModel inboundChannel, Collection<InboundEvent> inboundEvents) {
+        List<Collection<EventRegistryEvent>> eventRegistryEvents = new ArrayList<>(inboundEvents.size());
+        for (InboundEvent inboundEvent : inboundEvents) {
+            eventRegistryEvents.add(run(inboundChannel, inboundEvent));
+        }
+        return eventRegistryEvents;
+    }
+
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
+
 import org.flowable.eventregistry.model.InboundChannelModel;
 
 /**
@@ -21,4 +23,23 @@ public interface InboundEventProcessor {
 
     void eventReceived(InboundChannelModel channelModel, InboundEvent event);
 
+    /**
+     * Handles a batch of events received on the same channel.
+     * The default implementation handles the events one by one.
+     *
+     * @throws InboundEventBatchException when handling an event failed, the events before it have been handled
+     */
+    default void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        int eventIndex = 0;
+        for (InboundEvent event : events) {
+            try {
+                eventReceived(channelModel, event);
+            } catch (RuntimeException e) {
+                throw new InboundEventBatchException("Handling event " + eventIndex + " of the batch received on channel " + channelModel.getKey() + " failed",
+                        eventIndex, e);
+            }
+            eventIndex++;
+        }
+    }
+
 }
@@ -188,6 +188,12 @@ public interface InboundChannelModelBuilder {
          */
         InboundKafkaChannelBuilder concurrency(String concurrency);
 
+        /**
+         * Sets whether the records of a poll are passed as one batch to the event registry (a boolean or an expression resolving to one).
+         * The number of records in a batch can be limited with the {@code max.poll.records} property.
+         */
+        InboundKafkaChannelBuilder batchListener(String batchListener);
+
         /**
          * Sets custom properties for this Kafka adapter. See the Spring Kafka docs for more information.
          */
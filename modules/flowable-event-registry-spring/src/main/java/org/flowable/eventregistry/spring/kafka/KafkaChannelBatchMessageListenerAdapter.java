@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.spring.kafka;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.api.InboundEventBatchException;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.springframework.kafka.listener.BatchAcknowledgingConsumerAwareMessageListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+/**
+ * Passes all the records of a poll as one batch to the event registry.
+ * The records are only acknowledged once the event registry has processed (and committed) the whole batch.
+ * When the event registry fails for a record (while processing it, e.g. because it can't be deserialized, or while handling it),
+ * the records before it have already been committed and a {@link BatchListenerFailedException}
+ * with the index of the first record that has not been committed is thrown. The error handler of the container then commits
+ * the offsets of the records before that index, so that only the records from that index on are redelivered.
+ */
+public class KafkaChannelBatchMessageListenerAdapter implements BatchAcknowledgingConsumerAwareMessageListener<Object, Object> {
+
+    protected EventRegistry eventRegistry;
+    protected InboundChannelModel inboundChannelModel;
+
+    public KafkaChannelBatchMessageListenerAdapter(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel) {
+        this.eventRegistry = eventRegistry;
+        this.inboundChannelModel = inboundChannelModel;
+    }
+
+    @Override
+    public void onMessage(List<ConsumerRecord<Object, Object>> data, Acknowledgment acknowledgment, Consumer<?, ?> consumer) {
+        if (!data.isEmpty()) {
+            Collection<InboundEvent> events = new ArrayList<>(data.size());
+            for (ConsumerRecord<Object, Object> record : data) {
+                events.add(new KafkaConsumerRecordInboundEvent(record));
+            }
+            try {
+                eventRegistry.eventsReceived(inboundChannelModel, events);
+            } catch (InboundEventBatchException e) {
+                throw new BatchListenerFailedException(e.getMessage(), e.getCause(), e.getFailedEventIndex());
+            }
+        }
+
+        if (acknowledgment != null) {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    public EventRegistry getEventRegistry() {
+        return eventRegistry;
+    }
+
+    public void setEventRegistry(EventRegistry eventRegistry) {
+        this.eventRegistry = eventRegistry;
+    }
+
+    public InboundChannelModel getInboundChannelModel() {
+        return inboundChannelModel;
+    }
+
+    public void setInboundChannelModel(InboundChannelModel inboundChannelModel) {
+        this.inboundChannelModel = inboundChannelModel;
+    }
+
+}
@@ -195,7 +195,13 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
         endpoint.setConcurrency(resolveExpressionAsInteger(channelModel.getConcurrency(), "concurrency"));
         endpoint.setConsumerProperties(resolveProperties(channelModel.getCustomProperties()));
 
-        endpoint.setMessageListener(createMessageListener(eventRegistry, channelModel));
+        boolean batchListener = isBatchListener(channelModel);
+        endpoint.setBatchListener(batchListener);
+        if (batchListener) {
+            endpoint.setMessageListener(createBatchMessageListener(eventRegistry, channelModel));
+        } else {
+            endpoint.setMessageListener(createMessageListener(eventRegistry, channelModel));
+        }
 
         return endpoint;
     }
@@ -233,6 +239,11 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
 
         if (retryTopicConfiguration != null) {
 
+            if (isBatchListener(channelModel)) {
+                throw new FlowableException("Channel model " + channelModel.getKey() + " in tenant " + tenantId
+                        + " has retry topics configured, which are not supported for batch listeners");
+            }
+
             Collection<String> topics;
             if (mainEndpoint.getTopics().isEmpty()) {
                 TopicPartitionOffset[] topicPartitionsToAssign = mainEndpoint.getTopicPartitionsToAssign();
@@ -746,6 +757,18 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Applic
         return kafkaChannelMessageListenerAdapter;
     }
 
+    @SuppressWarnings("unchecked")
+    protected GenericMessageListener<ConsumerRecord<Object, Object>> createBatchMessageListener(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel) {
+        // The endpoint is typed for record listeners, the container detects the batch listener based on its type
+        @SuppressWarnings("rawtypes")
+        GenericMessageListener kafkaChannelBatchMessageListenerAdapter = new KafkaChannelBatchMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        return kafkaChannelBatchMessageListenerAdapter;
+    }
+
+    protected boolean isBatchListener(KafkaInboundChannelModel channelModel) {
+        return resolveExpressionAsBoolean(channelModel.getBatchListener(), "batchListener", false);
+    }
+
     @Override
     public void unregisterChannelModel(ChannelModel channelModel, String tenantId, EventRepositoryService eventRepositoryService) {
         logger.info("Starting to unregister channel {} in tenant {}", channelModel.getKey(), tenantId);
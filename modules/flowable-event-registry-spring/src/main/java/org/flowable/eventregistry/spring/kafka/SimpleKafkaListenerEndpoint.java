@@ -42,6 +42,7 @@ public class SimpleKafkaListenerEndpoint<K, V> implements KafkaListenerEndpoint,
     protected Properties consumerProperties;
     protected boolean splitIterables = true;
     protected String mainListenerId;
+    protected Boolean batchListener;
 
     protected GenericMessageListener<ConsumerRecord<K, V>> messageListener;
 
@@ -165,6 +166,15 @@ public class SimpleKafkaListenerEndpoint<K, V> implements KafkaListenerEndpoint,
         this.mainListenerId = mainListenerId;
     }
 
+    @Override
+    public Boolean getBatchListener() {
+        return batchListener;
+    }
+
+    public void setBatchListener(Boolean batchListener) {
+        this.batchListener = batchListener;
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         boolean topicsEmpty = getTopics().isEmpty();
@@ -81,6 +81,11 @@ public class DefaultEventRegistry implements EventRegistry {
         inboundEventProcessor.eventReceived(channelModel, event);
     }
 
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        inboundEventProcessor.eventsReceived(channelModel, events);
+    }
+
     @Override
     public void sendEventToConsumers(EventRegistryEvent eventRegistryEvent) {
         Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
@@ -12,11 +12,14 @@
  */
 package org.flowable.eventregistry.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.api.InboundEventBatchException;
 import org.flowable.eventregistry.api.InboundEventProcessingPipeline;
 import org.flowable.eventregistry.api.InboundEventProcessor;
 import org.flowable.eventregistry.model.InboundChannelModel;
@@ -28,11 +31,17 @@ import org.flowable.eventregistry.model.InboundChannelModel;
 public class DefaultInboundEventProcessor implements InboundEventProcessor {
 
     protected EventRegistry eventRegistry;
+    protected EventRegistryEngineConfiguration eventRegistryEngineConfiguration;
 
     public DefaultInboundEventProcessor(EventRegistry eventRegistry) {
         this.eventRegistry = eventRegistry;
     }
 
+    public DefaultInboundEventProcessor(EventRegistry eventRegistry, EventRegistryEngineConfiguration eventRegistryEngineConfiguration) {
+        this.eventRegistry = eventRegistry;
+        this.eventRegistryEngineConfiguration = eventRegistryEngineConfiguration;
+    }
+
     @Override
     public void eventReceived(InboundChannelModel channelModel, InboundEvent event) {
         InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
@@ -44,4 +53,69 @@ public class DefaultInboundEventProcessor implements InboundEventProcessor {
 
     }
 
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<InboundEvent> events) {
+        InboundEventProcessingPipeline inboundEventProcessingPipeline = (InboundEventProcessingPipeline) channelModel.getInboundEventProcessingPipeline();
+        List<Collection<EventRegistryEvent>> eventRegistryEvents;
+        int failedEventIndex = -1;
+        RuntimeException pipelineException = null;
+        try {
+            eventRegistryEvents = inboundEventProcessingPipeline.runBatch(channelModel, events);
+
+        } catch (RuntimeException e) {
+            // Run the pipeline for every event separately, in order to find the event that fails (e.g. an event that can't be deserialized).
+            // The events before it are still handled, so that only the events starting from the failed one need to be redelivered.
+            eventRegistryEvents = new ArrayList<>(events.size());
+            for (InboundEvent event : events) {
+                try {
+                    eventRegistryEvents.add(inboundEventProcessingPipeline.run(channelModel, event));
+                } catch (RuntimeException eventException) {
+                    failedEventIndex = eventRegistryEvents.size();
+                    pipelineException = eventException;
+                    break;
+                }
+            }
+        }
+
+        int batchTransactionSize = eventRegistryEngineConfiguration != null ? Math.max(1, eventRegistryEngineConfiguration.getInboundEventBatchTransactionSize()) : 1;
+        for (int chunkStart = 0; chunkStart < eventRegistryEvents.size(); chunkStart += batchTransactionSize) {
+            List<Collection<EventRegistryEvent>> chunk = eventRegistryEvents.subList(chunkStart, Math.min(chunkStart + batchTransactionSize, eventRegistryEvents.size()));
+            try {
+                if (batchTransactionSize > 1) {
+                    sendEventsToConsumersInTransaction(chunk);
+                } else {
+                    sendEventsToConsumers(chunk);
+                }
+
+            } catch (RuntimeException e) {
+                // The chunks before this one are committed, while nothing of this chunk is
+                throw new InboundEventBatchException("Handling event " + chunkStart + " of the batch received on channel " + channelModel.getKey() + " failed",
+                        chunkStart, e);
+            }
+        }
+
+        if (pipelineException != null) {
+            // All the events before the failed one are committed at this point
+            throw new InboundEventBatchException("Processing event " + failedEventIndex + " of the batch received on channel " + channelModel.getKey()
+                    + " failed", failedEventIndex, pipelineException);
+        }
+    }
+
+    protected void sendEventsToConsumers(List<Collection<EventRegistryEvent>> eventRegistryEventsPerInboundEvent) {
+        for (Collection<EventRegistryEvent> eventRegistryEvents : eventRegistryEventsPerInboundEvent) {
+            for (EventRegistryEvent eventRegistryEvent : eventRegistryEvents) {
+                eventRegistry.sendEventToConsumers(eventRegistryEvent);
+            }
+        }
+    }
+
+    protected void sendEventsToConsumersInTransaction(List<Collection<EventRegistryEvent>> eventRegistryEventsPerInboundEvent) {
+        // The consumers execute their commands within the command context of the transaction,
+        // which means that all the starts / triggers of the events within a chunk are committed together
+        eventRegistryEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            sendEventsToConsumers(eventRegistryEventsPerInboundEvent);
+            return null;
+        });
+    }
+
 }
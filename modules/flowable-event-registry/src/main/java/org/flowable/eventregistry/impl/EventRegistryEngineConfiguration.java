@@ -161,6 +161,12 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
     protected InboundEventPayloadExtractor<?> defaultInboundEventPayloadExtractor;
     protected JsonPayloadValueTransformer jsonPayloadValueTransformer;
     protected CorrelationValueTransformer correlationValueTransformer;
+
+    /**
+     * The maximum number of events of an inbound batch (see {@link EventRegistry#eventsReceived})
+     * that are passed to the event consumers within one transaction. Values lower than 2 pass every event in its own transaction(s).
+     */
+    protected int inboundEventBatchTransactionSize = 1;
     
     // Change detection
     protected boolean enableEventRegistryChangeDetection;
@@ -529,7 +535,7 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
 
     public void initInboundEventProcessor() {
         if (this.inboundEventProcessor == null) {
-            this.inboundEventProcessor = new DefaultInboundEventProcessor(eventRegistry);
+            this.inboundEventProcessor = new DefaultInboundEventProcessor(eventRegistry, this);
         }
         this.eventRegistry.setInboundEventProcessor(this.inboundEventProcessor);
     }
@@ -681,6 +687,15 @@ public class EventRegistryEngineConfiguration extends AbstractBuildableEngineCon
         return this;
     }
 
+    public int getInboundEventBatchTransactionSize() {
+        return inboundEventBatchTransactionSize;
+    }
+
+    public EventRegistryEngineConfiguration setInboundEventBatchTransactionSize(int inboundEventBatchTransactionSize) {
+        this.inboundEventBatchTransactionSize = inboundEventBatchTransactionSize;
+        return this;
+    }
+
     public OutboundEventProcessor getOutboundEventProcessor() {
         return outboundEventProcessor;
     }
@@ -156,6 +156,10 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
     protected List<EventSubscription> findEventSubscriptions(String scopeType, EventInstance eventInstance,  Collection<CorrelationKey> correlationKeys) {
         return commandExecutor.execute(commandContext -> {
 
+            if (!hasEventSubscriptions(scopeType, eventInstance, correlationKeys)) {
+                return Collections.emptyList();
+            }
+
             EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
                 .eventType(eventInstance.getEventKey())
                 .scopeType(scopeType);
@@ -269,6 +273,14 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
         });
     }
 
+    /**
+     * Returns false when it is known, without querying the database, that there are no event subscriptions the event instance could match.
+     * The default implementation always returns true. Called from within a command context.
+     */
+    protected boolean hasEventSubscriptions(String scopeType, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        return true;
+    }
+
     protected String findDefinitionKeyById(EventRegistryEventConsumer eventConsumer, String definitionId) {
         if (eventConsumer instanceof BaseEventRegistryEventConsumer baseEventRegistryEventConsumer) {
             return baseEventRegistryEventConsumer.findDefinitionKeyById(definitionId);
@@ -12,8 +12,12 @@
  */
 package org.flowable.eventregistry.impl.pipeline;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
@@ -81,6 +85,21 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
 
     @Override
     public Collection<EventRegistryEvent> run(InboundChannelModel inboundChannel, InboundEvent inboundEvent) {
+        return run(inboundChannel, inboundEvent, null);
+    }
+
+    @Override
+    public List<Collection<EventRegistryEvent>> runBatch(InboundChannelModel inboundChannel, Collection<InboundEvent> inboundEvents) {
+        // The events of a batch mostly share the same event definitions, so they are only looked up once for the whole batch
+        Map<String, ResolvedEventModel> resolvedEventModels = new HashMap<>();
+        List<Collection<EventRegistryEvent>> registryEvents = new ArrayList<>(inboundEvents.size());
+        for (InboundEvent inboundEvent : inboundEvents) {
+            registryEvents.add(run(inboundChannel, inboundEvent, resolvedEventModels));
+        }
+        return registryEvents;
+    }
+
+    protected Collection<EventRegistryEvent> run(InboundChannelModel inboundChannel, InboundEvent inboundEvent, Map<String, ResolvedEventModel> resolvedEventModels) {
 
         boolean debugLoggingEnabled = logger.isDebugEnabled();
         if (debugLoggingEnabled) {
@@ -117,6 +136,41 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
                     inboundChannel.getKey(), inboundEvent);
         }
 
+        ResolvedEventModel resolvedEventModel;
+        if (resolvedEventModels != null) {
+            String resolvedEventModelKey = multiTenant ? tenantId + "|" + eventKey : eventKey;
+            resolvedEventModel = resolvedEventModels.get(resolvedEventModelKey);
+            if (resolvedEventModel == null) {
+                resolvedEventModel = resolveEventModel(eventKey, tenantId, multiTenant);
+                resolvedEventModels.put(resolvedEventModelKey, resolvedEventModel);
+            }
+        } else {
+            resolvedEventModel = resolveEventModel(eventKey, tenantId, multiTenant);
+        }
+
+        EventModel eventModel = resolvedEventModel.getEventModel();
+
+        EventInstanceImpl eventInstance = new EventInstanceImpl(
+            eventModel.getKey(),
+            extractPayload(eventModel, event, resolvedEventModel.getParentDeploymentId(), tenantId),
+            tenantId
+        );
+
+        if (debugLoggingEnabled) {
+            logger.debug("Transforming {} for inbound {} channel {}. Inbound event: {}", eventInstance, inboundChannel.getChannelType(),
+                    inboundChannel.getKey(), inboundEvent);
+        }
+        Collection<EventRegistryEvent> registryEvents = transform(eventInstance);
+
+        if (debugLoggingEnabled) {
+            logger.debug("Transformed {} to {} for inbound {} channel {}. Inbound event: {}", eventInstance, registryEvents, inboundChannel.getChannelType(),
+                    inboundChannel.getKey(), inboundEvent);
+        }
+
+        return registryEvents;
+    }
+
+    protected ResolvedEventModel resolveEventModel(String eventKey, String tenantId, boolean multiTenant) {
         EventDefinitionQuery eventDefinitionQuery = eventRepositoryService.createEventDefinitionQuery().eventDefinitionKey(eventKey);
         if (multiTenant) {
             eventDefinitionQuery.tenantId(tenantId);
@@ -143,25 +197,8 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
         EventDeployment eventDeployment = eventRepositoryService.createDeploymentQuery().deploymentId(eventDefinition.getDeploymentId()).singleResult();
         
         EventModel eventModel = eventRepositoryService.getEventModelById(eventDefinition.getId());
-        
-        EventInstanceImpl eventInstance = new EventInstanceImpl(
-            eventModel.getKey(),
-            extractPayload(eventModel, event, eventDeployment.getParentDeploymentId(), tenantId),
-            tenantId
-        );
-
-        if (debugLoggingEnabled) {
-            logger.debug("Transforming {} for inbound {} channel {}. Inbound event: {}", eventInstance, inboundChannel.getChannelType(),
-                    inboundChannel.getKey(), inboundEvent);
-        }
-        Collection<EventRegistryEvent> registryEvents = transform(eventInstance);
-
-        if (debugLoggingEnabled) {
-            logger.debug("Transformed {} to {} for inbound {} channel {}. Inbound event: {}", eventInstance, registryEvents, inboundChannel.getChannelType(),
-                    inboundChannel.getKey(), inboundEvent);
-        }
 
-        return registryEvents;
+        return new ResolvedEventModel(eventModel, eventDeployment.getParentDeploymentId());
     }
 
     public T deserialize(Object rawEvent) {
@@ -219,4 +256,23 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
     public void setInboundEventTransformer(InboundEventTransformer inboundEventTransformer) {
         this.inboundEventTransformer = inboundEventTransformer;
     }
+
+    protected static class ResolvedEventModel {
+
+        protected final EventModel eventModel;
+        protected final String parentDeploymentId;
+
+        public ResolvedEventModel(EventModel eventModel, String parentDeploymentId) {
+            this.eventModel = eventModel;
+            this.parentDeploymentId = parentDeploymentId;
+        }
+
+        public EventModel getEventModel() {
+            return eventModel;
+        }
+
+        public String getParentDeploymentId() {
+            return parentDeploymentId;
+        }
+    }
 }
@@ -14,6 +14,7 @@ package org.flowable.eventregistry.test;
 
 import static net.javacrumbs.jsonunit.assertj.JsonAssertions.assertThatJson;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.tuple;
 
 import java.util.ArrayList;
@@ -22,6 +23,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.eventregistry.api.EventConsumerInfo;
 import org.flowable.eventregistry.api.EventDeployment;
 import org.flowable.eventregistry.api.EventRegistry;
@@ -29,6 +33,8 @@ import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
 import org.flowable.eventregistry.api.EventRegistryNonMatchingEventConsumer;
 import org.flowable.eventregistry.api.EventRegistryProcessingInfo;
+import org.flowable.eventregistry.api.InboundEvent;
+import org.flowable.eventregistry.api.InboundEventBatchException;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.InboundEventDeserializer;
 import org.flowable.eventregistry.api.InboundEventKeyDetector;
@@ -36,6 +42,7 @@ import org.flowable.eventregistry.api.InboundEventPayloadExtractor;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.api.runtime.EventPayloadInstance;
+import org.flowable.eventregistry.impl.DefaultInboundEvent;
 import org.flowable.eventregistry.impl.DefaultInboundEventProcessor;
 import org.flowable.eventregistry.impl.event.FlowableEventRegistryEvent;
 import org.flowable.eventregistry.impl.pipeline.DefaultInboundEventProcessingPipeline;
@@ -69,7 +76,7 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
 
         EventRegistry eventRegistry = eventEngineConfiguration.getEventRegistry();
         eventRegistry.registerEventRegistryEventConsumer(this.testEventConsumer);
-        eventRegistry.setInboundEventProcessor(new DefaultInboundEventProcessor(eventRegistry));
+        eventRegistry.setInboundEventProcessor(new DefaultInboundEventProcessor(eventRegistry, eventEngineConfiguration));
     }
 
     @AfterEach
@@ -231,6 +238,72 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
                 );
     }
     
+    @Test
+    public void testBatchInboundEventPipeline() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .correlationParameter("customerId", EventPayloadTypes.STRING)
+                .payload("payload1", EventPayloadTypes.STRING)
+                .payload("payload2", EventPayloadTypes.INTEGER)
+                .deploy();
+
+        inboundEventChannelAdapter.triggerTestEvents("customer1", "customer2", "customer3");
+
+        assertThat(testEventConsumer.eventsReceived)
+                .extracting(event -> ((FlowableEventRegistryEvent) event).getEventInstance().getCorrelationParameterInstances().iterator().next().getValue())
+                .containsExactly("customer1", "customer2", "customer3");
+        // By default the events are not grouped in transactions
+        assertThat(testEventConsumer.commandContexts).containsOnlyNulls();
+    }
+
+    @Test
+    public void testBatchInboundEventsAreGroupedInTransactions() {
+        int originalBatchTransactionSize = eventEngineConfiguration.getInboundEventBatchTransactionSize();
+        eventEngineConfiguration.setInboundEventBatchTransactionSize(2);
+        try {
+            TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+            repositoryService.createEventModelBuilder()
+                    .key("myEvent")
+                    .resourceName("myEvent.event")
+                    .correlationParameter("customerId", EventPayloadTypes.STRING)
+                    .payload("payload1", EventPayloadTypes.STRING)
+                    .payload("payload2", EventPayloadTypes.INTEGER)
+                    .deploy();
+
+            inboundEventChannelAdapter.triggerTestEvents("customer1", "customer2", "customer3");
+
+            assertThat(testEventConsumer.eventsReceived).hasSize(3);
+            assertThat(testEventConsumer.commandContexts).hasSize(3).doesNotContainNull();
+            assertThat(testEventConsumer.commandContexts.get(0)).isSameAs(testEventConsumer.commandContexts.get(1));
+            assertThat(testEventConsumer.commandContexts.get(2)).isNotSameAs(testEventConsumer.commandContexts.get(0));
+
+        } finally {
+            eventEngineConfiguration.setInboundEventBatchTransactionSize(originalBatchTransactionSize);
+        }
+    }
+
+    @Test
+    public void testBatchInboundEventFailure() {
+        TestInboundEventChannelAdapter inboundEventChannelAdapter = setupTestChannel();
+
+        repositoryService.createEventModelBuilder()
+                .key("myEvent")
+                .resourceName("myEvent.event")
+                .correlationParameter("customerId", EventPayloadTypes.STRING)
+                .payload("payload1", EventPayloadTypes.STRING)
+                .payload("payload2", EventPayloadTypes.INTEGER)
+                .deploy();
+
+        testEventConsumer.failingCustomerId = "customer2";
+        assertThatThrownBy(() -> inboundEventChannelAdapter.triggerTestEvents("customer1", "customer2", "customer3"))
+                .isInstanceOfSatisfying(InboundEventBatchException.class, exception -> assertThat(exception.getFailedEventIndex()).isEqualTo(1));
+        assertThat(testEventConsumer.eventsReceived).hasSize(2);
+    }
+
     @Test
     public void testMissingEventConsumer() {
         eventEngineConfiguration.getEventRegistryEventConsumers().remove(testEventConsumer.getConsumerKey());
@@ -394,6 +467,8 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
     private static class TestEventConsumer implements EventRegistryEventConsumer {
 
         public List<EventRegistryEvent> eventsReceived = new ArrayList<>();
+        public List<CommandContext> commandContexts = new ArrayList<>();
+        public String failingCustomerId;
 
         @Override
         public String getConsumerKey() {
@@ -403,6 +478,11 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
         @Override
         public EventRegistryProcessingInfo eventReceived(EventRegistryEvent event) {
             eventsReceived.add(event);
+            commandContexts.add(Context.getCommandContext());
+            if (failingCustomerId != null && failingCustomerId.equals(((FlowableEventRegistryEvent) event).getEventInstance().getCorrelationParameterInstances()
+                    .iterator().next().getValue())) {
+                throw new FlowableException("Failing customer " + failingCustomerId);
+            }
             EventRegistryProcessingInfo eventRegistryProcessingInfo = new EventRegistryProcessingInfo();
             eventRegistryProcessingInfo.addEventConsumerInfo(new EventConsumerInfo());
             return eventRegistryProcessingInfo;
@@ -438,6 +518,19 @@ public class DefaultEventRegistryTest extends AbstractFlowableEventTest {
             json.put("payload2", 123);
             eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json));
         }
+
+        public void triggerTestEvents(String... customerIds) {
+            List<InboundEvent> events = new ArrayList<>(customerIds.length);
+            for (String customerId : customerIds) {
+                ObjectNode json = objectMapper.createObjectNode();
+                json.put("type", "myEvent");
+                json.put("customerId", customerId);
+                json.put("payload1", "Hello World");
+                json.put("payload2", 123);
+                events.add(new DefaultInboundEvent(objectMapper.writeValueAsString(json)));
+            }
+            eventRegistry.eventsReceived(inboundChannelModel, events);
+        }
     }
     
     private static class TestNonMatchingEventConsumer implements EventRegistryNonMatchingEventConsumer {
@@ -16,7 +16,9 @@ import java.time.Duration;
 import java.util.UUID;
 
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionServiceImpl;
+import org.flowable.eventsubscription.service.impl.InMemoryEventSubscriptionIndex;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManager;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManagerImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.EventSubscriptionDataManager;
@@ -58,6 +60,26 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
      */
     private String lockOwner = UUID.randomUUID().toString();
 
+    // INDEX
+    // //////////////////////////////////////////////
+
+    /**
+     * Whether an in-memory {@link EventSubscriptionIndex} should be used to discard inbound events that can't match any event subscription,
+     * without querying the database. Disabled by default.
+     * The index only sees the event subscriptions created through this engine, there is no invalidation across nodes:
+     * it must only be enabled when this engine is the only one creating event subscriptions in the database (i.e. a single node).
+     * Otherwise, events for event subscriptions created on another node are discarded.
+     */
+    protected boolean eventSubscriptionIndexEnabled;
+
+    protected EventSubscriptionIndex eventSubscriptionIndex;
+
+    /**
+     * The amount of time after which the indexed data of an event type is reloaded from the database,
+     * which cleans up the configurations of deleted event subscriptions.
+     */
+    protected Duration eventSubscriptionIndexMaxAge = Duration.ofMinutes(5);
+
     protected ObjectMapper objectMapper;
 
     public EventSubscriptionServiceConfiguration(String engineName) {
@@ -77,6 +99,7 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
 
         initDataManagers();
         initEntityManagers();
+        initEventSubscriptionIndex();
 
         configuratorsAfterInit();
     }
@@ -96,6 +119,12 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         }
     }
 
+    public void initEventSubscriptionIndex() {
+        if (eventSubscriptionIndexEnabled && eventSubscriptionIndex == null) {
+            eventSubscriptionIndex = new InMemoryEventSubscriptionIndex(this);
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -150,6 +179,33 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         return this;
     }
 
+    public boolean isEventSubscriptionIndexEnabled() {
+        return eventSubscriptionIndexEnabled;
+    }
+
+    public EventSubscriptionServiceConfiguration setEventSubscriptionIndexEnabled(boolean eventSubscriptionIndexEnabled) {
+        this.eventSubscriptionIndexEnabled = eventSubscriptionIndexEnabled;
+        return this;
+    }
+
+    public EventSubscriptionIndex getEventSubscriptionIndex() {
+        return eventSubscriptionIndex;
+    }
+
+    public EventSubscriptionServiceConfiguration setEventSubscriptionIndex(EventSubscriptionIndex eventSubscriptionIndex) {
+        this.eventSubscriptionIndex = eventSubscriptionIndex;
+        return this;
+    }
+
+    public Duration getEventSubscriptionIndexMaxAge() {
+        return eventSubscriptionIndexMaxAge;
+    }
+
+    public EventSubscriptionServiceConfiguration setEventSubscriptionIndexMaxAge(Duration eventSubscriptionIndexMaxAge) {
+        this.eventSubscriptionIndexMaxAge = eventSubscriptionIndexMaxAge;
+        return this;
+    }
+
     public String getLockOwner() {
         return lockOwner;
     }
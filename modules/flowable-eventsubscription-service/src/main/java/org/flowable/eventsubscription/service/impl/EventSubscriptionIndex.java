@@ -0,0 +1,50 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventsubscription.service.impl;
+
+import java.util.Collection;
+
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
+
+/**
+ * An in-memory index of the event subscriptions, which makes it possible to know
+ * whether an inbound event can match any subscription, without querying the database.
+ *
+ * The index is allowed to report false positives (in which case the database is still queried),
+ * but it should never report that there are no subscriptions when there are.
+ */
+public interface EventSubscriptionIndex {
+
+    /**
+     * Returns whether there are possibly event subscriptions for the given event type and scope type,
+     * which either have no configuration or have one of the given configurations (correlation keys).
+     */
+    boolean hasEventSubscriptions(String eventType, String scopeType, Collection<String> configurations);
+
+    /**
+     * Called when an event subscription has been created or updated and the transaction doing so has been committed.
+     */
+    void addEventSubscription(EventSubscriptionEntity eventSubscription);
+
+    /**
+     * Removes the indexed data for the given event type. It will be reloaded from the database on the next lookup.
+     * Should be called when event subscriptions for the event type were created without going through this engine (e.g. directly in the database).
+     */
+    void invalidate(String eventType);
+
+    /**
+     * Removes all indexed data.
+     */
+    void invalidateAll();
+
+}
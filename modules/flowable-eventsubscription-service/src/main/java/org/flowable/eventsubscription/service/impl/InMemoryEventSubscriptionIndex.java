@@ -0,0 +1,183 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventsubscription.service.impl;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManager;
+
+/**
+ * {@link EventSubscriptionIndex} that keeps, per event type and scope type, the configurations (correlation keys) of the event subscriptions in memory.
+ *
+ * The data for an event type and scope type is lazily loaded from the database on the first lookup (this needs an active command context)
+ * and is kept up to date with the event subscriptions created through this engine.
+ * The data is loaded in a new transaction, so that it sees all event subscriptions committed before the load started,
+ * independent of the snapshot of the transaction doing the lookup.
+ * Every added event subscription increments the version of its event type. When the version changed while loading,
+ * the loaded data might be missing the added event subscription: it is then only used for the lookup that loaded it and is not cached.
+ * Deleted event subscriptions are not removed from the index: this only leads to false positives, which are resolved by querying the database.
+ * To clean those up, the data is reloaded once it is older than {@link EventSubscriptionServiceConfiguration#getEventSubscriptionIndexMaxAge()}.
+ * <p>
+ * This index is for single node deployments only: event subscriptions created by other engines (e.g. on other nodes of a cluster)
+ * are not seen until the data is reloaded, so events for them would be discarded in the meantime.
+ * It is therefore only used when {@link EventSubscriptionServiceConfiguration#setEventSubscriptionIndexEnabled(boolean)} is explicitly enabled.
+ */
+public class InMemoryEventSubscriptionIndex implements EventSubscriptionIndex {
+
+    protected final EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration;
+
+    protected final Map<String, Map<String, IndexEntry>> entries = new ConcurrentHashMap<>();
+    protected final Map<String, AtomicLong> eventTypeVersions = new ConcurrentHashMap<>();
+
+    public InMemoryEventSubscriptionIndex(EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration) {
+        this.eventSubscriptionServiceConfiguration = eventSubscriptionServiceConfiguration;
+    }
+
+    @Override
+    public boolean hasEventSubscriptions(String eventType, String scopeType, Collection<String> configurations) {
+        if (eventType == null || scopeType == null) {
+            return true;
+        }
+
+        IndexEntry indexEntry = getIndexEntry(eventType, scopeType);
+        if (indexEntry.withoutConfiguration) {
+            return true;
+        }
+
+        for (String configuration : configurations) {
+            if (indexEntry.configurations.contains(configuration)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void addEventSubscription(EventSubscriptionEntity eventSubscription) {
+        String eventType = eventSubscription.getEventType();
+        String scopeType = eventSubscription.getScopeType();
+        if (eventType == null || scopeType == null) {
+            return;
+        }
+
+        // A load that is in progress might not see the subscription, the version change prevents it from being cached
+        getEventTypeVersion(eventType).incrementAndGet();
+
+        Map<String, IndexEntry> entriesForEventType = entries.get(eventType);
+        if (entriesForEventType != null) {
+            // When the loaded entry is being cached, this blocks until that is done.
+            // When there is no entry yet, the subscription will be part of the next load.
+            entriesForEventType.computeIfPresent(scopeType, (key, indexEntry) -> {
+                indexEntry.add(eventSubscription.getConfiguration());
+                return indexEntry;
+            });
+        }
+    }
+
+    @Override
+    public void invalidate(String eventType) {
+        getEventTypeVersion(eventType).incrementAndGet();
+        entries.remove(eventType);
+    }
+
+    @Override
+    public void invalidateAll() {
+        eventTypeVersions.values().forEach(AtomicLong::incrementAndGet);
+        entries.clear();
+    }
+
+    protected IndexEntry getIndexEntry(String eventType, String scopeType) {
+        Map<String, IndexEntry> entriesForEventType = entries.computeIfAbsent(eventType, key -> new ConcurrentHashMap<>());
+
+        IndexEntry indexEntry = entriesForEventType.get(scopeType);
+        if (indexEntry != null && !isExpired(indexEntry)) {
+            return indexEntry;
+        }
+
+        AtomicLong eventTypeVersion = getEventTypeVersion(eventType);
+        long versionBeforeLoad = eventTypeVersion.get();
+        IndexEntry loadedIndexEntry = executeInNewTransaction(commandContext -> loadIndexEntry(eventType, scopeType));
+
+        entriesForEventType.compute(scopeType, (key, currentIndexEntry) -> {
+            if (eventTypeVersion.get() == versionBeforeLoad) {
+                return loadedIndexEntry;
+            }
+
+            // An event subscription was added while loading, keep the current entry only if it is still valid
+            return currentIndexEntry != null && !isExpired(currentIndexEntry) ? currentIndexEntry : null;
+        });
+
+        return loadedIndexEntry;
+    }
+
+    protected AtomicLong getEventTypeVersion(String eventType) {
+        return eventTypeVersions.computeIfAbsent(eventType, key -> new AtomicLong());
+    }
+
+    protected <T> T executeInNewTransaction(Command<T> command) {
+        CommandContext commandContext = Context.getCommandContext();
+        return commandContext.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(), command);
+    }
+
+    protected boolean isExpired(IndexEntry indexEntry) {
+        Duration maxAge = eventSubscriptionServiceConfiguration.getEventSubscriptionIndexMaxAge();
+        return maxAge != null && System.currentTimeMillis() - indexEntry.loadTime > maxAge.toMillis();
+    }
+
+    protected IndexEntry loadIndexEntry(String eventType, String scopeType) {
+        IndexEntry indexEntry = new IndexEntry(System.currentTimeMillis());
+
+        EventSubscriptionEntityManager eventSubscriptionEntityManager = eventSubscriptionServiceConfiguration.getEventSubscriptionEntityManager();
+        List<String> configurations = eventSubscriptionEntityManager.findEventSubscriptionConfigurationsByEventTypeAndScopeType(eventType, scopeType);
+        indexEntry.configurations.addAll(configurations);
+
+        EventSubscriptionQueryImpl withoutConfigurationQuery = new EventSubscriptionQueryImpl();
+        withoutConfigurationQuery.eventType(eventType).scopeType(scopeType).withoutConfiguration();
+        indexEntry.withoutConfiguration = eventSubscriptionEntityManager.findEventSubscriptionCountByQueryCriteria(withoutConfigurationQuery) > 0;
+
+        return indexEntry;
+    }
+
+    protected static class IndexEntry {
+
+        protected final long loadTime;
+        protected final Set<String> configurations = ConcurrentHashMap.newKeySet();
+        protected volatile boolean withoutConfiguration;
+
+        public IndexEntry(long loadTime) {
+            this.loadTime = loadTime;
+        }
+
+        public void add(String configuration) {
+            if (configuration != null) {
+                configurations.add(configuration);
+            } else {
+                withoutConfiguration = true;
+            }
+        }
+    }
+
+}
@@ -71,6 +71,8 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     List<EventSubscriptionEntity> findEventSubscriptionsByNameAndExecution(String type, String eventName, String executionId);
 
+    List<String> findEventSubscriptionConfigurationsByEventTypeAndScopeType(String eventType, String scopeType);
+
     List<EventSubscriptionEntity> findEventSubscriptionsByExecution(String executionId);
 
     List<EventSubscriptionEntity> findEventSubscriptionsByExecutionAndType(String executionId, String type);
@@ -22,10 +22,14 @@ import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.Signal;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionBuilder;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
+import org.flowable.eventsubscription.service.impl.EventSubscriptionIndex;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.EventSubscriptionDataManager;
 
@@ -43,6 +47,19 @@ public class EventSubscriptionEntityManagerImpl
         super(eventSubscriptionServiceConfiguration, eventSubscriptionServiceConfiguration.getEngineName(), eventSubscriptionDataManager);
     }
 
+    @Override
+    public void insert(EventSubscriptionEntity entity, boolean fireCreateEvent) {
+        super.insert(entity, fireCreateEvent);
+        addToEventSubscriptionIndex(entity);
+    }
+
+    @Override
+    public EventSubscriptionEntity update(EventSubscriptionEntity entity, boolean fireUpdateEvent) {
+        EventSubscriptionEntity updatedEntity = super.update(entity, fireUpdateEvent);
+        addToEventSubscriptionIndex(entity);
+        return updatedEntity;
+    }
+
     @Override
     public CompensateEventSubscriptionEntity createCompensateEventSubscription() {
         return dataManager.createCompensateEventSubscription();
@@ -158,6 +175,11 @@ public class EventSubscriptionEntityManagerImpl
         return dataManager.findEventSubscriptionsByProcessInstanceAndActivityId(processInstanceId, activityId, type);
     }
 
+    @Override
+    public List<String> findEventSubscriptionConfigurationsByEventTypeAndScopeType(String eventType, String scopeType) {
+        return dataManager.findEventSubscriptionConfigurationsByEventTypeAndScopeType(eventType, scopeType);
+    }
+
     @Override
     public List<EventSubscriptionEntity> findEventSubscriptionsByExecution(final String executionId) {
         return dataManager.findEventSubscriptionsByExecution(executionId);
@@ -365,6 +387,23 @@ public class EventSubscriptionEntityManagerImpl
         return eventSubscription;
     }
 
+    protected void addToEventSubscriptionIndex(EventSubscriptionEntity eventSubscription) {
+        EventSubscriptionIndex eventSubscriptionIndex = getServiceConfiguration().getEventSubscriptionIndex();
+        if (eventSubscriptionIndex == null) {
+            return;
+        }
+
+        // The index is only updated once the transaction is committed.
+        // Until then, the subscription isn't visible for other transactions anyway.
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                    commandContext -> eventSubscriptionIndex.addEventSubscription(eventSubscription));
+        } else {
+            eventSubscriptionIndex.addEventSubscription(eventSubscription);
+        }
+    }
+
     protected List<SignalEventSubscriptionEntity> toSignalEventSubscriptionEntityList(List<EventSubscriptionEntity> result) {
         List<SignalEventSubscriptionEntity> signalEventSubscriptionEntities = new ArrayList<>(result.size());
         for (EventSubscriptionEntity eventSubscriptionEntity : result) {
@@ -74,6 +74,8 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     MessageEventSubscriptionEntity findMessageStartEventSubscriptionByName(String messageName, String tenantId);
 
+    List<String> findEventSubscriptionConfigurationsByEventTypeAndScopeType(String eventType, String scopeType);
+
     void updateEventSubscriptionTenantId(String oldTenantId, String newTenantId);
 
     void updateEventSubscriptionProcessDefinitionId(String oldProcessDefinitionId, String newProcessDefinitionId, String eventType, String activityId, String scopeDefinitionKey, String configuration);
@@ -330,6 +330,15 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         return entity;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findEventSubscriptionConfigurationsByEventTypeAndScopeType(String eventType, String scopeType) {
+        Map<String, String> params = new HashMap<>();
+        params.put("eventType", eventType);
+        params.put("scopeType", scopeType);
+        return getDbSqlSession().selectListNoCacheLoadAndStore("selectEventSubscriptionConfigurationsByEventTypeAndScopeType", params);
+    }
+
     @Override
     public void updateEventSubscriptionTenantId(String oldTenantId, String newTenantId) {
         Map<String, String> params = new HashMap<>();
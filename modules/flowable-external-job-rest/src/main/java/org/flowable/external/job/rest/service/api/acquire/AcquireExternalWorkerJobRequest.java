@@ -43,6 +43,11 @@ public class AcquireExternalWorkerJobRequest {
     @ApiModelProperty(value = "Only acquire jobs with the given scope type", example = "cmmn")
     protected String scopeType;
 
+    @ApiModelProperty(
+            value = "When no jobs are available, wait at most this long for new jobs of the topic before returning. ISO-8601 duration format PnDTnHnMn.nS with days considered to be exactly 24 hours.",
+            example = "PT30S", dataType = "string")
+    protected Duration waitTimeout;
+
     public String getTopic() {
         return topic;
     }
@@ -90,4 +95,12 @@ public class AcquireExternalWorkerJobRequest {
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
     }
+
+    public Duration getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    public void setWaitTimeout(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
 }
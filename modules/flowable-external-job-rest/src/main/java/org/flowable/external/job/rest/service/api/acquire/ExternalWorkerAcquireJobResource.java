@@ -12,20 +12,24 @@
  */
 package org.flowable.external.job.rest.service.api.acquire;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableForbiddenException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.rest.variable.EngineRestVariable;
 import org.flowable.external.job.rest.service.api.ExternalJobRestResponseFactory;
 import org.flowable.external.job.rest.service.api.ExternalWorkerJobBaseResource;
-import org.flowable.job.api.AcquiredExternalWorkerJob;
 import org.flowable.job.api.ExternalWorkerJob;
 import org.flowable.job.api.ExternalWorkerJobAcquireBuilder;
 import org.flowable.job.api.ExternalWorkerJobFailureBuilder;
@@ -34,6 +38,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -47,6 +52,8 @@ import io.swagger.annotations.ApiResponses;
 @Api(tags = { "Acquire and Execute" })
 public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResource {
 
+    protected static final Duration ASYNC_REQUEST_TIMEOUT_MARGIN = Duration.ofSeconds(30);
+
     protected final ExternalJobRestResponseFactory restResponseFactory;
 
     public ExternalWorkerAcquireJobResource(ExternalJobRestResponseFactory restResponseFactory) {
@@ -60,7 +67,7 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             @ApiResponse(code = 403, message = "Indicates the user does not have the rights acquire the jobs."),
     })
     @PostMapping(value = "/acquire/jobs", produces = "application/json")
-    public List<AcquiredExternalWorkerJobResponse> acquireAndLockJobs(@RequestBody AcquireExternalWorkerJobRequest request) {
+    public DeferredResult<List<AcquiredExternalWorkerJobResponse>> acquireAndLockJobs(@RequestBody AcquireExternalWorkerJobRequest request) {
         ExternalWorkerJobAcquireBuilder acquireBuilder = createExternalWorkerAcquireBuilder();
 
         if (restApiInterceptor != null) {
@@ -81,10 +88,26 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             acquireBuilder.scopeType(request.getScopeType());
         }
 
+        // The request is only kept open by the servlet container while waiting, it doesn't block a request thread
+        DeferredResult<List<AcquiredExternalWorkerJobResponse>> result;
+        if (request.getWaitTimeout() != null) {
+            acquireBuilder.waitForJobs(request.getWaitTimeout());
+            // The acquisition completes by itself once the wait timeout has passed, the margin is for the acquisition itself
+            result = new DeferredResult<>(request.getWaitTimeout().toMillis() + ASYNC_REQUEST_TIMEOUT_MARGIN.toMillis());
+        } else {
+            result = new DeferredResult<>();
+        }
+
         if (StringUtils.isNotEmpty(request.getWorkerId())) {
-            List<AcquiredExternalWorkerJob> acquiredJobs = acquireBuilder
-                    .acquireAndLock(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries());
-            return restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs);
+            acquireBuilder.acquireAndLockAsync(request.getNumberOfTasks(), request.getWorkerId(), request.getNumberOfRetries())
+                    .whenComplete((acquiredJobs, exception) -> {
+                        if (exception != null) {
+                            result.setErrorResult(exception instanceof CompletionException && exception.getCause() != null ? exception.getCause() : exception);
+                        } else {
+                            result.setResult(restResponseFactory.createAcquiredExternalWorkerJobResponseList(acquiredJobs));
+                        }
+                    });
+            return result;
         } else {
             throw new FlowableIllegalArgumentException("workerId is required");
         }
@@ -110,34 +133,7 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             throw new FlowableForbiddenException(workerId + " does not hold a lock on the requested job");
         }
 
-        if (job.getProcessInstanceId() != null) {
-            if (managementService != null) {
-                if (restApiInterceptor != null) {
-                    restApiInterceptor.completeExternalWorkerJob(job, request);
-                }
-
-                managementService.createExternalWorkerCompletionBuilder(job.getId(), workerId)
-                        .variables(extractVariables(request.getVariables()))
-                        .complete();
-            } else {
-                throw new FlowableException("Cannot complete BPMN job. There is no BPMN engine available");
-            }
-        } else if (ScopeTypes.CMMN.equals(job.getScopeType())) {
-            if (cmmnManagementService != null) {
-                if (restApiInterceptor != null) {
-                    restApiInterceptor.completeExternalWorkerJob(job, request);
-                }
-
-                cmmnManagementService.createCmmnExternalWorkerTransitionBuilder(job.getId(), workerId)
-                        .variables(extractVariables(request.getVariables()))
-                        .complete();
-            } else {
-                throw new FlowableException("Cannot complete CMMN job. There is no CMMN engine available");
-            }
-        } else {
-            throw new FlowableIllegalArgumentException(
-                    "Can only complete BPMN or CMMN external job. Job with id '" + jobId + "' is from scope '" + job.getScopeType() + "'");
-        }
+        completeJob(job, workerId, request);
 
         return ResponseEntity.noContent().build();
     }
@@ -242,7 +238,138 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
             throw new FlowableForbiddenException(workerId + " does not hold a lock on the requested job");
         }
 
-        ExternalWorkerJobFailureBuilder failureBuilder = createExternalWorkerJobFailureBuilder(jobId, workerId);
+        failJob(job, workerId, request);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @ApiOperation(value = "Complete and fail multiple External Worker Jobs at once", code = 204, tags = { "Acquire and Execute" },
+            notes = "All results are applied in a single transaction when the BPMN engine is available. If one of them can't be applied, none of them are.")
+    @ApiResponses({
+            @ApiResponse(code = 204, message = "Indicates the jobs were successfully completed and failed."),
+            @ApiResponse(code = 400, message = "Indicates the request was invalid."),
+            @ApiResponse(code = 403, message = "Indicates the user does not have the rights complete or fail one of the jobs."),
+            @ApiResponse(code = 404, message = "Indicates one of the jobs does not exist."),
+    })
+    @PostMapping(value = "/acquire/jobs/batch", produces = "application/json")
+    public ResponseEntity<?> completeAndFailJobs(@RequestBody ExternalWorkerJobBatchRequest request) {
+        List<ExternalWorkerJobBatchCompleteRequest> completeRequests = request.getComplete() != null ? request.getComplete() : Collections.emptyList();
+        List<ExternalWorkerJobBatchFailureRequest> failRequests = request.getFail() != null ? request.getFail() : Collections.emptyList();
+        if (completeRequests.isEmpty() && failRequests.isEmpty()) {
+            throw new FlowableIllegalArgumentException("complete or fail is required");
+        }
+
+        Set<String> jobIds = new LinkedHashSet<>();
+        for (ExternalWorkerJobBatchCompleteRequest completeRequest : completeRequests) {
+            validateBatchJobRequest(completeRequest.getJobId(), completeRequest.getWorkerId(), jobIds);
+        }
+        for (ExternalWorkerJobBatchFailureRequest failRequest : failRequests) {
+            validateBatchJobRequest(failRequest.getJobId(), failRequest.getWorkerId(), jobIds);
+        }
+
+        if (managementService != null) {
+            // The nested service calls of the BPMN and CMMN engine all join this command, and thus its transaction
+            managementService.executeCommand(commandContext -> {
+                completeAndFailJobs(jobIds, completeRequests, failRequests);
+                return null;
+            });
+        } else {
+            completeAndFailJobs(jobIds, completeRequests, failRequests);
+        }
+
+        return ResponseEntity.noContent().build();
+    }
+
+    protected void validateBatchJobRequest(String jobId, String workerId, Set<String> jobIds) {
+        if (StringUtils.isEmpty(jobId)) {
+            throw new FlowableIllegalArgumentException("jobId is required");
+        }
+
+        if (StringUtils.isEmpty(workerId)) {
+            throw new FlowableIllegalArgumentException("workerId is required");
+        }
+
+        if (!jobIds.add(jobId)) {
+            throw new FlowableIllegalArgumentException("Job with id '" + jobId + "' is present more than once");
+        }
+    }
+
+    protected void completeAndFailJobs(Set<String> jobIds, List<ExternalWorkerJobBatchCompleteRequest> completeRequests,
+            List<ExternalWorkerJobBatchFailureRequest> failRequests) {
+
+        // Fetch all jobs with one query instead of one query per job
+        Map<String, ExternalWorkerJob> jobs = getExternalWorkerJobsByIds(jobIds);
+
+        for (ExternalWorkerJobBatchCompleteRequest completeRequest : completeRequests) {
+            ExternalWorkerJob job = getLockedBatchJob(jobs, completeRequest.getJobId(), completeRequest.getWorkerId());
+            completeJob(job, completeRequest.getWorkerId(), completeRequest);
+        }
+
+        for (ExternalWorkerJobBatchFailureRequest failRequest : failRequests) {
+            ExternalWorkerJob job = getLockedBatchJob(jobs, failRequest.getJobId(), failRequest.getWorkerId());
+            failJob(job, failRequest.getWorkerId(), failRequest);
+        }
+    }
+
+    protected Map<String, ExternalWorkerJob> getExternalWorkerJobsByIds(Set<String> jobIds) {
+        Map<String, ExternalWorkerJob> jobs = new HashMap<>();
+        for (ExternalWorkerJob job : createExternalWorkerJobQuery().jobIds(jobIds).list()) {
+            if (restApiInterceptor != null) {
+                restApiInterceptor.accessExternalWorkerJobById(job);
+            }
+
+            jobs.put(job.getId(), job);
+        }
+
+        return jobs;
+    }
+
+    protected ExternalWorkerJob getLockedBatchJob(Map<String, ExternalWorkerJob> jobs, String jobId, String workerId) {
+        ExternalWorkerJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new FlowableObjectNotFoundException("Could not find external worker job with id '" + jobId + "'.", ExternalWorkerJob.class);
+        }
+
+        if (!workerId.equals(job.getLockOwner())) {
+            throw new FlowableForbiddenException(workerId + " does not hold a lock on the job with id '" + jobId + "'");
+        }
+
+        return job;
+    }
+
+    protected void completeJob(ExternalWorkerJob job, String workerId, ExternalWorkerJobCompleteRequest request) {
+        if (job.getProcessInstanceId() != null) {
+            if (managementService != null) {
+                if (restApiInterceptor != null) {
+                    restApiInterceptor.completeExternalWorkerJob(job, request);
+                }
+
+                managementService.createExternalWorkerCompletionBuilder(job.getId(), workerId)
+                        .variables(extractVariables(request.getVariables()))
+                        .complete();
+            } else {
+                throw new FlowableException("Cannot complete BPMN job. There is no BPMN engine available");
+            }
+        } else if (ScopeTypes.CMMN.equals(job.getScopeType())) {
+            if (cmmnManagementService != null) {
+                if (restApiInterceptor != null) {
+                    restApiInterceptor.completeExternalWorkerJob(job, request);
+                }
+
+                cmmnManagementService.createCmmnExternalWorkerTransitionBuilder(job.getId(), workerId)
+                        .variables(extractVariables(request.getVariables()))
+                        .complete();
+            } else {
+                throw new FlowableException("Cannot complete CMMN job. There is no CMMN engine available");
+            }
+        } else {
+            throw new FlowableIllegalArgumentException(
+                    "Can only complete BPMN or CMMN external job. Job with id '" + job.getId() + "' is from scope '" + job.getScopeType() + "'");
+        }
+    }
+
+    protected void failJob(ExternalWorkerJob job, String workerId, ExternalWorkerJobFailureRequest request) {
+        ExternalWorkerJobFailureBuilder failureBuilder = createExternalWorkerJobFailureBuilder(job.getId(), workerId);
 
         if (request.getErrorMessage() != null) {
             failureBuilder.errorMessage(request.getErrorMessage());
@@ -265,8 +392,6 @@ public class ExternalWorkerAcquireJobResource extends ExternalWorkerJobBaseResou
         }
 
         failureBuilder.fail();
-
-        return ResponseEntity.noContent().build();
     }
 
     protected Map<String, Object> extractVariables(List<EngineRestVariable> restVariables) {
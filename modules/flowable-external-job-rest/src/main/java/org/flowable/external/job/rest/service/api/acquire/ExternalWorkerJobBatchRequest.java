@@ -0,0 +1,44 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.external.job.rest.service.api.acquire;
+
+import java.util.List;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+@ApiModel(description = "Request that is used for completing and failing multiple external worker jobs at once")
+public class ExternalWorkerJobBatchRequest {
+
+    @ApiModelProperty(value = "The jobs that should be completed")
+    protected List<ExternalWorkerJobBatchCompleteRequest> complete;
+
+    @ApiModelProperty(value = "The jobs that should be failed")
+    protected List<ExternalWorkerJobBatchFailureRequest> fail;
+
+    public List<ExternalWorkerJobBatchCompleteRequest> getComplete() {
+        return complete;
+    }
+
+    public void setComplete(List<ExternalWorkerJobBatchCompleteRequest> complete) {
+        this.complete = complete;
+    }
+
+    public List<ExternalWorkerJobBatchFailureRequest> getFail() {
+        return fail;
+    }
+
+    public void setFail(List<ExternalWorkerJobBatchFailureRequest> fail) {
+        this.fail = fail;
+    }
+}
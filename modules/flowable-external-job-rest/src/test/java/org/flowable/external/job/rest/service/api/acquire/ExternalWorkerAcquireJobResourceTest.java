@@ -23,6 +23,9 @@ import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.CmmnTaskService;
@@ -39,6 +42,7 @@ import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.external.job.rest.service.ExternalJobRestSpringBootTest;
+import org.flowable.job.api.AcquiredExternalWorkerJob;
 import org.flowable.job.api.ExternalWorkerJob;
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.Test;
@@ -1252,4 +1256,174 @@ class ExternalWorkerAcquireJobResourceTest {
 
         return variable;
     }
+
+    @Test
+    void batchWithInvalidParameters() {
+        ObjectNode request = objectMapper.createObjectNode();
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/service/acquire/jobs/batch", request, String.class);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThatJson(response.getBody()).isEqualTo("{"
+                + "  message: 'Bad request',"
+                + "  exception: 'complete or fail is required'"
+                + "}");
+
+        request = objectMapper.createObjectNode();
+        request.putArray("complete").addObject().put("jobId", "job1");
+
+        response = restTemplate.postForEntity("/service/acquire/jobs/batch", request, String.class);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThatJson(response.getBody()).isEqualTo("{"
+                + "  message: 'Bad request',"
+                + "  exception: 'workerId is required'"
+                + "}");
+
+        request = objectMapper.createObjectNode();
+        request.putArray("complete").addObject().put("jobId", "job1").put("workerId", "testWorker");
+        request.putArray("fail").addObject().put("jobId", "job1").put("workerId", "testWorker");
+
+        response = restTemplate.postForEntity("/service/acquire/jobs/batch", request, String.class);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThatJson(response.getBody()).isEqualTo("{"
+                + "  message: 'Bad request',"
+                + "  exception: \"Job with id 'job1' is present more than once\""
+                + "}");
+
+        request = objectMapper.createObjectNode();
+        request.putArray("complete").addObject().put("jobId", "invalidJobId").put("workerId", "testWorker");
+
+        response = restTemplate.postForEntity("/service/acquire/jobs/batch", request, String.class);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/external/job/rest/service/api/simpleExternalWorkerJob.bpmn20.xml")
+    void completeAndFailBpmnJobsInBatch() {
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+        }
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(10))
+                .acquireAndLock(3, "testWorker1");
+        assertThat(acquiredJobs).hasSize(3);
+
+        ObjectNode request = objectMapper.createObjectNode();
+        ArrayNode complete = request.putArray("complete");
+        complete.addObject()
+                .put("jobId", acquiredJobs.get(0).getId())
+                .put("workerId", "testWorker1");
+        ObjectNode completeWithVariables = complete.addObject()
+                .put("jobId", acquiredJobs.get(1).getId())
+                .put("workerId", "testWorker1");
+        completeWithVariables.putArray("variables").addObject()
+                .put("name", "result")
+                .put("type", "string")
+                .put("value", "done");
+        request.putArray("fail").addObject()
+                .put("jobId", acquiredJobs.get(2).getId())
+                .put("workerId", "testWorker1")
+                .put("errorMessage", "Service not available");
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/service/acquire/jobs/batch", request, String.class);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.NO_CONTENT);
+
+        JobTestHelper.waitForJobExecutorToProcessAllJobs(processEngineConfiguration, managementService, 4000, 300);
+
+        assertThat(taskService.createTaskQuery().list())
+                .extracting(Task::getTaskDefinitionKey)
+                .containsExactlyInAnyOrder("taskAfter", "taskAfter");
+        assertThat(runtimeService.getVariable(acquiredJobs.get(1).getProcessInstanceId(), "result")).isEqualTo("done");
+
+        ExternalWorkerJob failedJob = managementService.createExternalWorkerJobQuery().singleResult();
+        assertThat(failedJob.getId()).isEqualTo(acquiredJobs.get(2).getId());
+        assertThat(failedJob.getRetries()).isEqualTo(2);
+        assertThat(failedJob.getLockOwner()).isNull();
+        assertThat(failedJob.getExceptionMessage()).isEqualTo("Service not available");
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/external/job/rest/service/api/simpleExternalWorkerJob.bpmn20.xml")
+    void batchIsNotAppliedWhenOneJobIsNotLockedByWorker() {
+        for (int i = 0; i < 2; i++) {
+            runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+        }
+
+        List<AcquiredExternalWorkerJob> acquiredJobs = managementService.createExternalWorkerJobAcquireBuilder()
+                .topic("simple", Duration.ofMinutes(10))
+                .acquireAndLock(2, "testWorker1");
+        assertThat(acquiredJobs).hasSize(2);
+
+        ObjectNode request = objectMapper.createObjectNode();
+        ArrayNode complete = request.putArray("complete");
+        complete.addObject()
+                .put("jobId", acquiredJobs.get(0).getId())
+                .put("workerId", "testWorker1");
+        complete.addObject()
+                .put("jobId", acquiredJobs.get(1).getId())
+                .put("workerId", "testWorker2");
+
+        ResponseEntity<String> response = restTemplate.postForEntity("/service/acquire/jobs/batch", request, String.class);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThatJson(response.getBody()).isEqualTo("{"
+                + "  message: 'Forbidden',"
+                + "  exception: \"testWorker2 does not hold a lock on the job with id '" + acquiredJobs.get(1).getId() + "'\""
+                + "}");
+
+        assertThat(managementService.createExternalWorkerJobQuery().lockOwner("testWorker1").list())
+                .extracting(ExternalWorkerJob::getId)
+                .containsExactlyInAnyOrder(acquiredJobs.get(0).getId(), acquiredJobs.get(1).getId());
+        assertThat(taskService.createTaskQuery().count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/external/job/rest/service/api/simpleExternalWorkerJob.bpmn20.xml")
+    void acquireJobsWaitsForNewJobs() throws Exception {
+        ObjectNode request = objectMapper.createObjectNode();
+        request.put("topic", "simple");
+        request.put("lockDuration", "PT10M");
+        request.put("workerId", "testWorker");
+        request.put("waitTimeout", "PT30S");
+
+        CompletableFuture<ResponseEntity<String>> acquisition = CompletableFuture
+                .supplyAsync(() -> restTemplate.postForEntity("/service/acquire/jobs", request, String.class));
+
+        Thread.sleep(500);
+        assertThat(acquisition).isNotDone();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleExternalWorker");
+
+        ResponseEntity<String> response = acquisition.get(20, TimeUnit.SECONDS);
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.OK);
+        assertThatJson(response.getBody())
+                .when(Option.IGNORING_EXTRA_FIELDS)
+                .isEqualTo("["
+                        + "  {"
+                        + "    processInstanceId: '" + processInstance.getId() + "',"
+                        + "    lockOwner: 'testWorker'"
+                        + "  }"
+                        + "]");
+    }
+
+    @Test
+    void acquireJobsReturnsNoJobsWhenWaitTimeoutPassed() {
+        ObjectNode request = objectMapper.createObjectNode();
+        request.put("topic", "simple");
+        request.put("lockDuration", "PT10M");
+        request.put("workerId", "testWorker");
+        request.put("waitTimeout", "PT0.5S");
+
+        long start = System.currentTimeMillis();
+        ResponseEntity<String> response = restTemplate.postForEntity("/service/acquire/jobs", request, String.class);
+
+        assertThat(response.getStatusCode()).as(response.toString()).isEqualTo(HttpStatus.OK);
+        assertThatJson(response.getBody()).isEqualTo("[]");
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(500);
+    }
 }
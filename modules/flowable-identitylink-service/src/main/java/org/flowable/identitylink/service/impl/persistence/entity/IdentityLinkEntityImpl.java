@@ -17,12 +17,13 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.identitylink.api.history.HistoricIdentityLink;
 
 /**
  * @author Joram Barrez
  */
-public class IdentityLinkEntityImpl extends AbstractIdentityLinkServiceNoRevisionEntity implements IdentityLinkEntity, Serializable {
+public class IdentityLinkEntityImpl extends AbstractIdentityLinkServiceNoRevisionEntity implements IdentityLinkEntity, DirtyTrackingEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -115,6 +116,7 @@ public class IdentityLinkEntityImpl extends AbstractIdentityLinkServiceNoRevisio
 
     @Override
     public void setType(String type) {
+        markDirty(this.type, type);
         this.type = type;
     }
 
@@ -128,6 +130,7 @@ public class IdentityLinkEntityImpl extends AbstractIdentityLinkServiceNoRevisio
         if (this.groupId != null && userId != null) {
             throw new FlowableException("Cannot assign a userId to a task assignment that already has a groupId");
         }
+        markDirty(this.userId, userId);
         this.userId = userId;
     }
 
@@ -141,6 +144,7 @@ public class IdentityLinkEntityImpl extends AbstractIdentityLinkServiceNoRevisio
         if (this.userId != null && groupId != null) {
             throw new FlowableException("Cannot assign a groupId to a task assignment that already has a userId");
         }
+        markDirty(this.groupId, groupId);
         this.groupId = groupId;
     }
 
@@ -151,6 +155,7 @@ public class IdentityLinkEntityImpl extends AbstractIdentityLinkServiceNoRevisio
 
     @Override
     public void setTaskId(String taskId) {
+        markDirty(this.taskId, taskId);
         this.taskId = taskId;
     }
 
@@ -161,6 +166,7 @@ public class IdentityLinkEntityImpl extends AbstractIdentityLinkServiceNoRevisio
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
+        markDirty(this.processInstanceId, processInstanceId);
         this.processInstanceId = processInstanceId;
     }
 
@@ -171,6 +177,7 @@ public class IdentityLinkEntityImpl extends AbstractIdentityLinkServiceNoRevisio
 
     @Override
     public void setProcessDefId(String processDefId) {
+        markDirty(this.processDefId, processDefId);
         this.processDefId = processDefId;
     }
 
@@ -186,6 +193,7 @@ public class IdentityLinkEntityImpl extends AbstractIdentityLinkServiceNoRevisio
     
     @Override
     public void setScopeId(String scopeId) {
+        markDirty(this.scopeId, scopeId);
         this.scopeId = scopeId;
     }
     
@@ -196,6 +204,7 @@ public class IdentityLinkEntityImpl extends AbstractIdentityLinkServiceNoRevisio
 
     @Override
     public void setSubScopeId(String subScopeId) {
+        markDirty(this.subScopeId, subScopeId);
         this.subScopeId = subScopeId;
     }
 
@@ -206,6 +215,7 @@ public class IdentityLinkEntityImpl extends AbstractIdentityLinkServiceNoRevisio
     
     @Override
     public void setScopeType(String scopeType) {
+        markDirty(this.scopeType, scopeType);
         this.scopeType = scopeType;
     }
 
@@ -216,6 +226,7 @@ public class IdentityLinkEntityImpl extends AbstractIdentityLinkServiceNoRevisio
 
     @Override
     public void setScopeDefinitionId(String scopeDefinitionId) {
+        markDirty(this.scopeDefinitionId, scopeDefinitionId);
         this.scopeDefinitionId = scopeDefinitionId;
     }
 
@@ -0,0 +1 @@
+update ACT_ID_PROPERTY set VALUE_ = '8.1.0.2' where NAME_ = 'schema.version';
@@ -15,6 +15,7 @@ package org.flowable.job.api;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Filip Hrisafov
@@ -57,6 +58,16 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     ExternalWorkerJobAcquireBuilder forUserOrGroups(String userId, Collection<String> groups);
 
+    /**
+     * When no jobs are available, wait for jobs of the topic to be created before returning.
+     * The acquisition is retried as soon as jobs for the topic are created on this node,
+     * and once more when the wait time has passed (e.g. to pick up jobs created on another node).
+     * The wait time is limited by the maximum wait time of the job service configuration.
+     *
+     * @param waitTime the maximum time to wait for jobs
+     */
+    ExternalWorkerJobAcquireBuilder waitForJobs(Duration waitTime);
+
     /**
      * Acquire and lock the given number of jobs for the given worker id.
      * By default it will try to acquire jobs 5 times.
@@ -80,4 +91,15 @@ public interface ExternalWorkerJobAcquireBuilder {
      */
     List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries);
 
+    /**
+     * Acquire and lock the given number of jobs for the given worker id, without blocking the calling thread while waiting for jobs.
+     * The jobs are acquired right away on the calling thread. Only when none are available and a wait time is set with {@link #waitForJobs(Duration)},
+     * the returned future is completed later on, with the jobs acquired once jobs for the topic have been created or the wait time has passed.
+     *
+     * @param numberOfTasks the number of jobs to acquire
+     * @param workerId the id of the worker acquiring the jobs
+     * @param numberOfRetries the number of retries if an optimistic lock exception occurs during acquiring
+     */
+    CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLockAsync(int numberOfTasks, String workerId, int numberOfRetries);
+
 }
@@ -12,16 +12,22 @@
  */
 package org.flowable.job.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
 import org.flowable.common.engine.impl.calendar.BusinessCalendarManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.impl.ExternalWorkerJobAvailableNotifier;
 import org.flowable.job.service.impl.HistoryJobServiceImpl;
 import org.flowable.job.service.impl.JobServiceImpl;
 import org.flowable.job.service.impl.TimerJobServiceImpl;
@@ -108,11 +114,34 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration<JobSer
     protected InternalJobCompatibilityManager internalJobCompatibilityManager;
     protected InternalJobParentStateResolver jobParentStateResolver;
 
+    protected ExternalWorkerJobAvailableNotifier externalWorkerJobAvailableNotifier;
+
+    /**
+     * The maximum time an external worker job acquisition waits for new jobs when none are available, see {@link org.flowable.job.api.ExternalWorkerJobAcquireBuilder#waitForJobs(Duration)}.
+     */
+    protected Duration externalWorkerJobAcquireMaxWaitTime = Duration.ofMinutes(1);
+
+    /**
+     * The executor on which an asynchronous external worker job acquisition queries for jobs again after it has been woken up,
+     * see {@link org.flowable.job.api.ExternalWorkerJobAcquireBuilder#acquireAndLockAsync(int, String, int)}.
+     * When not set, a pool of {@link #externalWorkerJobAcquireExecutorPoolSize} daemon threads is used.
+     */
+    protected Executor externalWorkerJobAcquireExecutor;
+    protected int externalWorkerJobAcquireExecutorPoolSize = 4;
+
     protected AsyncExecutor asyncExecutor;
     protected int asyncExecutorNumberOfRetries;
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
 
     protected String jobExecutionScope;
+
+    /**
+     * The number of partitions the executable async jobs are spread over, by hashing their process or case instance id when they are created.
+     * When larger than 0, each async executor only acquires the jobs of the partitions assigned to its node.
+     * 0 (the default) disables partitioning.
+     */
+    protected int jobPartitionCount;
+
     protected Map<String, JobHandler> jobHandlers;
     protected FailedJobCommandFactory failedJobCommandFactory;
     protected List<AsyncRunnableExecutionExceptionHandler> asyncRunnableExecutionExceptionHandlers;
@@ -146,6 +175,8 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration<JobSer
         initJobManager();
         initDataManagers();
         initEntityManagers();
+        initExternalWorkerJobAvailableNotifier();
+        initExternalWorkerJobAcquireExecutor();
 
         configuratorsAfterInit();
     }
@@ -211,6 +242,26 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration<JobSer
         }
     }
 
+    public void initExternalWorkerJobAvailableNotifier() {
+        if (externalWorkerJobAvailableNotifier == null) {
+            externalWorkerJobAvailableNotifier = new ExternalWorkerJobAvailableNotifier();
+        }
+    }
+
+    public void initExternalWorkerJobAcquireExecutor() {
+        if (externalWorkerJobAcquireExecutor == null) {
+            // Daemon threads that terminate when idle, so that no explicit shutdown is needed
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(externalWorkerJobAcquireExecutorPoolSize, externalWorkerJobAcquireExecutorPoolSize,
+                    60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "flowable-" + getEngineName() + "-external-worker-job-acquire");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            externalWorkerJobAcquireExecutor = executor;
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -429,6 +480,15 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration<JobSer
         return this;
     }
 
+    public int getJobPartitionCount() {
+        return jobPartitionCount;
+    }
+
+    public JobServiceConfiguration setJobPartitionCount(int jobPartitionCount) {
+        this.jobPartitionCount = jobPartitionCount;
+        return this;
+    }
+
     public String getHistoryJobExecutionScope() {
         return historyJobExecutionScope;
     }
@@ -579,4 +639,40 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration<JobSer
         enabledJobCategories.add(jobCategory);
     }
 
+    public ExternalWorkerJobAvailableNotifier getExternalWorkerJobAvailableNotifier() {
+        return externalWorkerJobAvailableNotifier;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobAvailableNotifier(ExternalWorkerJobAvailableNotifier externalWorkerJobAvailableNotifier) {
+        this.externalWorkerJobAvailableNotifier = externalWorkerJobAvailableNotifier;
+        return this;
+    }
+
+    public Duration getExternalWorkerJobAcquireMaxWaitTime() {
+        return externalWorkerJobAcquireMaxWaitTime;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobAcquireMaxWaitTime(Duration externalWorkerJobAcquireMaxWaitTime) {
+        this.externalWorkerJobAcquireMaxWaitTime = externalWorkerJobAcquireMaxWaitTime;
+        return this;
+    }
+
+    public Executor getExternalWorkerJobAcquireExecutor() {
+        return externalWorkerJobAcquireExecutor;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobAcquireExecutor(Executor externalWorkerJobAcquireExecutor) {
+        this.externalWorkerJobAcquireExecutor = externalWorkerJobAcquireExecutor;
+        return this;
+    }
+
+    public int getExternalWorkerJobAcquireExecutorPoolSize() {
+        return externalWorkerJobAcquireExecutorPoolSize;
+    }
+
+    public JobServiceConfiguration setExternalWorkerJobAcquireExecutorPoolSize(int externalWorkerJobAcquireExecutorPoolSize) {
+        this.externalWorkerJobAcquireExecutorPoolSize = externalWorkerJobAcquireExecutorPoolSize;
+        return this;
+    }
+
 }
@@ -16,7 +16,10 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
@@ -40,6 +43,7 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     protected String tenantId;
     protected String authorizedUser;
     protected Collection<String> authorizedGroups;
+    protected Duration waitTime;
 
     public ExternalWorkerJobAcquireBuilderImpl(CommandExecutor commandExecutor, JobServiceConfiguration jobServiceConfiguration) {
         this.commandExecutor = commandExecutor;
@@ -109,8 +113,111 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
         return this;
     }
 
+    @Override
+    public ExternalWorkerJobAcquireBuilder waitForJobs(Duration waitTime) {
+        if (waitTime == null) {
+            throw new FlowableIllegalArgumentException("waitTime is null");
+        }
+
+        this.waitTime = waitTime;
+        return this;
+    }
+
     @Override
     public List<AcquiredExternalWorkerJob> acquireAndLock(int numberOfTasks, String workerId, int numberOfRetries) {
+        ExternalWorkerJobAvailableNotifier notifier = jobServiceConfiguration.getExternalWorkerJobAvailableNotifier();
+        long waitTimeInMillis = getWaitTimeInMillis();
+        if (notifier == null || topic == null || waitTimeInMillis <= 0) {
+            return acquireAndLockWithRetries(numberOfTasks, workerId, numberOfRetries);
+        }
+
+        long deadline = System.currentTimeMillis() + waitTimeInMillis;
+        boolean wokenUp = false;
+        while (true) {
+            // The version needs to be read before querying, otherwise jobs committed in between would not wake us up
+            long topicVersion = notifier.getTopicVersion(topic);
+            List<AcquiredExternalWorkerJob> acquiredJobs = acquireAndLockWithRetries(numberOfTasks, workerId, numberOfRetries);
+            if (acquiredJobs.isEmpty() && wokenUp) {
+                // The new jobs didn't match this acquisition, another waiter might be able to get them
+                notifier.passOnJobsAvailable(topic, topicVersion);
+            }
+
+            long remainingWaitTime = deadline - System.currentTimeMillis();
+            if (!acquiredJobs.isEmpty() || remainingWaitTime <= 0) {
+                return acquiredJobs;
+            }
+
+            wokenUp = true;
+            CompletableFuture<Boolean> jobsAvailable = notifier.awaitJobsAvailable(topic, topicVersion, remainingWaitTime);
+            try {
+                if (!jobsAvailable.get()) {
+                    // Last attempt, for jobs that are not known to this node (created on another node, expired locks, etc.)
+                    return acquireAndLockWithRetries(numberOfTasks, workerId, numberOfRetries);
+                }
+            } catch (InterruptedException e) {
+                jobsAvailable.cancel(false);
+                Thread.currentThread().interrupt();
+                return acquiredJobs;
+            } catch (ExecutionException e) {
+                throw new FlowableException("Waiting for external worker jobs of topic " + topic + " failed", e.getCause());
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLockAsync(int numberOfTasks, String workerId, int numberOfRetries) {
+        ExternalWorkerJobAvailableNotifier notifier = jobServiceConfiguration.getExternalWorkerJobAvailableNotifier();
+        long waitTimeInMillis = getWaitTimeInMillis();
+        if (notifier == null || topic == null || waitTimeInMillis <= 0) {
+            return CompletableFuture.completedFuture(acquireAndLockWithRetries(numberOfTasks, workerId, numberOfRetries));
+        }
+
+        return acquireAndLockOrWait(notifier, numberOfTasks, workerId, numberOfRetries, System.currentTimeMillis() + waitTimeInMillis, false);
+    }
+
+    protected CompletableFuture<List<AcquiredExternalWorkerJob>> acquireAndLockOrWait(ExternalWorkerJobAvailableNotifier notifier,
+            int numberOfTasks, String workerId, int numberOfRetries, long deadline, boolean wokenUp) {
+
+        // The version needs to be read before querying, otherwise jobs committed in between would not wake us up
+        long topicVersion = notifier.getTopicVersion(topic);
+        List<AcquiredExternalWorkerJob> acquiredJobs = acquireAndLockWithRetries(numberOfTasks, workerId, numberOfRetries);
+        if (acquiredJobs.isEmpty() && wokenUp) {
+            // The new jobs didn't match this acquisition, another waiter might be able to get them
+            notifier.passOnJobsAvailable(topic, topicVersion);
+        }
+
+        long remainingWaitTime = deadline - System.currentTimeMillis();
+        if (!acquiredJobs.isEmpty() || remainingWaitTime <= 0) {
+            return CompletableFuture.completedFuture(acquiredJobs);
+        }
+
+        // No thread is blocked while waiting. Once woken up, the jobs are acquired on the external worker job acquire executor,
+        // instead of on the thread that committed the new jobs.
+        return notifier.awaitJobsAvailable(topic, topicVersion, remainingWaitTime)
+                .thenComposeAsync(jobsAvailable -> {
+                    if (jobsAvailable) {
+                        return acquireAndLockOrWait(notifier, numberOfTasks, workerId, numberOfRetries, deadline, true);
+                    }
+
+                    // Last attempt, for jobs that are not known to this node (created on another node, expired locks, etc.)
+                    return CompletableFuture.completedFuture(acquireAndLockWithRetries(numberOfTasks, workerId, numberOfRetries));
+                }, jobServiceConfiguration.getExternalWorkerJobAcquireExecutor());
+    }
+
+    protected long getWaitTimeInMillis() {
+        if (waitTime == null) {
+            return 0;
+        }
+
+        long waitTimeInMillis = waitTime.toMillis();
+        Duration maxWaitTime = jobServiceConfiguration.getExternalWorkerJobAcquireMaxWaitTime();
+        if (maxWaitTime != null) {
+            waitTimeInMillis = Math.min(waitTimeInMillis, maxWaitTime.toMillis());
+        }
+        return waitTimeInMillis;
+    }
+
+    protected List<AcquiredExternalWorkerJob> acquireAndLockWithRetries(int numberOfTasks, String workerId, int numberOfRetries) {
         while (numberOfRetries > 0) {
             try {
                 return commandExecutor.execute(new AcquireExternalWorkerJobsCmd(workerId, numberOfTasks, this, jobServiceConfiguration));
@@ -146,4 +253,8 @@ public class ExternalWorkerJobAcquireBuilderImpl implements ExternalWorkerJobAcq
     public Collection<String> getAuthorizedGroups() {
         return authorizedGroups;
     }
+
+    public Duration getWaitTime() {
+        return waitTime;
+    }
 }
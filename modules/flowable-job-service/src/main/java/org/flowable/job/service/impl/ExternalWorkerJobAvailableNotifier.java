@@ -0,0 +1,143 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets external worker job acquisitions that found no jobs wait until new jobs for their topic are created on this node.
+ *
+ * A waiting acquisition is represented by a future, so that waiting doesn't need to block a thread.
+ * The waiters of a topic are woken up in the order in which they started waiting, and only as many of them
+ * as jobs have been created for the topic, as every woken up acquisition queries for jobs again.
+ * A woken up acquisition that doesn't get any of the jobs (e.g. because its tenant, scope type or authorization filters don't match)
+ * passes its wake up on to the next waiter through {@link #passOnJobsAvailable(String, long)}.
+ *
+ * Every topic has a version that is increased each time jobs for that topic have been committed.
+ * A waiting acquisition reads the version before querying for jobs and is woken up right away when the version has changed since,
+ * so jobs committed between the query and the wait are never missed.
+ *
+ * Jobs created on other nodes, or jobs that become available again because their lock expired, don't notify the waiting acquisitions.
+ * Those are picked up when the wait times out.
+ */
+public class ExternalWorkerJobAvailableNotifier {
+
+    protected final ConcurrentMap<String, TopicWaiters> topicWaiters = new ConcurrentHashMap<>();
+
+    /**
+     * @return the current version of the given topic, to be passed to {@link #awaitJobsAvailable(String, long, long)}.
+     */
+    public long getTopicVersion(String topic) {
+        return getTopicWaiters(topic).version.get();
+    }
+
+    /**
+     * Waits until jobs for the given topic have been created after the given topic version was read, or until the timeout has passed.
+     * A waiter that is no longer interested (e.g. because its thread was interrupted) should cancel the returned future.
+     *
+     * @return a future that is completed with true when new jobs have been created, or with false when the timeout has passed
+     */
+    public CompletableFuture<Boolean> awaitJobsAvailable(String topic, long topicVersion, long timeoutInMillis) {
+        TopicWaiters waiters = getTopicWaiters(topic);
+        Waiter waiter = new Waiter(topicVersion);
+        waiters.queue.add(waiter);
+
+        // The version is checked after adding the waiter, so that jobs committed in between are not missed
+        if (waiters.version.get() != topicVersion) {
+            waiter.jobsAvailable.complete(true);
+        }
+
+        waiter.jobsAvailable.completeOnTimeout(false, timeoutInMillis, TimeUnit.MILLISECONDS);
+        waiter.jobsAvailable.whenComplete((available, throwable) -> waiters.queue.remove(waiter));
+        return waiter.jobsAvailable;
+    }
+
+    /**
+     * Wakes up, for every topic, as many of the acquisitions waiting for jobs of that topic as jobs have been created.
+     * This is invoked after the transaction that created the jobs has been committed.
+     *
+     * @param jobCounts the number of created jobs per topic
+     */
+    public void notifyJobsAvailable(Map<String, Integer> jobCounts) {
+        for (Map.Entry<String, Integer> jobCount : jobCounts.entrySet()) {
+            TopicWaiters waiters = topicWaiters.get(jobCount.getKey());
+            if (waiters != null) {
+                waiters.version.incrementAndGet();
+
+                int wokenUpWaiters = 0;
+                while (wokenUpWaiters < jobCount.getValue()) {
+                    Waiter waiter = waiters.queue.poll();
+                    if (waiter == null) {
+                        break;
+                    }
+
+                    // Waiters that timed out or have been cancelled in the meantime don't count
+                    if (waiter.jobsAvailable.complete(true)) {
+                        wokenUpWaiters++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Passes a wake up on to the next acquisition waiting for jobs of the given topic.
+     * This is invoked by a woken up acquisition that didn't get any jobs, so that the jobs can still be picked up by another waiter.
+     * Only waiters that started waiting before the given topic version changed are woken up:
+     * they have not queried for the new jobs yet, while the others already did.
+     *
+     * @param topicVersion the version of the topic that was read before querying for jobs
+     */
+    public void passOnJobsAvailable(String topic, long topicVersion) {
+        TopicWaiters waiters = topicWaiters.get(topic);
+        if (waiters != null) {
+            Iterator<Waiter> iterator = waiters.queue.iterator();
+            while (iterator.hasNext()) {
+                Waiter waiter = iterator.next();
+                if (waiter.topicVersion < topicVersion && waiter.jobsAvailable.complete(true)) {
+                    iterator.remove();
+                    return;
+                }
+            }
+        }
+    }
+
+    protected TopicWaiters getTopicWaiters(String topic) {
+        return topicWaiters.computeIfAbsent(topic, key -> new TopicWaiters());
+    }
+
+    protected static class TopicWaiters {
+
+        protected final AtomicLong version = new AtomicLong();
+        protected final Queue<Waiter> queue = new ConcurrentLinkedQueue<>();
+
+    }
+
+    protected static class Waiter {
+
+        protected final long topicVersion;
+        protected final CompletableFuture<Boolean> jobsAvailable = new CompletableFuture<>();
+
+        public Waiter(long topicVersion) {
+            this.topicVersion = topicVersion;
+        }
+    }
+}
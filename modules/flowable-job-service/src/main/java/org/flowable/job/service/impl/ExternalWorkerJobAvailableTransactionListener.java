@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Wakes up the external worker job acquisitions waiting for the topics of the jobs created in a transaction, once it has been committed.
+ */
+public class ExternalWorkerJobAvailableTransactionListener implements TransactionListener {
+
+    public static final String COMMAND_CONTEXT_ATTRIBUTE = ExternalWorkerJobAvailableTransactionListener.class.getName();
+
+    protected ExternalWorkerJobAvailableNotifier notifier;
+    protected Map<String, Integer> jobCounts = new LinkedHashMap<>();
+
+    public ExternalWorkerJobAvailableTransactionListener(ExternalWorkerJobAvailableNotifier notifier) {
+        this.notifier = notifier;
+    }
+
+    public void addJob(String topic) {
+        jobCounts.merge(topic, 1, Integer::sum);
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        notifier.notifyJobsAvailable(jobCounts);
+    }
+}
@@ -44,6 +44,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected ExecuteAsyncRunnableFactory executeAsyncRunnableFactory;
     
     protected AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler;
+    protected volatile JobAvailableSignal jobAvailableSignal;
     protected JobExecutionObservationProvider jobExecutionObservationProvider = JobExecutionObservationProvider.NOOP;
 
     protected boolean isAutoActivate;
@@ -436,6 +437,47 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.jobExecutionObservationProvider = jobExecutionObservationProvider;
     }
 
+    @Override
+    public JobAvailableSignal getJobAvailableSignal() {
+        if (jobAvailableSignal == null && configuration.isJobAvailableSignalEnabled()) {
+            synchronized (this) {
+                if (jobAvailableSignal == null) {
+                    jobAvailableSignal = new DatabaseJobAvailableSignal(this, configuration.getGlobalAcquireLockPrefix(),
+                            configuration.getJobAvailableSignalPollRate());
+                }
+            }
+        }
+        return jobAvailableSignal;
+    }
+
+    public void setJobAvailableSignal(JobAvailableSignal jobAvailableSignal) {
+        this.jobAvailableSignal = jobAvailableSignal;
+    }
+
+    public boolean isJobAvailableSignalEnabled() {
+        return configuration.isJobAvailableSignalEnabled();
+    }
+
+    public void setJobAvailableSignalEnabled(boolean jobAvailableSignalEnabled) {
+        configuration.setJobAvailableSignalEnabled(jobAvailableSignalEnabled);
+    }
+
+    public boolean isAdaptiveAsyncJobAcquisitionEnabled() {
+        return configuration.isAdaptiveAsyncJobAcquisitionEnabled();
+    }
+
+    public void setAdaptiveAsyncJobAcquisitionEnabled(boolean adaptiveAsyncJobAcquisitionEnabled) {
+        configuration.setAdaptiveAsyncJobAcquisitionEnabled(adaptiveAsyncJobAcquisitionEnabled);
+    }
+
+    public boolean isTimerJobPrefetchEnabled() {
+        return configuration.isTimerJobPrefetchEnabled();
+    }
+
+    public void setTimerJobPrefetchEnabled(boolean timerJobPrefetchEnabled) {
+        configuration.setTimerJobPrefetchEnabled(timerJobPrefetchEnabled);
+    }
+
     public AcquireTimerJobsRunnable getTimerJobRunnable() {
         return timerJobRunnable;
     }
@@ -476,6 +518,16 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             return configuration.getGlobalAcquireLockPrefix();
         }
 
+        @Override
+        public boolean isGlobalAcquireLockLeaseEnabled() {
+            return configuration.isGlobalAcquireLockLeaseEnabled();
+        }
+
+        @Override
+        public Duration getGlobalAcquireLockLeaseDuration() {
+            return configuration.getGlobalAcquireLockLeaseDuration();
+        }
+
         @Override
         public Duration getLockWaitTime() {
             return configuration.getTimerLockWaitTime();
@@ -490,6 +542,16 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         public Duration getLockForceAcquireAfter() {
             return configuration.getTimerLockForceAcquireAfter();
         }
+
+        @Override
+        public boolean isPrefetchEnabled() {
+            return configuration.isTimerJobPrefetchEnabled();
+        }
+
+        @Override
+        public Duration getPrefetchLookAheadTime() {
+            return configuration.getTimerJobPrefetchLookAheadTime();
+        }
     }
 
     public class AcquireAsyncJobsDueRunnableConfiguration implements AcquireJobsRunnableConfiguration {
@@ -504,6 +566,16 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
             return configuration.getGlobalAcquireLockPrefix();
         }
 
+        @Override
+        public boolean isGlobalAcquireLockLeaseEnabled() {
+            return configuration.isGlobalAcquireLockLeaseEnabled();
+        }
+
+        @Override
+        public Duration getGlobalAcquireLockLeaseDuration() {
+            return configuration.getGlobalAcquireLockLeaseDuration();
+        }
+
         @Override
         public Duration getLockWaitTime() {
             return configuration.getAsyncJobsGlobalLockWaitTime();
@@ -518,5 +590,20 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         public Duration getLockForceAcquireAfter() {
             return configuration.getAsyncJobsGlobalLockForceAcquireAfter();
         }
+
+        @Override
+        public boolean isAdaptiveAcquisitionEnabled() {
+            return configuration.isAdaptiveAsyncJobAcquisitionEnabled();
+        }
+
+        @Override
+        public Duration getAdaptiveAcquireMinWaitTime() {
+            return configuration.getAsyncJobAcquireMinWaitTime();
+        }
+
+        @Override
+        public Duration getJobPartitionLeaseDuration() {
+            return configuration.getJobPartitionLeaseDuration();
+        }
     }
 }
@@ -20,9 +20,11 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.lock.LockManager;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.lock.LeaseLockManagerImpl;
 import org.flowable.common.engine.impl.lock.LockManagerImpl;
 import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
 import org.flowable.job.service.impl.cmd.AcquireJobsWithGlobalAcquireLockCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 import org.slf4j.Logger;
@@ -83,11 +85,17 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected AcquireJobsRunnableConfiguration configuration;
     protected LockManager lockManager;
+    protected JobPartitionLeaseManager partitionLeaseManager;
 
     protected volatile boolean isInterrupted;
+    protected volatile boolean isWakeUpRequested;
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
 
+    // Only used when adaptive acquisition is enabled and only accessed by the acquire thread
+    protected int adaptiveMaxJobsPerAcquisition;
+    protected long adaptiveMillisToWait;
+
     public AcquireAsyncJobsDueRunnable(String name, AsyncExecutor asyncExecutor, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
             AcquireAsyncJobsDueLifecycleListener lifecycleListener, AcquireJobsRunnableConfiguration configuration) {
         this.name = name;
@@ -102,6 +110,7 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
         // Always initialize the lock manager, allowing to switch execution modes if needed
         this.lockManager = createLockManager(asyncExecutor.getJobServiceConfiguration().getCommandExecutor());
+        this.partitionLeaseManager = createPartitionLeaseManager(asyncExecutor.getJobServiceConfiguration().getCommandExecutor());
 
         LOGGER.info("starting to acquire async jobs due for engine {}", getEngineName());
         Thread.currentThread().setName(name);
@@ -140,13 +149,33 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
             }
 
         }
+
+        if (partitionLeaseManager != null) {
+            partitionLeaseManager.release();
+        }
         LOGGER.info("stopped async job due acquisition for engine {}", getEngineName());
     }
 
     protected LockManager createLockManager(CommandExecutor commandExecutor) {
+        if (configuration.isGlobalAcquireLockLeaseEnabled()) {
+            return new LeaseLockManagerImpl(commandExecutor, configuration.getGlobalAcquireLockPrefix() + ACQUIRE_ASYNC_JOBS_GLOBAL_LOCK, configuration.getLockPollRate(),
+                    configuration.getGlobalAcquireLockLeaseDuration(), getEngineName());
+        }
         return new LockManagerImpl(commandExecutor, configuration.getGlobalAcquireLockPrefix() + ACQUIRE_ASYNC_JOBS_GLOBAL_LOCK, configuration.getLockPollRate(), configuration.getLockForceAcquireAfter(), getEngineName());
     }
 
+    /**
+     * Only the executable async jobs are partitioned, so no partition lease manager is created for the acquisition of other jobs (e.g. history jobs).
+     */
+    protected JobPartitionLeaseManager createPartitionLeaseManager(CommandExecutor commandExecutor) {
+        int jobPartitionCount = asyncExecutor.getJobServiceConfiguration().getJobPartitionCount();
+        if (jobPartitionCount > 0 && jobEntityManager instanceof JobEntityManager) {
+            return new JobPartitionLeaseManager(commandExecutor, configuration.getGlobalAcquireLockPrefix(), jobPartitionCount,
+                    configuration.getJobPartitionLeaseDuration(), getEngineName());
+        }
+        return null;
+    }
+
     protected long executeAcquireCycle(CommandExecutor commandExecutor) {
         int remainingCapacity = asyncExecutor.getTaskExecutor().getRemainingCapacity();
         lifecycleListener.startAcquiring(getEngineName(), remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
@@ -173,13 +202,27 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
         boolean globalAcquireLockEnabled = configuration.isGlobalAcquireLockEnabled();
+        boolean adaptiveAcquisitionEnabled = configuration.isAdaptiveAcquisitionEnabled();
+        if (adaptiveAcquisitionEnabled && adaptiveMaxJobsPerAcquisition <= 0) {
+            adaptiveMaxJobsPerAcquisition = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+        }
+        int maxJobsToAcquire = adaptiveAcquisitionEnabled ? Math.min(remainingCapacity, adaptiveMaxJobsPerAcquisition) : remainingCapacity;
         try {
+            List<Integer> partitions = null;
+            if (partitionLeaseManager != null) {
+                partitions = partitionLeaseManager.getAssignedPartitions();
+                if (partitions.isEmpty()) {
+                    // No partitions are assigned to this node (yet), e.g. when there are more nodes than partitions
+                    return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+                }
+            }
+
             List<? extends JobInfoEntity> acquiredJobs;
             if (globalAcquireLockEnabled) {
-                acquiredJobs = commandExecutor.execute(new AcquireJobsWithGlobalAcquireLockCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+                acquiredJobs = commandExecutor.execute(new AcquireJobsWithGlobalAcquireLockCmd(asyncExecutor, maxJobsToAcquire, jobEntityManager, partitions));
 
             } else {
-                acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity, jobEntityManager));
+                acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, maxJobsToAcquire, jobEntityManager, partitions));
 
             }
 
@@ -192,9 +235,17 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
                 lifecycleListener.rejectedJobs(getEngineName(), rejectedJobs.size(), acquiredJobs.size(), asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
 
+                if (adaptiveAcquisitionEnabled) {
+                    // The queue can't keep up, so acquire less jobs in the next cycles
+                    adaptiveMaxJobsPerAcquisition = Math.max(1, (acquiredJobs.size() - rejectedJobs.size()) / 2);
+                }
+
                 // some jobs were rejected, so the queue was full; wait until attempting to acquire more.
                 return asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
             }
+            if (adaptiveAcquisitionEnabled) {
+                return adaptAcquisition(acquiredJobs.size(), Math.min(maxJobsToAcquire, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
+            }
             if (acquiredJobs.size() >= asyncExecutor.getMaxAsyncJobsDuePerAcquisition()) {
                 return 0L; // the maximum amount of jobs were acquired, so we can expect more.
             }
@@ -223,6 +274,33 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
     }
 
+    /**
+     * Adapts the wait time and the amount of jobs to acquire in the next cycle to the result of the current cycle
+     * and returns the time to wait before the next cycle.
+     */
+    protected long adaptAcquisition(int jobsAcquired, int maxJobsAcquired) {
+        int maxAsyncJobsDuePerAcquisition = asyncExecutor.getMaxAsyncJobsDuePerAcquisition();
+        if (jobsAcquired >= maxJobsAcquired) {
+            // All the jobs that could be acquired were acquired, so we can expect more
+            adaptiveMaxJobsPerAcquisition = Math.min(adaptiveMaxJobsPerAcquisition * 2, maxAsyncJobsDuePerAcquisition);
+            adaptiveMillisToWait = 0L;
+
+        } else if (jobsAcquired > 0) {
+            // There are jobs, but less than could be acquired, so new jobs are probably coming in at about this rate
+            adaptiveMaxJobsPerAcquisition = Math.min(jobsAcquired * 2, maxAsyncJobsDuePerAcquisition);
+            adaptiveMillisToWait = configuration.getAdaptiveAcquireMinWaitTime().toMillis();
+
+        } else {
+            // No jobs, so back off until the default wait time is reached
+            long minMillisToWait = Math.max(1L, configuration.getAdaptiveAcquireMinWaitTime().toMillis());
+            long maxMillisToWait = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+            adaptiveMillisToWait = Math.min(Math.max(minMillisToWait, adaptiveMillisToWait * 2), maxMillisToWait);
+
+        }
+
+        return adaptiveMillisToWait;
+    }
+
     protected List<JobInfoEntity> offerJobs(List<? extends JobInfoEntity> acquiredJobs) {
         List<JobInfoEntity> rejected = new ArrayList<>();
         for (JobInfoEntity job : acquiredJobs) {
@@ -234,6 +312,19 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return rejected;
     }
 
+    /**
+     * Wakes up the acquire thread, so that the next acquire cycle starts right away (e.g. when another node signalled that jobs are available).
+     * When the thread isn't waiting, the next wait is skipped.
+     */
+    public void wakeUp() {
+        synchronized (MONITOR) {
+            isWakeUpRequested = true;
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -251,11 +342,17 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
                     LOGGER.debug("async job acquisition for engine {}, thread sleeping for {} millis", getEngineName(), millisToWait);
                 }
                 synchronized (MONITOR) {
-                    if (!isInterrupted) {
+                    if (!isInterrupted && !isWakeUpRequested) {
                         isWaiting.set(true);
                         lifecycleListener.startWaiting(getEngineName(), millisToWait);
                         MONITOR.wait(millisToWait);
                     }
+
+                    if (isWakeUpRequested) {
+                        // Jobs are available again, so there is no need to back off any longer
+                        isWakeUpRequested = false;
+                        adaptiveMillisToWait = 0L;
+                    }
                 }
 
                 if (LOGGER.isDebugEnabled()) {
@@ -287,4 +384,8 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         this.configuration = configuration;
     }
 
+    public JobPartitionLeaseManager getPartitionLeaseManager() {
+        return partitionLeaseManager;
+    }
+
 }
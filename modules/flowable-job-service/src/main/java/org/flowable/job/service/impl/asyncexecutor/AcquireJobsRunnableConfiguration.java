@@ -60,4 +60,53 @@ public interface AcquireJobsRunnableConfiguration {
     Duration getLockPollRate();
 
     Duration getLockForceAcquireAfter();
+
+    /**
+     * Whether the global acquire lock should be held as a lease, which expires when it is not renewed.
+     */
+    default boolean isGlobalAcquireLockLeaseEnabled() {
+        return false;
+    }
+
+    /**
+     * The duration of the lease of the global acquire lock, when the lease is enabled.
+     */
+    default Duration getGlobalAcquireLockLeaseDuration() {
+        return Duration.ofSeconds(30);
+    }
+
+    /**
+     * Whether the wait time and the amount of jobs acquired in one cycle should adapt to the recent acquisition results.
+     */
+    default boolean isAdaptiveAcquisitionEnabled() {
+        return false;
+    }
+
+    /**
+     * The minimum time to wait between two acquire cycles, when adaptive acquisition is enabled.
+     */
+    default Duration getAdaptiveAcquireMinWaitTime() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Whether the jobs that become due within the {@link #getPrefetchLookAheadTime() look ahead time} should be acquired and kept in memory until they are due.
+     */
+    default boolean isPrefetchEnabled() {
+        return false;
+    }
+
+    /**
+     * How long before they are due jobs are acquired, when prefetching is enabled.
+     */
+    default Duration getPrefetchLookAheadTime() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * The duration of the lease a node holds while acquiring the jobs of its partitions, when job partitioning is enabled.
+     */
+    default Duration getJobPartitionLeaseDuration() {
+        return Duration.ofSeconds(30);
+    }
 }
@@ -12,8 +12,10 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
@@ -26,11 +28,15 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.lock.LockManager;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.lock.LeaseLockManagerImpl;
 import org.flowable.common.engine.impl.lock.LockManagerImpl;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsWithGlobalAcquireLockCmd;
 import org.flowable.job.service.impl.cmd.BulkMoveTimerJobsToExecutableJobsCmd;
+import org.flowable.job.service.impl.cmd.MovePrefetchedTimerJobsToExecutableJobsCmd;
 import org.flowable.job.service.impl.cmd.MoveTimerJobsToExecutableJobsCmd;
+import org.flowable.job.service.impl.cmd.PrefetchTimerJobsCmd;
+import org.flowable.job.service.impl.cmd.RenewPrefetchedTimerJobLocksCmd;
 import org.flowable.job.service.impl.cmd.UnlockTimerJobsCmd;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.slf4j.Logger;
@@ -48,6 +54,12 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
     private static final String ACQUIRE_TIMER_JOBS_GLOBAL_LOCK = "acquireTimerJobsLock";
 
+    /**
+     * The size of the buckets of the {@link TimerJobWheel} used when prefetching timer jobs.
+     * Prefetched timer jobs are moved at most this amount of time after their due date.
+     */
+    protected static final long PREFETCH_TICK_MILLIS = 100L;
+
     private static final AcquireTimerLifecycleListener NOOP_LIFECYCLE_LISTENER = new AcquireTimerLifecycleListener() {
 
         @Override
@@ -87,6 +99,10 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
     protected CommandExecutor commandExecutor;
 
+    // Only used when prefetching timer jobs, accessed by the acquisition thread only
+    protected TimerJobWheel timerJobWheel;
+    protected long nextPrefetchTime;
+
     public AcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, JobManager jobManager, int moveExecutorPoolSize) {
         this(asyncExecutor, jobManager, null, AcquireJobsRunnableConfiguration.DEFAULT, moveExecutorPoolSize);
     }
@@ -116,7 +132,11 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         long millisToWait = 0L;
         while (!isInterrupted) {
-            millisToWait = executeAcquireAndMoveCycle();
+            if (configuration.isPrefetchEnabled()) {
+                millisToWait = executePrefetchAndMoveCycle();
+            } else {
+                millisToWait = executeAcquireAndMoveCycle();
+            }
 
             if (millisToWait > 0) {
                 sleep(millisToWait);
@@ -124,6 +144,11 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         }
 
+        if (timerJobWheel != null && !timerJobWheel.isEmpty()) {
+            // Other nodes should be able to pick up the timer jobs that were prefetched, but are not yet due
+            unlockTimerJobs(timerJobWheel.pollAll());
+        }
+
         if (moveTimerJobsExecutorService != null) {
             moveTimerJobsExecutorService.shutdown();
         }
@@ -132,6 +157,10 @@ public class AcquireTimerJobsRunnable implements Runnable {
     }
 
     protected LockManager createLockManager(CommandExecutor commandExecutor) {
+        if (configuration.isGlobalAcquireLockLeaseEnabled()) {
+            return new LeaseLockManagerImpl(commandExecutor, configuration.getGlobalAcquireLockPrefix() + ACQUIRE_TIMER_JOBS_GLOBAL_LOCK, configuration.getLockPollRate(),
+                    configuration.getGlobalAcquireLockLeaseDuration(), getEngineName());
+        }
         return new LockManagerImpl(commandExecutor, configuration.getGlobalAcquireLockPrefix() + ACQUIRE_TIMER_JOBS_GLOBAL_LOCK, configuration.getLockPollRate(), configuration.getLockForceAcquireAfter(), getEngineName());
     }
 
@@ -220,6 +249,139 @@ public class AcquireTimerJobsRunnable implements Runnable {
         return millisToWait;
     }
 
+    /**
+     * Acquire cycle used when prefetching is enabled.
+     * The timer jobs that become due within the look ahead time are acquired (at most once per acquire wait time)
+     * and kept in the {@link TimerJobWheel}, from which they are moved to executable jobs once they are due.
+     *
+     * The prefetched timer jobs are locked for the look ahead time plus a margin of one acquire wait time.
+     * The locks of the timer jobs that are still in the wheel when their lock is about to expire (e.g. because the moves are lagging behind)
+     * are renewed with the next acquisition, so that a node that stops only holds its timer jobs for a short time.
+     */
+    protected long executePrefetchAndMoveCycle() {
+        lifecycleListener.startAcquiring(getEngineName(), asyncExecutor.getMaxTimerJobsPerAcquisition());
+
+        if (timerJobWheel == null) {
+            timerJobWheel = new TimerJobWheel(PREFETCH_TICK_MILLIS);
+        }
+
+        long millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+        long now = getCurrentTimeMillis();
+
+        try {
+
+            if (now >= nextPrefetchTime) {
+                renewExpiringTimerJobLocks(now);
+
+                List<TimerJobEntity> timerJobs = prefetchTimerJobs();
+                timerJobWheel.add(timerJobs);
+
+                int nrOfJobsAcquired = timerJobs.size();
+                lifecycleListener.acquiredJobs(getEngineName(), nrOfJobsAcquired, asyncExecutor.getMaxTimerJobsPerAcquisition());
+
+                if (nrOfJobsAcquired >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
+                    // There are more timer jobs within the look ahead time, same wait logic as the regular acquisition
+                    nextPrefetchTime = configuration.isGlobalAcquireLockEnabled() ? now + configuration.getLockPollRate().toMillis() : now;
+                } else {
+                    nextPrefetchTime = now + asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+                }
+            }
+
+            moveDueTimerJobs(now);
+
+            millisToWait = Math.max(0L, nextPrefetchTime - now);
+            long nextDueTime = timerJobWheel.getNextDueTime();
+            if (nextDueTime >= 0) {
+                millisToWait = Math.min(millisToWait, Math.max(0L, nextDueTime - now));
+            }
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            logOptimisticLockingException(optimisticLockingException);
+            millisToWait = 0L;
+
+        } catch (Throwable e) {
+            LOGGER.warn("exception during timer job prefetching for engine {}. Exception message: {}", getEngineName(), e.getMessage(), e);
+            nextPrefetchTime = now + asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+
+        }
+
+        lifecycleListener.stopAcquiring(getEngineName());
+
+        return millisToWait;
+    }
+
+    protected List<TimerJobEntity> prefetchTimerJobs() {
+        if (configuration.isGlobalAcquireLockEnabled()) {
+            try {
+                return lockManager.waitForLockRunAndRelease(configuration.getLockWaitTime(), () -> {
+                    return commandExecutor.execute(new PrefetchTimerJobsCmd(asyncExecutor, configuration.getPrefetchLookAheadTime(), getPrefetchLockMargin(), true));
+                });
+
+            } catch (Exception e) {
+                // Don't do anything, lock will be tried again next time
+
+                if (!(e instanceof FlowableException)) { // FlowableException doesn't need to be logged, could be regular lock logic
+                    LOGGER.warn("Error while waiting for global acquire lock for engine {}", getEngineName(), e);
+                }
+                return Collections.emptyList();
+            }
+
+        } else {
+            return commandExecutor.execute(new PrefetchTimerJobsCmd(asyncExecutor, configuration.getPrefetchLookAheadTime(), getPrefetchLockMargin(), false));
+
+        }
+    }
+
+    protected void renewExpiringTimerJobLocks(long now) {
+        // The locks are renewed with the acquisitions, so the ones that would expire before the one after the next acquisition are renewed now
+        List<TimerJobEntity> timerJobs = timerJobWheel.findLockExpiringBefore(now + 2 * getPrefetchLockMargin().toMillis());
+        if (timerJobs.isEmpty()) {
+            return;
+        }
+
+        Date lockExpirationTime = new Date(now + configuration.getPrefetchLookAheadTime().toMillis() + getPrefetchLockMargin().toMillis());
+        try {
+            commandExecutor.execute(new RenewPrefetchedTimerJobLocksCmd(asyncExecutor, timerJobs, lockExpirationTime));
+            for (TimerJobEntity timerJob : timerJobs) {
+                timerJob.setLockExpirationTime(lockExpirationTime);
+            }
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            // Some of the timer jobs were changed in the meantime, which is detected when they are moved
+            logOptimisticLockingException(optimisticLockingException);
+        }
+    }
+
+    protected Duration getPrefetchLockMargin() {
+        return Duration.ofMillis(asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis());
+    }
+
+    protected void moveDueTimerJobs(long now) {
+        List<TimerJobEntity> dueTimerJobs = timerJobWheel.pollDue(now);
+        int maxTimerJobsPerMove = Math.max(1, asyncExecutor.getMaxTimerJobsPerAcquisition());
+        for (int fromIndex = 0; fromIndex < dueTimerJobs.size(); fromIndex += maxTimerJobsPerMove) {
+            List<TimerJobEntity> timerJobs = dueTimerJobs.subList(fromIndex, Math.min(fromIndex + maxTimerJobsPerMove, dueTimerJobs.size()));
+            moveTimerJobsExecutorService.execute(() -> {
+                executeMovePrefetchedTimerJobsToExecutableJobs(timerJobs);
+            });
+        }
+    }
+
+    protected void executeMovePrefetchedTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs) {
+        try {
+            commandExecutor.execute(new MovePrefetchedTimerJobsToExecutableJobsCmd(asyncExecutor, timerJobs));
+
+        } catch (Throwable t) {
+            LOGGER.warn("exception during prefetched timer job move for engine {}. Exception message: {}", getEngineName(), t.getMessage(), t);
+            unlockTimerJobs(timerJobs); // jobs have been acquired before, so need to unlock when exception happens here
+
+        }
+    }
+
+    protected long getCurrentTimeMillis() {
+        return asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+    }
+
     protected void executeMoveTimerJobsToExecutableJobs(List<TimerJobEntity> timerJobs) {
         try {
             if (configuration.isGlobalAcquireLockEnabled()) {
@@ -101,4 +101,12 @@ public interface AsyncExecutor {
      */
     void setTaskExecutor(AsyncTaskExecutor taskExecutor);
 
+    /**
+     * The signal that is used to notify the async executors of other nodes that async jobs are available,
+     * or null if no such signal is used.
+     */
+    default JobAvailableSignal getJobAvailableSignal() {
+        return null;
+    }
+
 }
@@ -112,6 +112,22 @@ public class AsyncJobExecutorConfiguration {
      * Setting a different prefix allows differentiating different engines / executors without them competing for the same lock.
      */
     protected String globalAcquireLockPrefix = "";
+    /**
+     * Whether the global acquire lock should be held as a lease (see {@link org.flowable.common.engine.impl.lock.LeaseLockManagerImpl}).
+     * A lease is renewed while it is held and expires when its holder dies, instead of having to be forcefully acquired.
+     */
+    protected boolean globalAcquireLockLeaseEnabled;
+    /**
+     * The duration of the lease of the global acquire lock, when {@link #globalAcquireLockLeaseEnabled} is set.
+     */
+    protected Duration globalAcquireLockLeaseDuration = Duration.ofSeconds(30);
+
+    /**
+     * Whether the exclusive jobs of the same process or case instance that are executed by this async executor are queued per instance and run one after another.
+     * This avoids that jobs of an instance (e.g. arriving at a parallel join) fail to lock the instance on this node and have to be acquired again.
+     * Consecutive jobs of an instance keep the instance locked instead of unlocking and locking it again in the database.
+     */
+    protected boolean instanceAffineJobExecutionEnabled;
 
     /**
      * The amount of time the async job acquire thread should wait to acquire the global lock.
@@ -142,6 +158,50 @@ public class AsyncJobExecutorConfiguration {
      */
     private Duration timerLockForceAcquireAfter = Duration.ofMinutes(10);
 
+    /**
+     * Whether the async job acquisition should adapt its wait time and page size to the recent acquisition results.
+     * When jobs were found, the next acquire cycle is done after {@link #asyncJobAcquireMinWaitTime}.
+     * When no jobs were found, the wait time is doubled every cycle, up to the {@link #defaultAsyncJobAcquireWaitTime}.
+     * The amount of jobs acquired in one cycle follows the amount of jobs that were found recently
+     * and is reduced when jobs were rejected because the queue was full.
+     */
+    private boolean adaptiveAsyncJobAcquisitionEnabled;
+    /**
+     * The minimum time the async job acquisition thread should wait before executing the next acquire logic, when adaptive acquisition is enabled.
+     */
+    private Duration asyncJobAcquireMinWaitTime = Duration.ofMillis(100);
+
+    /**
+     * Whether the timer job acquisition should prefetch the timer jobs that become due within the {@link #timerJobPrefetchLookAheadTime}.
+     * The prefetched timer jobs are locked in bulk by this async executor and kept in memory (see {@link TimerJobWheel}) until they are due.
+     * Due timer jobs are then moved to executable jobs in bulk, without querying for due timer jobs again.
+     * Note that prefetched timer jobs are locked, which means that they can't be deleted through the API until they have been moved.
+     */
+    private boolean timerJobPrefetchEnabled;
+    /**
+     * How long before their due date timer jobs are prefetched, when {@link #timerJobPrefetchEnabled} is set.
+     */
+    private Duration timerJobPrefetchLookAheadTime = Duration.ofSeconds(30);
+
+    /**
+     * The duration of the lease every node holds while it is acquiring the jobs of its partitions,
+     * when job partitioning is enabled (see {@link org.flowable.job.service.JobServiceConfiguration#setJobPartitionCount(int)}).
+     * The partitions of a node that stops renewing its lease are reassigned to the other nodes once the lease has expired.
+     */
+    private Duration jobPartitionLeaseDuration = Duration.ofSeconds(30);
+
+    /**
+     * Whether a {@link JobAvailableSignal} should be used to wake up the async job acquisition of the other nodes in a cluster
+     * when async jobs are created that can't be executed by the local async executor.
+     * When no custom signal is set, the {@link DatabaseJobAvailableSignal} is used.
+     */
+    private boolean jobAvailableSignalEnabled;
+    /**
+     * The rate at which the {@link DatabaseJobAvailableSignal} is polled for signals from the other nodes,
+     * which is the maximum delay before another node is woken up. Polling is a primary key lookup of one row.
+     */
+    private Duration jobAvailableSignalPollRate = Duration.ofMillis(250);
+
     /**
      * The time the reset expired jobs thread should wait before executing the next reset logic.
      * Expired jobs are jobs that were locked (a lock owner + time was written by some executor, but the job was never completed).
@@ -334,6 +394,30 @@ public class AsyncJobExecutorConfiguration {
         this.globalAcquireLockPrefix = globalAcquireLockPrefix;
     }
 
+    public boolean isGlobalAcquireLockLeaseEnabled() {
+        return globalAcquireLockLeaseEnabled;
+    }
+
+    public void setGlobalAcquireLockLeaseEnabled(boolean globalAcquireLockLeaseEnabled) {
+        this.globalAcquireLockLeaseEnabled = globalAcquireLockLeaseEnabled;
+    }
+
+    public Duration getGlobalAcquireLockLeaseDuration() {
+        return globalAcquireLockLeaseDuration;
+    }
+
+    public void setGlobalAcquireLockLeaseDuration(Duration globalAcquireLockLeaseDuration) {
+        this.globalAcquireLockLeaseDuration = globalAcquireLockLeaseDuration;
+    }
+
+    public boolean isInstanceAffineJobExecutionEnabled() {
+        return instanceAffineJobExecutionEnabled;
+    }
+
+    public void setInstanceAffineJobExecutionEnabled(boolean instanceAffineJobExecutionEnabled) {
+        this.instanceAffineJobExecutionEnabled = instanceAffineJobExecutionEnabled;
+    }
+
     public Duration getAsyncJobsGlobalLockWaitTime() {
         return asyncJobsGlobalLockWaitTime;
     }
@@ -382,6 +466,62 @@ public class AsyncJobExecutorConfiguration {
         this.timerLockForceAcquireAfter = timerLockForceAcquireAfter;
     }
 
+    public boolean isAdaptiveAsyncJobAcquisitionEnabled() {
+        return adaptiveAsyncJobAcquisitionEnabled;
+    }
+
+    public void setAdaptiveAsyncJobAcquisitionEnabled(boolean adaptiveAsyncJobAcquisitionEnabled) {
+        this.adaptiveAsyncJobAcquisitionEnabled = adaptiveAsyncJobAcquisitionEnabled;
+    }
+
+    public Duration getAsyncJobAcquireMinWaitTime() {
+        return asyncJobAcquireMinWaitTime;
+    }
+
+    public void setAsyncJobAcquireMinWaitTime(Duration asyncJobAcquireMinWaitTime) {
+        this.asyncJobAcquireMinWaitTime = asyncJobAcquireMinWaitTime;
+    }
+
+    public boolean isTimerJobPrefetchEnabled() {
+        return timerJobPrefetchEnabled;
+    }
+
+    public void setTimerJobPrefetchEnabled(boolean timerJobPrefetchEnabled) {
+        this.timerJobPrefetchEnabled = timerJobPrefetchEnabled;
+    }
+
+    public Duration getTimerJobPrefetchLookAheadTime() {
+        return timerJobPrefetchLookAheadTime;
+    }
+
+    public void setTimerJobPrefetchLookAheadTime(Duration timerJobPrefetchLookAheadTime) {
+        this.timerJobPrefetchLookAheadTime = timerJobPrefetchLookAheadTime;
+    }
+
+    public Duration getJobPartitionLeaseDuration() {
+        return jobPartitionLeaseDuration;
+    }
+
+    public void setJobPartitionLeaseDuration(Duration jobPartitionLeaseDuration) {
+        this.jobPartitionLeaseDuration = jobPartitionLeaseDuration;
+    }
+
+    public boolean isJobAvailableSignalEnabled() {
+        return jobAvailableSignalEnabled;
+    }
+
+    public void setJobAvailableSignalEnabled(boolean jobAvailableSignalEnabled) {
+        this.jobAvailableSignalEnabled = jobAvailableSignalEnabled;
+    }
+
+    public Duration getJobAvailableSignalPollRate() {
+        return jobAvailableSignalPollRate;
+    }
+
+    public void setJobAvailableSignalPollRate(Duration jobAvailableSignalPollRate) {
+        this.jobAvailableSignalPollRate = jobAvailableSignalPollRate;
+    }
+
     public Duration getResetExpiredJobsInterval() {
         return resetExpiredJobsInterval;
     }
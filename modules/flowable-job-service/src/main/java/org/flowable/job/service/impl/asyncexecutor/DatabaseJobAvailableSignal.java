@@ -0,0 +1,242 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link JobAvailableSignal} that uses a row in the property table as the channel.
+ *
+ * Signalling writes a new random value in the row (in a separate transaction, after the jobs have been committed)
+ * and every node polls the row (a primary key lookup) at the configured poll rate.
+ * When the value has changed since the last poll, the acquire thread of the node is woken up.
+ * The values are prefixed with a random id of the writing node, so that a node doesn't wake itself up for its own signals.
+ *
+ * Requesting a signal only records it in memory. The row is written asynchronously, at most once per poll interval:
+ * all signals that are requested until the write starts are covered by that single write, as it is committed after their jobs.
+ * Writing more often would not wake up the other nodes any sooner, as they only read the row once per poll interval.
+ * The writes are done by a single daemon thread of this signal, as signals are also sent by nodes on which the async executor isn't started.
+ */
+public class DatabaseJobAvailableSignal implements JobAvailableSignal, Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseJobAvailableSignal.class);
+
+    protected static final String JOB_AVAILABLE_SIGNAL_NAME = "asyncJobsAvailable";
+
+    protected final AsyncExecutor asyncExecutor;
+    protected final String signalName;
+    protected final Duration pollRate;
+    protected final CommandConfig signalCommandConfig = new CommandConfig(false, TransactionPropagation.REQUIRES_NEW);
+
+    protected final AtomicBoolean isSignalScheduled = new AtomicBoolean(false);
+    protected volatile long nextSignalWriteTime;
+    protected final String signalValuePrefix = UUID.randomUUID() + ":";
+
+    protected volatile ScheduledExecutorService signalWriteExecutor;
+
+    protected Runnable jobsAvailableCallback;
+    protected Thread pollThread;
+    protected String lastSignalValue;
+    protected boolean lastSignalValueInitialized;
+
+    protected volatile boolean isInterrupted;
+    protected final Object MONITOR = new Object();
+
+    public DatabaseJobAvailableSignal(AsyncExecutor asyncExecutor, String signalNamePrefix, Duration pollRate) {
+        this.asyncExecutor = asyncExecutor;
+        this.signalName = signalNamePrefix + JOB_AVAILABLE_SIGNAL_NAME;
+        this.pollRate = pollRate;
+    }
+
+    @Override
+    public synchronized void start(Runnable jobsAvailableCallback) {
+        if (pollThread != null) {
+            return;
+        }
+
+        this.jobsAvailableCallback = jobsAvailableCallback;
+        this.isInterrupted = false;
+        this.lastSignalValueInitialized = false;
+        this.pollThread = new Thread(this, "flowable-" + getEngineName() + "-job-available-signal");
+        this.pollThread.setDaemon(true);
+        this.pollThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (pollThread == null) {
+            return;
+        }
+
+        synchronized (MONITOR) {
+            isInterrupted = true;
+            MONITOR.notifyAll();
+        }
+
+        try {
+            pollThread.join();
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while waiting for the job available signal thread to terminate", e);
+        }
+        pollThread = null;
+    }
+
+    @Override
+    public void run() {
+        LOGGER.info("starting to poll the job available signal for engine {}", getEngineName());
+
+        while (!isInterrupted) {
+
+            try {
+                String signalValue = getCommandExecutor().execute(this::getSignalValue);
+                if (lastSignalValueInitialized && !Objects.equals(lastSignalValue, signalValue) && !isOwnSignalValue(signalValue)) {
+                    LOGGER.debug("received job available signal for engine {}", getEngineName());
+                    jobsAvailableCallback.run();
+                }
+                lastSignalValue = signalValue;
+                lastSignalValueInitialized = true;
+
+            } catch (Throwable e) {
+                LOGGER.warn("exception for engine {} while polling the job available signal: {}", getEngineName(), e.getMessage(), e);
+            }
+
+            try {
+                synchronized (MONITOR) {
+                    if (!isInterrupted) {
+                        MONITOR.wait(pollRate.toMillis());
+                    }
+                }
+
+            } catch (InterruptedException e) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("job available signal wait for engine {} interrupted", getEngineName());
+                }
+            }
+        }
+
+        LOGGER.info("stopped polling the job available signal for engine {}", getEngineName());
+    }
+
+    @Override
+    public void signalJobsAvailable() {
+        if (isSignalScheduled.compareAndSet(false, true)) {
+            long delay = Math.max(0, nextSignalWriteTime - System.currentTimeMillis());
+            getSignalWriteExecutor().schedule(this::writeScheduledSignal, delay, TimeUnit.MILLISECONDS);
+        }
+        // Otherwise the scheduled write hasn't started yet, so it is committed after our jobs
+    }
+
+    protected void writeScheduledSignal() {
+        // Signals that are requested from now on might be committed after this write, so they need the next one
+        isSignalScheduled.set(false);
+        nextSignalWriteTime = System.currentTimeMillis() + pollRate.toMillis();
+
+        try {
+            getCommandExecutor().execute(signalCommandConfig, this::writeSignalValue);
+
+        } catch (FlowableOptimisticLockingException e) {
+            // Another node has written a signal concurrently, which wakes up the other nodes as well
+            LOGGER.debug("Optimistic locking exception while writing the job available signal for engine {}", getEngineName(), e);
+
+        } catch (RuntimeException e) {
+            // Not being able to signal only delays the job execution until the next acquire cycle of the other nodes
+            LOGGER.debug("Could not write the job available signal for engine {}", getEngineName(), e);
+        }
+    }
+
+    protected ScheduledExecutorService getSignalWriteExecutor() {
+        if (signalWriteExecutor == null) {
+            synchronized (this) {
+                if (signalWriteExecutor == null) {
+                    // Daemon thread that terminates when idle, so that no explicit shutdown is needed
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                        Thread thread = new Thread(runnable, "flowable-" + getEngineName() + "-job-available-signal-write");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    executor.setKeepAliveTime(60, TimeUnit.SECONDS);
+                    executor.allowCoreThreadTimeOut(true);
+                    signalWriteExecutor = executor;
+                }
+            }
+        }
+        return signalWriteExecutor;
+    }
+
+    protected String getSignalValue(CommandContext commandContext) {
+        PropertyEntity signalProperty = getPropertyEntityManager(commandContext).findById(signalName);
+        return signalProperty != null ? signalProperty.getValue() : null;
+    }
+
+    protected Void writeSignalValue(CommandContext commandContext) {
+        PropertyEntityManager propertyEntityManager = getPropertyEntityManager(commandContext);
+        PropertyEntity signalProperty = propertyEntityManager.findById(signalName);
+        String signalValue = signalValuePrefix + UUID.randomUUID();
+        if (signalProperty == null) {
+            signalProperty = propertyEntityManager.create();
+            signalProperty.setName(signalName);
+            signalProperty.setValue(signalValue);
+            propertyEntityManager.insert(signalProperty);
+
+        } else {
+            signalProperty.setValue(signalValue);
+
+        }
+        return null;
+    }
+
+    protected boolean isOwnSignalValue(String signalValue) {
+        return signalValue != null && signalValue.startsWith(signalValuePrefix);
+    }
+
+    protected PropertyEntityManager getPropertyEntityManager(CommandContext commandContext) {
+        return commandContext.getEngineConfigurations().get(getEngineName()).getPropertyEntityManager();
+    }
+
+    protected CommandExecutor getCommandExecutor() {
+        return asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
+    }
+
+    protected String getEngineName() {
+        return asyncExecutor.getJobServiceConfiguration().getEngineName();
+    }
+
+    public String getSignalName() {
+        return signalName;
+    }
+
+    public Duration getPollRate() {
+        return pollRate;
+    }
+
+    public void setSignalWriteExecutor(ScheduledExecutorService signalWriteExecutor) {
+        this.signalWriteExecutor = signalWriteExecutor;
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.List;
 import java.util.concurrent.RejectedExecutionException;
 
 import org.flowable.common.engine.api.async.AsyncTaskExecutor;
@@ -56,6 +57,11 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     protected AsyncTaskExecutor taskExecutor;
     protected boolean shutdownTaskExecutor;
 
+    /**
+     * Dispatches the jobs to a queue per instance, when instance affine job execution is enabled.
+     */
+    protected InstanceAffineJobDispatcher instanceAffineJobDispatcher;
+
     public DefaultAsyncJobExecutor() {
         super();
     }
@@ -66,6 +72,18 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     @Override
     protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
+        if (instanceAffineJobDispatcher != null) {
+            String instanceKey = InstanceAffineJobDispatcher.getInstanceKey(job);
+            if (instanceKey != null) {
+                List<JobInfo> rejectedJobs = instanceAffineJobDispatcher.dispatch(instanceKey, job, runnable);
+                for (JobInfo rejectedJob : rejectedJobs) {
+                    sendRejectedEvent(rejectedJob);
+                    unacquireJobAfterRejection(rejectedJob);
+                }
+                return rejectedJobs.isEmpty();
+            }
+        }
+
         try {
             taskExecutor.execute(runnable);
             return true;
@@ -112,7 +130,9 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
 
         initAsyncJobExecutionThreadPool();
+        initInstanceAffineJobDispatcher();
         startJobAcquisitionThread();
+        startJobAvailableSignal();
 
         if (configuration.isTimerRunnableNeeded()) {
             startTimerAcquisitionThread();
@@ -124,6 +144,7 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     protected void shutdownAdditionalComponents() {
         stopResetExpiredJobsThread();
         stopTimerAcquisitionThread();
+        stopJobAvailableSignal();
         stopJobAcquisitionThread();
         stopExecutingAsyncJobs();
 
@@ -153,10 +174,19 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    protected void initInstanceAffineJobDispatcher() {
+        if (!configuration.isInstanceAffineJobExecutionEnabled()) {
+            instanceAffineJobDispatcher = null;
+        } else if (instanceAffineJobDispatcher == null) {
+            instanceAffineJobDispatcher = new InstanceAffineJobDispatcher(taskExecutor, jobServiceConfiguration, configuration.getAsyncJobLockTime());
+        }
+    }
+
     protected void stopExecutingAsyncJobs() {
         if (taskExecutor != null && shutdownTaskExecutor) {
             taskExecutor.shutdown();
             taskExecutor = null;
+            instanceAffineJobDispatcher = null;
         }
     }
 
@@ -170,6 +200,22 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    /** Starts listening for jobs that are signalled as available by other nodes */
+    protected void startJobAvailableSignal() {
+        if (configuration.isAsyncJobAcquisitionEnabled() && asyncJobsDueRunnable != null) {
+            JobAvailableSignal jobAvailableSignal = getJobAvailableSignal();
+            if (jobAvailableSignal != null) {
+                jobAvailableSignal.start(asyncJobsDueRunnable::wakeUp);
+            }
+        }
+    }
+
+    protected void stopJobAvailableSignal() {
+        if (jobAvailableSignal != null) {
+            jobAvailableSignal.stop();
+        }
+    }
+
     protected void startTimerAcquisitionThread() {
         if (configuration.isTimerJobAcquisitionEnabled()) {
             if (timerJobAcquisitionThread == null) {
@@ -290,4 +336,8 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     public void setTaskExecutor(AsyncTaskExecutor taskExecutor) {
         this.taskExecutor = taskExecutor;
     }
+
+    public InstanceAffineJobDispatcher getInstanceAffineJobDispatcher() {
+        return instanceAffineJobDispatcher;
+    }
 }
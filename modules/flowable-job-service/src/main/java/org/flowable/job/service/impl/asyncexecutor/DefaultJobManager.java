@@ -94,6 +94,25 @@ public class DefaultJobManager implements JobManager {
     protected void triggerExecutorIfNeeded(JobEntity jobEntity) {
         if (isJobApplicableForExecutorExecution(jobEntity)) {
             hintAsyncExecutor(jobEntity);
+        } else {
+            signalJobAvailable();
+        }
+    }
+
+    /**
+     * Notifies the async executors of the other nodes (if a {@link JobAvailableSignal} is used) that a job is available,
+     * which the local async executor won't execute. The signal is sent once per transaction, after it has been committed.
+     */
+    protected void signalJobAvailable() {
+        AsyncExecutor asyncExecutor = getAsyncExecutor();
+        JobAvailableSignal jobAvailableSignal = asyncExecutor != null ? asyncExecutor.getJobAvailableSignal() : null;
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (jobAvailableSignal != null && transactionContext != null) {
+            CommandContext commandContext = CommandContextUtil.getCommandContext();
+            if (commandContext.getAttribute(JobAvailableSignalTransactionListener.COMMAND_CONTEXT_ATTRIBUTE) == null) {
+                commandContext.addAttribute(JobAvailableSignalTransactionListener.COMMAND_CONTEXT_ATTRIBUTE, Boolean.TRUE);
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, new JobAvailableSignalTransactionListener(jobAvailableSignal));
+            }
         }
     }
 
@@ -405,7 +424,8 @@ public class DefaultJobManager implements JobManager {
             newHistoryJobEntity.setId(null); // We want a new id to be assigned to this job
             newHistoryJobEntity.setLockExpirationTime(null);
             newHistoryJobEntity.setLockOwner(null);
-            newHistoryJobEntity.setCreateTime(jobServiceConfiguration.getClock().getCurrentTime());
+            // The create time is kept, as history jobs can be applied in the order in which they were created
+            newHistoryJobEntity.setCreateTime(historyJobEntity.getCreateTime() != null ? historyJobEntity.getCreateTime() : jobServiceConfiguration.getClock().getCurrentTime());
 
             if (exception != null) {
                 newHistoryJobEntity.setExceptionMessage(exception.getMessage());
@@ -804,6 +824,8 @@ public class DefaultJobManager implements JobManager {
 
     protected HistoryJobEntity copyHistoryJobInfo(HistoryJobEntity copyToJob, HistoryJobEntity copyFromJob) {
         copyHistoryJobProperties(copyToJob, copyFromJob);
+        copyToJob.setScopeId(copyFromJob.getScopeId());
+        copyToJob.setSequence(copyFromJob.getSequence());
         if (copyFromJob.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
             ByteArrayRef configurationByteArrayRefCopy = copyFromJob.getAdvancedJobHandlerConfigurationByteArrayRef().copy();
             copyToJob.setAdvancedJobHandlerConfigurationByteArrayRef(configurationByteArrayRefCopy);
@@ -61,6 +61,10 @@ public class ExecuteAsyncRunnable implements Runnable {
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
     protected List<AsyncRunnableExecutionExceptionHandler> asyncRunnableExecutionExceptionHandlers;
 
+    // Used by the InstanceAffineJobDispatcher to keep the instance locked between consecutive exclusive jobs of the same instance
+    protected boolean exclusiveLockHeld;
+    protected boolean keepExclusiveLock;
+
     public ExecuteAsyncRunnable(JobInfo job, JobServiceConfiguration jobServiceConfiguration,
                                 JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
                                 AsyncRunnableExecutionExceptionHandler asyncRunnableExecutionExceptionHandler,
@@ -114,11 +118,14 @@ public class ExecuteAsyncRunnable implements Runnable {
 
             boolean lockingNeeded = ((AbstractRuntimeJobEntity) job).isExclusive();
             boolean executeJob = true;
-            if (lockingNeeded) {
+            if (lockingNeeded && !exclusiveLockHeld) {
                 executeJob = lockJob(observation);
             }
             if (executeJob) {
-                executeJob(lockingNeeded, observation);
+                exclusiveLockHeld = lockingNeeded;
+                executeJob(lockingNeeded && !keepExclusiveLock, observation);
+            } else {
+                exclusiveLockHeld = false;
             }
 
         } else { // history jobs
@@ -145,7 +152,12 @@ public class ExecuteAsyncRunnable implements Runnable {
                 handleTransactionalJob(unlock);
             }
 
+            if (unlock) {
+                exclusiveLockHeld = false;
+            }
+
         } catch (final FlowableOptimisticLockingException e) {
+            exclusiveLockHeld = false;
 
             try {
                 handleFailedJob(e);
@@ -163,6 +175,7 @@ public class ExecuteAsyncRunnable implements Runnable {
             observation.executionError(e);
 
         } catch (Throwable exception) {
+            exclusiveLockHeld = false;
             try {
                 handleFailedJob(exception);
             } finally {
@@ -272,6 +285,36 @@ public class ExecuteAsyncRunnable implements Runnable {
         }
     }
 
+    public JobInfo getJob() {
+        return job;
+    }
+
+    /**
+     * @return whether the scope (process or case instance) of the exclusive job is locked by this async executor,
+     *         either because it was already locked before running or because the lock was kept after running
+     */
+    public boolean isExclusiveLockHeld() {
+        return exclusiveLockHeld;
+    }
+
+    /**
+     * Indicates that the scope of the exclusive job has already been locked by this async executor (by the previous job of the same scope).
+     */
+    public void setExclusiveLockHeld(boolean exclusiveLockHeld) {
+        this.exclusiveLockHeld = exclusiveLockHeld;
+    }
+
+    public boolean isKeepExclusiveLock() {
+        return keepExclusiveLock;
+    }
+
+    /**
+     * Indicates that the scope of the exclusive job should stay locked after a successful execution, because the next job of the same scope will be executed next.
+     */
+    public void setKeepExclusiveLock(boolean keepExclusiveLock) {
+        this.keepExclusiveLock = keepExclusiveLock;
+    }
+
     protected void handleFailedJob(final Throwable exception) {
         if (exception instanceof FlowableBatchPartMigrationException && ((FlowableBatchPartMigrationException) exception).isIgnoreFailedJob()) {
             jobServiceConfiguration.getCommandExecutor().execute(new Command<>() {
@@ -0,0 +1,190 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.common.engine.api.async.AsyncTaskExecutor;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dispatches the exclusive jobs of the same process or case instance to one queue per instance, which is drained by a single task of the {@link AsyncTaskExecutor}.
+ *
+ * The exclusive jobs of an instance are hence executed one after another on this node, instead of being picked up concurrently by different threads
+ * where all but one fail to lock the instance (e.g. when the branches of a parallel gateway join), are unacquired and have to be acquired again later.
+ * No thread is blocked waiting for an instance: the jobs of an instance that is busy are simply appended to its queue.
+ *
+ * Between consecutive jobs of an instance the instance lock is kept instead of being released and acquired again,
+ * as long as less than half of the async job lock time has passed since the lock was acquired.
+ */
+public class InstanceAffineJobDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InstanceAffineJobDispatcher.class);
+
+    protected final AsyncTaskExecutor taskExecutor;
+    protected final JobServiceConfiguration jobServiceConfiguration;
+    protected final Duration maximumLockChainDuration;
+
+    protected final ConcurrentHashMap<String, InstanceJobQueue> queues = new ConcurrentHashMap<>();
+
+    public InstanceAffineJobDispatcher(AsyncTaskExecutor taskExecutor, JobServiceConfiguration jobServiceConfiguration, Duration asyncJobLockTime) {
+        this.taskExecutor = taskExecutor;
+        this.jobServiceConfiguration = jobServiceConfiguration;
+        this.maximumLockChainDuration = asyncJobLockTime.dividedBy(2);
+    }
+
+    /**
+     * @return the key of the instance the job belongs to, or null when the job isn't dispatched by instance.
+     *         Non-exclusive jobs are never dispatched by instance, as they are explicitly allowed to run concurrently.
+     */
+    public static String getInstanceKey(JobInfo job) {
+        if (job instanceof AbstractRuntimeJobEntity runtimeJob && runtimeJob.isExclusive()) {
+            if (runtimeJob.getProcessInstanceId() != null) {
+                return runtimeJob.getProcessInstanceId();
+            } else if (runtimeJob.getScopeId() != null) {
+                return runtimeJob.getScopeType() + ":" + runtimeJob.getScopeId();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the job to the queue of its instance, and starts draining the queue when no other task is doing so.
+     *
+     * @return the jobs that were rejected by the task executor (empty when the job was accepted)
+     */
+    public List<JobInfo> dispatch(String instanceKey, JobInfo job, Runnable runnable) {
+        QueuedJob queuedJob = new QueuedJob(job, runnable);
+        InstanceJobQueue[] created = new InstanceJobQueue[1];
+        queues.compute(instanceKey, (key, queue) -> {
+            if (queue == null) {
+                queue = new InstanceJobQueue();
+                created[0] = queue;
+            }
+            queue.jobs.add(queuedJob);
+            return queue;
+        });
+
+        if (created[0] == null) {
+            // The task draining the queue of the instance will execute the job
+            return Collections.emptyList();
+        }
+
+        InstanceJobQueue queue = created[0];
+        try {
+            taskExecutor.execute(() -> drain(instanceKey, queue));
+            return Collections.emptyList();
+
+        } catch (RejectedExecutionException e) {
+            // Jobs added to the queue in the meantime would otherwise never be executed
+            List<JobInfo> rejectedJobs = new ArrayList<>();
+            queues.computeIfPresent(instanceKey, (key, currentQueue) -> {
+                if (currentQueue == queue) {
+                    for (QueuedJob rejected : queue.jobs) {
+                        rejectedJobs.add(rejected.job);
+                    }
+                    queue.jobs.clear();
+                    return null;
+                }
+                return currentQueue;
+            });
+            return rejectedJobs;
+        }
+    }
+
+    protected void drain(String instanceKey, InstanceJobQueue queue) {
+        QueuedJob current = poll(instanceKey, queue);
+        boolean lockHeld = false;
+        long lockAcquiredTime = 0L;
+
+        while (current != null) {
+            QueuedJob next = peek(queue);
+            if (current.runnable instanceof ExecuteAsyncRunnable executeAsyncRunnable) {
+                long now = jobServiceConfiguration.getClock().getCurrentTime().getTime();
+                if (!lockHeld) {
+                    lockAcquiredTime = now;
+                }
+                executeAsyncRunnable.setExclusiveLockHeld(lockHeld);
+                executeAsyncRunnable.setKeepExclusiveLock(next != null && next.runnable instanceof ExecuteAsyncRunnable
+                        && now - lockAcquiredTime < maximumLockChainDuration.toMillis());
+                run(executeAsyncRunnable);
+                lockHeld = executeAsyncRunnable.isExclusiveLockHeld() && executeAsyncRunnable.isKeepExclusiveLock();
+
+            } else {
+                run(current.runnable);
+                lockHeld = false;
+            }
+
+            current = poll(instanceKey, queue);
+        }
+    }
+
+    protected void run(Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (RuntimeException e) {
+            // The runnable handles the job failures, this is only a safety net so that the other jobs of the instance still get executed
+            LOGGER.error("Exception while executing job of instance queue", e);
+        }
+    }
+
+    protected QueuedJob poll(String instanceKey, InstanceJobQueue queue) {
+        QueuedJob[] polled = new QueuedJob[1];
+        queues.compute(instanceKey, (key, currentQueue) -> {
+            polled[0] = queue.jobs.poll();
+            // An empty queue is removed atomically, so that a job added afterwards starts a new drain task
+            return polled[0] == null && currentQueue == queue ? null : currentQueue;
+        });
+        return polled[0];
+    }
+
+    protected QueuedJob peek(InstanceJobQueue queue) {
+        // Only the draining task removes jobs, so the peeked job will be the next one polled
+        return queue.jobs.peek();
+    }
+
+    /**
+     * @return the number of instances that currently have jobs queued or executing on this node
+     */
+    public int getActiveInstanceCount() {
+        return queues.size();
+    }
+
+    protected static class InstanceJobQueue {
+
+        // Jobs are added and polled within a compute of the queues map, so that an empty queue can be removed atomically
+        protected final ConcurrentLinkedQueue<QueuedJob> jobs = new ConcurrentLinkedQueue<>();
+    }
+
+    protected static class QueuedJob {
+
+        protected final JobInfo job;
+        protected final Runnable runnable;
+
+        protected QueuedJob(JobInfo job, Runnable runnable) {
+            this.job = job;
+            this.runnable = runnable;
+        }
+    }
+
+}
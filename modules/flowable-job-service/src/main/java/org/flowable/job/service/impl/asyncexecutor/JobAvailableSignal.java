@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * A channel through which the async executors of a cluster notify each other that new async jobs are available.
+ *
+ * Async jobs that are created on a node that can't execute them itself (e.g. because the async executor isn't active on that node,
+ * or because the job category isn't enabled there) are otherwise only picked up by the next acquire cycle of another node.
+ * When a signal is used, the acquire thread of the other nodes is woken up right away.
+ *
+ * The default implementation is the {@link DatabaseJobAvailableSignal}, but any other channel (e.g. a message broker) can be plugged in
+ * through {@link AbstractAsyncExecutor#setJobAvailableSignal(JobAvailableSignal)}.
+ */
+public interface JobAvailableSignal {
+
+    /**
+     * Starts listening for signals of other nodes. The given callback must be invoked every time a signal is received.
+     */
+    void start(Runnable jobsAvailableCallback);
+
+    /**
+     * Stops listening for signals.
+     */
+    void stop();
+
+    /**
+     * Notifies the other nodes that new async jobs are available.
+     * This is invoked after the transaction that created the jobs has been committed.
+     */
+    void signalJobsAvailable();
+
+}
@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Signals the other nodes that async jobs are available, once the transaction that created them has been committed.
+ */
+public class JobAvailableSignalTransactionListener implements TransactionListener {
+
+    public static final String COMMAND_CONTEXT_ATTRIBUTE = JobAvailableSignalTransactionListener.class.getName();
+
+    protected JobAvailableSignal jobAvailableSignal;
+
+    public JobAvailableSignalTransactionListener(JobAvailableSignal jobAvailableSignal) {
+        this.jobAvailableSignal = jobAvailableSignal;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        jobAvailableSignal.signalJobsAvailable();
+    }
+}
@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.lock.LeaseLockManagerImpl;
+import org.flowable.job.service.impl.cmd.FindJobPartitionNodesCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Determines the job partitions the async job acquisition of this node is responsible for, when job partitioning is enabled.
+ *
+ * Every node holds a lease on its own node lock in the property table, which is renewed in the background (see {@link LeaseLockManagerImpl}).
+ * The nodes with an unexpired lease are the live nodes. Partition p is assigned to the node at index p % (number of live nodes)
+ * of the sorted node names, so that all nodes come to the same assignment without further coordination.
+ * The assignment is refreshed every third of the lease duration: when a node joins, or leaves (by releasing its lease or by letting it expire),
+ * the partitions are rebalanced over the live nodes.
+ * When this node could not renew its own lease within the lease duration, it considers the lease lost and the assignment is refreshed immediately.
+ *
+ * While the nodes have a different view on the live nodes, a partition can briefly be assigned to two nodes (or to none).
+ * This is safe, as acquiring a job still locks it with an optimistic lock.
+ */
+public class JobPartitionLeaseManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobPartitionLeaseManager.class);
+
+    protected static final String NODE_LOCK_PREFIX = "jobPartition-";
+
+    protected final CommandExecutor commandExecutor;
+    protected final String nodeLockPrefix;
+    protected final int partitionCount;
+    protected final Duration leaseDuration;
+    protected final String engineType;
+    protected final LeaseLockManagerImpl nodeLease;
+
+    protected List<Integer> assignedPartitions = Collections.emptyList();
+    protected long nextRefreshTime;
+
+    public JobPartitionLeaseManager(CommandExecutor commandExecutor, String lockPrefix, int partitionCount, Duration leaseDuration, String engineType) {
+        this.commandExecutor = commandExecutor;
+        this.nodeLockPrefix = lockPrefix + NODE_LOCK_PREFIX;
+        this.partitionCount = partitionCount;
+        this.leaseDuration = leaseDuration;
+        this.engineType = engineType;
+        this.nodeLease = createNodeLease();
+    }
+
+    protected LeaseLockManagerImpl createNodeLease() {
+        return new LeaseLockManagerImpl(commandExecutor, nodeLockPrefix + UUID.randomUUID(), leaseDuration, leaseDuration, engineType);
+    }
+
+    /**
+     * @return the partitions assigned to this node, empty when this node currently holds no lease
+     */
+    public List<Integer> getAssignedPartitions() {
+        long now = System.currentTimeMillis();
+        if (now >= nextRefreshTime || !nodeLease.isLeaseHeld()) {
+            refreshAssignedPartitions();
+            nextRefreshTime = now + Math.max(1, leaseDuration.toMillis() / 3);
+        }
+        return assignedPartitions;
+    }
+
+    protected void refreshAssignedPartitions() {
+        if (!nodeLease.isLeaseHeld() && !nodeLease.acquireLock()) {
+            LOGGER.warn("Could not acquire the job partition lease {} for engine {}", nodeLease.getLockName(), engineType);
+            assignedPartitions = Collections.emptyList();
+            return;
+        }
+
+        List<String> nodes = findNodes();
+        int nodeIndex = nodes.indexOf(nodeLease.getLockName());
+        if (nodeIndex < 0) {
+            // The lease expired in between, it is acquired again in the next refresh
+            assignedPartitions = Collections.emptyList();
+            return;
+        }
+
+        List<Integer> partitions = new ArrayList<>();
+        for (int partition = nodeIndex; partition < partitionCount; partition += nodes.size()) {
+            partitions.add(partition);
+        }
+
+        if (!partitions.equals(assignedPartitions)) {
+            LOGGER.info("Job partitions {} of {} assigned to node {} of {} for engine {}", partitions, partitionCount, nodeIndex + 1, nodes.size(), engineType);
+        }
+        assignedPartitions = Collections.unmodifiableList(partitions);
+    }
+
+    protected List<String> findNodes() {
+        try {
+            return commandExecutor.execute(new FindJobPartitionNodesCmd(nodeLockPrefix, leaseDuration, engineType, true));
+        } catch (FlowableOptimisticLockingException e) {
+            // Another node deleted the same expired node leases
+            LOGGER.debug("Optimistic locking exception while deleting expired job partition leases for engine {}", engineType, e);
+            return commandExecutor.execute(new FindJobPartitionNodesCmd(nodeLockPrefix, leaseDuration, engineType, false));
+        }
+    }
+
+    /**
+     * Releases the lease of this node, which hands over its partitions to the other nodes with their next refresh.
+     */
+    public void release() {
+        try {
+            nodeLease.releaseAndDeleteLock();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Could not release the job partition lease {} for engine {}", nodeLease.getLockName(), engineType, e);
+        }
+        assignedPartitions = Collections.emptyList();
+        nextRefreshTime = 0;
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    public LeaseLockManagerImpl getNodeLease() {
+        return nodeLease;
+    }
+}
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Keeps prefetched timer jobs in memory until they are due.
+ * The timer jobs are kept in buckets of {@code tickMillis} based on their due date.
+ * A bucket becomes due at its end, which means that timer jobs are never returned before their due date,
+ * and at most one tick after it.
+ * <p>
+ * This class is not thread safe, it is meant to be used by a single timer acquisition thread.
+ */
+public class TimerJobWheel {
+
+    protected final long tickMillis;
+    protected final TreeMap<Long, List<TimerJobEntity>> buckets = new TreeMap<>();
+    protected int size;
+
+    public TimerJobWheel(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        this.tickMillis = tickMillis;
+    }
+
+    public void add(Collection<TimerJobEntity> timerJobs) {
+        for (TimerJobEntity timerJob : timerJobs) {
+            add(timerJob);
+        }
+    }
+
+    public void add(TimerJobEntity timerJob) {
+        long dueTime = timerJob.getDuedate() != null ? timerJob.getDuedate().getTime() : 0L;
+        // The bucket is identified by its end, rounded up to the next tick
+        long bucketEnd = Math.floorDiv(dueTime + tickMillis - 1, tickMillis) * tickMillis;
+        buckets.computeIfAbsent(bucketEnd, key -> new ArrayList<>()).add(timerJob);
+        size++;
+    }
+
+    /**
+     * Removes and returns the timer jobs of all the buckets that are due at the given time.
+     */
+    public List<TimerJobEntity> pollDue(long currentTimeMillis) {
+        List<TimerJobEntity> dueTimerJobs = new ArrayList<>();
+        Iterator<Map.Entry<Long, List<TimerJobEntity>>> iterator = buckets.headMap(currentTimeMillis, true).entrySet().iterator();
+        while (iterator.hasNext()) {
+            dueTimerJobs.addAll(iterator.next().getValue());
+            iterator.remove();
+        }
+        size -= dueTimerJobs.size();
+        return dueTimerJobs;
+    }
+
+    /**
+     * Removes and returns all the timer jobs, e.g. to unlock them when the acquisition stops.
+     */
+    public List<TimerJobEntity> pollAll() {
+        List<TimerJobEntity> timerJobs = new ArrayList<>(size);
+        for (List<TimerJobEntity> bucket : buckets.values()) {
+            timerJobs.addAll(bucket);
+        }
+        buckets.clear();
+        size = 0;
+        return timerJobs;
+    }
+
+    /**
+     * Returns the timer jobs (without removing them) whose lock expires before the given time.
+     */
+    public List<TimerJobEntity> findLockExpiringBefore(long timeMillis) {
+        List<TimerJobEntity> timerJobs = new ArrayList<>();
+        for (List<TimerJobEntity> bucket : buckets.values()) {
+            for (TimerJobEntity timerJob : bucket) {
+                if (timerJob.getLockExpirationTime() == null || timerJob.getLockExpirationTime().getTime() < timeMillis) {
+                    timerJobs.add(timerJob);
+                }
+            }
+        }
+        return timerJobs;
+    }
+
+    /**
+     * Returns the time at which the next bucket becomes due, or -1 when there are no timer jobs.
+     */
+    public long getNextDueTime() {
+        return buckets.isEmpty() ? -1L : buckets.firstKey();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+}
@@ -15,11 +15,13 @@ package org.flowable.job.service.impl.asyncexecutor;
 import java.util.Collections;
 import java.util.Set;
 
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJobDeferredException;
 
 public class UnacquireAsyncHistoryJobExceptionHandler implements AsyncRunnableExecutionExceptionHandler {
     
@@ -33,7 +35,11 @@ public class UnacquireAsyncHistoryJobExceptionHandler implements AsyncRunnableEx
                     return jobServiceConfiguration.getCommandExecutor().execute(commandConfig, new Command<>() {
                         @Override
                         public Boolean execute(CommandContext commandContext2) {
-                            jobServiceConfiguration.getJobManager().unacquireWithDecrementRetries(job, exception);
+                            if (ExceptionUtils.indexOfType(exception, AsyncHistoryJobDeferredException.class) >= 0) {
+                                jobServiceConfiguration.getJobManager().unacquire(job);
+                            } else {
+                                jobServiceConfiguration.getJobManager().unacquireWithDecrementRetries(job, exception);
+                            }
                             return true;
                         }
                     });
@@ -13,6 +13,7 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -21,6 +22,7 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.JobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 
@@ -34,6 +36,7 @@ public class AcquireJobsCmd implements Command<List<? extends JobInfoEntity>> {
     protected AsyncExecutor asyncExecutor;
     protected int remainingCapacity;
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected Collection<Integer> partitions;
 
     public AcquireJobsCmd(AsyncExecutor asyncExecutor) {
         this(asyncExecutor, Integer.MAX_VALUE, asyncExecutor.getJobServiceConfiguration().getJobEntityManager());
@@ -45,11 +48,25 @@ public class AcquireJobsCmd implements Command<List<? extends JobInfoEntity>> {
         this.jobEntityManager = jobEntityManager;
     }
 
+    /**
+     * Only acquires the jobs of the given partitions, when the given job entity manager is the {@link JobEntityManager}.
+     */
+    public AcquireJobsCmd(AsyncExecutor asyncExecutor, int remainingCapacity, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
+            Collection<Integer> partitions) {
+        this(asyncExecutor, remainingCapacity, jobEntityManager);
+        this.partitions = partitions;
+    }
+
     @Override
     public List<? extends JobInfoEntity> execute(CommandContext commandContext) {
         int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
         List<String> enabledCategories = asyncExecutor.getJobServiceConfiguration().getEnabledJobCategories();
-        List<? extends JobInfoEntity> jobs = jobEntityManager.findJobsToExecute(enabledCategories, new Page(0, maxResults));
+        List<? extends JobInfoEntity> jobs;
+        if (partitions != null && jobEntityManager instanceof JobEntityManager) {
+            jobs = ((JobEntityManager) jobEntityManager).findJobsToExecute(enabledCategories, partitions, new Page(0, maxResults));
+        } else {
+            jobs = jobEntityManager.findJobsToExecute(enabledCategories, new Page(0, maxResults));
+        }
 
         for (JobInfoEntity job : jobs) {
             lockJob(job, asyncExecutor.getAsyncJobLockTimeInMillis(), asyncExecutor.getJobServiceConfiguration());
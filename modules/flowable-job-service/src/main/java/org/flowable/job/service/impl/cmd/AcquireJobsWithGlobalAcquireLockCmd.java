@@ -13,6 +13,7 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -21,6 +22,7 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.JobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
 
@@ -34,6 +36,7 @@ public class AcquireJobsWithGlobalAcquireLockCmd implements Command<List<? exten
     protected AsyncExecutor asyncExecutor;
     protected int remainingCapacity;
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
+    protected Collection<Integer> partitions;
 
     public AcquireJobsWithGlobalAcquireLockCmd(AsyncExecutor asyncExecutor, int remainingCapacity, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
         this.asyncExecutor = asyncExecutor;
@@ -41,6 +44,15 @@ public class AcquireJobsWithGlobalAcquireLockCmd implements Command<List<? exten
         this.jobEntityManager = jobEntityManager;
     }
 
+    /**
+     * Only acquires the jobs of the given partitions, when the given job entity manager is the {@link JobEntityManager}.
+     */
+    public AcquireJobsWithGlobalAcquireLockCmd(AsyncExecutor asyncExecutor, int remainingCapacity, JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
+            Collection<Integer> partitions) {
+        this(asyncExecutor, remainingCapacity, jobEntityManager);
+        this.partitions = partitions;
+    }
+
     @Override
     public List<? extends JobInfoEntity> execute(CommandContext commandContext) {
         int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
@@ -50,6 +62,11 @@ public class AcquireJobsWithGlobalAcquireLockCmd implements Command<List<? exten
         // as at most one node will be acquiring at any given time.
         GregorianCalendar jobExpirationTime = calculateLockExpirationTime(asyncExecutor.getAsyncJobLockTimeInMillis(), asyncExecutor.getJobServiceConfiguration());
 
+        if (partitions != null && jobEntityManager instanceof JobEntityManager) {
+            return ((JobEntityManager) jobEntityManager).findJobsToExecuteAndLockInBulk(enabledCategories, partitions, new Page(0, maxResults),
+                    asyncExecutor.getLockOwner(), jobExpirationTime.getTime());
+        }
+
         return jobEntityManager
             .findJobsToExecuteAndLockInBulk(enabledCategories, new Page(0, maxResults), asyncExecutor.getLockOwner(), jobExpirationTime.getTime());
     }
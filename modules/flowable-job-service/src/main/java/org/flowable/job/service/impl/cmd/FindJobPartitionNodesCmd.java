@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.impl.cmd.LeaseLockValue;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+
+/**
+ * Returns the sorted names of the node leases (see {@link org.flowable.job.service.impl.asyncexecutor.JobPartitionLeaseManager})
+ * with the given prefix that have not expired.
+ * When requested, the expired node leases (of the nodes that stopped without releasing their lease) are deleted.
+ */
+public class FindJobPartitionNodesCmd implements Command<List<String>> {
+
+    protected String nodeLockPrefix;
+    protected Duration leaseDuration;
+    protected String engineType;
+    protected boolean deleteExpiredNodes;
+
+    public FindJobPartitionNodesCmd(String nodeLockPrefix, Duration leaseDuration, String engineType, boolean deleteExpiredNodes) {
+        this.nodeLockPrefix = nodeLockPrefix;
+        this.leaseDuration = leaseDuration;
+        this.engineType = engineType;
+        this.deleteExpiredNodes = deleteExpiredNodes;
+    }
+
+    @Override
+    public List<String> execute(CommandContext commandContext) {
+        PropertyEntityManager propertyEntityManager = commandContext.getEngineConfigurations().get(engineType).getPropertyEntityManager();
+        Instant now = Instant.now();
+        List<String> nodes = new ArrayList<>();
+        for (PropertyEntity property : propertyEntityManager.findByNamePrefix(nodeLockPrefix)) {
+            if (property.getValue() != null && LeaseLockValue.getRenewalTime(property.getValue()).plus(leaseDuration).isAfter(now)) {
+                nodes.add(property.getName());
+            } else if (deleteExpiredNodes) {
+                propertyEntityManager.delete(property);
+            }
+        }
+
+        Collections.sort(nodes);
+        return nodes;
+    }
+}
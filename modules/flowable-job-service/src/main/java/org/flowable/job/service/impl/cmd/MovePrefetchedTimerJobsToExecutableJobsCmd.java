@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Moves timer jobs that were prefetched by the given async executor to executable jobs once they are due.
+ * <p>
+ * The prefetched timer jobs have been kept in memory for some time, during which they could have been deleted
+ * (e.g. a boundary timer of a task that has been completed) or changed. Therefore, the current state of the timer jobs
+ * is fetched with a single query and only the timer jobs that still exist, are still locked by the async executor and are due are moved (in bulk).
+ * The timer jobs that are not due anymore are unlocked, so they are acquired again later.
+ */
+public class MovePrefetchedTimerJobsToExecutableJobsCmd implements Command<Void> {
+
+    protected AsyncExecutor asyncExecutor;
+    protected List<TimerJobEntity> timerJobs;
+
+    public MovePrefetchedTimerJobsToExecutableJobsCmd(AsyncExecutor asyncExecutor, List<TimerJobEntity> timerJobs) {
+        this.asyncExecutor = asyncExecutor;
+        this.timerJobs = timerJobs;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+
+        List<String> timerJobIds = new ArrayList<>(timerJobs.size());
+        for (TimerJobEntity timerJob : timerJobs) {
+            timerJobIds.add(timerJob.getId());
+        }
+
+        TimerJobQueryImpl timerJobQuery = new TimerJobQueryImpl(commandContext, jobServiceConfiguration);
+        timerJobQuery.jobIds(timerJobIds);
+        List<Job> currentTimerJobs = jobServiceConfiguration.getTimerJobEntityManager().findJobsByQueryCriteria(timerJobQuery);
+
+        Date now = jobServiceConfiguration.getClock().getCurrentTime();
+        String lockOwner = asyncExecutor.getLockOwner();
+        List<TimerJobEntity> dueTimerJobs = new ArrayList<>(currentTimerJobs.size());
+        for (Job job : currentTimerJobs) {
+            TimerJobEntity timerJob = (TimerJobEntity) job;
+            if (!lockOwner.equals(timerJob.getLockOwner())) {
+                // The lock expired and the timer job was acquired by another node
+                continue;
+            }
+
+            if (timerJob.getDuedate() == null || !timerJob.getDuedate().after(now)) {
+                dueTimerJobs.add(timerJob);
+            } else {
+                timerJob.setLockOwner(null);
+                timerJob.setLockExpirationTime(null);
+            }
+        }
+
+        if (!dueTimerJobs.isEmpty()) {
+            jobServiceConfiguration.getJobManager().bulkMoveTimerJobsToExecutableJobs(dueTimerJobs);
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.Page;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityManager;
+
+/**
+ * Acquires the timer jobs that become due within the given look ahead time, the earliest due ones first.
+ * The timer jobs are locked for the look ahead time plus the given lock margin, as they are kept in memory until they are due.
+ * The locks of the timer jobs that are not moved in time are renewed (see {@link RenewPrefetchedTimerJobLocksCmd}).
+ */
+public class PrefetchTimerJobsCmd implements Command<List<TimerJobEntity>> {
+
+    protected AsyncExecutor asyncExecutor;
+    protected Duration lookAheadTime;
+    protected Duration lockMargin;
+    protected boolean bulkLock;
+
+    /**
+     * @param bulkLock whether the timer jobs should be locked in bulk, without revision check.
+     *                 This is only safe when no other node can acquire timer jobs at the same time (i.e. with the global acquire lock).
+     */
+    public PrefetchTimerJobsCmd(AsyncExecutor asyncExecutor, Duration lookAheadTime, Duration lockMargin, boolean bulkLock) {
+        this.asyncExecutor = asyncExecutor;
+        this.lookAheadTime = lookAheadTime;
+        this.lockMargin = lockMargin;
+        this.bulkLock = bulkLock;
+    }
+
+    @Override
+    public List<TimerJobEntity> execute(CommandContext commandContext) {
+        JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+        TimerJobEntityManager timerJobEntityManager = jobServiceConfiguration.getTimerJobEntityManager();
+
+        long now = jobServiceConfiguration.getClock().getCurrentTime().getTime();
+        List<TimerJobEntity> timerJobs = timerJobEntityManager.findJobsToPrefetch(jobServiceConfiguration.getEnabledJobCategories(),
+                new Date(now + lookAheadTime.toMillis()), new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
+
+        if (!timerJobs.isEmpty()) {
+            Date lockExpirationTime = new Date(now + lookAheadTime.toMillis() + lockMargin.toMillis());
+            if (bulkLock) {
+                timerJobEntityManager.bulkUpdateJobLockWithoutRevisionCheck(timerJobs, asyncExecutor.getLockOwner(), lockExpirationTime);
+
+            } else {
+                // This will use the regular updates flush in the DbSqlSession,
+                // which triggers an optimistic locking exception when another node locked one of the timer jobs concurrently
+                for (TimerJobEntity timerJob : timerJobs) {
+                    timerJob.setLockOwner(asyncExecutor.getLockOwner());
+                    timerJob.setLockExpirationTime(lockExpirationTime);
+                }
+
+            }
+        }
+
+        return timerJobs;
+    }
+
+}
@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Renews the locks of prefetched timer jobs (see {@link PrefetchTimerJobsCmd}) that have not been moved to executable jobs yet,
+ * but whose lock is about to expire.
+ * Only the timer jobs that are still locked by the async executor are renewed, with the regular revision check.
+ */
+public class RenewPrefetchedTimerJobLocksCmd implements Command<Void> {
+
+    protected AsyncExecutor asyncExecutor;
+    protected List<TimerJobEntity> timerJobs;
+    protected Date lockExpirationTime;
+
+    public RenewPrefetchedTimerJobLocksCmd(AsyncExecutor asyncExecutor, List<TimerJobEntity> timerJobs, Date lockExpirationTime) {
+        this.asyncExecutor = asyncExecutor;
+        this.timerJobs = timerJobs;
+        this.lockExpirationTime = lockExpirationTime;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        JobServiceConfiguration jobServiceConfiguration = asyncExecutor.getJobServiceConfiguration();
+
+        List<String> timerJobIds = new ArrayList<>(timerJobs.size());
+        for (TimerJobEntity timerJob : timerJobs) {
+            timerJobIds.add(timerJob.getId());
+        }
+
+        TimerJobQueryImpl timerJobQuery = new TimerJobQueryImpl(commandContext, jobServiceConfiguration);
+        timerJobQuery.jobIds(timerJobIds);
+        List<Job> currentTimerJobs = jobServiceConfiguration.getTimerJobEntityManager().findJobsByQueryCriteria(timerJobQuery);
+
+        String lockOwner = asyncExecutor.getLockOwner();
+        for (Job job : currentTimerJobs) {
+            TimerJobEntity timerJob = (TimerJobEntity) job;
+            if (lockOwner.equals(timerJob.getLockOwner())) {
+                timerJob.setLockExpirationTime(lockExpirationTime);
+            }
+        }
+
+        return null;
+    }
+}
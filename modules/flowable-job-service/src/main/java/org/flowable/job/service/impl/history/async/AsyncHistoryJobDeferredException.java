@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async;
+
+import org.flowable.common.engine.api.FlowableException;
+
+/**
+ * Thrown by a history job handler when the history job can't be executed yet, e.g. because older history jobs have to be executed first.
+ * The history job is unacquired without decrementing its retries, so it is executed again with a later acquisition.
+ */
+public class AsyncHistoryJobDeferredException extends FlowableException {
+
+    private static final long serialVersionUID = 1L;
+
+    public AsyncHistoryJobDeferredException(String message) {
+        super(message);
+    }
+
+}
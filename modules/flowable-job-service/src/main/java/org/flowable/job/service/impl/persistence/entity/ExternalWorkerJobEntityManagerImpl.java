@@ -15,9 +15,15 @@ package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.List;
 
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.api.ExternalWorkerJob;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.ExternalWorkerJobAcquireBuilderImpl;
+import org.flowable.job.service.impl.ExternalWorkerJobAvailableNotifier;
+import org.flowable.job.service.impl.ExternalWorkerJobAvailableTransactionListener;
 import org.flowable.job.service.impl.ExternalWorkerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.data.ExternalWorkerJobDataManager;
 
@@ -55,9 +61,29 @@ public class ExternalWorkerJobEntityManagerImpl
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
         super.insert(jobEntity, fireCreateEvent);
+        notifyJobAvailable(jobEntity);
         return true;
     }
 
+    /**
+     * Wakes up the acquisitions waiting for jobs of the topic of the given job, once the transaction has been committed.
+     */
+    protected void notifyJobAvailable(ExternalWorkerJobEntity jobEntity) {
+        ExternalWorkerJobAvailableNotifier notifier = serviceConfiguration.getExternalWorkerJobAvailableNotifier();
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (notifier != null && transactionContext != null && jobEntity.getJobHandlerConfiguration() != null) {
+            CommandContext commandContext = Context.getCommandContext();
+            ExternalWorkerJobAvailableTransactionListener transactionListener = (ExternalWorkerJobAvailableTransactionListener) commandContext
+                    .getAttribute(ExternalWorkerJobAvailableTransactionListener.COMMAND_CONTEXT_ATTRIBUTE);
+            if (transactionListener == null) {
+                transactionListener = new ExternalWorkerJobAvailableTransactionListener(notifier);
+                commandContext.addAttribute(ExternalWorkerJobAvailableTransactionListener.COMMAND_CONTEXT_ATTRIBUTE, transactionListener);
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, transactionListener);
+            }
+            transactionListener.addJob(jobEntity.getJobHandlerConfiguration());
+        }
+    }
+
     @Override
     public ExternalWorkerJobEntity findJobByCorrelationId(String correlationId) {
         return dataManager.findJobByCorrelationId(correlationId);
@@ -34,4 +34,18 @@ public interface HistoryJobEntity extends JobInfoEntity, HistoryJob, Entity, Has
 
     void setAdvancedJobHandlerConfigurationByteArrayRef(ByteArrayRef configurationByteArrayRef);
 
+    /**
+     * The scope (e.g. the process instance) in which the history jobs are applied in the order of their sequence.
+     */
+    String getScopeId();
+
+    void setScopeId(String scopeId);
+
+    /**
+     * The position of this history job within its scope, see {@link #getScopeId()}.
+     */
+    Long getSequence();
+
+    void setSequence(Long sequence);
+
 }
@@ -47,6 +47,8 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
     protected Date lockExpirationTime;
     protected Date createTime;
     protected String scopeType;
+    protected String scopeId;
+    protected Long sequence;
     
     protected String tenantId = JobServiceConfiguration.NO_TENANT_ID;
 
@@ -245,6 +247,26 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
         this.scopeType = scopeType;
     }
 
+    @Override
+    public String getScopeId() {
+        return scopeId;
+    }
+
+    @Override
+    public void setScopeId(String scopeId) {
+        this.scopeId = scopeId;
+    }
+
+    @Override
+    public Long getSequence() {
+        return sequence;
+    }
+
+    @Override
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
     protected String getJobByteArrayRefAsString(ByteArrayRef jobByteArrayRef) {
         if (jobByteArrayRef == null) {
             return null;
@@ -270,6 +292,10 @@ public class HistoryJobEntityImpl extends AbstractJobServiceEntity implements Hi
             sb.append(", scopeType=").append(scopeType);
         }
 
+        if (scopeId != null) {
+            sb.append(", scopeId=").append(scopeId).append(", sequence=").append(sequence);
+        }
+
         if (StringUtils.isNotEmpty(tenantId)) {
             sb.append(", tenantId=").append(tenantId);
         }
@@ -35,6 +35,17 @@ public interface HistoryJobEntityManager extends EntityManager<HistoryJobEntity>
      */
     long findHistoryJobCountByQueryCriteria(HistoryJobQueryImpl jobQuery);
 
+    /**
+     * Returns the number of history jobs with the same handler type and scope id that have a lower sequence than the given history job.
+     * Returns 0 when the given history job has no scope id or sequence.
+     */
+    long findOlderHistoryJobCount(HistoryJobEntity historyJob);
+
+    /**
+     * Returns the highest sequence of the history jobs with the given handler type and scope id, or null when there are none.
+     */
+    Long findMaxHistoryJobSequence(String jobHandlerType, String scopeId);
+
     /**
      * The default delete method will cascade to the references entities.
      * This delete doesn't delete the referenced byte array entities (configuration and exception).
@@ -60,6 +60,19 @@ public class HistoryJobEntityManagerImpl
         return dataManager.findHistoryJobCountByQueryCriteria(jobQuery);
     }
 
+    @Override
+    public long findOlderHistoryJobCount(HistoryJobEntity historyJob) {
+        if (historyJob.getScopeId() == null || historyJob.getSequence() == null) {
+            return 0;
+        }
+        return dataManager.findOlderHistoryJobCount(historyJob);
+    }
+
+    @Override
+    public Long findMaxHistoryJobSequence(String jobHandlerType, String scopeId) {
+        return dataManager.findMaxHistoryJobSequence(jobHandlerType, scopeId);
+    }
+
     @Override
     public void delete(HistoryJobEntity jobEntity) {
         super.delete(jobEntity, false);
@@ -20,4 +20,12 @@ package org.flowable.job.service.impl.persistence.entity;
  */
 public interface JobEntity extends JobInfoEntity, AbstractRuntimeJobEntity {
 
+    /**
+     * The partition of the job, used by the async executors to only acquire the jobs assigned to their node.
+     * Null when job partitioning is disabled.
+     */
+    Integer getPartition();
+
+    void setPartition(Integer partition);
+
 }
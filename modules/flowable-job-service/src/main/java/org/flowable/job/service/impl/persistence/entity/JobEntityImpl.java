@@ -27,6 +27,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
 
     protected String lockOwner;
     protected Date lockExpirationTime;
+    protected Integer partition;
 
     @Override
     @SuppressWarnings("unchecked")
@@ -60,4 +61,14 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
         this.lockExpirationTime = claimedUntil;
     }
 
+    @Override
+    public Integer getPartition() {
+        return partition;
+    }
+
+    @Override
+    public void setPartition(Integer partition) {
+        this.partition = partition;
+    }
+
 }
@@ -12,8 +12,11 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.JobQueryImpl;
@@ -31,6 +34,26 @@ public interface JobEntityManager extends EntityManager<JobEntity>, JobInfoEntit
      */
     boolean insertJobEntity(JobEntity jobEntity);
 
+    /**
+     * The same as {@link #findJobsToExecute(List, Page)}, but only returns the jobs of the given partitions.
+     * When the partitions contain partition 0, the jobs without a partition or with a partition outside of the configured partition count are returned as well.
+     */
+    List<JobEntity> findJobsToExecute(List<String> enabledCategories, Collection<Integer> partitions, Page page);
+
+    /**
+     * The same as {@link #findJobsToExecuteAndLockInBulk(List, Page, String, Date)}, but only for the jobs of the given partitions.
+     */
+    default List<JobEntity> findJobsToExecuteAndLockInBulk(List<String> enabledCategories, Collection<Integer> partitions, Page page,
+            String lockOwner, Date lockExpirationTime) {
+
+        List<JobEntity> jobs = findJobsToExecute(enabledCategories, partitions, page);
+
+        if (!jobs.isEmpty()) {
+            bulkUpdateJobLockWithoutRevisionCheck(jobs, lockOwner, lockExpirationTime);
+        }
+        return jobs;
+    }
+
     /**
      * Find the job with the given correlation id
      */
@@ -13,10 +13,12 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.Page;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
@@ -58,10 +60,33 @@ public class JobEntityManagerImpl
         if (jobEntity.getCorrelationId() == null) {
             jobEntity.setCorrelationId(serviceConfiguration.getIdGenerator().getNextId());
         }
+        if (jobEntity.getPartition() == null && serviceConfiguration.getJobPartitionCount() > 0) {
+            jobEntity.setPartition(determinePartition(jobEntity, serviceConfiguration.getJobPartitionCount()));
+        }
         super.insert(jobEntity, fireCreateEvent);
         return true;
     }
 
+    /**
+     * Jobs of the same process or case instance get the same partition, so they are all executed by the same node.
+     */
+    protected int determinePartition(JobEntity jobEntity, int partitionCount) {
+        String partitionKey;
+        if (jobEntity.getProcessInstanceId() != null) {
+            partitionKey = jobEntity.getProcessInstanceId();
+        } else if (jobEntity.getScopeId() != null) {
+            partitionKey = jobEntity.getScopeId();
+        } else {
+            partitionKey = jobEntity.getCorrelationId();
+        }
+        return Math.floorMod(partitionKey.hashCode(), partitionCount);
+    }
+
+    @Override
+    public List<JobEntity> findJobsToExecute(List<String> enabledCategories, Collection<Integer> partitions, Page page) {
+        return dataManager.findJobsToExecute(enabledCategories, partitions, page);
+    }
+
     @Override
     public JobEntity findJobByCorrelationId(String correlationId) {
         return dataManager.findJobByCorrelationId(correlationId);
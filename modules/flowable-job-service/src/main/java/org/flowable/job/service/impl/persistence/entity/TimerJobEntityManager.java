@@ -12,8 +12,10 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.JobQueryImpl;
@@ -34,6 +36,12 @@ public interface TimerJobEntityManager extends JobInfoEntityManager<TimerJobEnti
      */
     boolean insertTimerJobEntity(TimerJobEntity timerJobEntity);
 
+    /**
+     * The same as {@link #findJobsToExecute(List, Page)}, but returns the unlocked timer jobs that are due at the given due date (instead of now),
+     * ordered by their due date.
+     */
+    List<TimerJobEntity> findJobsToPrefetch(List<String> enabledCategories, Date maxDueDate, Page page);
+
     /**
      * Find the timer job with the given correlation id.
      */
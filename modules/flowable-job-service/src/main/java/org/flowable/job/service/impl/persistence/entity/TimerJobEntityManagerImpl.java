@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.calendar.BusinessCalendar;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
 import org.flowable.job.api.Job;
@@ -61,6 +62,11 @@ public class TimerJobEntityManagerImpl
         return null;
     }
 
+    @Override
+    public List<TimerJobEntity> findJobsToPrefetch(List<String> enabledCategories, Date maxDueDate, Page page) {
+        return dataManager.findJobsToPrefetch(enabledCategories, maxDueDate, page);
+    }
+
     @Override
     public TimerJobEntity findJobByCorrelationId(String correlationId) {
         return dataManager.findJobByCorrelationId(correlationId);
@@ -27,5 +27,9 @@ public interface HistoryJobDataManager extends DataManager<HistoryJobEntity>, Jo
     List<HistoryJob> findHistoryJobsByQueryCriteria(HistoryJobQueryImpl query);
 
     long findHistoryJobCountByQueryCriteria(HistoryJobQueryImpl query);
+
+    long findOlderHistoryJobCount(HistoryJobEntity historyJob);
+
+    Long findMaxHistoryJobSequence(String jobHandlerType, String scopeId);
     
 }
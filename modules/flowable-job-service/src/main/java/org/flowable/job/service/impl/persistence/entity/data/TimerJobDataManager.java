@@ -12,8 +12,10 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
+import org.flowable.common.engine.impl.Page;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.TimerJobQueryImpl;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
@@ -24,6 +26,8 @@ import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
  */
 public interface TimerJobDataManager extends JobInfoDataManager<TimerJobEntity> {
 
+    List<TimerJobEntity> findJobsToPrefetch(List<String> enabledCategories, Date maxDueDate, Page page);
+
     TimerJobEntity findJobByCorrelationId(String correlationId);
 
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId);
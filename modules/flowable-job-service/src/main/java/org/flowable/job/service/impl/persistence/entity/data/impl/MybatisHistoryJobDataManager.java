@@ -96,6 +96,19 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         return (Long) getDbSqlSession().selectOne("selectHistoryJobCountByQueryCriteria", jobQuery);
     }
 
+    @Override
+    public long findOlderHistoryJobCount(HistoryJobEntity historyJob) {
+        return (Long) getDbSqlSession().selectOne("selectOlderHistoryJobCount", historyJob);
+    }
+
+    @Override
+    public Long findMaxHistoryJobSequence(String jobHandlerType, String scopeId) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("jobHandlerType", jobHandlerType);
+        params.put("scopeId", scopeId);
+        return (Long) getDbSqlSession().selectOne("selectMaxHistoryJobSequence", params);
+    }
+
     @Override
     public void updateJobTenantIdForDeployment(String deploymentId, String newTenantId) {
         HashMap<String, Object> params = new HashMap<>();
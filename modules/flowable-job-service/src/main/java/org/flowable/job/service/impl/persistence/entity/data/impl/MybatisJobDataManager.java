@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -73,6 +74,27 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         return getDbSqlSession().selectList("selectJobsToExecute", listQueryParameterObject);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> findJobsToExecute(List<String> enabledCategories, Collection<Integer> partitions, Page page) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+
+        if (enabledCategories != null && enabledCategories.size() > 0) {
+            params.put("enabledCategories", enabledCategories);
+        }
+
+        // The jobs that don't belong to any of the partitions (e.g. created before partitioning was enabled
+        // or with a different partition count) are picked up together with partition 0
+        params.put("partitions", partitions);
+        params.put("includeUnpartitioned", partitions.contains(0));
+        params.put("partitionCount", jobServiceConfiguration.getJobPartitionCount());
+
+        ListQueryParameterObject listQueryParameterObject = new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
+        listQueryParameterObject.setIgnoreOrderBy();
+        return getDbSqlSession().selectList("selectJobsToExecute", listQueryParameterObject);
+    }
+
     @Override
     public List<JobEntity> findJobsByExecutionId(final String executionId) {
         DbSqlSession dbSqlSession = getDbSqlSession();
@@ -107,20 +107,32 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsToExecute(List<String> enabledCategories, Page page) {
+        ListQueryParameterObject listQueryParameterObject = createJobsToExecuteParameterObject(enabledCategories,
+                jobServiceConfiguration.getClock().getCurrentTime(), page);
+        listQueryParameterObject.setIgnoreOrderBy();
+        return getDbSqlSession().selectList("selectTimerJobsToExecute", listQueryParameterObject);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findJobsToPrefetch(List<String> enabledCategories, Date maxDueDate, Page page) {
+        ListQueryParameterObject listQueryParameterObject = createJobsToExecuteParameterObject(enabledCategories, maxDueDate, page);
+        listQueryParameterObject.addOrder("RES.DUEDATE_", ListQueryParameterObject.SORTORDER_ASC, null);
+        return getDbSqlSession().selectList("selectTimerJobsToExecute", listQueryParameterObject);
+    }
+
+    protected ListQueryParameterObject createJobsToExecuteParameterObject(List<String> enabledCategories, Date maxDueDate, Page page) {
         Map<String, Object> params = new HashMap<>(2);
         String jobExecutionScope = jobServiceConfiguration.getJobExecutionScope();
         params.put("jobExecutionScope", jobExecutionScope);
         
-        Date now = jobServiceConfiguration.getClock().getCurrentTime();
-        params.put("now", now);
+        params.put("now", maxDueDate);
         
         if (enabledCategories != null && enabledCategories.size() > 0) {
             params.put("enabledCategories", enabledCategories);
         }
         
-        ListQueryParameterObject listQueryParameterObject = new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
-        listQueryParameterObject.setIgnoreOrderBy();
-        return getDbSqlSession().selectList("selectTimerJobsToExecute", listQueryParameterObject);
+        return new ListQueryParameterObject(params, page.getFirstResult(), page.getMaxResults());
     }
 
     @Override
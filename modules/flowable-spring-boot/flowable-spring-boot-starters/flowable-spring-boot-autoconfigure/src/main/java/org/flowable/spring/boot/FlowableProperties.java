@@ -135,6 +135,11 @@ public class FlowableProperties {
     @DurationUnit(ChronoUnit.DAYS)
     private Duration historyCleaningAfter = Duration.ofDays(365);
     private int historyCleaningBatchSize = 100;
+    /**
+     * The number of end time ranges in which the process history cleaning is split and deleted in parallel.
+     * The default (1) deletes the historic process instances sequentially.
+     */
+    private int historyCleaningParallelism = 1;
 
     /**
      * Preferred JSON mapper to use for variables.
@@ -407,6 +412,14 @@ public class FlowableProperties {
         this.historyCleaningBatchSize = historyCleaningBatchSize;
     }
 
+    public int getHistoryCleaningParallelism() {
+        return historyCleaningParallelism;
+    }
+
+    public void setHistoryCleaningParallelism(int historyCleaningParallelism) {
+        this.historyCleaningParallelism = historyCleaningParallelism;
+    }
+
     public String getVariableJsonMapper() {
         return variableJsonMapper;
     }
@@ -274,6 +274,7 @@ public class ProcessEngineAutoConfiguration extends AbstractSpringEngineAutoConf
         conf.setHistoryCleaningTimeCycleConfig(flowableProperties.getHistoryCleaningCycle());
         conf.setCleanInstancesEndedAfter(flowableProperties.getHistoryCleaningAfter());
         conf.setCleanInstancesBatchSize(flowableProperties.getHistoryCleaningBatchSize());
+        conf.setCleanInstancesParallelism(flowableProperties.getHistoryCleaningParallelism());
 
         IdGenerator idGenerator = getIfAvailable(processIdGenerator, globalIdGenerator);
         if (idGenerator == null) {
@@ -13,6 +13,7 @@
 package org.flowable.task.api;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * Allows programmatic querying of {@link Task}s;
@@ -45,4 +46,15 @@ public interface TaskQuery extends TaskInfoQuery<TaskQuery, Task> {
      * Only selects tasks which are active (ie. not suspended)
      */
     TaskQuery active();
+
+    /**
+     * Executes the query and lazily streams the results ordered by id, fetching them in pages of the given size.
+     *
+     * Every page is fetched in a separate command, continuing after the id of the last result of the previous page instead of using an offset,
+     * and the results aren't kept in the entity cache. Memory usage hence stays flat and every page takes about the same time,
+     * no matter how many results have been streamed before. The results are read-only: changes to them are not persisted.
+     *
+     * Ordering the query with one of the orderByXxx methods, or including variables or identity links, is not possible when streaming.
+     */
+    Stream<Task> stream(int pageSize);
 }
@@ -18,6 +18,8 @@ import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -2201,6 +2203,36 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return tasks;
     }
 
+    @Override
+    public Stream<Task> stream(int pageSize) {
+        return streamInPages(pageSize);
+    }
+
+    @Override
+    protected String executeStreamPage(CommandContext commandContext, Consumer<Task> consumer) {
+        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks || includeCaseVariables) {
+            throw new FlowableIllegalArgumentException("Including variables or identity links is not possible when streaming tasks");
+        }
+
+        ensureVariablesInitialized();
+        if (taskServiceConfiguration.getTaskQueryInterceptor() != null) {
+            taskServiceConfiguration.getTaskQueryInterceptor()
+                    .beforeTaskQueryExecute(this);
+        }
+
+        boolean localize = taskServiceConfiguration.getInternalTaskLocalizationManager() != null && taskServiceConfiguration.isEnableLocalization();
+        String[] lastTaskId = new String[1];
+        taskServiceConfiguration.getTaskEntityManager().streamTasksByQueryCriteria(this, task -> {
+            if (localize) {
+                taskServiceConfiguration.getInternalTaskLocalizationManager()
+                        .localize(task, locale, withLocalizationFallback);
+            }
+            lastTaskId[0] = task.getId();
+            consumer.accept(task);
+        });
+        return lastTaskId[0];
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<Task> results, boolean local) {
         for (Task task : results) {
             if (Objects.equals(taskId, task.getId())) {
@@ -82,6 +82,8 @@ public interface HistoricTaskInstanceEntity extends Entity, HistoricTaskInstance
     void setScopeType(String scopeType);
 
     void setScopeDefinitionId(String scopeDefinitionId);
+
+    void setPropagatedStageInstanceId(String propagatedStageInstanceId);
     
     void setState(String state);
 
@@ -247,6 +247,11 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
     public String getPropagatedStageInstanceId() {
         return propagatedStageInstanceId;
     }
+
+    @Override
+    public void setPropagatedStageInstanceId(String propagatedStageInstanceId) {
+        this.propagatedStageInstanceId = propagatedStageInstanceId;
+    }
     
     @Override
     public String getState() {
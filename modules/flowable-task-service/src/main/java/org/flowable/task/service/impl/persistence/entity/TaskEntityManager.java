@@ -14,6 +14,7 @@ package org.flowable.task.service.impl.persistence.entity;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.task.api.Task;
@@ -45,6 +46,8 @@ public interface TaskEntityManager extends EntityManager<TaskEntity> {
 
     List<Task> findTasksByQueryCriteria(TaskQueryImpl taskQuery);
 
+    void streamTasksByQueryCriteria(TaskQueryImpl taskQuery, Consumer<Task> consumer);
+
     List<Task> findTasksWithRelatedEntitiesByQueryCriteria(TaskQueryImpl taskQuery);
 
     long findTaskCountByQueryCriteria(TaskQueryImpl taskQuery);
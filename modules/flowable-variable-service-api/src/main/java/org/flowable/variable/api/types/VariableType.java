@@ -42,6 +42,22 @@ public interface VariableType {
      */
     boolean isAbleToStore(Object value);
 
+    /**
+     * <p>
+     * Indicates if {@link #isAbleToStore(Object)} only depends on the class of a non-null value.
+     * </p>
+     * <p>
+     * If so, the outcome is remembered per value class when looking up the type of a value,
+     * see {@link VariableTypes#findVariableType(Object)}.
+     * Types that look at the value itself (e.g. the length of a string) must return false.
+     * </p>
+     *
+     * @return whether {@link #isAbleToStore(Object)} can be resolved based on the class of the value.
+     */
+    default boolean isAbleToStoreByClass() {
+        return false;
+    }
+
     /**
      * Stores the specified value in the supplied {@link ValueFields}.
      */
@@ -25,9 +25,7 @@ import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.api.history.HistoricVariableInstanceQuery;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
-import org.flowable.variable.service.impl.types.CacheableVariable;
-import org.flowable.variable.service.impl.types.JPAEntityListVariableType;
-import org.flowable.variable.service.impl.types.JPAEntityVariableType;
+import org.flowable.variable.service.impl.util.VariableInitializationUtil;
 
 /**
  * @author Joram Barrez
@@ -318,14 +316,7 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
         if (!excludeVariableInitialization) {
             for (HistoricVariableInstance historicVariableInstance : historicVariableInstances) {
                 if (historicVariableInstance instanceof HistoricVariableInstanceEntity variableEntity) {
-                    if (variableEntity.getVariableType() != null) {
-                        variableEntity.getValue();
-
-                        // make sure JPA entities are cached for later retrieval
-                        if (JPAEntityVariableType.TYPE_NAME.equals(variableEntity.getVariableType().getTypeName()) || JPAEntityListVariableType.TYPE_NAME.equals(variableEntity.getVariableType().getTypeName())) {
-                            ((CacheableVariable) variableEntity.getVariableType()).setForceCacheable(true);
-                        }
-                    }
+                    VariableInitializationUtil.initializeValue(variableEntity);
                 }
             }
         }
@@ -24,9 +24,7 @@ import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.flowable.variable.api.runtime.VariableInstanceQuery;
 import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
-import org.flowable.variable.service.impl.types.CacheableVariable;
-import org.flowable.variable.service.impl.types.JPAEntityListVariableType;
-import org.flowable.variable.service.impl.types.JPAEntityVariableType;
+import org.flowable.variable.service.impl.util.VariableInitializationUtil;
 
 /**
  * @author Joram Barrez
@@ -296,14 +294,7 @@ public class VariableInstanceQueryImpl extends AbstractQuery<VariableInstanceQue
         if (!excludeVariableInitialization) {
             for (VariableInstance variableInstance : variableInstances) {
                 if (variableInstance instanceof VariableInstanceEntity variableEntity) {
-                    if (variableEntity.getType() != null) {
-                        variableEntity.getValue();
-
-                        // make sure JPA entities are cached for later retrieval
-                        if (JPAEntityVariableType.TYPE_NAME.equals(variableEntity.getType().getTypeName()) || JPAEntityListVariableType.TYPE_NAME.equals(variableEntity.getType().getTypeName())) {
-                            ((CacheableVariable) variableEntity.getType()).setForceCacheable(true);
-                        }
-                    }
+                    VariableInitializationUtil.initializeValue(variableEntity);
                 }
             }
         }
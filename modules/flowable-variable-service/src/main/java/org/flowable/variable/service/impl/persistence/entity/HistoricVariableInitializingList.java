@@ -16,10 +16,7 @@ package org.flowable.variable.service.impl.persistence.entity;
 import java.util.ArrayList;
 import java.util.Collection;
 
-import org.flowable.common.engine.impl.context.Context;
-import org.flowable.variable.service.impl.types.CacheableVariable;
-import org.flowable.variable.service.impl.types.JPAEntityListVariableType;
-import org.flowable.variable.service.impl.types.JPAEntityVariableType;
+import org.flowable.variable.service.impl.util.VariableInitializationUtil;
 
 /**
  * List that initialises binary variable values if command-context is active.
@@ -59,16 +56,12 @@ public class HistoricVariableInitializingList extends ArrayList<HistoricVariable
     }
 
     /**
-     * If the passed {@link HistoricVariableInstanceEntity} is a binary variable and the command-context is active, the variable value is fetched to ensure the byte-array is populated.
+     * If the passed {@link HistoricVariableInstanceEntity} is a binary variable and the command-context is active, the byte-array is fetched to ensure it is populated.
+     * See {@link VariableInitializationUtil} for the values that are decoded lazily.
      */
     protected void initializeVariable(HistoricVariableInstanceEntity e) {
-        if (Context.getCommandContext() != null && e != null && e.getVariableType() != null) {
-            e.getValue();
-
-            // make sure JPA entities are cached for later retrieval
-            if (JPAEntityVariableType.TYPE_NAME.equals(e.getVariableType().getTypeName()) || JPAEntityListVariableType.TYPE_NAME.equals(e.getVariableType().getTypeName())) {
-                ((CacheableVariable) e.getVariableType()).setForceCacheable(true);
-            }
+        if (e != null) {
+            VariableInitializationUtil.initializeValue(e);
         }
     }
 }
\ No newline at end of file
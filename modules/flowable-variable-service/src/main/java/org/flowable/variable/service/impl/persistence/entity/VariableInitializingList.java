@@ -16,10 +16,7 @@ package org.flowable.variable.service.impl.persistence.entity;
 import java.util.ArrayList;
 import java.util.Collection;
 
-import org.flowable.common.engine.impl.context.Context;
-import org.flowable.variable.service.impl.types.CacheableVariable;
-import org.flowable.variable.service.impl.types.JPAEntityListVariableType;
-import org.flowable.variable.service.impl.types.JPAEntityVariableType;
+import org.flowable.variable.service.impl.util.VariableInitializationUtil;
 
 /**
  * List that initialises binary variable values if command-context is active.
@@ -59,16 +56,12 @@ public class VariableInitializingList extends ArrayList<VariableInstanceEntity>
     }
 
     /**
-     * If the passed {@link VariableInstanceEntity} is a binary variable and the command-context is active, the variable value is fetched to ensure the byte-array is populated.
+     * If the passed {@link VariableInstanceEntity} is a binary variable and the command-context is active, the byte-array is fetched to ensure it is populated.
+     * See {@link VariableInitializationUtil} for the values that are decoded lazily.
      */
     protected void initializeVariable(VariableInstanceEntity e) {
-        if (Context.getCommandContext() != null && e != null && e.getType() != null) {
-            e.getValue();
-
-            // make sure JPA entities are cached for later retrieval
-            if (JPAEntityVariableType.TYPE_NAME.equals(e.getType().getTypeName()) || JPAEntityListVariableType.TYPE_NAME.equals(e.getType().getTypeName())) {
-                ((CacheableVariable) e.getType()).setForceCacheable(true);
-            }
+        if (e != null) {
+            VariableInitializationUtil.initializeValue(e);
         }
     }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.common.engine.impl.persistence.entity.DirtyTrackingEntity;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.service.impl.types.MutableVariableType;
@@ -28,7 +29,7 @@ import org.flowable.variable.service.impl.types.MutableVariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity implements VariableInstanceEntity, DirtyTrackingEntity, ValueFields, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -85,11 +86,13 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void forceUpdate() {
+        markDirty();
         forcedUpdate = true;
     }
     
     @Override
     public void setExecutionId(String executionId) {
+        markDirty(this.executionId, executionId);
         this.executionId = executionId;
     }
 
@@ -114,6 +117,10 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     @Override
     public void setBytes(byte[] bytes) {
         ensureByteArrayRefInitialized();
+        if ((byteArrayRef.getId() == null) != (bytes == null)) {
+            // the byte array will be created or deleted, changing the reference of this variable
+            markDirty();
+        }
         byteArrayRef.setValue("var-" + name, bytes, getEngineType());
     }
 
@@ -154,6 +161,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setName(String name) {
+        markDirty(this.name, name);
         this.name = name;
     }
 
@@ -175,6 +183,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTypeName(String typeName) {
+        markDirty(this.typeName, typeName);
         this.typeName = typeName;
     }
 
@@ -185,6 +194,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setType(VariableType type) {
+        markDirty(this.type, type);
         this.type = type;
     }
 
@@ -220,6 +230,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setScopeId(String scopeId) {
+        markDirty(this.scopeId, scopeId);
         this.scopeId = scopeId;
     }
     
@@ -230,6 +241,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
     
     @Override
     public void setSubScopeId(String subScopeId) {
+        markDirty(this.subScopeId, subScopeId);
         this.subScopeId = subScopeId;
     }
 
@@ -240,6 +252,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setScopeType(String scopeType) {
+        markDirty(this.scopeType, scopeType);
         this.scopeType = scopeType;
     }
 
@@ -260,6 +273,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setLongValue(Long longValue) {
+        markDirty(this.longValue, longValue);
         this.longValue = longValue;
     }
 
@@ -270,6 +284,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setDoubleValue(Double doubleValue) {
+        markDirty(this.doubleValue, doubleValue);
         this.doubleValue = doubleValue;
     }
 
@@ -280,6 +295,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTextValue(String textValue) {
+        markDirty(this.textValue, textValue);
         this.textValue = textValue;
     }
 
@@ -290,6 +306,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setTextValue2(String textValue2) {
+        markDirty(this.textValue2, textValue2);
         this.textValue2 = textValue2;
     }
 
@@ -300,6 +317,7 @@ public class VariableInstanceEntityImpl extends AbstractVariableServiceEntity im
 
     @Override
     public void setMetaInfo(String metaInfo) {
+        markDirty(this.metaInfo, metaInfo);
         this.metaInfo = metaInfo;
     }
 
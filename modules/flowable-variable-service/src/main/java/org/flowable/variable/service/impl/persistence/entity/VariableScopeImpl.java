@@ -844,10 +844,13 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
     protected void updateVariableInstance(VariableInstanceEntity variableInstance, Object newVariableValue) {
 
-        Object oldVariableValue = variableInstance.getValue();
+        VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration();
+
+        // The old value is only needed for the logging session,
+        // otherwise e.g. a large serializable or json value would be deserialized only to be overwritten
+        Object oldVariableValue = variableServiceConfiguration.isLoggingSessionEnabled() ? variableInstance.getValue() : null;
         String oldVariableType = variableInstance.getTypeName();
         initializeVariableInstanceBackPointer(variableInstance);
-        VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration();
         variableServiceConfiguration.getVariableInstanceValueModifier().updateVariableValue(variableInstance, newVariableValue, getTenantId());
         if (isPropagateToHistoricVariable()) {
             if (variableServiceConfiguration.getInternalHistoryVariableManager() != null) {
@@ -58,4 +58,9 @@ public class BigDecimalType implements VariableType {
         }
         return BigDecimal.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public boolean isAbleToStoreByClass() {
+        return true;
+    }
 }
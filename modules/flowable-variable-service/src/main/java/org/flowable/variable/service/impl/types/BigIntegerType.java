@@ -58,4 +58,9 @@ public class BigIntegerType implements VariableType {
         }
         return BigInteger.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public boolean isAbleToStoreByClass() {
+        return true;
+    }
 }
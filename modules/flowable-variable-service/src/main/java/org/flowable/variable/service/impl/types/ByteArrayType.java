@@ -71,4 +71,9 @@ public class ByteArrayType implements VariableType {
         }
         return byte[].class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public boolean isAbleToStoreByClass() {
+        return true;
+    }
 }
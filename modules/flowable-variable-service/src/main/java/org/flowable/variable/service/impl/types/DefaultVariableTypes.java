@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.variable.api.types.VariableType;
@@ -32,6 +33,12 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     private final List<VariableType> typesList = new ArrayList<>();
     private final Map<String, VariableType> typesMap = new HashMap<>();
 
+    /**
+     * The types that need to be checked for a value of a certain class, in order.
+     * Types that are able to store a value based on its class alone are resolved once and are either the last candidate or left out.
+     */
+    private final Map<Class<?>, VariableType[]> candidateTypesByClass = new ConcurrentHashMap<>();
+
     @Override
     public DefaultVariableTypes addType(VariableType type) {
         return addType(type, typesList.size());
@@ -41,6 +48,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public DefaultVariableTypes addType(VariableType type, int index) {
         typesList.add(index, type);
         typesMap.put(type.getTypeName(), type);
+        candidateTypesByClass.clear();
         return this;
     }
 
@@ -51,6 +59,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
         for (VariableType type : typesList) {
             typesMap.put(type.getTypeName(), type);
         }
+        this.candidateTypesByClass.clear();
     }
 
     @Override
@@ -60,14 +69,48 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
 
     @Override
     public VariableType findVariableType(Object value) {
-        for (VariableType type : typesList) {
-            if (type.isAbleToStore(value)) {
-                return type;
+        if (value != null) {
+            for (VariableType type : getCandidateTypes(value)) {
+                if (type.isAbleToStore(value)) {
+                    return type;
+                }
+            }
+
+        } else {
+            for (VariableType type : typesList) {
+                if (type.isAbleToStore(null)) {
+                    return type;
+                }
             }
         }
         throw new FlowableException("couldn't find a variable type that is able to serialize " + value);
     }
 
+    protected VariableType[] getCandidateTypes(Object value) {
+        VariableType[] candidateTypes = candidateTypesByClass.get(value.getClass());
+        if (candidateTypes == null) {
+            candidateTypes = resolveCandidateTypes(value);
+            candidateTypesByClass.put(value.getClass(), candidateTypes);
+        }
+        return candidateTypes;
+    }
+
+    protected VariableType[] resolveCandidateTypes(Object value) {
+        List<VariableType> candidateTypes = new ArrayList<>();
+        for (VariableType type : typesList) {
+            if (!type.isAbleToStoreByClass()) {
+                // e.g. the string types, which depend on the length of the value
+                candidateTypes.add(type);
+
+            } else if (type.isAbleToStore(value)) {
+                // Any other value of the same class will be stored by this type, the types after it never need to be checked
+                candidateTypes.add(type);
+                break;
+            }
+        }
+        return candidateTypes.toArray(new VariableType[0]);
+    }
+
     @Override
     public int getTypeIndex(VariableType type) {
         return typesList.indexOf(type);
@@ -87,6 +130,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public VariableTypes removeType(VariableType type) {
         typesList.remove(type);
         typesMap.remove(type.getTypeName());
+        candidateTypesByClass.clear();
         return this;
     }
 
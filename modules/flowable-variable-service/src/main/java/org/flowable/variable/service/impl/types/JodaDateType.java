@@ -42,6 +42,11 @@ public class JodaDateType implements VariableType {
         return LocalDate.class.isAssignableFrom(value.getClass());
     }
 
+    @Override
+    public boolean isAbleToStoreByClass() {
+        return true;
+    }
+
     @Override
     public Object getValue(ValueFields valueFields) {
         Long longValue = valueFields.getLongValue();
@@ -13,6 +13,7 @@
 package org.flowable.variable.service.impl.types;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 
@@ -98,7 +99,7 @@ public class JsonType implements VariableType, MutableVariableType<Object, Objec
             try {
                 jsonValue = jsonMapper.readTree(textValue);
                 valueFields.setCachedValue(jsonValue);
-                traceValue(jsonValue, valueFields);
+                traceValue(jsonValue, textValue, valueFields);
             } catch (Exception e) {
                 LOGGER.error("Error reading json variable {}", valueFields.getName(), e);
             }
@@ -108,7 +109,7 @@ public class JsonType implements VariableType, MutableVariableType<Object, Objec
                 try {
                     jsonValue = jsonMapper.readTree(bytes);
                     valueFields.setCachedValue(jsonValue);
-                    traceValue(jsonValue, valueFields);
+                    traceValue(jsonValue, bytes, valueFields);
                 } catch (Exception e) {
                     LOGGER.error("Error reading json variable {}", valueFields.getName(), e);
                 }
@@ -136,15 +137,15 @@ public class JsonType implements VariableType, MutableVariableType<Object, Objec
                 valueFields.setTextValue(null);
             }
             valueFields.setCachedValue(value);
-            traceValue(value, valueFields);
+            traceValue(value, textValue, valueFields);
         }
     }
 
     @Override
     public boolean updateValueIfChanged(Object originalNode, Object originalCopyNode, VariableInstanceEntity variableInstanceEntity) {
         boolean valueChanged = false;
-        if (!Objects.equals(originalNode, originalCopyNode)) {
-            String textValue = originalNode.toString();
+        String textValue = originalNode.toString();
+        if (!isUnchanged(originalNode, textValue, originalCopyNode)) {
             if (textValue.length() <= maxLength) {
                 variableInstanceEntity.setTextValue(textValue);
                 if (variableInstanceEntity.getByteArrayRef() != null) {
@@ -159,14 +160,37 @@ public class JsonType implements VariableType, MutableVariableType<Object, Objec
         return valueChanged;
     }
 
+    /**
+     * @param original the node as it was when it was traced: either a deep copy of the node,
+     *                 or the text or bytes the node was read from or written to (which avoids keeping a full copy of large documents)
+     */
+    protected boolean isUnchanged(Object node, String textValue, Object original) {
+        if (original instanceof String originalText) {
+            // Only decode the original when the text differs, e.g. due to formatting or number representation
+            return textValue.equals(originalText) || Objects.equals(node, jsonMapper.readTree(originalText));
+
+        } else if (original instanceof byte[] originalBytes) {
+            return Arrays.equals(textValue.getBytes(StandardCharsets.UTF_8), originalBytes) || Objects.equals(node, jsonMapper.readTree(originalBytes));
+
+        } else {
+            return Objects.equals(node, original);
+        }
+    }
+
     protected void traceValue(Object value, ValueFields valueFields) {
+        if (trackObjects && valueFields instanceof VariableInstanceEntity) {
+            traceValue(value, jsonMapper.deepCopy(value), valueFields);
+        }
+    }
+
+    protected void traceValue(Object value, Object originalValue, ValueFields valueFields) {
         if (trackObjects && valueFields instanceof VariableInstanceEntity) {
             CommandContext commandContext = Context.getCommandContext();
             if (commandContext != null) {
                 VariableServiceConfiguration variableServiceConfiguration = getVariableServiceConfiguration(valueFields);
                 if (variableServiceConfiguration != null) {
                     commandContext.addCloseListener(new TraceableVariablesCommandContextCloseListener(
-                            new TraceableObject<>(this, value, jsonMapper.deepCopy(value), (VariableInstanceEntity) valueFields)
+                            new TraceableObject<>(this, value, originalValue, (VariableInstanceEntity) valueFields)
                     ));
                     
                 }
@@ -208,4 +232,9 @@ public class JsonType implements VariableType, MutableVariableType<Object, Objec
         }
         return jsonMapper.isJsonNode(value);
     }
+
+    @Override
+    public boolean isAbleToStoreByClass() {
+        return true;
+    }
 }
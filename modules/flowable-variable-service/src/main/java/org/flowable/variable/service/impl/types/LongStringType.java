@@ -63,4 +63,10 @@ public class LongStringType extends SerializableType {
         }
         return false;
     }
+
+    @Override
+    public boolean isAbleToStoreByClass() {
+        // Depends on the length of the string, unlike the serializable type this type extends
+        return false;
+    }
 }
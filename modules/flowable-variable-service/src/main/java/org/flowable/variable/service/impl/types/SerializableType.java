@@ -197,6 +197,11 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
         return value instanceof Serializable;
     }
 
+    @Override
+    public boolean isAbleToStoreByClass() {
+        return true;
+    }
+
     protected ObjectInputStream createObjectInputStream(InputStream is) throws IOException {
         return new ObjectInputStream(is) {
             @Override
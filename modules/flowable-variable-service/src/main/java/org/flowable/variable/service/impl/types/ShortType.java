@@ -60,4 +60,9 @@ public class ShortType implements VariableType {
         }
         return Short.class.isAssignableFrom(value.getClass()) || short.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public boolean isAbleToStoreByClass() {
+        return true;
+    }
 }
@@ -61,4 +61,9 @@ public class UUIDType implements VariableType {
         }
         return UUID.class.isAssignableFrom(value.getClass());
     }
+
+    @Override
+    public boolean isAbleToStoreByClass() {
+        return true;
+    }
 }
\ No newline at end of file
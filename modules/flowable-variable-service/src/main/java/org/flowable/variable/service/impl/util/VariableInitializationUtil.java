@@ -0,0 +1,87 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.util;
+
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.ByteArrayRef;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.types.CacheableVariable;
+import org.flowable.variable.service.impl.types.JPAEntityListVariableType;
+import org.flowable.variable.service.impl.types.JPAEntityVariableType;
+import org.flowable.variable.service.impl.types.JsonType;
+import org.flowable.variable.service.impl.types.SerializableType;
+
+/**
+ * Initializes the values of variables returned by a query while the command context is active,
+ * so that the values can still be read after the command context is closed.
+ * <p>
+ * Json and serializable values are decoded lazily: only their bytes are fetched (and kept on the {@link ByteArrayRef} of the variable),
+ * and the value is decoded from those on the first {@code getValue()}. Callers that only need e.g. the names of the variables
+ * don't decode large documents.
+ */
+public class VariableInitializationUtil {
+
+    public static void initializeValue(VariableInstanceEntity variableInstance) {
+        VariableType variableType = variableInstance.getType();
+        if (Context.getCommandContext() != null && variableType != null) {
+            if (isDecodedLazily(variableType)) {
+                fetchBytes(variableInstance, variableInstance.getByteArrayRef());
+            } else {
+                variableInstance.getValue();
+                cacheJpaEntities(variableType);
+            }
+        }
+    }
+
+    public static void initializeValue(HistoricVariableInstanceEntity historicVariableInstance) {
+        VariableType variableType = historicVariableInstance.getVariableType();
+        if (Context.getCommandContext() != null && variableType != null) {
+            if (isDecodedLazily(variableType)) {
+                fetchBytes(historicVariableInstance, historicVariableInstance.getByteArrayRef());
+            } else {
+                historicVariableInstance.getValue();
+                cacheJpaEntities(variableType);
+            }
+        }
+    }
+
+    protected static boolean isDecodedLazily(VariableType variableType) {
+        if (variableType instanceof JsonType) {
+            return true;
+
+        } else if (variableType instanceof SerializableType) {
+            // Without a custom class loader, the classes of the value are resolved the same way after the command context is closed
+            CommandContext commandContext = Context.getCommandContext();
+            return commandContext.getClassLoader() == null && commandContext.isUseClassForNameClassLoading();
+        }
+
+        return false;
+    }
+
+    protected static void fetchBytes(ValueFields valueFields, ByteArrayRef byteArrayRef) {
+        if (byteArrayRef != null && byteArrayRef.getId() != null) {
+            valueFields.getBytes();
+        }
+    }
+
+    protected static void cacheJpaEntities(VariableType variableType) {
+        // make sure JPA entities are cached for later retrieval
+        if (JPAEntityVariableType.TYPE_NAME.equals(variableType.getTypeName()) || JPAEntityListVariableType.TYPE_NAME.equals(variableType.getTypeName())) {
+            ((CacheableVariable) variableType).setForceCacheable(true);
+        }
+    }
+}